@@ -4,6 +4,7 @@ plugins {
 	id("io.spring.dependency-management") version "1.1.7"
 	id("org.sonarqube") version "6.2.0.5505"
 	id("com.diffplug.spotless") version "7.0.4"
+	id("me.champeau.jmh") version "0.7.2"
 	jacoco
 }
 
@@ -48,6 +49,10 @@ dependencies {
 	implementation("org.springframework.boot:spring-boot-starter-validation")
 	implementation("org.springframework.boot:spring-boot-starter-web")
 	implementation("org.springframework.boot:spring-boot-starter-websocket")
+	// TCP client for the external STOMP broker relay
+	implementation("io.projectreactor.netty:reactor-netty")
+	implementation("org.springframework.boot:spring-boot-starter-actuator")
+	implementation("com.github.ben-manes.caffeine:caffeine")
 	implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:2.8.8")
 	implementation("org.liquibase:liquibase-core")
 	compileOnly("org.projectlombok:lombok:1.18.38")
@@ -103,6 +108,8 @@ val integrationTest = task<Test>("integrationTest") {
 
 	// Set system properties for TestContainers
 	systemProperty("testcontainers.reuse.enable", "true")
+	// Load tests are skipped unless requested with -PloadTest=true
+	systemProperty("loadTest", findProperty("loadTest") ?: "false")
 
 	// Configure test execution
 	maxParallelForks = 1 // Integration tests should run sequentially
@@ -136,6 +143,13 @@ tasks.jacocoTestReport {
 	classDirectories.setFrom(files("build/classes/java/main"))
 }
 
+// Microbenchmarks (src/jmh), run with ./gradlew jmh
+jmh {
+	warmupIterations.set(2)
+	iterations.set(5)
+	fork.set(1)
+}
+
 sonarqube {
 	properties {
 		property("sonar.organization", System.getenv("SONAR_ORGANIZATION"))
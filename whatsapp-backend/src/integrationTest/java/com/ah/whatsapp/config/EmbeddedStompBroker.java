@@ -0,0 +1,284 @@
+/*
+ * WhatsApp Clone - Backend Service
+ * Copyright (c) 2025
+ */
+package com.ah.whatsapp.config;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Minimal in-process STOMP 1.2 broker used as a stand-in for an external broker in tests that
+ * run the application in relay mode.
+ *
+ * <p>It supports CONNECT, SUBSCRIBE, UNSUBSCRIBE, SEND and DISCONNECT with exact destination
+ * matching. It has no acknowledgements, transactions, durable queues or heart-beats, which is
+ * all the Spring broker relay needs.
+ */
+public class EmbeddedStompBroker implements AutoCloseable {
+
+	private static final Logger log = LoggerFactory.getLogger(EmbeddedStompBroker.class);
+
+	private static final Set<String> SEND_ONLY_HEADERS =
+			Set.of("receipt", "transaction", "content-length");
+
+	private final ServerSocket serverSocket;
+	private final ExecutorService executor = Executors.newCachedThreadPool();
+	private final List<Connection> connections = new CopyOnWriteArrayList<>();
+	private final AtomicLong messageIds = new AtomicLong();
+
+	private EmbeddedStompBroker(ServerSocket serverSocket) {
+		this.serverSocket = serverSocket;
+	}
+
+	/** Starts a broker on a free loopback port. */
+	public static EmbeddedStompBroker start() {
+		try {
+			EmbeddedStompBroker broker =
+					new EmbeddedStompBroker(
+							new ServerSocket(0, 50, InetAddress.getLoopbackAddress()));
+			broker.executor.execute(broker::acceptLoop);
+			return broker;
+		} catch (IOException e) {
+			throw new IllegalStateException("Could not start embedded STOMP broker", e);
+		}
+	}
+
+	public String getHost() {
+		return serverSocket.getInetAddress().getHostAddress();
+	}
+
+	public int getPort() {
+		return serverSocket.getLocalPort();
+	}
+
+	/** Number of connections that have completed the CONNECT handshake. */
+	public long getConnectedCount() {
+		return connections.stream().filter(connection -> connection.connected).count();
+	}
+
+	/** Destinations with at least one active subscription. */
+	public Set<String> getSubscribedDestinations() {
+		return connections.stream()
+				.flatMap(connection -> connection.subscriptions.values().stream())
+				.collect(Collectors.toSet());
+	}
+
+	@Override
+	public void close() {
+		try {
+			serverSocket.close();
+		} catch (IOException e) {
+			log.debug("Error closing embedded STOMP broker socket", e);
+		}
+		connections.forEach(Connection::close);
+		executor.shutdownNow();
+	}
+
+	private void acceptLoop() {
+		while (!serverSocket.isClosed()) {
+			try {
+				Connection connection = new Connection(serverSocket.accept());
+				connections.add(connection);
+				executor.execute(connection::readLoop);
+			} catch (IOException e) {
+				if (!serverSocket.isClosed()) {
+					log.warn("Embedded STOMP broker failed to accept connection", e);
+				}
+			}
+		}
+	}
+
+	private void publish(Frame send) {
+		String destination = send.headers().get("destination");
+		for (Connection connection : connections) {
+			connection.subscriptions.forEach(
+					(subscriptionId, subscribed) -> {
+						if (subscribed.equals(destination)) {
+							Map<String, String> headers = new LinkedHashMap<>();
+							send.headers()
+									.forEach(
+											(name, value) -> {
+												if (!SEND_ONLY_HEADERS.contains(name)) {
+													headers.put(name, value);
+												}
+											});
+							headers.put("subscription", subscriptionId);
+							headers.put("message-id", String.valueOf(messageIds.incrementAndGet()));
+							connection.write(new Frame("MESSAGE", headers, send.body()));
+						}
+					});
+		}
+	}
+
+	private record Frame(String command, Map<String, String> headers, byte[] body) {}
+
+	private final class Connection {
+		private final Socket socket;
+		private final OutputStream out;
+		private final Map<String, String> subscriptions = new ConcurrentHashMap<>();
+		private volatile boolean connected;
+
+		Connection(Socket socket) throws IOException {
+			this.socket = socket;
+			this.out = socket.getOutputStream();
+		}
+
+		void readLoop() {
+			try (InputStream in = new BufferedInputStream(socket.getInputStream())) {
+				Frame frame;
+				while ((frame = readFrame(in)) != null) {
+					handle(frame);
+				}
+			} catch (IOException e) {
+				log.debug("Embedded STOMP broker connection closed: {}", e.getMessage());
+			} finally {
+				close();
+			}
+		}
+
+		private void handle(Frame frame) {
+			switch (frame.command()) {
+				case "CONNECT", "STOMP" -> {
+					connected = true;
+					write(
+							new Frame(
+									"CONNECTED",
+									Map.of(
+											"version", "1.2",
+											"heart-beat", "0,0",
+											"session", UUID.randomUUID().toString()),
+									new byte[0]));
+				}
+				case "SUBSCRIBE" ->
+						subscriptions.put(
+								frame.headers().get("id"), frame.headers().get("destination"));
+				case "UNSUBSCRIBE" -> subscriptions.remove(frame.headers().get("id"));
+				case "SEND" -> publish(frame);
+				case "DISCONNECT" -> {
+					acknowledge(frame);
+					close();
+					return;
+				}
+				default -> log.debug("Embedded STOMP broker ignoring {}", frame.command());
+			}
+			acknowledge(frame);
+		}
+
+		private void acknowledge(Frame frame) {
+			String receipt = frame.headers().get("receipt");
+			if (receipt != null && !socket.isClosed()) {
+				write(new Frame("RECEIPT", Map.of("receipt-id", receipt), new byte[0]));
+			}
+		}
+
+		synchronized void write(Frame frame) {
+			if (socket.isClosed()) {
+				return;
+			}
+			try {
+				StringBuilder head = new StringBuilder(frame.command()).append('\n');
+				frame.headers()
+						.forEach((k, v) -> head.append(k).append(':').append(v).append('\n'));
+				if (frame.body().length > 0) {
+					head.append("content-length:").append(frame.body().length).append('\n');
+				}
+				head.append('\n');
+				out.write(head.toString().getBytes(StandardCharsets.UTF_8));
+				out.write(frame.body());
+				out.write(0);
+				out.flush();
+			} catch (IOException e) {
+				close();
+			}
+		}
+
+		void close() {
+			connected = false;
+			subscriptions.clear();
+			connections.remove(this);
+			try {
+				socket.close();
+			} catch (IOException e) {
+				log.debug("Error closing embedded STOMP broker connection", e);
+			}
+		}
+
+		private Frame readFrame(InputStream in) throws IOException {
+			String command;
+			do {
+				command = readLine(in);
+				if (command == null) {
+					return null;
+				}
+			} while (command.isEmpty()); // heart-beats between frames
+
+			Map<String, String> headers = new LinkedHashMap<>();
+			String line;
+			while ((line = readLine(in)) != null && !line.isEmpty()) {
+				int colon = line.indexOf(':');
+				if (colon > 0) {
+					// The first occurrence of a repeated header wins
+					headers.putIfAbsent(line.substring(0, colon), line.substring(colon + 1));
+				}
+			}
+			if (line == null) {
+				return null;
+			}
+
+			byte[] body;
+			String contentLength = headers.get("content-length");
+			if (contentLength != null) {
+				body = in.readNBytes(Integer.parseInt(contentLength));
+				if (in.read() == -1) {
+					return null;
+				}
+			} else {
+				ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+				int b;
+				while ((b = in.read()) > 0) {
+					buffer.write(b);
+				}
+				if (b == -1) {
+					return null;
+				}
+				body = buffer.toByteArray();
+			}
+			return new Frame(command, headers, body);
+		}
+
+		private String readLine(InputStream in) throws IOException {
+			ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+			int b;
+			while ((b = in.read()) != -1 && b != '\n') {
+				buffer.write(b);
+			}
+			if (b == -1 && buffer.size() == 0) {
+				return null;
+			}
+			String line = buffer.toString(StandardCharsets.UTF_8);
+			return line.endsWith("\r") ? line.substring(0, line.length() - 1) : line;
+		}
+	}
+}
@@ -0,0 +1,260 @@
+/*
+ * WhatsApp Clone - Backend Service
+ * Copyright (c) 2025
+ */
+package com.ah.whatsapp.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import com.ah.whatsapp.config.TestContainerConfig;
+import com.ah.whatsapp.dto.SendMessageRequest;
+import com.ah.whatsapp.entity.ConversationEntity;
+import com.ah.whatsapp.entity.ConversationParticipantEntity;
+import com.ah.whatsapp.entity.UserEntity;
+import com.ah.whatsapp.repository.entity.ConversationEntityRepository;
+import com.ah.whatsapp.repository.entity.ConversationParticipantEntityRepository;
+import com.ah.whatsapp.repository.entity.UserEntityRepository;
+import com.ah.whatsapp.service.MessageService;
+import com.ah.whatsapp.testutil.TestDataFactory;
+import com.ah.whatsapp.websocket.MessageGroupCommitter;
+
+/**
+ * Compares message ingestion with one transaction per send against group commit. In each mode 200
+ * concurrent senders each send 50 messages to one of 50 conversations, waiting for every message
+ * to commit before sending the next, as a client waiting for its receipts would. Messages per
+ * second and the number of transactions PostgreSQL committed are logged for every mode.
+ * Transactions are counted by the transaction ids they consumed, since each committed write takes
+ * exactly one.
+ *
+ * <p>Disabled by default; run with {@code ./gradlew integrationTest -PloadTest=true --tests
+ * '*GroupCommitLoadTest'}.
+ */
+@DisplayName("Group Commit Load Test")
+@EnabledIfSystemProperty(named = "loadTest", matches = "true")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class GroupCommitLoadTest {
+
+	private static final Logger log = LoggerFactory.getLogger(GroupCommitLoadTest.class);
+
+	private static final int SENDERS = 200;
+	private static final int MESSAGES_PER_SENDER = 50;
+	private static final int CONVERSATIONS = 50;
+	private static final int WARM_UP_MESSAGES = 500;
+
+	private static final Map<String, LoadResult> RESULTS = new ConcurrentHashMap<>();
+
+	@AfterAll
+	void compareModes() {
+		LoadResult direct = RESULTS.get("direct");
+		if (direct == null) {
+			return;
+		}
+		RESULTS.forEach(
+				(mode, result) ->
+						log.info(
+								"{}: {} msg/s ({}x direct), {} commits ({} messages per commit)",
+								mode,
+								result.messagesPerSecond(),
+								String.format(
+										"%.2f",
+										(double) result.messagesPerSecond()
+												/ Math.max(1, direct.messagesPerSecond())),
+								result.commits(),
+								String.format(
+										"%.1f",
+										(double) result.messages()
+												/ Math.max(1, result.commits()))));
+	}
+
+	@Nested
+	@DisplayName("One transaction per message")
+	@TestPropertySource(properties = "app.messages.group-commit.enabled=false")
+	class Direct extends LoadScenario {
+		Direct() {
+			super("direct");
+		}
+	}
+
+	@Nested
+	@DisplayName("Group commit, batches of up to 10")
+	@TestPropertySource(
+			properties = {
+				"app.messages.group-commit.enabled=true",
+				"app.messages.group-commit.max-batch=10"
+			})
+	class GroupCommitSmallBatches extends LoadScenario {
+		GroupCommitSmallBatches() {
+			super("group commit, max batch 10");
+		}
+	}
+
+	@Nested
+	@DisplayName("Group commit, batches of up to 50")
+	@TestPropertySource(
+			properties = {
+				"app.messages.group-commit.enabled=true",
+				"app.messages.group-commit.max-batch=50"
+			})
+	class GroupCommitLargeBatches extends LoadScenario {
+		GroupCommitLargeBatches() {
+			super("group commit, max batch 50");
+		}
+	}
+
+	@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+	@Import(TestContainerConfig.class)
+	@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+	@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+	abstract static class LoadScenario {
+
+		private final String mode;
+
+		@Autowired private MessageService messageService;
+		@Autowired private MessageGroupCommitter groupCommitter;
+		@Autowired private JdbcTemplate jdbcTemplate;
+		@Autowired private UserEntityRepository userRepository;
+		@Autowired private ConversationEntityRepository conversationRepository;
+		@Autowired private ConversationParticipantEntityRepository participantRepository;
+
+		private UUID senderId;
+		private final List<UUID> conversationIds = new ArrayList<>();
+
+		LoadScenario(String mode) {
+			this.mode = mode;
+		}
+
+		@BeforeAll
+		void createConversations() {
+			UserEntity sender = saveUser("sender");
+			UserEntity contact = saveUser("contact");
+			senderId = sender.getId();
+			for (int i = 0; i < CONVERSATIONS; i++) {
+				ConversationEntity conversation =
+						conversationRepository.save(TestDataFactory.createTestConversation());
+				participantRepository.saveAll(
+						List.of(
+								participant(conversation, sender),
+								participant(conversation, contact)));
+				conversationIds.add(conversation.getId());
+			}
+		}
+
+		@Test
+		@DisplayName("Should store every message from 200 concurrent senders")
+		void shouldIngestConcurrentSends() throws Exception {
+			for (int i = 0; i < WARM_UP_MESSAGES; i++) {
+				send(conversationIds.get(i % CONVERSATIONS), "warm-up " + i);
+			}
+
+			try (ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor()) {
+				CountDownLatch start = new CountDownLatch(1);
+				List<Future<?>> results = new ArrayList<>(SENDERS);
+				for (int s = 0; s < SENDERS; s++) {
+					UUID conversationId = conversationIds.get(s % CONVERSATIONS);
+					results.add(
+							senders.submit(
+									() -> {
+										start.await();
+										for (int m = 0; m < MESSAGES_PER_SENDER; m++) {
+											send(conversationId, "message " + m);
+										}
+										return null;
+									}));
+				}
+
+				long firstXid = currentTransactionId();
+				long started = System.nanoTime();
+				start.countDown();
+				for (Future<?> result : results) {
+					result.get();
+				}
+				long elapsedNanos = System.nanoTime() - started;
+				// Reading the id takes one more, the first read excluded
+				long commits = currentTransactionId() - firstXid - 1;
+
+				int messages = SENDERS * MESSAGES_PER_SENDER;
+				LoadResult loadResult =
+						new LoadResult(
+								messages, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), commits);
+				RESULTS.put(mode, loadResult);
+				log.info(
+						"{}: {} messages in {} ms, {} msg/s, {} commits",
+						mode,
+						messages,
+						loadResult.elapsedMillis(),
+						loadResult.messagesPerSecond(),
+						commits);
+
+				assertThat(commits).isPositive();
+			}
+		}
+
+		private void send(UUID conversationId, String content) {
+			SendMessageRequest request = new SendMessageRequest(conversationId, content);
+			if (groupCommitter.isEnabled()) {
+				groupCommitter.submit(request, senderId).join();
+			} else {
+				messageService.sendMessage(request, senderId);
+			}
+		}
+
+		/** Assigns a transaction id to a transaction of its own and returns it. */
+		private long currentTransactionId() {
+			return jdbcTemplate.queryForObject(
+					"select pg_current_xact_id()::text::bigint", Long.class);
+		}
+
+		private UserEntity saveUser(String prefix) {
+			return userRepository.save(
+					TestDataFactory.createTestUser(
+							prefix,
+							TestDataFactory.createUniqueEmail(prefix),
+							TestDataFactory.createUniquePhone()));
+		}
+
+		private ConversationParticipantEntity participant(
+				ConversationEntity conversation, UserEntity user) {
+			ConversationParticipantEntity participant = new ConversationParticipantEntity();
+			participant.setConversation(conversation);
+			participant.setUser(user);
+			participant.setJoinedAt(LocalDateTime.now().minusDays(1));
+			participant.setActive(true);
+			return participant;
+		}
+	}
+
+	record LoadResult(int messages, long elapsedMillis, long commits) {
+
+		long messagesPerSecond() {
+			return messages * 1000L / Math.max(1, elapsedMillis);
+		}
+	}
+}
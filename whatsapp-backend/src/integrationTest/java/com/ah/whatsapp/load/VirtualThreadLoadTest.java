@@ -0,0 +1,265 @@
+/*
+ * WhatsApp Clone - Backend Service
+ * Copyright (c) 2025
+ */
+package com.ah.whatsapp.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import com.ah.whatsapp.config.TestContainerConfig;
+import com.ah.whatsapp.entity.ConversationEntity;
+import com.ah.whatsapp.entity.ConversationParticipantEntity;
+import com.ah.whatsapp.entity.UserEntity;
+import com.ah.whatsapp.repository.entity.ConversationEntityRepository;
+import com.ah.whatsapp.repository.entity.ConversationParticipantEntityRepository;
+import com.ah.whatsapp.repository.entity.MessageEntityRepository;
+import com.ah.whatsapp.repository.entity.UserEntityRepository;
+import com.ah.whatsapp.testutil.TestDataFactory;
+import com.ah.whatsapp.util.JwtUtil;
+
+/**
+ * Compares request latency on platform and virtual threads. Each mode boots the application on a
+ * random port, then 5,000 concurrent clients list their conversations, a request that spends most
+ * of its time waiting on PostgreSQL. The p50, p99 and max latencies of both modes are logged side
+ * by side.
+ *
+ * <p>Disabled by default; run with {@code ./gradlew integrationTest -PloadTest=true --tests
+ * '*VirtualThreadLoadTest'}.
+ */
+@DisplayName("Virtual Thread Load Test")
+@EnabledIfSystemProperty(named = "loadTest", matches = "true")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class VirtualThreadLoadTest {
+
+	private static final Logger log = LoggerFactory.getLogger(VirtualThreadLoadTest.class);
+
+	private static final int CLIENTS = 5_000;
+	private static final int REQUESTS_PER_CLIENT = 4;
+	private static final int WARM_UP_REQUESTS = 500;
+	private static final int CONVERSATIONS = 10;
+	private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(120);
+
+	private static final Map<String, LoadResult> RESULTS = new ConcurrentHashMap<>();
+
+	@AfterAll
+	void compareModes() {
+		LoadResult platform = RESULTS.get("platform");
+		LoadResult virtual = RESULTS.get("virtual");
+		if (platform == null || virtual == null) {
+			return;
+		}
+		log.info(
+				"p99 latency with {} clients: platform {} ms, virtual {} ms ({}x)",
+				CLIENTS,
+				platform.p99Millis(),
+				virtual.p99Millis(),
+				String.format(
+						"%.2f", (double) platform.p99Millis() / Math.max(1, virtual.p99Millis())));
+	}
+
+	@Nested
+	@DisplayName("Platform threads")
+	@TestPropertySource(properties = "spring.threads.virtual.enabled=false")
+	class PlatformThreads extends LoadScenario {
+		PlatformThreads() {
+			super("platform");
+		}
+	}
+
+	@Nested
+	@DisplayName("Virtual threads")
+	@TestPropertySource(properties = "spring.threads.virtual.enabled=true")
+	class VirtualThreads extends LoadScenario {
+		VirtualThreads() {
+			super("virtual");
+		}
+	}
+
+	@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+	@Import(TestContainerConfig.class)
+	@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+	@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+	abstract static class LoadScenario {
+
+		private final String mode;
+
+		@LocalServerPort private int port;
+		@Autowired private JwtUtil jwtUtil;
+		@Autowired private UserEntityRepository userRepository;
+		@Autowired private ConversationEntityRepository conversationRepository;
+		@Autowired private ConversationParticipantEntityRepository participantRepository;
+		@Autowired private MessageEntityRepository messageRepository;
+
+		private HttpRequest request;
+
+		LoadScenario(String mode) {
+			this.mode = mode;
+		}
+
+		@BeforeAll
+		void createInbox() {
+			UserEntity user = saveUser("load");
+			UserEntity contact = saveUser("contact");
+			for (int i = 0; i < CONVERSATIONS; i++) {
+				ConversationEntity conversation =
+						conversationRepository.save(TestDataFactory.createTestConversation());
+				participantRepository.saveAll(
+						List.of(
+								participant(conversation, user),
+								participant(conversation, contact)));
+				messageRepository.save(
+						TestDataFactory.createTestMessage(conversation, contact, "message " + i));
+			}
+			request =
+					HttpRequest.newBuilder(
+									URI.create("http://localhost:" + port + "/api/conversations"))
+							.header(
+									"Authorization",
+									"Bearer " + jwtUtil.generateToken(user.getEmail()))
+							.timeout(REQUEST_TIMEOUT)
+							.GET()
+							.build();
+		}
+
+		@Test
+		@DisplayName("Should serve 5,000 concurrent clients without errors")
+		void shouldServeConcurrentClients() throws Exception {
+			try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+					HttpClient client =
+							HttpClient.newBuilder()
+									.version(HttpClient.Version.HTTP_1_1)
+									.connectTimeout(REQUEST_TIMEOUT)
+									.executor(clients)
+									.build()) {
+				AtomicInteger failures = new AtomicInteger();
+				for (int i = 0; i < WARM_UP_REQUESTS; i++) {
+					send(client, failures);
+				}
+				failures.set(0);
+
+				CountDownLatch start = new CountDownLatch(1);
+				List<Future<long[]>> results = new ArrayList<>(CLIENTS);
+				for (int i = 0; i < CLIENTS; i++) {
+					results.add(
+							clients.submit(
+									() -> {
+										start.await();
+										long[] latencies = new long[REQUESTS_PER_CLIENT];
+										for (int r = 0; r < REQUESTS_PER_CLIENT; r++) {
+											long started = System.nanoTime();
+											send(client, failures);
+											latencies[r] = System.nanoTime() - started;
+										}
+										return latencies;
+									}));
+				}
+				start.countDown();
+
+				long[] latencies = new long[CLIENTS * REQUESTS_PER_CLIENT];
+				int index = 0;
+				for (Future<long[]> result : results) {
+					for (long latency : result.get()) {
+						latencies[index++] = latency;
+					}
+				}
+
+				LoadResult loadResult = LoadResult.of(latencies, failures.get());
+				RESULTS.put(mode, loadResult);
+				log.info(
+						"{} threads: {} requests, {} failed, p50 {} ms, p99 {} ms, max {} ms",
+						mode,
+						latencies.length,
+						loadResult.failures(),
+						loadResult.p50Millis(),
+						loadResult.p99Millis(),
+						loadResult.maxMillis());
+
+				assertThat(loadResult.failures()).isZero();
+			}
+		}
+
+		private void send(HttpClient client, AtomicInteger failures) {
+			try {
+				HttpResponse<Void> response =
+						client.send(request, HttpResponse.BodyHandlers.discarding());
+				if (response.statusCode() != 200) {
+					failures.incrementAndGet();
+				}
+			} catch (Exception e) {
+				failures.incrementAndGet();
+				if (e instanceof InterruptedException) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		}
+
+		private UserEntity saveUser(String prefix) {
+			return userRepository.save(
+					TestDataFactory.createTestUser(
+							prefix,
+							TestDataFactory.createUniqueEmail(prefix),
+							TestDataFactory.createUniquePhone()));
+		}
+
+		private ConversationParticipantEntity participant(
+				ConversationEntity conversation, UserEntity user) {
+			ConversationParticipantEntity participant = new ConversationParticipantEntity();
+			participant.setConversation(conversation);
+			participant.setUser(user);
+			participant.setJoinedAt(LocalDateTime.now().minusDays(1));
+			participant.setActive(true);
+			return participant;
+		}
+	}
+
+	record LoadResult(int failures, long p50Millis, long p99Millis, long maxMillis) {
+
+		static LoadResult of(long[] latencyNanos, int failures) {
+			long[] sorted = latencyNanos.clone();
+			Arrays.sort(sorted);
+			return new LoadResult(
+					failures,
+					percentile(sorted, 0.50),
+					percentile(sorted, 0.99),
+					sorted[sorted.length - 1] / 1_000_000);
+		}
+
+		private static long percentile(long[] sorted, double percentile) {
+			int index = (int) Math.ceil(percentile * sorted.length) - 1;
+			return sorted[Math.max(0, index)] / 1_000_000;
+		}
+	}
+}
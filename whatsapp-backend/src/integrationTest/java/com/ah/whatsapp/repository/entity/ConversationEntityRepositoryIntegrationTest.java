@@ -0,0 +1,293 @@
+/*
+ * WhatsApp Clone - Backend Service
+ * Copyright (c) 2025
+ */
+package com.ah.whatsapp.repository.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+
+import com.ah.whatsapp.entity.ConversationEntity;
+import com.ah.whatsapp.entity.ConversationParticipantEntity;
+import com.ah.whatsapp.entity.MessageEntity;
+import com.ah.whatsapp.entity.UserEntity;
+import com.ah.whatsapp.integration.BaseIntegrationTest;
+import com.ah.whatsapp.repository.projection.InboxRow;
+import com.ah.whatsapp.repository.projection.ParticipantRosterRow;
+import com.ah.whatsapp.testutil.TestDataFactory;
+
+/**
+ * Integration tests for the inbox and send-path queries of ConversationEntityRepository. The last
+ * message is maintained by triggers on the messages table, so these tests run against PostgreSQL.
+ */
+@DisplayName("ConversationEntityRepository Integration Tests")
+class ConversationEntityRepositoryIntegrationTest extends BaseIntegrationTest {
+
+	@Autowired private ConversationEntityRepository conversationRepository;
+	@Autowired private ConversationParticipantEntityRepository participantRepository;
+	@Autowired private MessageEntityRepository messageRepository;
+	@Autowired private UserEntityRepository userRepository;
+
+	private UserEntity user;
+	private UserEntity contact;
+	private ConversationEntity conversation;
+	private LocalDateTime joinedAt;
+
+	@BeforeEach
+	void setUp() {
+		user = saveUser("inbox");
+		contact = saveUser("contact");
+		conversation =
+				conversationRepository.saveAndFlush(TestDataFactory.createTestConversation());
+		joinedAt = LocalDateTime.now().minusDays(1);
+		participantRepository.saveAllAndFlush(
+				List.of(participant(user, joinedAt), participant(contact, joinedAt)));
+	}
+
+	@Test
+	@DisplayName("Should return the newest message with the conversation")
+	void shouldReturnNewestMessage() {
+		// Given
+		saveMessage(contact, "older", joinedAt.plusHours(1));
+		MessageEntity newest = saveMessage(user, "newest", joinedAt.plusHours(2));
+
+		// When
+		InboxRow row = inboxRow();
+
+		// Then
+		assertThat(row.getLastMessageId()).isEqualTo(newest.getId());
+		assertThat(row.getLastMessageContent()).isEqualTo("newest");
+		assertThat(row.getLastMessageSenderId()).isEqualTo(user.getId());
+		assertThat(row.getLastMessageSenderName()).isEqualTo(user.getName());
+	}
+
+	@Test
+	@DisplayName("Should keep the newest message when an older one arrives late")
+	void shouldIgnoreOlderMessageInsertedLater() {
+		// Given
+		MessageEntity newest = saveMessage(contact, "newest", joinedAt.plusHours(2));
+		saveMessage(user, "older", joinedAt.plusHours(1));
+
+		// When
+		InboxRow row = inboxRow();
+
+		// Then
+		assertThat(row.getLastMessageId()).isEqualTo(newest.getId());
+	}
+
+	@Test
+	@DisplayName("Should fall back to the previous message when the last one is deleted")
+	void shouldFallBackWhenLastMessageDeleted() {
+		// Given
+		MessageEntity older = saveMessage(contact, "older", joinedAt.plusHours(1));
+		MessageEntity newest = saveMessage(user, "newest", joinedAt.plusHours(2));
+
+		// When
+		messageRepository.delete(newest);
+		messageRepository.flush();
+
+		// Then
+		assertThat(inboxRow().getLastMessageId()).isEqualTo(older.getId());
+	}
+
+	@Test
+	@DisplayName("Should hide a last message sent before the user joined")
+	void shouldHideMessageBeforeJoin() {
+		// Given
+		saveMessage(contact, "before join", joinedAt.minusHours(1));
+
+		// When
+		InboxRow row = inboxRow();
+
+		// Then
+		assertThat(row.getLastMessageId()).isNull();
+		assertThat(row.getLastMessageContent()).isNull();
+	}
+
+	@Test
+	@DisplayName("Should return one row per active participant")
+	void shouldReturnRowPerActiveParticipant() {
+		// When
+		List<InboxRow> rows = conversationRepository.findInboxFirstPage(user.getId(), 10);
+
+		// Then
+		assertThat(rows)
+				.extracting(InboxRow::getParticipantUserId)
+				.containsExactlyInAnyOrder(user.getId(), contact.getId());
+		assertThat(rows).allMatch(row -> row.getId().equals(conversation.getId()));
+	}
+
+	@Test
+	@DisplayName("Should page through the inbox by update time")
+	void shouldPageByUpdateTime() {
+		// Given
+		ConversationEntity newer =
+				conversationRepository.saveAndFlush(TestDataFactory.createTestConversation());
+		participantRepository.saveAndFlush(participant(newer, user, joinedAt));
+		saveMessage(newer, contact, "newer", joinedAt.plusHours(1));
+
+		// When
+		List<InboxRow> firstPage = conversationRepository.findInboxFirstPage(user.getId(), 1);
+		InboxRow last = firstPage.getLast();
+		List<InboxRow> secondPage =
+				conversationRepository.findInboxPageBefore(
+						user.getId(), last.getUpdatedAt(), last.getId(), 1);
+
+		// Then
+		assertThat(firstPage).extracting(InboxRow::getId).containsOnly(newer.getId());
+		assertThat(secondPage).extracting(InboxRow::getId).containsOnly(conversation.getId());
+	}
+
+	@Test
+	@DisplayName("Should reactivate participants who left and flag only them")
+	void shouldFlagReactivatedParticipants() {
+		// Given
+		ConversationEntity rejoined =
+				conversationRepository.saveAndFlush(TestDataFactory.createTestConversation());
+		ConversationParticipantEntity left = participant(rejoined, contact, joinedAt);
+		left.setActive(false);
+		participantRepository.saveAllAndFlush(List.of(participant(rejoined, user, joinedAt), left));
+		LocalDateTime now = LocalDateTime.now();
+
+		// When
+		List<ParticipantRosterRow> roster =
+				conversationRepository.activateParticipantsForSend(
+						rejoined.getId(), user.getId(), now, 1, true);
+
+		// Then
+		assertThat(roster)
+				.filteredOn(ParticipantRosterRow::isReactivated)
+				.extracting(ParticipantRosterRow::getUserId)
+				.containsExactly(contact.getId());
+		assertThat(
+						conversationRepository.activateParticipantsForSend(
+								rejoined.getId(), user.getId(), now, 1, true))
+				.noneMatch(ParticipantRosterRow::isReactivated);
+	}
+
+	@Test
+	@DisplayName("Should show a reactivated participant the message that brought them back")
+	void shouldShowRejoiningMessageToReactivatedParticipant() {
+		// Given
+		ConversationEntity rejoined =
+				conversationRepository.saveAndFlush(TestDataFactory.createTestConversation());
+		ConversationParticipantEntity left = participant(rejoined, contact, joinedAt);
+		left.setActive(false);
+		participantRepository.saveAllAndFlush(List.of(participant(rejoined, user, joinedAt), left));
+		LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+
+		// When
+		LocalDateTime rejoinedAt =
+				conversationRepository
+						.activateParticipantsForSend(rejoined.getId(), user.getId(), now, 1, true)
+						.stream()
+						.filter(ParticipantRosterRow::isReactivated)
+						.findFirst()
+						.orElseThrow()
+						.getJoinedAt();
+		MessageEntity message = saveMessage(rejoined, user, "welcome back", now);
+
+		// Then
+		assertThat(rejoinedAt).isBefore(now);
+		assertThat(messageRepository.findLatestPage(rejoined.getId(), rejoinedAt, Limit.of(10)))
+				.extracting(MessageEntity::getId)
+				.containsExactly(message.getId());
+	}
+
+	@Test
+	@DisplayName("Should reserve one sequence number and unread count per message in a batch")
+	void shouldReserveSeqForEveryMessageInBatch() {
+		// Given
+		LocalDateTime now = LocalDateTime.now();
+		long before =
+				conversationRepository
+						.activateParticipantsForSend(
+								conversation.getId(), user.getId(), now, 1, true)
+						.getFirst()
+						.getMessageSeq();
+
+		// When
+		List<ParticipantRosterRow> roster =
+				conversationRepository.activateParticipantsForSend(
+						conversation.getId(), user.getId(), now, 3, true);
+
+		// Then
+		assertThat(roster).allMatch(row -> row.getMessageSeq() == before + 3);
+		assertThat(roster)
+				.filteredOn(row -> row.getUserId().equals(contact.getId()))
+				.extracting(ParticipantRosterRow::getUnreadCount)
+				.containsExactly(4);
+	}
+
+	@Test
+	@DisplayName("Should advance the version only for the preparation that asks for it")
+	void shouldAdvanceVersionOncePerShare() {
+		// Given
+		LocalDateTime now = LocalDateTime.now();
+		long before =
+				conversationRepository
+						.activateParticipantsForSend(
+								conversation.getId(), user.getId(), now, 1, true)
+						.getFirst()
+						.getConversationVersion();
+
+		// When: a batch prepares the conversation once per sender
+		conversationRepository.activateParticipantsForSend(
+				conversation.getId(), user.getId(), now, 2, true);
+		List<ParticipantRosterRow> roster =
+				conversationRepository.activateParticipantsForSend(
+						conversation.getId(), contact.getId(), now, 1, false);
+
+		// Then
+		assertThat(roster).allMatch(row -> row.getConversationVersion() == before + 1);
+	}
+
+	private InboxRow inboxRow() {
+		List<InboxRow> rows = conversationRepository.findInboxFirstPage(user.getId(), 10);
+		assertThat(rows).hasSize(2);
+		return rows.getFirst();
+	}
+
+	private UserEntity saveUser(String prefix) {
+		return userRepository.saveAndFlush(
+				TestDataFactory.createTestUser(
+						prefix,
+						TestDataFactory.createUniqueEmail(prefix),
+						TestDataFactory.createUniquePhone()));
+	}
+
+	private ConversationParticipantEntity participant(
+			UserEntity participantUser, LocalDateTime at) {
+		return participant(conversation, participantUser, at);
+	}
+
+	private ConversationParticipantEntity participant(
+			ConversationEntity target, UserEntity participantUser, LocalDateTime at) {
+		ConversationParticipantEntity participant = new ConversationParticipantEntity();
+		participant.setConversation(target);
+		participant.setUser(participantUser);
+		participant.setJoinedAt(at);
+		participant.setActive(true);
+		return participant;
+	}
+
+	private MessageEntity saveMessage(UserEntity sender, String content, LocalDateTime sentAt) {
+		return saveMessage(conversation, sender, content, sentAt);
+	}
+
+	private MessageEntity saveMessage(
+			ConversationEntity target, UserEntity sender, String content, LocalDateTime sentAt) {
+		MessageEntity message = TestDataFactory.createTestMessage(target, sender, content);
+		message.setSentAt(sentAt);
+		return messageRepository.saveAndFlush(message);
+	}
+}
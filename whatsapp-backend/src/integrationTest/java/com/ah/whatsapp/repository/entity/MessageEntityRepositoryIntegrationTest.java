@@ -0,0 +1,172 @@
+/*
+ * WhatsApp Clone - Backend Service
+ * Copyright (c) 2025
+ */
+package com.ah.whatsapp.repository.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.ah.whatsapp.entity.ConversationEntity;
+import com.ah.whatsapp.entity.ConversationParticipantEntity;
+import com.ah.whatsapp.entity.MessageEntity;
+import com.ah.whatsapp.entity.UserEntity;
+import com.ah.whatsapp.integration.BaseIntegrationTest;
+import com.ah.whatsapp.repository.projection.MessageSearchRow;
+import com.ah.whatsapp.testutil.TestDataFactory;
+
+/**
+ * Integration tests for the full-text search queries of MessageEntityRepository. They rely on the
+ * generated tsvector column and PostgreSQL text search functions.
+ */
+@DisplayName("MessageEntityRepository Integration Tests")
+class MessageEntityRepositoryIntegrationTest extends BaseIntegrationTest {
+
+	@Autowired private ConversationEntityRepository conversationRepository;
+	@Autowired private ConversationParticipantEntityRepository participantRepository;
+	@Autowired private MessageEntityRepository messageRepository;
+	@Autowired private UserEntityRepository userRepository;
+
+	private UserEntity user;
+	private UserEntity contact;
+	private ConversationEntity conversation;
+	private LocalDateTime joinedAt;
+
+	@BeforeEach
+	void setUp() {
+		user = saveUser("search");
+		contact = saveUser("contact");
+		joinedAt = LocalDateTime.now().minusDays(1);
+		conversation = saveConversation(user, contact);
+	}
+
+	@Test
+	@DisplayName("Should find matching messages with a highlighted snippet")
+	void shouldFindMatchingMessages() {
+		// Given
+		MessageEntity match = saveMessage(conversation, contact, "Meet me at the station", 1);
+		saveMessage(conversation, user, "See you later", 2);
+
+		// When
+		List<MessageSearchRow> rows =
+				messageRepository.searchFirstPage(user.getId(), "station", 10);
+
+		// Then
+		assertThat(rows).extracting(MessageSearchRow::getId).containsExactly(match.getId());
+		MessageSearchRow row = rows.getFirst();
+		assertThat(row.getSenderName()).isEqualTo(contact.getName());
+		assertThat(row.getSnippet()).contains("<mark>station</mark>");
+		assertThat(row.getRank()).isPositive();
+	}
+
+	@Test
+	@DisplayName("Should escape HTML in the content around the highlighted words")
+	void shouldEscapeContentInSnippet() {
+		// Given
+		saveMessage(conversation, contact, "station <script>alert('x')</script> & more", 1);
+
+		// When
+		List<MessageSearchRow> rows =
+				messageRepository.searchFirstPage(user.getId(), "station", 10);
+
+		// Then
+		String snippet = rows.getFirst().getSnippet();
+		assertThat(snippet)
+				.contains("<mark>station</mark>")
+				.contains("&lt;script&gt;")
+				.contains("&amp;")
+				.doesNotContain("<script>");
+		assertThat(snippet.replace("<mark>", "").replace("</mark>", "")).doesNotContain("<");
+	}
+
+	@Test
+	@DisplayName("Should only search conversations the user is an active participant in")
+	void shouldApplyMembershipFilter() {
+		// Given
+		UserEntity stranger = saveUser("stranger");
+		ConversationEntity otherConversation = saveConversation(contact, stranger);
+		saveMessage(otherConversation, stranger, "station at noon", 1);
+		MessageEntity visible = saveMessage(conversation, contact, "station at noon", 1);
+
+		// When
+		List<MessageSearchRow> rows =
+				messageRepository.searchFirstPage(user.getId(), "station", 10);
+
+		// Then
+		assertThat(rows).extracting(MessageSearchRow::getId).containsExactly(visible.getId());
+	}
+
+	@Test
+	@DisplayName("Should hide messages sent before the user joined")
+	void shouldHideMessagesBeforeJoin() {
+		// Given
+		saveMessage(conversation, contact, "station before join", -2);
+
+		// When
+		List<MessageSearchRow> rows =
+				messageRepository.searchFirstPage(user.getId(), "station", 10);
+
+		// Then
+		assertThat(rows).isEmpty();
+	}
+
+	@Test
+	@DisplayName("Should page through equally ranked results newest first")
+	void shouldPageThroughResults() {
+		// Given
+		MessageEntity older = saveMessage(conversation, contact, "station", 1);
+		MessageEntity newer = saveMessage(conversation, contact, "station", 2);
+
+		// When
+		List<MessageSearchRow> firstPage =
+				messageRepository.searchFirstPage(user.getId(), "station", 1);
+		MessageSearchRow last = firstPage.getLast();
+		List<MessageSearchRow> secondPage =
+				messageRepository.searchPageAfter(
+						user.getId(), "station", last.getRank(), last.getSentAt(), last.getId(), 1);
+
+		// Then
+		assertThat(firstPage).extracting(MessageSearchRow::getId).containsExactly(newer.getId());
+		assertThat(secondPage).extracting(MessageSearchRow::getId).containsExactly(older.getId());
+	}
+
+	private UserEntity saveUser(String prefix) {
+		return userRepository.saveAndFlush(
+				TestDataFactory.createTestUser(
+						prefix,
+						TestDataFactory.createUniqueEmail(prefix),
+						TestDataFactory.createUniquePhone()));
+	}
+
+	private ConversationEntity saveConversation(UserEntity first, UserEntity second) {
+		ConversationEntity saved =
+				conversationRepository.saveAndFlush(TestDataFactory.createTestConversation());
+		participantRepository.saveAllAndFlush(
+				List.of(participant(saved, first), participant(saved, second)));
+		return saved;
+	}
+
+	private ConversationParticipantEntity participant(
+			ConversationEntity target, UserEntity participantUser) {
+		ConversationParticipantEntity participant = new ConversationParticipantEntity();
+		participant.setConversation(target);
+		participant.setUser(participantUser);
+		participant.setJoinedAt(joinedAt);
+		participant.setActive(true);
+		return participant;
+	}
+
+	private MessageEntity saveMessage(
+			ConversationEntity target, UserEntity sender, String content, int hoursAfterJoin) {
+		MessageEntity message = TestDataFactory.createTestMessage(target, sender, content);
+		message.setSentAt(joinedAt.plusHours(hoursAfterJoin));
+		return messageRepository.saveAndFlush(message);
+	}
+}
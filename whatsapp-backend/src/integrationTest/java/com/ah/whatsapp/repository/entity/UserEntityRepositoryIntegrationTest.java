@@ -16,8 +16,11 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import com.ah.whatsapp.cache.UserPrefixIndex;
 import com.ah.whatsapp.entity.UserEntity;
 import com.ah.whatsapp.integration.BaseIntegrationTest;
+import com.ah.whatsapp.mapper.UserMapper;
+import com.ah.whatsapp.model.User;
 import com.ah.whatsapp.testutil.TestDataFactory;
 
 /**
@@ -34,6 +37,7 @@ import com.ah.whatsapp.testutil.TestDataFactory;
 class UserEntityRepositoryIntegrationTest extends BaseIntegrationTest {
 
 	@Autowired private UserEntityRepository userRepository;
+	@Autowired private UserMapper userMapper;
 
 	private UserEntity testUser1;
 	private UserEntity testUser2;
@@ -151,7 +155,7 @@ class UserEntityRepositoryIntegrationTest extends BaseIntegrationTest {
 			UUID excludeUserId = testUser1.getId();
 
 			// When
-			List<UserEntity> foundUsers = userRepository.searchUsers("Jane", excludeUserId);
+			List<UserEntity> foundUsers = userRepository.searchUsers("Jane", excludeUserId, 10);
 
 			// Then
 			assertThat(foundUsers).hasSize(1);
@@ -167,7 +171,7 @@ class UserEntityRepositoryIntegrationTest extends BaseIntegrationTest {
 
 			// When
 			List<UserEntity> foundUsers =
-					userRepository.searchUsers("alice.johnson", excludeUserId);
+					userRepository.searchUsers("alice.johnson", excludeUserId, 10);
 
 			// Then
 			assertThat(foundUsers).hasSize(1);
@@ -182,7 +186,8 @@ class UserEntityRepositoryIntegrationTest extends BaseIntegrationTest {
 			UUID excludeUserId = testUser3.getId();
 
 			// When
-			List<UserEntity> foundUsers = userRepository.searchUsers("1234567890", excludeUserId);
+			List<UserEntity> foundUsers =
+					userRepository.searchUsers("1234567890", excludeUserId, 10);
 
 			// Then
 			assertThat(foundUsers).hasSize(1);
@@ -197,7 +202,7 @@ class UserEntityRepositoryIntegrationTest extends BaseIntegrationTest {
 			UUID excludeUserId = testUser3.getId();
 
 			// When
-			List<UserEntity> foundUsers = userRepository.searchUsers("JOHN", excludeUserId);
+			List<UserEntity> foundUsers = userRepository.searchUsers("JOHN", excludeUserId, 10);
 
 			// Then
 			assertThat(foundUsers).hasSize(1);
@@ -211,7 +216,7 @@ class UserEntityRepositoryIntegrationTest extends BaseIntegrationTest {
 			UUID excludeUserId = testUser1.getId();
 
 			// When
-			List<UserEntity> foundUsers = userRepository.searchUsers("john", excludeUserId);
+			List<UserEntity> foundUsers = userRepository.searchUsers("john", excludeUserId, 10);
 
 			// Then
 			assertThat(foundUsers).hasSize(1);
@@ -225,7 +230,8 @@ class UserEntityRepositoryIntegrationTest extends BaseIntegrationTest {
 			UUID excludeUserId = UUID.randomUUID();
 
 			// When
-			List<UserEntity> foundUsers = userRepository.searchUsers("nonexistent", excludeUserId);
+			List<UserEntity> foundUsers =
+					userRepository.searchUsers("nonexistent", excludeUserId, 10);
 
 			// Then
 			assertThat(foundUsers).isEmpty();
@@ -238,7 +244,7 @@ class UserEntityRepositoryIntegrationTest extends BaseIntegrationTest {
 			UUID excludeUserId = UUID.randomUUID();
 
 			// When
-			List<UserEntity> foundUsers = userRepository.searchUsers("Jo", excludeUserId);
+			List<UserEntity> foundUsers = userRepository.searchUsers("Jo", excludeUserId, 10);
 
 			// Then
 			assertThat(foundUsers).hasSize(2); // John and Johnson
@@ -246,5 +252,73 @@ class UserEntityRepositoryIntegrationTest extends BaseIntegrationTest {
 					.extracting(UserEntity::getName)
 					.containsExactlyInAnyOrder("John Doe", "Alice Johnson");
 		}
+
+		@Test
+		@DisplayName("Should rank prefix matches before later-word and substring matches")
+		void shouldRankPrefixMatchesFirst() {
+			// Given
+			userRepository.save(
+					TestDataFactory.createTestUser(
+							"Bob Marley", "bob.m@example.com", "+1555000111"));
+			userRepository.save(
+					TestDataFactory.createTestUser(
+							"Mark Jones", "mark.jones@example.com", "+1555000222"));
+			userRepository.save(
+					TestDataFactory.createTestUser(
+							"Anna Kimar", "anna.k@example.com", "+1555000333"));
+
+			// When
+			List<UserEntity> foundUsers = userRepository.searchUsers("mar", UUID.randomUUID(), 10);
+
+			// Then
+			assertThat(foundUsers)
+					.extracting(UserEntity::getName)
+					.containsExactly("Mark Jones", "Bob Marley", "Anna Kimar");
+		}
+
+		@Test
+		@DisplayName("Should return the same users as the prefix index")
+		void shouldMatchPrefixIndexOrdering() {
+			// Given: the matched keys sort differently from the names
+			userRepository.saveAll(
+					List.of(
+							TestDataFactory.createTestUser(
+									"Zed Adams", "a.zed@example.com", "+1555000411"),
+							TestDataFactory.createTestUser("Yan", "ab@example.com", "+1555000412"),
+							TestDataFactory.createTestUser(
+									"aaron", "aaron@example.com", "+1555000413"),
+							TestDataFactory.createTestUser(
+									"Bob Allen", "bob.allen@example.com", "+1555000414")));
+			UserPrefixIndex index = new UserPrefixIndex(true);
+			userRepository.findAll().stream().map(userMapper::toModel).forEach(index::put);
+			index.markReady();
+			UUID excludeUserId = testUser1.getId();
+
+			for (int limit = 1; limit <= 4; limit++) {
+				// When
+				List<UUID> fromIndex =
+						index.search("a", excludeUserId, limit).orElseThrow().stream()
+								.map(User::getId)
+								.toList();
+				List<UUID> fromDatabase =
+						userRepository.searchUsers("a", excludeUserId, limit).stream()
+								.map(UserEntity::getId)
+								.toList();
+
+				// Then
+				assertThat(fromIndex).isEqualTo(fromDatabase);
+			}
+		}
+
+		@Test
+		@DisplayName("Should return at most the requested number of users")
+		void shouldLimitResults() {
+			// When
+			List<UserEntity> foundUsers =
+					userRepository.searchUsers("example", UUID.randomUUID(), 2);
+
+			// Then
+			assertThat(foundUsers).hasSize(2);
+		}
 	}
 }
@@ -0,0 +1,128 @@
+/*
+ * WhatsApp Clone - Backend Service
+ * Copyright (c) 2025
+ */
+package com.ah.whatsapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import com.ah.whatsapp.dto.MessageDto;
+import com.ah.whatsapp.dto.SendMessageRequest;
+import com.ah.whatsapp.entity.ConversationEntity;
+import com.ah.whatsapp.entity.ConversationParticipantEntity;
+import com.ah.whatsapp.entity.UserEntity;
+import com.ah.whatsapp.integration.BaseIntegrationTest;
+import com.ah.whatsapp.repository.entity.ConversationEntityRepository;
+import com.ah.whatsapp.repository.entity.ConversationParticipantEntityRepository;
+import com.ah.whatsapp.repository.entity.UserEntityRepository;
+import com.ah.whatsapp.testutil.TestDataFactory;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Benchmark for the message send path. Counts the JDBC statements Hibernate prepares for each
+ * {@link MessageService#sendMessage} call, including the flush of the message insert.
+ */
+@DisplayName("Message Send Query Count Benchmark")
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class MessageSendQueryCountIntegrationTest extends BaseIntegrationTest {
+
+	private static final Logger log =
+			LoggerFactory.getLogger(MessageSendQueryCountIntegrationTest.class);
+
+	private static final int SENDS = 20;
+	private static final long MAX_STATEMENTS_PER_SEND = 3;
+
+	@Autowired private MessageService messageService;
+	@Autowired private UserEntityRepository userRepository;
+	@Autowired private ConversationEntityRepository conversationRepository;
+	@Autowired private ConversationParticipantEntityRepository participantRepository;
+	@Autowired private EntityManager entityManager;
+	@Autowired private EntityManagerFactory entityManagerFactory;
+
+	private UserEntity sender;
+	private UserEntity recipient;
+	private ConversationEntity conversation;
+
+	@BeforeEach
+	void setUp() {
+		sender =
+				userRepository.save(
+						TestDataFactory.createTestUser(
+								"Sender",
+								TestDataFactory.createUniqueEmail("sender"),
+								TestDataFactory.createUniquePhone()));
+		recipient =
+				userRepository.save(
+						TestDataFactory.createTestUser(
+								"Recipient",
+								TestDataFactory.createUniqueEmail("recipient"),
+								TestDataFactory.createUniquePhone()));
+		conversation = conversationRepository.save(TestDataFactory.createTestConversation());
+
+		participantRepository.saveAll(
+				List.of(participant(sender, true), participant(recipient, false)));
+
+		entityManager.flush();
+		entityManager.clear();
+	}
+
+	@Test
+	@DisplayName("Should issue at most three statements per send")
+	void shouldIssueAtMostThreeStatementsPerSend() {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		long started = System.nanoTime();
+		for (int i = 0; i < SENDS; i++) {
+			MessageDto sent =
+					messageService.sendMessage(
+							new SendMessageRequest(conversation.getId(), "message " + i),
+							sender.getId());
+			entityManager.flush();
+			assertThat(sent.id()).isNotNull();
+		}
+		long elapsedMicros = (System.nanoTime() - started) / 1_000;
+
+		long statements = statistics.getPrepareStatementCount();
+		double perSend = (double) statements / SENDS;
+		log.info(
+				"Sent {} messages with {} statements ({} per send, {} us per send)",
+				SENDS,
+				statements,
+				perSend,
+				elapsedMicros / SENDS);
+
+		assertThat(perSend).isLessThanOrEqualTo(MAX_STATEMENTS_PER_SEND);
+		assertThat(
+						participantRepository
+								.findByConversationIdAndUserId(
+										conversation.getId(), recipient.getId())
+								.orElseThrow()
+								.isActive())
+				.isTrue();
+	}
+
+	private ConversationParticipantEntity participant(UserEntity user, boolean active) {
+		ConversationParticipantEntity participant = new ConversationParticipantEntity();
+		participant.setConversation(conversation);
+		participant.setUser(user);
+		participant.setJoinedAt(LocalDateTime.now().minusDays(1));
+		participant.setActive(active);
+		return participant;
+	}
+}
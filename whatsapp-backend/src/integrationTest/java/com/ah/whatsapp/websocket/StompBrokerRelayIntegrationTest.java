@@ -0,0 +1,121 @@
+/*
+ * WhatsApp Clone - Backend Service
+ * Copyright (c) 2025
+ */
+package com.ah.whatsapp.websocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.ReactorNettyTcpStompClient;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.ah.whatsapp.config.EmbeddedStompBroker;
+import com.ah.whatsapp.constant.WebSocketConstants;
+import com.ah.whatsapp.integration.BaseIntegrationTest;
+
+/**
+ * Runs the application in broker relay mode against {@link EmbeddedStompBroker} and checks that
+ * messages published by the application are delivered through the external broker.
+ */
+@DisplayName("STOMP Broker Relay Integration Tests")
+class StompBrokerRelayIntegrationTest extends BaseIntegrationTest {
+
+	private static final EmbeddedStompBroker BROKER = EmbeddedStompBroker.start();
+	private static final long TIMEOUT_SECONDS = 10;
+
+	@Autowired private SimpMessagingTemplate messagingTemplate;
+
+	@DynamicPropertySource
+	static void brokerProperties(DynamicPropertyRegistry registry) {
+		registry.add("app.websocket.broker.mode", () -> "relay");
+		registry.add("app.websocket.broker.relay.host", BROKER::getHost);
+		registry.add("app.websocket.broker.relay.port", BROKER::getPort);
+	}
+
+	@AfterAll
+	void stopBroker() {
+		BROKER.close();
+	}
+
+	@Test
+	@DisplayName("Should open system session and subscribe to user broadcasts")
+	void shouldSubscribeToUserBroadcasts() throws InterruptedException {
+		awaitSubscription(WebSocketConstants.USER_REGISTRY_BROADCAST);
+		awaitSubscription(WebSocketConstants.USER_DESTINATION_BROADCAST);
+
+		assertThat(BROKER.getConnectedCount()).isPositive();
+	}
+
+	@Test
+	@DisplayName("Should deliver topic messages through the external broker")
+	void shouldDeliverTopicMessagesThroughBroker() throws Exception {
+		String destination = String.format(WebSocketConstants.CONVERSATION_TOPIC_TEMPLATE, "relay");
+		BlockingQueue<Object> received = new LinkedBlockingQueue<>();
+
+		ReactorNettyTcpStompClient client =
+				new ReactorNettyTcpStompClient(BROKER.getHost(), BROKER.getPort());
+		client.setMessageConverter(new MappingJackson2MessageConverter());
+		StompSession session =
+				client.connectAsync(new StompSessionHandlerAdapter() {})
+						.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+		try {
+			session.setAutoReceipt(true);
+			StompSession.Receiptable subscription =
+					session.subscribe(
+							destination,
+							new StompFrameHandler() {
+								@Override
+								public Type getPayloadType(StompHeaders headers) {
+									return Map.class;
+								}
+
+								@Override
+								public void handleFrame(StompHeaders headers, Object payload) {
+									received.add(payload);
+								}
+							});
+			awaitReceipt(subscription);
+
+			messagingTemplate.convertAndSend(destination, Map.of("content", "hello"));
+
+			assertThat(received.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS))
+					.isEqualTo(Map.of("content", "hello"));
+		} finally {
+			session.disconnect();
+			client.shutdown();
+		}
+	}
+
+	private void awaitSubscription(String destination) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+		while (!BROKER.getSubscribedDestinations().contains(destination)
+				&& System.nanoTime() < deadline) {
+			Thread.sleep(50);
+		}
+		assertThat(BROKER.getSubscribedDestinations()).contains(destination);
+	}
+
+	private void awaitReceipt(StompSession.Receiptable receiptable) throws InterruptedException {
+		BlockingQueue<Boolean> receipt = new LinkedBlockingQueue<>();
+		receiptable.addReceiptTask(() -> receipt.add(true));
+		receiptable.addReceiptLostTask(() -> receipt.add(false));
+		assertThat(receipt.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+	}
+}
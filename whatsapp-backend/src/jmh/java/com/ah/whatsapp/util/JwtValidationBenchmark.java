@@ -0,0 +1,72 @@
+/*
+ * WhatsApp Clone - Backend Service
+ * Copyright (c) 2025
+ */
+package com.ah.whatsapp.util;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.SecretKey;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * Compares per-request token verification before and after the signing key and parser were
+ * built once in {@link JwtUtil}. The legacy benchmark reproduces the old path: decode the key and
+ * build a parser for {@code validateToken}, then again for {@code extractEmail}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtValidationBenchmark {
+
+	private static final String SECRET =
+			"dGVzdC1zZWNyZXQtdGhhdC1pcy1hdC1sZWFzdC0yNTYtYml0cy1sb25nLWZvci1obWFjLXNoYTI1Ng==";
+
+	private JwtUtil cachingJwtUtil;
+	private JwtUtil uncachedJwtUtil;
+	private String token;
+
+	@Setup
+	public void setUp() {
+		cachingJwtUtil = new JwtUtil(SECRET, 3600L, 1024);
+		// A zero-sized cache evicts every entry, so each call parses and verifies the signature
+		uncachedJwtUtil = new JwtUtil(SECRET, 3600L, 0);
+		token = cachingJwtUtil.generateToken("bench@example.com");
+		cachingJwtUtil.verifiedClaims(token);
+	}
+
+	@Benchmark
+	public String legacyValidateThenExtract() {
+		if (!legacyParse(token).getSubject().isEmpty()) {
+			return legacyParse(token).getSubject();
+		}
+		return null;
+	}
+
+	@Benchmark
+	public String verifiedClaimsUncached() {
+		return uncachedJwtUtil.verifiedClaims(token).map(Claims::getSubject).orElse(null);
+	}
+
+	@Benchmark
+	public String verifiedClaimsCached() {
+		return cachingJwtUtil.verifiedClaims(token).map(Claims::getSubject).orElse(null);
+	}
+
+	private static Claims legacyParse(String token) {
+		SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+		return Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
+	}
+}
@@ -0,0 +1,129 @@
+/*
+ * WhatsApp Clone - Backend Service
+ * Copyright (c) 2025
+ */
+package com.ah.whatsapp.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.ah.whatsapp.event.MessageDeletedEvent;
+import com.ah.whatsapp.event.NewMessageEvent;
+import com.ah.whatsapp.model.Conversation;
+import com.ah.whatsapp.model.ConversationParticipant;
+import com.ah.whatsapp.model.Message;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Bounded cache of conversations with their active participants and last message, keyed by
+ * conversation id. Entries are dropped after sitting idle and invalidated whenever a message or
+ * participant of the conversation changes. Callers always receive a copy, so mutating a returned
+ * conversation never leaks into the cache.
+ */
+@Component
+public class ConversationSummaryCache {
+	static final String CACHE_NAME = "conversationSummaries";
+
+	private final Cache<UUID, Conversation> cache;
+
+	public ConversationSummaryCache(
+			@Value("${app.conversation-cache.max-size}") long maxSize,
+			@Value("${app.conversation-cache.idle-timeout}") Duration idleTimeout,
+			MeterRegistry meterRegistry) {
+		this.cache =
+				Caffeine.newBuilder()
+						.maximumSize(maxSize)
+						.expireAfterAccess(idleTimeout)
+						.recordStats()
+						.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+		Gauge.builder("cache.hit.ratio", cache, c -> c.stats().hitRate())
+				.tag("cache", CACHE_NAME)
+				.description("Fraction of lookups served from the cache")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * Returns a copy of the cached conversation, loading it on a miss. Nothing is cached when the
+	 * loader finds no conversation.
+	 */
+	public Optional<Conversation> get(UUID conversationId, Function<UUID, Conversation> loader) {
+		return Optional.ofNullable(cache.get(conversationId, loader)).map(this::copy);
+	}
+
+	/**
+	 * Drops the conversation now and, inside a transaction, again after commit so a concurrent
+	 * reader cannot cache the state from before the change.
+	 */
+	public void invalidate(UUID conversationId) {
+		if (conversationId == null) {
+			return;
+		}
+		cache.invalidate(conversationId);
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(
+					new TransactionSynchronization() {
+						@Override
+						public void afterCommit() {
+							cache.invalidate(conversationId);
+						}
+					});
+		}
+	}
+
+	@EventListener
+	public void onNewMessage(NewMessageEvent event) {
+		invalidate(event.getMessageDto().conversationId());
+	}
+
+	@EventListener
+	public void onMessageDeleted(MessageDeletedEvent event) {
+		invalidate(event.getConversationId());
+	}
+
+	/** Drops every conversation the user takes part in, e.g. after a profile change. */
+	public void invalidateParticipant(UUID userId) {
+		cache.asMap()
+				.values()
+				.removeIf(
+						conversation ->
+								conversation.getParticipants().stream()
+										.anyMatch(p -> userId.equals(p.getParticipantId())));
+	}
+
+	private Conversation copy(Conversation cached) {
+		Conversation conversation = new Conversation();
+		BeanUtils.copyProperties(cached, conversation);
+		conversation.setMessages(new ArrayList<>(cached.getMessages()));
+		conversation.setParticipants(
+				cached.getParticipants().stream()
+						.map(
+								participant -> {
+									ConversationParticipant copy = new ConversationParticipant();
+									BeanUtils.copyProperties(participant, copy);
+									return copy;
+								})
+						.toList());
+		if (cached.getLastMessage() != null) {
+			Message lastMessage = new Message();
+			BeanUtils.copyProperties(cached.getLastMessage(), lastMessage);
+			conversation.setLastMessage(lastMessage);
+		}
+		return conversation;
+	}
+}
@@ -0,0 +1,57 @@
+/*
+ * WhatsApp Clone - Backend Service
+ * Copyright (c) 2025
+ */
+package com.ah.whatsapp.cache;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.ah.whatsapp.model.JwtUser;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Bounded cache of authenticated principals keyed by email. Every REST request and STOMP CONNECT
+ * resolves its principal through here instead of querying the users table. Entries expire after
+ * a fixed TTL and are evicted explicitly whenever the user record changes.
+ */
+@Component
+public class JwtUserCache {
+	static final String CACHE_NAME = "jwtUsers";
+
+	private final Cache<String, JwtUser> cache;
+
+	public JwtUserCache(
+			@Value("${app.user-cache.max-size}") long maxSize,
+			@Value("${app.user-cache.ttl}") Duration ttl,
+			MeterRegistry meterRegistry) {
+		this.cache =
+				Caffeine.newBuilder()
+						.maximumSize(maxSize)
+						.expireAfterWrite(ttl)
+						.recordStats()
+						.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+	}
+
+	/**
+	 * Returns the cached principal for the email, loading it on a miss. Exceptions thrown by the
+	 * loader propagate and nothing is cached.
+	 */
+	public JwtUser get(String email, Function<String, JwtUser> loader) {
+		return cache.get(email, loader);
+	}
+
+	public void invalidate(String email) {
+		if (email != null) {
+			cache.invalidate(email);
+		}
+	}
+}
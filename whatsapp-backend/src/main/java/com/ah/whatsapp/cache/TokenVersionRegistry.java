@@ -0,0 +1,39 @@
+/*
+ * WhatsApp Clone - Backend Service
+ * Copyright (c) 2025
+ */
+package com.ah.whatsapp.cache;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Per-user token version counters used to revoke stateless tokens. Only users who have revoked
+ * their tokens have an entry; everyone else is at version zero. A token is accepted only while
+ * its version claim is at least the user's current version.
+ *
+ * <p>Counters live in memory on this node, so revocations do not survive a restart and are not
+ * shared between instances: with several nodes, a revoked token is still accepted by the nodes
+ * that did not handle the revocation until it expires.
+ */
+@Component
+public class TokenVersionRegistry {
+
+	private final Map<UUID, Integer> versions = new ConcurrentHashMap<>();
+
+	public int currentVersion(UUID userId) {
+		return versions.getOrDefault(userId, 0);
+	}
+
+	/** Invalidates every token issued so far for the user and returns the new version. */
+	public int revoke(UUID userId) {
+		return versions.merge(userId, 1, Integer::sum);
+	}
+
+	public boolean isCurrent(UUID userId, int tokenVersion) {
+		return tokenVersion >= currentVersion(userId);
+	}
+}
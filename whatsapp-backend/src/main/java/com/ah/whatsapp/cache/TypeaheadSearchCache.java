@@ -0,0 +1,112 @@
+/*
+ * WhatsApp Clone - Backend Service
+ * Copyright (c) 2025
+ */
+package com.ah.whatsapp.cache;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.ah.whatsapp.dto.UserDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Short-lived cache of each user's last typeahead search. While the user keeps typing, the next
+ * query usually extends the previous one, and its matches are a subset of the previous matches.
+ * When the previous result was complete (fewer results than the limit), such a narrowed query is
+ * answered by filtering the cached results in memory with the same matching and ordering rules as
+ * the database search.
+ */
+@Component
+public class TypeaheadSearchCache {
+	static final String LOOKUP_METRIC = "user.search.typeahead";
+
+	private static final int NO_MATCH = 3;
+
+	private final Cache<UUID, Snapshot> cache;
+	private final Counter hits;
+	private final Counter fallbacks;
+
+	public TypeaheadSearchCache(
+			@Value("${app.user-search.typeahead.max-size}") long maxSize,
+			@Value("${app.user-search.typeahead.ttl}") Duration ttl,
+			MeterRegistry meterRegistry) {
+		this.cache = Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).build();
+		this.hits = lookupCounter("cache", meterRegistry);
+		this.fallbacks = lookupCounter("database", meterRegistry);
+	}
+
+	/**
+	 * Answers the query from the user's previous result when it narrows that query, or returns
+	 * empty when the caller has to search the database.
+	 */
+	public Optional<List<UserDto>> narrow(UUID userId, String query, int limit) {
+		String normalized = normalize(query);
+		Snapshot snapshot = cache.getIfPresent(userId);
+		if (snapshot == null
+				|| snapshot.results().size() >= limit
+				|| !normalized.startsWith(snapshot.query())) {
+			fallbacks.increment();
+			return Optional.empty();
+		}
+		hits.increment();
+		return Optional.of(
+				snapshot.results().stream()
+						.filter(user -> rank(user, normalized) < NO_MATCH)
+						.sorted(
+								Comparator.<UserDto>comparingInt(user -> rank(user, normalized))
+										.thenComparing(user -> normalize(user.name()))
+										.thenComparing(UserDto::id))
+						.limit(limit)
+						.toList());
+	}
+
+	/** Remembers the result of a database search as the user's previous result. */
+	public void store(UUID userId, String query, List<UserDto> results) {
+		cache.put(userId, new Snapshot(normalize(query), List.copyOf(results)));
+	}
+
+	/** Mirrors the relevance order of {@code UserEntityRepository.searchUsers}. */
+	private static int rank(UserDto user, String query) {
+		String name = normalize(user.name());
+		String email = normalize(user.email());
+		String phone = user.phone() == null ? "" : user.phone();
+		if (!name.contains(query) && !email.contains(query) && !phone.contains(query)) {
+			return NO_MATCH;
+		}
+		if (name.startsWith(query)
+				|| email.startsWith(query)
+				|| stripPlus(phone).startsWith(stripPlus(query))) {
+			return 0;
+		}
+		return name.contains(" " + query) ? 1 : 2;
+	}
+
+	private static String stripPlus(String value) {
+		return value.startsWith("+") ? value.substring(1) : value;
+	}
+
+	private static String normalize(String value) {
+		return value == null ? "" : value.toLowerCase(Locale.ROOT);
+	}
+
+	private static Counter lookupCounter(String source, MeterRegistry meterRegistry) {
+		return Counter.builder(LOOKUP_METRIC)
+				.tag("source", source)
+				.description("Typeahead searches by where they were answered")
+				.register(meterRegistry);
+	}
+
+	private record Snapshot(String query, List<UserDto> results) {}
+}
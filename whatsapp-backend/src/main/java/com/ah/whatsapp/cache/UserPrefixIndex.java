@@ -0,0 +1,200 @@
+/*
+ * WhatsApp Clone - Backend Service
+ * Copyright (c) 2025
+ */
+package com.ah.whatsapp.cache;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.ah.whatsapp.model.User;
+
+/**
+ * Optional in-memory prefix index over user names, emails and phone numbers for the contact
+ * search. Lookups walk sorted keys, so their cost depends on the number of results rather than
+ * the number of users. Results are ordered like the database search: strong matches (the start of
+ * the name, email or phone number) before matches at the start of a later word of the name, then
+ * by lowercased name and id, both compared character by character.
+ *
+ * <p>The index only answers when it holds at least as many prefix matches as were asked for;
+ * otherwise the caller falls back to the database, which also finds matches in the middle of a
+ * word. Those matches rank last there, so whenever the index answers, both return the same users.
+ * It answers nothing until {@link #markReady()} is called after the initial load.
+ */
+@Component
+public class UserPrefixIndex {
+	private static final char KEY_SEPARATOR = '\u0000';
+	private static final int LEADING_TIER = 0;
+	private static final int WORD_TIER = 1;
+
+	private final boolean enabled;
+	private final NavigableMap<String, UUID> leadingKeys = new ConcurrentSkipListMap<>();
+	private final NavigableMap<String, UUID> wordKeys = new ConcurrentSkipListMap<>();
+	private final Map<UUID, User> users = new ConcurrentHashMap<>();
+	private volatile boolean ready;
+
+	public UserPrefixIndex(@Value("${app.user-search.prefix-index.enabled}") boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public void markReady() {
+		ready = enabled;
+	}
+
+	/**
+	 * Returns the first {@code limit} users whose name, email or phone number has a word starting
+	 * with the query, or empty when the index is not ready or holds fewer matches than {@code
+	 * limit}.
+	 */
+	public Optional<List<User>> search(String query, UUID excludeUserId, int limit) {
+		String prefix = normalize(query).replaceFirst("^\\+", "");
+		if (!ready || prefix.isEmpty()) {
+			return Optional.empty();
+		}
+		// Every match is needed to pick the first ones by name, not by the key that matched
+		Map<UUID, Integer> tiers = new HashMap<>();
+		collect(leadingKeys, prefix, excludeUserId, LEADING_TIER, tiers);
+		collect(wordKeys, prefix, excludeUserId, WORD_TIER, tiers);
+		if (tiers.size() < limit) {
+			return Optional.empty();
+		}
+		List<User> matches = new ArrayList<>(tiers.size());
+		for (UUID id : tiers.keySet()) {
+			User user = users.get(id);
+			if (user == null) {
+				// removed concurrently; let the database answer
+				return Optional.empty();
+			}
+			matches.add(user);
+		}
+		matches.sort(
+				Comparator.<User>comparingInt(user -> tiers.get(user.getId()))
+						.thenComparing(UserPrefixIndex::lowerName)
+						// UUID.compareTo is signed; the database compares the bytes unsigned
+						.thenComparing(user -> user.getId().toString()));
+		return Optional.of(matches.stream().limit(limit).map(UserPrefixIndex::copy).toList());
+	}
+
+	/**
+	 * Adds the user or replaces their previous keys. Inside a transaction this happens once it
+	 * commits, so a rolled-back save never shows up in search. Does nothing when the index is
+	 * disabled.
+	 */
+	public void put(User user) {
+		if (!enabled || user.getId() == null) {
+			return;
+		}
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			User committed = copy(user);
+			TransactionSynchronizationManager.registerSynchronization(
+					new TransactionSynchronization() {
+						@Override
+						public void afterCommit() {
+							add(committed);
+						}
+					});
+		} else {
+			add(user);
+		}
+	}
+
+	private synchronized void add(User user) {
+		User previous = users.put(user.getId(), copy(user));
+		if (previous != null) {
+			removeKeys(previous);
+		}
+		addKeys(user);
+	}
+
+	public synchronized void remove(UUID userId) {
+		User previous = users.remove(userId);
+		if (previous != null) {
+			removeKeys(previous);
+		}
+	}
+
+	private void collect(
+			NavigableMap<String, UUID> keys,
+			String prefix,
+			UUID excludeUserId,
+			int tier,
+			Map<UUID, Integer> tiers) {
+		for (UUID id : keys.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+			if (!id.equals(excludeUserId)) {
+				tiers.putIfAbsent(id, tier);
+			}
+		}
+	}
+
+	private void addKeys(User user) {
+		leadingKeys(user).forEach(key -> leadingKeys.put(key(key, user.getId()), user.getId()));
+		wordKeys(user).forEach(key -> wordKeys.put(key(key, user.getId()), user.getId()));
+	}
+
+	private void removeKeys(User user) {
+		leadingKeys(user).forEach(key -> leadingKeys.remove(key(key, user.getId())));
+		wordKeys(user).forEach(key -> wordKeys.remove(key(key, user.getId())));
+	}
+
+	private static List<String> leadingKeys(User user) {
+		List<String> keys = new ArrayList<>(3);
+		addIfPresent(keys, normalize(user.getName()));
+		addIfPresent(keys, normalize(user.getEmail()));
+		if (user.getPhone() != null) {
+			addIfPresent(keys, normalize(user.getPhone().replaceFirst("^\\+", "")));
+		}
+		return keys;
+	}
+
+	private static List<String> wordKeys(User user) {
+		List<String> keys = new ArrayList<>();
+		String[] words = normalize(user.getName()).split("\\s+");
+		for (int i = 1; i < words.length; i++) {
+			addIfPresent(keys, words[i]);
+		}
+		return keys;
+	}
+
+	private static void addIfPresent(List<String> keys, String key) {
+		if (!key.isEmpty()) {
+			keys.add(key);
+		}
+	}
+
+	private static String key(String value, UUID id) {
+		return value + KEY_SEPARATOR + id;
+	}
+
+	private static String lowerName(User user) {
+		return user.getName() == null ? "" : user.getName().toLowerCase(Locale.ROOT);
+	}
+
+	private static String normalize(String value) {
+		return value == null ? "" : value.strip().toLowerCase(Locale.ROOT);
+	}
+
+	private static User copy(User user) {
+		User copy = new User();
+		BeanUtils.copyProperties(user, copy, "password");
+		return copy;
+	}
+}
@@ -9,10 +9,12 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @Configuration
 @ComponentScan(basePackages = "com.ah.whatsapp")
 @EnableAsync
 @EnableJpaAuditing
+@EnableScheduling
 @EnableJpaRepositories(basePackages = "com.ah.whatsapp.repository")
 public class ApplicationConfig {}
@@ -4,7 +4,13 @@
  */
 package com.ah.whatsapp.configuration;
 
+import static com.ah.whatsapp.constant.WebSocketConstants.CONVERSATIONS_TOPIC;
+import static com.ah.whatsapp.constant.WebSocketConstants.TOPIC_PREFIX;
+
+import java.security.Principal;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
@@ -12,13 +18,16 @@ import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
 import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
 
 import com.ah.whatsapp.model.JwtUser;
+import com.ah.whatsapp.repository.ConversationParticipantRepository;
+import com.ah.whatsapp.util.JwtPrincipalResolver;
 import com.ah.whatsapp.util.JwtUtil;
 
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -28,13 +37,18 @@ import lombok.extern.slf4j.Slf4j;
 public class AuthChannelInterceptor implements ChannelInterceptor {
 
 	private final JwtUtil jwtUtil;
-	private final UserDetailsService userDetailsService; // Your UserDetailsServiceImpl
+	private final JwtPrincipalResolver jwtPrincipalResolver;
+	private final ConversationParticipantRepository conversationParticipantRepository;
 
 	@Override
 	public Message<?> preSend(Message<?> message, MessageChannel channel) {
 		StompHeaderAccessor accessor =
 				MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
 
+		if (accessor != null && StompCommand.SUBSCRIBE.equals(accessor.getCommand())) {
+			checkConversationSubscription(accessor.getDestination(), accessor.getUser());
+		}
+
 		if (accessor != null && StompCommand.CONNECT.equals(accessor.getCommand())) {
 			// Extract token from STOMP connect headers
 			// Note: StompHeaderAccessor might automatically convert header names to lowercase
@@ -54,11 +68,11 @@ public class AuthChannelInterceptor implements ChannelInterceptor {
 
 			if (jwt != null) {
 				try {
-					if (jwtUtil.validateToken(jwt)) {
-						String username = jwtUtil.extractEmail(jwt);
+					Optional<Claims> claims = jwtUtil.verifiedClaims(jwt);
+					if (claims.isPresent()) {
+						String username = claims.get().getSubject();
 						if (username != null) {
-							JwtUser userDetails =
-									(JwtUser) userDetailsService.loadUserByUsername(username);
+							JwtUser userDetails = jwtPrincipalResolver.resolve(claims.get());
 							// Create authentication token
 							UsernamePasswordAuthenticationToken authentication =
 									new UsernamePasswordAuthenticationToken(
@@ -92,4 +106,35 @@ public class AuthChannelInterceptor implements ChannelInterceptor {
 
 		return message;
 	}
+
+	/**
+	 * Rejects a subscription to a conversation topic, or to one below it such as its typing
+	 * topic, unless the user is an active participant. Rejecting it here also keeps a resuming
+	 * subscription from being replayed the conversation's buffered events.
+	 */
+	private void checkConversationSubscription(String destination, Principal user) {
+		String prefix = TOPIC_PREFIX + CONVERSATIONS_TOPIC + "/";
+		if (destination == null || !destination.startsWith(prefix)) {
+			return;
+		}
+		String id = destination.substring(prefix.length());
+		int end = id.indexOf('/');
+		UUID conversationId;
+		try {
+			conversationId = UUID.fromString(end < 0 ? id : id.substring(0, end));
+		} catch (IllegalArgumentException e) {
+			throw new AccessDeniedException("Unknown conversation topic " + destination);
+		}
+		if (!(user instanceof UsernamePasswordAuthenticationToken authentication)
+				|| !(authentication.getPrincipal() instanceof JwtUser jwtUser)
+				|| !conversationParticipantRepository
+						.existsByConversationIdAndUserIdAndIsActiveTrue(
+								conversationId, jwtUser.getUserId())) {
+			log.warn(
+					"Rejected subscription to {} by {}",
+					destination,
+					user == null ? null : user.getName());
+			throw new AccessDeniedException("User is not a participant in this conversation");
+		}
+	}
 }
@@ -7,6 +7,7 @@ package com.ah.whatsapp.configuration;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
@@ -80,6 +81,8 @@ public class DataSeeder implements CommandLineRunner {
 		log.info("{} users created.", users.size());
 
 		log.info("Creating conversations and participants...");
+		List<ConversationParticipant> participants = new ArrayList<>();
+		List<Message> messages = new ArrayList<>();
 		// Create conversations between the known user and some fake users
 		for (int i = 1; i < 5; i++) { // Create 4 conversations for the known user
 			User participant1 = knownUser;
@@ -95,17 +98,17 @@ public class DataSeeder implements CommandLineRunner {
 			cp1.setConversationId(savedConversation.getId());
 			cp1.setParticipantId(participant1.getId()); // Use User ID
 			cp1.setJoinedAt(LocalDateTime.now());
-			participantRepository.save(cp1);
+			participants.add(cp1);
 
 			// Add participant 2
 			ConversationParticipant cp2 = new ConversationParticipant();
 			cp2.setConversationId(savedConversation.getId());
 			cp2.setParticipantId(participant2.getId()); // Use User ID
 			cp2.setJoinedAt(LocalDateTime.now());
-			participantRepository.save(cp2);
+			participants.add(cp2);
 
 			// === Create Messages for this conversation ===
-			log.info("Creating messages for conversation {}...", savedConversation.getId());
+			log.info("Preparing messages for conversation {}...", savedConversation.getId());
 			LocalDateTime lastMessageTime = null;
 			for (int j = 0; j < faker.number().numberBetween(5, 15); j++) {
 				Message message = new Message();
@@ -113,7 +116,6 @@ public class DataSeeder implements CommandLineRunner {
 				// Alternate sender
 				message.setSender(j % 2 == 0 ? participant1 : participant2);
 				message.setContent(faker.lorem().sentence(faker.number().numberBetween(3, 12)));
-				// Ensure messages are sequential
 				LocalDateTime sentAt =
 						faker.date()
 								.past(30, TimeUnit.DAYS)
@@ -121,7 +123,7 @@ public class DataSeeder implements CommandLineRunner {
 								.atZone(ZoneId.systemDefault())
 								.toLocalDateTime();
 				message.setSentAt(sentAt);
-				messageRepository.save(message);
+				messages.add(message);
 				if (lastMessageTime == null || sentAt.isAfter(lastMessageTime)) {
 					lastMessageTime = sentAt;
 				}
@@ -133,6 +135,13 @@ public class DataSeeder implements CommandLineRunner {
 			}
 		}
 
+		// Saved together so the inserts go out in JDBC batches. Sequence numbers are assigned in
+		// insert order, so the messages go in oldest first, the way V014 numbered existing ones
+		participantRepository.saveAll(participants);
+		messages.sort(Comparator.comparing(Message::getSentAt));
+		messageRepository.saveAll(messages);
+		log.info("{} participants and {} messages created.", participants.size(), messages.size());
+
 		log.info("Data seeding finished.");
 	}
 }
@@ -0,0 +1,114 @@
+/*
+ * WhatsApp Clone - Backend Service
+ * Copyright (c) 2025
+ */
+package com.ah.whatsapp.configuration;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Reports virtual threads that stay pinned to their carrier thread, typically by blocking inside a
+ * {@code synchronized} block or a native frame. Pinned threads hold one of the few carrier threads
+ * for the whole blocking call, so a driver or library that blocks while pinned quietly caps
+ * throughput at the carrier count.
+ *
+ * <p>Listens to the JFR {@code jdk.VirtualThreadPinned} event in-process. Every pin longer than the
+ * threshold is recorded on the {@code jvm.threads.virtual.pinned} timer, and the first pin from
+ * each code location is logged with its stack trace.
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor implements DisposableBean {
+
+	static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+	static final String PINNED_METRIC = "jvm.threads.virtual.pinned";
+
+	private static final int LOGGED_FRAMES = 15;
+	private static final List<String> PLATFORM_PACKAGES = List.of("java.", "jdk.", "sun.");
+
+	private final Timer pinned;
+	private final Set<String> reportedOrigins = ConcurrentHashMap.newKeySet();
+	private final RecordingStream stream;
+
+	public VirtualThreadPinningMonitor(
+			@Value("${app.threads.virtual.pinned-threshold}") Duration threshold,
+			MeterRegistry meterRegistry) {
+		this.pinned =
+				Timer.builder(PINNED_METRIC)
+						.description("Virtual threads pinned to their carrier beyond the threshold")
+						.register(meterRegistry);
+		this.stream = new RecordingStream();
+		stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+		stream.onEvent(PINNED_EVENT, this::onPinned);
+		stream.startAsync();
+		log.info("Watching for virtual threads pinned longer than {}", threshold);
+	}
+
+	private void onPinned(RecordedEvent event) {
+		pinned.record(event.getDuration());
+		RecordedStackTrace stackTrace = event.getStackTrace();
+		List<RecordedFrame> frames = stackTrace == null ? List.of() : stackTrace.getFrames();
+		String origin = origin(frames);
+		if (reportedOrigins.add(origin)) {
+			log.warn(
+					"Virtual thread pinned its carrier for {} ms at {}{}",
+					event.getDuration().toMillis(),
+					origin,
+					describe(frames));
+		} else {
+			log.debug(
+					"Virtual thread pinned its carrier for {} ms at {}",
+					event.getDuration().toMillis(),
+					origin);
+		}
+	}
+
+	@Override
+	public void destroy() {
+		stream.close();
+	}
+
+	/** First frame outside the JDK, which is where the monitor is usually held. */
+	private static String origin(List<RecordedFrame> frames) {
+		return frames.stream()
+				.filter(RecordedFrame::isJavaFrame)
+				.map(VirtualThreadPinningMonitor::frame)
+				.filter(frame -> PLATFORM_PACKAGES.stream().noneMatch(frame::startsWith))
+				.findFirst()
+				.orElse(frames.isEmpty() ? "unknown" : frame(frames.get(0)));
+	}
+
+	private static String describe(List<RecordedFrame> frames) {
+		return frames.stream()
+				.limit(LOGGED_FRAMES)
+				.map(frame -> System.lineSeparator() + "\tat " + frame(frame))
+				.collect(Collectors.joining());
+	}
+
+	private static String frame(RecordedFrame frame) {
+		return frame.getMethod().getType().getName()
+				+ "."
+				+ frame.getMethod().getName()
+				+ ":"
+				+ frame.getLineNumber();
+	}
+}
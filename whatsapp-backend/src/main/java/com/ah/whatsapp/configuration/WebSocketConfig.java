@@ -4,13 +4,21 @@
  */
 package com.ah.whatsapp.configuration;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.simp.config.StompBrokerRelayRegistration;
+import org.springframework.util.StringUtils;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
 
+import com.ah.whatsapp.constant.WebSocketConstants;
+import com.ah.whatsapp.enums.BrokerMode;
+import com.ah.whatsapp.websocket.ReplayRecordingInterceptor;
+import com.ah.whatsapp.websocket.ResumeSubscriptionInterceptor;
+
 import lombok.RequiredArgsConstructor;
 
 @Configuration
@@ -19,27 +27,107 @@ import lombok.RequiredArgsConstructor;
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
 	private final AuthChannelInterceptor authChannelInterceptor;
+	private final ReplayRecordingInterceptor replayRecordingInterceptor;
+	private final ResumeSubscriptionInterceptor resumeSubscriptionInterceptor;
+
+	@Value("${app.websocket.broker.mode}")
+	private BrokerMode brokerMode;
+
+	@Value("${app.websocket.broker.relay.host}")
+	private String relayHost;
+
+	@Value("${app.websocket.broker.relay.port}")
+	private int relayPort;
+
+	@Value("${app.websocket.broker.relay.virtual-host}")
+	private String relayVirtualHost;
+
+	@Value("${app.websocket.broker.relay.client-login}")
+	private String relayClientLogin;
+
+	@Value("${app.websocket.broker.relay.client-passcode}")
+	private String relayClientPasscode;
+
+	@Value("${app.websocket.broker.relay.system-login}")
+	private String relaySystemLogin;
+
+	@Value("${app.websocket.broker.relay.system-passcode}")
+	private String relaySystemPasscode;
+
+	@Value("${spring.threads.virtual.enabled}")
+	private boolean virtualThreads;
+
+	@Value("${app.websocket.replay.enabled}")
+	private boolean replayEnabled;
+
+	@Value("${app.messages.group-commit.enabled}")
+	private boolean groupCommit;
 
 	@Override
 	public void registerStompEndpoints(StompEndpointRegistry registry) {
 		registry.addEndpoint("/ws").setAllowedOriginPatterns("*").withSockJS();
+		// With virtual threads the channels start a thread per message instead of draining a
+		// queue, so per-session order has to be kept explicitly. Group commit numbers messages in
+		// the order they are queued, so it needs a session's sends to arrive in order too
+		registry.setPreserveReceiveOrder(virtualThreads || groupCommit);
 	}
 
 	@Override
 	public void configureMessageBroker(MessageBrokerRegistry config) {
-		// Enable a simple in-memory message broker
-		// Destinations starting with "/topic" or "/queue" will be routed to the broker
-		config.enableSimpleBroker("/topic", "/queue");
+		if (brokerMode == BrokerMode.RELAY) {
+			enableBrokerRelay(config);
+		} else {
+			// Enable a simple in-memory message broker
+			// Destinations starting with "/topic" or "/queue" will be routed to the broker
+			config.enableSimpleBroker("/topic", "/queue");
+		}
 
 		// Configure the prefix for messages bound for methods annotated with @MessageMapping
 		// e.g., client sends to /app/chat.sendMessage, it gets routed to a
 		// @MessageMapping("chat.sendMessage") method
 		config.setApplicationDestinationPrefixes("/app");
 		config.setUserDestinationPrefix("/user");
+		config.setPreservePublishOrder(virtualThreads);
+		if (replaysEvents()) {
+			config.configureBrokerChannel().interceptors(replayRecordingInterceptor);
+		}
+	}
+
+	/**
+	 * Replay only works with the simple broker: behind a relay, events published by other nodes
+	 * never pass through this node's broker channel, so its buffer would replay only some of them.
+	 */
+	private boolean replaysEvents() {
+		return replayEnabled && brokerMode == BrokerMode.SIMPLE;
+	}
+
+	/**
+	 * Relays "/topic" and "/queue" to an external STOMP broker so several nodes can share
+	 * subscriptions. Each node broadcasts its connected users on the registry topic, which lets
+	 * {@code convertAndSendToUser} reach a user connected to another node. User destinations that
+	 * cannot be resolved locally are rebroadcast for the other nodes to deliver.
+	 */
+	private void enableBrokerRelay(MessageBrokerRegistry config) {
+		StompBrokerRelayRegistration relay =
+				config.enableStompBrokerRelay("/topic", "/queue")
+						.setRelayHost(relayHost)
+						.setRelayPort(relayPort)
+						.setClientLogin(relayClientLogin)
+						.setClientPasscode(relayClientPasscode)
+						.setSystemLogin(relaySystemLogin)
+						.setSystemPasscode(relaySystemPasscode)
+						.setUserRegistryBroadcast(WebSocketConstants.USER_REGISTRY_BROADCAST)
+						.setUserDestinationBroadcast(WebSocketConstants.USER_DESTINATION_BROADCAST);
+		if (StringUtils.hasText(relayVirtualHost)) {
+			relay.setVirtualHost(relayVirtualHost);
+		}
 	}
 
 	@Override
 	public void configureClientInboundChannel(ChannelRegistration registration) {
 		registration.interceptors(authChannelInterceptor);
+		if (replaysEvents()) {
+			registration.interceptors(resumeSubscriptionInterceptor);
+		}
 	}
 }
@@ -0,0 +1,57 @@
+/*
+ * WhatsApp Clone - Backend Service
+ * Copyright (c) 2025
+ */
+package com.ah.whatsapp.configuration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.ah.whatsapp.websocket.OrderedEventExecutor;
+import com.ah.whatsapp.websocket.OrderedEventExecutor.OverflowPolicy;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Executors for WebSocket fan-out, one per event class so a burst of typing indicators cannot
+ * delay conversation updates. New and deleted messages are broadcast in order by the outbox relay
+ * and need no executor.
+ */
+@Configuration
+public class WebSocketExecutorConfig {
+
+	public static final String CONVERSATION_EVENT_EXECUTOR = "conversationEventExecutor";
+	public static final String TYPING_EVENT_EXECUTOR = "typingEventExecutor";
+
+	@Value("${spring.threads.virtual.enabled}")
+	private boolean virtualThreads;
+
+	@Bean(CONVERSATION_EVENT_EXECUTOR)
+	public OrderedEventExecutor conversationEventExecutor(
+			@Value("${app.websocket.executors.conversations.lanes}") int lanes,
+			@Value("${app.websocket.executors.conversations.queue-capacity}") int queueCapacity,
+			MeterRegistry meterRegistry) {
+		return new OrderedEventExecutor(
+				"conversations",
+				lanes,
+				queueCapacity,
+				OverflowPolicy.CALLER_WAITS,
+				meterRegistry,
+				virtualThreads);
+	}
+
+	@Bean(TYPING_EVENT_EXECUTOR)
+	public OrderedEventExecutor typingEventExecutor(
+			@Value("${app.websocket.executors.typing.lanes}") int lanes,
+			@Value("${app.websocket.executors.typing.queue-capacity}") int queueCapacity,
+			MeterRegistry meterRegistry) {
+		return new OrderedEventExecutor(
+				"typing",
+				lanes,
+				queueCapacity,
+				OverflowPolicy.DROP_OLDEST,
+				meterRegistry,
+				virtualThreads);
+	}
+}
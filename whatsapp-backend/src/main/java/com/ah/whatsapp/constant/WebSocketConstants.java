@@ -9,6 +9,7 @@ public class WebSocketConstants {
 
 	public static final String APP_PREFIX = "/app";
 	public static final String CHAT_SEND_MESSAGE = "/chat.sendMessage"; // Relative to APP_PREFIX
+	public static final String CHAT_SEND_MESSAGES = "/chat.sendMessages"; // Relative to APP_PREFIX
 
 	// Broker Destinations (Server -> Client @SendTo / SimpMessagingTemplate)
 	public static final String TOPIC_PREFIX = "/topic";
@@ -23,4 +24,13 @@ public class WebSocketConstants {
 	public static final String CONVERSATION_QUEUE = "/queue/conversations";
 
 	public static final String TYPING_INDICATOR_TOPIC = CONVERSATION_TOPIC_TEMPLATE + "/typing";
+
+	// Replay: frames carry their event id, and a SUBSCRIBE may ask for the frames after one
+	public static final String EVENT_ID_HEADER = "event-id";
+	public static final String RESUME_AFTER_HEADER = "resume-after";
+
+	// Broker relay broadcasts, used to share user sessions between nodes
+	public static final String USER_REGISTRY_BROADCAST = TOPIC_PREFIX + "/simp-user-registry";
+	public static final String USER_DESTINATION_BROADCAST =
+			TOPIC_PREFIX + "/unresolved-user-destination";
 }
@@ -4,10 +4,12 @@
  */
 package com.ah.whatsapp.controller;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.UUID;
 
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -16,13 +18,17 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.ah.whatsapp.dto.ApiResponse;
 import com.ah.whatsapp.dto.ConversationDto;
 import com.ah.whatsapp.dto.CreateConversationRequest;
+import com.ah.whatsapp.dto.CursorPage;
 import com.ah.whatsapp.model.JwtUser;
 import com.ah.whatsapp.service.ConversationService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -35,22 +41,58 @@ import lombok.extern.slf4j.Slf4j;
 public class ConversationController {
 
 	private final ConversationService conversationService;
+	private final ObjectMapper objectMapper;
 
 	/**
-	 * GET /api/conversations : Get all conversations for the authenticated user.
+	 * GET /api/conversations : Get one page of the authenticated user's conversations, most
+	 * recently updated first.
 	 *
+	 * @param cursor Opaque cursor from a previous page; omit for the first page.
+	 * @param limit Maximum number of conversations to return (capped server-side).
 	 * @param jwtUser The authenticated user principal.
-	 * @return A list of ConversationDto objects.
+	 * @return A page of ConversationDto objects with the cursor for the next page.
 	 */
 	@GetMapping
-	public ResponseEntity<ApiResponse<List<ConversationDto>>> getUserConversations(
+	public ResponseEntity<ApiResponse<CursorPage<ConversationDto>>> getUserConversations(
+			@RequestParam(name = "cursor", required = false) String cursor,
+			@RequestParam(name = "limit", defaultValue = "50") int limit,
 			@AuthenticationPrincipal JwtUser jwtUser) {
 		if (jwtUser == null) {
 			return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
 		}
-		List<ConversationDto> conversations =
-				conversationService.findUserConversations(jwtUser.getUserId());
-		return new ResponseEntity<>(ApiResponse.success(conversations), HttpStatus.OK);
+		CursorPage<ConversationDto> page =
+				conversationService.findUserConversations(jwtUser.getUserId(), cursor, limit);
+		return new ResponseEntity<>(ApiResponse.success(page), HttpStatus.OK);
+	}
+
+	/**
+	 * GET /api/conversations (Accept: application/x-ndjson) : Stream all of the authenticated
+	 * user's conversations, one JSON document per line, writing each page as it is read.
+	 *
+	 * @param jwtUser The authenticated user principal.
+	 * @return The newline-delimited ConversationDto objects.
+	 */
+	@GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<StreamingResponseBody> streamUserConversations(
+			@AuthenticationPrincipal JwtUser jwtUser) {
+		if (jwtUser == null) {
+			return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+		}
+		UUID userId = jwtUser.getUserId();
+		StreamingResponseBody body =
+				outputStream ->
+						conversationService.forEachUserConversation(
+								userId,
+								conversation -> {
+									try {
+										outputStream.write(
+												objectMapper.writeValueAsBytes(conversation));
+										outputStream.write('\n');
+									} catch (IOException e) {
+										throw new UncheckedIOException(e);
+									}
+								});
+		return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
 	}
 
 	/**
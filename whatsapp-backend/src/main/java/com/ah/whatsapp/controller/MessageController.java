@@ -19,14 +19,22 @@ import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import com.ah.whatsapp.constant.WebSocketConstants;
 import com.ah.whatsapp.dto.ApiResponse;
+import com.ah.whatsapp.dto.CursorPage;
 import com.ah.whatsapp.dto.MessageDto;
+import com.ah.whatsapp.dto.MessageSearchResultDto;
+import com.ah.whatsapp.dto.SendMessageBatchRequest;
 import com.ah.whatsapp.dto.SendMessageRequest;
 import com.ah.whatsapp.model.JwtUser;
 import com.ah.whatsapp.service.MessageService;
+import com.ah.whatsapp.websocket.MessageGroupCommitter;
+import com.ah.whatsapp.websocket.StompReceiptSender;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -39,17 +47,27 @@ import lombok.extern.slf4j.Slf4j;
 public class MessageController {
 
 	private final MessageService messageService;
+	private final MessageGroupCommitter groupCommitter;
+	private final StompReceiptSender receiptSender;
 
 	/**
-	 * GET /messages/conversation/{conversationId} : Get messages for a specific conversation.
+	 * GET /messages/conversation/{conversationId} : Get one page of messages for a conversation.
+	 * Without a cursor the newest messages are returned; pass the returned {@code nextCursor} as
+	 * {@code before} to load older messages, or a cursor as {@code after} to load newer ones.
 	 *
 	 * @param conversationId The ID of the conversation.
+	 * @param before         Cursor to page back from (exclusive).
+	 * @param after          Cursor to page forward from (exclusive).
+	 * @param limit          Maximum number of messages in the page.
 	 * @param jwtUser        The authenticated user principal (for authorization checks if needed).
-	 * @return A list of MessageDto objects for the conversation, wrapped in ApiResponse.
+	 * @return A page of MessageDto objects in chronological order, wrapped in ApiResponse.
 	 */
 	@GetMapping("/conversation/{conversationId}")
-	public ResponseEntity<ApiResponse<List<MessageDto>>> getConversationMessages(
+	public ResponseEntity<ApiResponse<CursorPage<MessageDto>>> getConversationMessages(
 			@PathVariable(name = "conversationId") UUID conversationId,
+			@RequestParam(name = "before", required = false) String before,
+			@RequestParam(name = "after", required = false) String after,
+			@RequestParam(name = "limit", defaultValue = "50") int limit,
 			@AuthenticationPrincipal JwtUser jwtUser) {
 		if (jwtUser == null) {
 			// Handled by security config, but good practice for clarity
@@ -57,11 +75,90 @@ public class MessageController {
 					ApiResponse.failure("Unauthorized", HttpStatus.UNAUTHORIZED),
 					HttpStatus.UNAUTHORIZED);
 		}
-		List<MessageDto> messages =
-				messageService.findConversationMessages(conversationId, jwtUser.getUserId());
+		CursorPage<MessageDto> messages =
+				messageService.findConversationMessages(
+						conversationId, jwtUser.getUserId(), before, after, limit);
+		return new ResponseEntity<>(ApiResponse.success(messages), HttpStatus.OK);
+	}
+
+	/**
+	 * GET /messages/conversation/{conversationId}/since/{seq} : Get the messages numbered after
+	 * {@code seq}, oldest first. A reconnecting client passes the {@code seq} of the last message
+	 * it has and receives only the missing tail; while {@code hasMore} is set, it continues from
+	 * the returned {@code nextCursor}.
+	 *
+	 * @param conversationId The ID of the conversation.
+	 * @param seq            The last sequence number the client has (exclusive).
+	 * @param limit          Maximum number of messages in the page.
+	 * @param jwtUser        The authenticated user principal.
+	 * @return The missing messages in sequence order, wrapped in ApiResponse.
+	 */
+	@GetMapping("/conversation/{conversationId}/since/{seq}")
+	public ResponseEntity<ApiResponse<CursorPage<MessageDto>>> getMessagesSince(
+			@PathVariable(name = "conversationId") UUID conversationId,
+			@PathVariable(name = "seq") long seq,
+			@RequestParam(name = "limit", defaultValue = "100") int limit,
+			@AuthenticationPrincipal JwtUser jwtUser) {
+		if (jwtUser == null) {
+			return new ResponseEntity<>(
+					ApiResponse.failure("Unauthorized", HttpStatus.UNAUTHORIZED),
+					HttpStatus.UNAUTHORIZED);
+		}
+		CursorPage<MessageDto> messages =
+				messageService.findMessagesSince(conversationId, jwtUser.getUserId(), seq, limit);
 		return new ResponseEntity<>(ApiResponse.success(messages), HttpStatus.OK);
 	}
 
+	/**
+	 * GET /messages/search : Full-text search over the messages of every conversation the user is
+	 * an active participant in, best match first.
+	 *
+	 * @param query   The search terms; quoted phrases, {@code or} and {@code -word} are supported.
+	 * @param cursor  Cursor from a previous page of results.
+	 * @param limit   Maximum number of results in the page.
+	 * @param jwtUser The authenticated user principal.
+	 * @return A page of matching messages with highlighted snippets, wrapped in ApiResponse.
+	 */
+	@GetMapping("/search")
+	public ResponseEntity<ApiResponse<CursorPage<MessageSearchResultDto>>> searchMessages(
+			@RequestParam(name = "query") String query,
+			@RequestParam(name = "cursor", required = false) String cursor,
+			@RequestParam(name = "limit", defaultValue = "20") int limit,
+			@AuthenticationPrincipal JwtUser jwtUser) {
+		if (jwtUser == null) {
+			return new ResponseEntity<>(
+					ApiResponse.failure("Unauthorized", HttpStatus.UNAUTHORIZED),
+					HttpStatus.UNAUTHORIZED);
+		}
+		CursorPage<MessageSearchResultDto> results =
+				messageService.searchMessages(jwtUser.getUserId(), query, cursor, limit);
+		return new ResponseEntity<>(ApiResponse.success(results), HttpStatus.OK);
+	}
+
+	/**
+	 * POST /messages/batch : Send several messages, possibly to different conversations, in one
+	 * transaction. Each conversation's subscribers receive a single event with all of its new
+	 * messages. The whole batch is rejected if the user may not post to any one of the
+	 * conversations.
+	 *
+	 * @param request The messages, in the order they were written.
+	 * @param jwtUser The authenticated user principal (sender).
+	 * @return The created messages in request order, wrapped in ApiResponse.
+	 */
+	@PostMapping("/batch")
+	public ResponseEntity<ApiResponse<List<MessageDto>>> sendMessages(
+			@Valid @RequestBody SendMessageBatchRequest request,
+			@AuthenticationPrincipal JwtUser jwtUser) {
+		if (jwtUser == null) {
+			return new ResponseEntity<>(
+					ApiResponse.failure("Unauthorized", HttpStatus.UNAUTHORIZED),
+					HttpStatus.UNAUTHORIZED);
+		}
+		List<MessageDto> messages =
+				messageService.sendMessages(request.messages(), jwtUser.getUserId());
+		return new ResponseEntity<>(ApiResponse.success(messages), HttpStatus.CREATED);
+	}
+
 	/**
 	 * Handles incoming chat messages sent via WebSocket.
 	 * Destination: /app/chat.sendMessage
@@ -73,7 +170,54 @@ public class MessageController {
 	public void handleSendMessage(
 			@Payload @Valid SendMessageRequest request,
 			StompHeaderAccessor accessor) { // Inject StompHeaderAccessor
+		JwtUser jwtUser = webSocketUser(accessor);
+		if (jwtUser == null) {
+			return;
+		}
+		log.info("Received message via WebSocket from user {}: {}", jwtUser.getUserId(), request);
+		if (groupCommitter.isEnabled()) {
+			groupCommitter
+					.submit(request, jwtUser.getUserId())
+					.whenComplete(
+							(message, error) -> {
+								if (error == null) {
+									receiptSender.sendReceipt(accessor);
+								} else {
+									log.warn(
+											"Queued message from user {} was not sent: {}",
+											jwtUser.getUserId(),
+											error.getMessage());
+								}
+							});
+		} else {
+			messageService.sendMessage(request, jwtUser.getUserId());
+			receiptSender.sendReceipt(accessor);
+		}
+	}
+
+	/**
+	 * Handles bursts of chat messages sent via WebSocket in a single frame.
+	 * Destination: /app/chat.sendMessages
+	 *
+	 * @param request The messages, in the order they were written.
+	 * @param accessor The STOMP header accessor containing the user principal set by the interceptor.
+	 */
+	@MessageMapping(WebSocketConstants.CHAT_SEND_MESSAGES)
+	public void handleSendMessages(
+			@Payload @Valid SendMessageBatchRequest request, StompHeaderAccessor accessor) {
+		JwtUser jwtUser = webSocketUser(accessor);
+		if (jwtUser != null) {
+			log.info(
+					"Received {} messages via WebSocket from user {}",
+					request.messages().size(),
+					jwtUser.getUserId());
+			messageService.sendMessages(request.messages(), jwtUser.getUserId());
+			receiptSender.sendReceipt(accessor);
+		}
+	}
 
+	/** The user behind a STOMP frame, or null (logged) if the frame is not properly authenticated. */
+	private JwtUser webSocketUser(StompHeaderAccessor accessor) {
 		Principal userPrincipal = accessor.getUser(); // Get the Principal set by the interceptor
 
 		if (userPrincipal instanceof UsernamePasswordAuthenticationToken authToken
@@ -86,22 +230,16 @@ public class MessageController {
 								+ " authenticated. Principal: {}",
 						jwtUser);
 				// Handle error appropriately - maybe send error back to user?
-				return;
+				return null;
 			}
-
-			log.info(
-					"Received message via WebSocket from user {}: {}",
-					jwtUser.getUserId(),
-					request);
-			messageService.sendMessage(request, jwtUser.getUserId());
-
-		} else {
-			// This should not happen if AuthChannelInterceptor is working correctly
-			log.error(
-					"Unauthenticated or unexpected principal type for WebSocket message. Principal:"
-							+ " {}",
-					userPrincipal);
+			return jwtUser;
 		}
+		// This should not happen if AuthChannelInterceptor is working correctly
+		log.error(
+				"Unauthenticated or unexpected principal type for WebSocket message. Principal:"
+						+ " {}",
+				userPrincipal);
+		return null;
 	}
 
 	@DeleteMapping("/{messageId}")
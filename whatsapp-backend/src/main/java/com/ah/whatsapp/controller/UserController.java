@@ -72,9 +72,13 @@ public class UserController {
 	@GetMapping("/search")
 	public ResponseEntity<ApiResponse<List<UserDto>>> searchUsers(
 			@RequestParam(required = true, name = "query") String query,
+			@RequestParam(defaultValue = "false") boolean typeahead,
 			@AuthenticationPrincipal JwtUser currentUser) {
 
-		List<UserDto> results = userService.searchUsers(query, currentUser.getUserId());
+		List<UserDto> results =
+				typeahead
+						? userService.typeaheadSearchUsers(query, currentUser.getUserId())
+						: userService.searchUsers(query, currentUser.getUserId());
 		ApiResponse<List<UserDto>> response = ApiResponse.success(results);
 		return new ResponseEntity<>(response, HttpStatus.OK);
 	}
@@ -95,6 +99,13 @@ public class UserController {
 		return new ResponseEntity<>(response, HttpStatus.OK);
 	}
 
+	@PostMapping("/me/logout-all")
+	public ResponseEntity<ApiResponse<UUID>> logoutAll(
+			@AuthenticationPrincipal JwtUser currentUser) {
+		userService.revokeTokens(currentUser.getUserId());
+		return ResponseEntity.ok(ApiResponse.success(currentUser.getUserId()));
+	}
+
 	@PostMapping("/me/picture")
 	public ResponseEntity<ApiResponse<UserDto>> uploadProfilePicture(
 			@AuthenticationPrincipal JwtUser currentUser,
@@ -0,0 +1,50 @@
+/*
+ * WhatsApp Clone - Backend Service
+ * Copyright (c) 2025
+ */
+package com.ah.whatsapp.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Compact change to one entry of a user's conversation list. Every new message increments {@code
+ * version} by one, so a client that sees a version more than one ahead of its copy has missed a
+ * delta and should reload the conversation. Read receipts carry the current version unchanged.
+ *
+ * @param lastMessage the new last message, or null when it did not change
+ * @param unreadCount the receiving participant's unread count after the change
+ * @param readByUserId the participant who read the conversation, or null for a new message
+ */
+public record ConversationDeltaDto(
+		UUID conversationId,
+		long version,
+		LocalDateTime updatedAt,
+		MessageDto lastMessage,
+		int unreadCount,
+		UUID readByUserId,
+		LocalDateTime readAt) {
+
+	public static ConversationDeltaDto newMessage(
+			long version, LocalDateTime updatedAt, MessageDto message) {
+		return new ConversationDeltaDto(
+				message.conversationId(), version, updatedAt, message, 0, null, null);
+	}
+
+	public static ConversationDeltaDto read(
+			UUID conversationId, long version, UUID userId, LocalDateTime readAt) {
+		return new ConversationDeltaDto(conversationId, version, null, null, 0, userId, readAt);
+	}
+
+	/** The delta as seen by one participant, carrying their own unread count. */
+	public ConversationDeltaDto forParticipant(int participantUnreadCount) {
+		return new ConversationDeltaDto(
+				conversationId,
+				version,
+				updatedAt,
+				lastMessage,
+				participantUnreadCount,
+				readByUserId,
+				readAt);
+	}
+}
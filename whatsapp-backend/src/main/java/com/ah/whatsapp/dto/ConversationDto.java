@@ -20,6 +20,8 @@ public class ConversationDto {
 	private UUID id;
 	private LocalDateTime createdAt;
 	private LocalDateTime updatedAt;
+	private long version;
+	private int unreadCount;
 	private List<ParticipantDto> participants = new ArrayList<>();
 	private List<MessageDto> messages = new ArrayList<>();
 	private MessageDto lastMessage;
@@ -0,0 +1,21 @@
+/*
+ * WhatsApp Clone - Backend Service
+ * Copyright (c) 2025
+ */
+package com.ah.whatsapp.dto;
+
+import java.util.List;
+
+/**
+ * A single page of a keyset-paginated result.
+ *
+ * @param items the items in this page
+ * @param nextCursor opaque cursor for the next page, or {@code null} when there are no more items
+ * @param hasMore whether another page is available
+ */
+public record CursorPage<T>(List<T> items, String nextCursor, boolean hasMore) {
+
+	public static <T> CursorPage<T> of(List<T> items, String nextCursor) {
+		return new CursorPage<>(items, nextCursor, nextCursor != null);
+	}
+}
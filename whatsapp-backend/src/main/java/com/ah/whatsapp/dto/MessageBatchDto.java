@@ -0,0 +1,11 @@
+/*
+ * WhatsApp Clone - Backend Service
+ * Copyright (c) 2025
+ */
+package com.ah.whatsapp.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/** Messages sent to one conversation in a single batch, in sequence order. */
+public record MessageBatchDto(UUID conversationId, List<MessageDto> messages) {}
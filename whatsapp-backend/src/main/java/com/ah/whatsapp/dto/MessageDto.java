@@ -13,4 +13,5 @@ public record MessageDto(
 		UUID senderId,
 		String senderName,
 		String content,
-		LocalDateTime sentAt) {}
+		LocalDateTime sentAt,
+		Long seq) {}
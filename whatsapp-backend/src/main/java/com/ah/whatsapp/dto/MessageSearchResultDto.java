@@ -0,0 +1,14 @@
+/*
+ * WhatsApp Clone - Backend Service
+ * Copyright (c) 2025
+ */
+package com.ah.whatsapp.dto;
+
+/**
+ * A message matching a search query.
+ *
+ * @param snippet HTML excerpt of the content with the matched words wrapped in {@code <mark>} tags;
+ *     the content itself is escaped, so the only markup is the highlighting
+ * @param rank relevance of the match; higher is better
+ */
+public record MessageSearchResultDto(MessageDto message, String snippet, float rank) {}
@@ -0,0 +1,11 @@
+/*
+ * WhatsApp Clone - Backend Service
+ * Copyright (c) 2025
+ */
+package com.ah.whatsapp.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/** Participants who had left a conversation and rejoined because someone messaged it. */
+public record ParticipantsReactivatedDto(UUID conversationId, List<ParticipantDto> participants) {}
@@ -0,0 +1,21 @@
+/*
+ * WhatsApp Clone - Backend Service
+ * Copyright (c) 2025
+ */
+package com.ah.whatsapp.dto;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/** Messages sent together, possibly to several conversations, and stored in one transaction. */
+public record SendMessageBatchRequest(
+		@NotEmpty(message = "At least one message is required") @Size(
+						max = SendMessageBatchRequest.MAX_MESSAGES,
+						message = "At most " + SendMessageBatchRequest.MAX_MESSAGES + " messages")
+				List<@NotNull @Valid SendMessageRequest> messages) {
+	public static final int MAX_MESSAGES = 100;
+}
@@ -0,0 +1,17 @@
+/*
+ * WhatsApp Clone - Backend Service
+ * Copyright (c) 2025
+ */
+package com.ah.whatsapp.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Change in who is typing in a conversation. {@code startedUserIds} holds typists who started, or
+ * who are still typing and are being re-announced; {@code stoppedUserIds} holds typists who
+ * stopped or timed out. Each node only reports the typists whose sessions it holds, so clients
+ * apply these changes to their own set of typists rather than replacing it.
+ */
+public record TypingStateDto(
+		UUID conversationId, List<UUID> startedUserIds, List<UUID> stoppedUserIds) {}
@@ -5,6 +5,7 @@
 package com.ah.whatsapp.dto;
 
 import com.ah.whatsapp.enums.EventType;
+import com.fasterxml.jackson.annotation.JsonInclude;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -16,4 +17,15 @@ import lombok.NoArgsConstructor;
 public class WebSocketEvent<T> {
 	private EventType type;
 	private T payload;
+
+	/**
+	 * Position of the event among its conversation's relayed message events. Only set on frames
+	 * from the outbox, which may repeat an event; a repeat carries the same number.
+	 */
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	private Long eventSeq;
+
+	public WebSocketEvent(EventType type, T payload) {
+		this(type, payload, null);
+	}
 }
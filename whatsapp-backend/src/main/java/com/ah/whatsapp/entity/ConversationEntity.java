@@ -7,6 +7,8 @@ package com.ah.whatsapp.entity;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
+import org.hibernate.annotations.ColumnDefault;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
@@ -27,4 +29,14 @@ public class ConversationEntity {
 
 	@Column(name = "updated_at", nullable = false)
 	private LocalDateTime updatedAt;
+
+	/** Maintained by the database; see the send-path roster query. */
+	@ColumnDefault("0")
+	@Column(name = "version", nullable = false, insertable = false, updatable = false)
+	private long version;
+
+	/** Number of the conversation's latest outbox event; advanced by the outbox append query. */
+	@ColumnDefault("0")
+	@Column(name = "event_seq", nullable = false, insertable = false, updatable = false)
+	private long eventSeq;
 }
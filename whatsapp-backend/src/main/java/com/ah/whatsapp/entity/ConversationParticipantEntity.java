@@ -7,6 +7,8 @@ package com.ah.whatsapp.entity;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
+import org.hibernate.annotations.ColumnDefault;
+
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -47,4 +49,9 @@ public class ConversationParticipantEntity {
 
 	private LocalDateTime leftAt;
 	private LocalDateTime lastReadAt;
+
+	/** Maintained by the database; see the send-path roster query and the read receipt. */
+	@ColumnDefault("0")
+	@Column(name = "unread_count", nullable = false, insertable = false, updatable = false)
+	private int unreadCount;
 }
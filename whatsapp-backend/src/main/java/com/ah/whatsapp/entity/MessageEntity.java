@@ -38,4 +38,8 @@ public class MessageEntity {
 
 	@Column(name = "sent_at", nullable = false)
 	private LocalDateTime sentAt;
+
+	/** Position within the conversation; assigned by the database when left null. */
+	@Column(name = "seq")
+	private Long seq;
 }
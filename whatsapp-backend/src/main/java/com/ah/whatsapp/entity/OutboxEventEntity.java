@@ -0,0 +1,54 @@
+/*
+ * WhatsApp Clone - Backend Service
+ * Copyright (c) 2025
+ */
+package com.ah.whatsapp.entity;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import com.ah.whatsapp.enums.EventType;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** A message event waiting to be relayed to the broker. Rows are written by a native query. */
+@Data
+@NoArgsConstructor
+@Entity
+@Table(name = "message_outbox")
+public class OutboxEventEntity {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name = "conversation_id", nullable = false)
+	private UUID conversationId;
+
+	@Column(nullable = false)
+	private long seq;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "event_type", nullable = false, length = 50)
+	private EventType eventType;
+
+	@JdbcTypeCode(SqlTypes.JSON)
+	@Column(nullable = false)
+	private String payload;
+
+	@ColumnDefault("current_timestamp")
+	@Column(name = "created_at", nullable = false, insertable = false, updatable = false)
+	private LocalDateTime createdAt;
+}
@@ -0,0 +1,10 @@
+/*
+ * WhatsApp Clone - Backend Service
+ * Copyright (c) 2025
+ */
+package com.ah.whatsapp.enums;
+
+public enum BrokerMode {
+	SIMPLE,
+	RELAY;
+}
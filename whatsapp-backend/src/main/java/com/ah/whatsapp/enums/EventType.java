@@ -6,9 +6,14 @@ package com.ah.whatsapp.enums;
 
 public enum EventType {
 	NEW_MESSAGE,
+	NEW_MESSAGE_BATCH,
 	CONVERSATION_UPDATE,
+	CONVERSATION_DELTA,
+	PARTICIPANTS_REACTIVATED,
 	DELETE_MESSAGE,
 	USER_STATUS,
 	TYPING_START,
-	TYPING_STOP;
+	TYPING_STOP,
+	TYPING_STATE,
+	RESYNC;
 }
@@ -0,0 +1,32 @@
+/*
+ * WhatsApp Clone - Backend Service
+ * Copyright (c) 2025
+ */
+package com.ah.whatsapp.event;
+
+import java.util.List;
+
+import org.springframework.context.ApplicationEvent;
+
+import com.ah.whatsapp.dto.ConversationDeltaDto;
+import com.ah.whatsapp.model.ConversationParticipant;
+
+public class ConversationDeltaEvent extends ApplicationEvent {
+	private final ConversationDeltaDto delta;
+	private final List<ConversationParticipant> recipients;
+
+	public ConversationDeltaEvent(
+			Object source, ConversationDeltaDto delta, List<ConversationParticipant> recipients) {
+		super(source);
+		this.delta = delta;
+		this.recipients = recipients;
+	}
+
+	public ConversationDeltaDto getDelta() {
+		return delta;
+	}
+
+	public List<ConversationParticipant> getRecipients() {
+		return recipients;
+	}
+}
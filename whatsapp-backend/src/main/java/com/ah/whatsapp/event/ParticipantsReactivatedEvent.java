@@ -0,0 +1,34 @@
+/*
+ * WhatsApp Clone - Backend Service
+ * Copyright (c) 2025
+ */
+package com.ah.whatsapp.event;
+
+import java.util.List;
+
+import org.springframework.context.ApplicationEvent;
+
+import com.ah.whatsapp.dto.ParticipantsReactivatedDto;
+import com.ah.whatsapp.model.ConversationParticipant;
+
+public class ParticipantsReactivatedEvent extends ApplicationEvent {
+	private final ParticipantsReactivatedDto reactivation;
+	private final List<ConversationParticipant> recipients;
+
+	public ParticipantsReactivatedEvent(
+			Object source,
+			ParticipantsReactivatedDto reactivation,
+			List<ConversationParticipant> recipients) {
+		super(source);
+		this.reactivation = reactivation;
+		this.recipients = recipients;
+	}
+
+	public ParticipantsReactivatedDto getReactivation() {
+		return reactivation;
+	}
+
+	public List<ConversationParticipant> getRecipients() {
+		return recipients;
+	}
+}
@@ -66,6 +66,21 @@ public class GlobalExceptionHandler {
 		return new ResponseEntity<>(response, HttpStatus.UNAUTHORIZED);
 	}
 
+	@ExceptionHandler(InvalidCursorException.class)
+	public ResponseEntity<ApiResponse<Void>> handleInvalidCursorException(
+			InvalidCursorException ex) {
+		ApiResponse<Void> response = ApiResponse.badRequest(ex.getMessage());
+		return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+	}
+
+	@ExceptionHandler(TooManyRequestsException.class)
+	public ResponseEntity<ApiResponse<Void>> handleTooManyRequestsException(
+			TooManyRequestsException ex) {
+		ApiResponse<Void> response =
+				ApiResponse.failure(ex.getMessage(), HttpStatus.TOO_MANY_REQUESTS);
+		return new ResponseEntity<>(response, HttpStatus.TOO_MANY_REQUESTS);
+	}
+
 	@ExceptionHandler(AccessDeniedException.class)
 	public ResponseEntity<ApiResponse<Void>> handleAccessDeniedException(AccessDeniedException ex) {
 		ApiResponse<Void> response = ApiResponse.failure(ex.getMessage(), HttpStatus.UNAUTHORIZED);
@@ -0,0 +1,11 @@
+/*
+ * WhatsApp Clone - Backend Service
+ * Copyright (c) 2025
+ */
+package com.ah.whatsapp.exception;
+
+public class TooManyRequestsException extends RuntimeException {
+	public TooManyRequestsException(String message) {
+		super(message);
+	}
+}
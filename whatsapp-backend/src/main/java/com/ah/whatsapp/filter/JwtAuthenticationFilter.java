@@ -6,19 +6,21 @@ package com.ah.whatsapp.filter;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.Optional;
 
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import com.ah.whatsapp.exception.UnauthorizedException;
 import com.ah.whatsapp.model.JwtUser;
+import com.ah.whatsapp.util.JwtPrincipalResolver;
 import com.ah.whatsapp.util.JwtUtil;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -28,11 +30,11 @@ import jakarta.servlet.http.HttpServletResponse;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
 	private final JwtUtil jwtUtil;
-	private final UserDetailsService userDetailsService;
+	private final JwtPrincipalResolver jwtPrincipalResolver;
 
-	public JwtAuthenticationFilter(JwtUtil jwtUtil, UserDetailsService userDetailsService) {
+	public JwtAuthenticationFilter(JwtUtil jwtUtil, JwtPrincipalResolver jwtPrincipalResolver) {
 		this.jwtUtil = jwtUtil;
-		this.userDetailsService = userDetailsService;
+		this.jwtPrincipalResolver = jwtPrincipalResolver;
 	}
 
 	@Override
@@ -43,14 +45,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 			throws ServletException, IOException {
 		final String authorizationHeader = request.getHeader("Authorization");
 
-		String username = null;
+		Claims claims = null;
 
 		if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
 			String jwt = authorizationHeader.substring(7);
 			try {
 				if (jwt != null && !jwt.trim().isEmpty()) {
-					if (jwtUtil.validateToken(jwt)) {
-						username = jwtUtil.extractEmail(jwt);
+					Optional<Claims> verifiedClaims = jwtUtil.verifiedClaims(jwt);
+					if (verifiedClaims.isPresent()) {
+						claims = verifiedClaims.get();
 					} else {
 						SecurityContextHolder.clearContext();
 						throw new UnauthorizedException("Invalid token");
@@ -64,8 +67,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 			}
 		}
 
-		if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-			JwtUser jwtUser = (JwtUser) this.userDetailsService.loadUserByUsername(username);
+		if (claims != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+			JwtUser jwtUser;
+			try {
+				jwtUser = jwtPrincipalResolver.resolve(claims);
+			} catch (UnauthorizedException e) {
+				SecurityContextHolder.clearContext();
+				throw e;
+			}
 
 			if (jwtUser != null) {
 				UsernamePasswordAuthenticationToken authenticationToken =
@@ -5,7 +5,11 @@
 package com.ah.whatsapp.mapper;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 import org.springframework.beans.BeanUtils;
 import org.springframework.stereotype.Component;
@@ -16,6 +20,7 @@ import com.ah.whatsapp.dto.ParticipantDto;
 import com.ah.whatsapp.entity.ConversationEntity;
 import com.ah.whatsapp.model.Conversation;
 import com.ah.whatsapp.model.ConversationParticipant;
+import com.ah.whatsapp.repository.projection.InboxRow;
 
 @Component
 public class ConversationMapper {
@@ -37,6 +42,53 @@ public class ConversationMapper {
 		return model;
 	}
 
+	/**
+	 * Folds inbox rows into DTOs without going through the model. Rows arrive grouped by
+	 * conversation in inbox order, one per active participant.
+	 */
+	public List<ConversationDto> toInboxDtos(List<InboxRow> rows) {
+		Map<UUID, ConversationDto> conversations = new LinkedHashMap<>();
+		for (InboxRow row : rows) {
+			conversations
+					.computeIfAbsent(row.getId(), id -> toInboxDto(row))
+					.getParticipants()
+					.add(
+							new ParticipantDto(
+									row.getParticipantId(),
+									row.getParticipantUserId(),
+									row.getParticipantEmail(),
+									row.getParticipantName(),
+									row.getParticipantProfilePicture(),
+									row.getParticipantJoinedAt(),
+									row.getParticipantLeftAt(),
+									row.getParticipantLastReadAt()));
+		}
+		return new ArrayList<>(conversations.values());
+	}
+
+	private ConversationDto toInboxDto(InboxRow row) {
+		MessageDto lastMessage =
+				row.getLastMessageId() != null
+						? new MessageDto(
+								row.getLastMessageId(),
+								row.getId(),
+								row.getLastMessageSenderId(),
+								row.getLastMessageSenderName(),
+								row.getLastMessageContent(),
+								row.getLastMessageSentAt(),
+								row.getLastMessageSeq())
+						: null;
+		return new ConversationDto(
+				row.getId(),
+				row.getCreatedAt(),
+				row.getUpdatedAt(),
+				row.getVersion(),
+				row.getUnreadCount(),
+				new ArrayList<>(),
+				new ArrayList<>(),
+				lastMessage);
+	}
+
 	public Conversation createNewConversation() {
 		Conversation conversation = new Conversation();
 		LocalDateTime now = LocalDateTime.now();
@@ -51,7 +103,7 @@ public class ConversationMapper {
 
 		if (model.getParticipants() != null) {
 			List<ParticipantDto> participantDtos =
-					model.getParticipants().stream().map(this::mapToParticipantDto).toList();
+					model.getParticipants().stream().map(this::toParticipantDto).toList();
 			dto.setParticipants(participantDtos);
 		}
 
@@ -68,7 +120,7 @@ public class ConversationMapper {
 		return dto;
 	}
 
-	private ParticipantDto mapToParticipantDto(ConversationParticipant participant) {
+	public ParticipantDto toParticipantDto(ConversationParticipant participant) {
 		return new ParticipantDto(
 				participant.getId(),
 				participant.getParticipantId(),
@@ -4,12 +4,15 @@
  */
 package com.ah.whatsapp.mapper;
 
+import java.util.UUID;
+
 import org.springframework.stereotype.Component;
 
 import com.ah.whatsapp.entity.ConversationEntity;
 import com.ah.whatsapp.entity.ConversationParticipantEntity;
 import com.ah.whatsapp.entity.UserEntity;
 import com.ah.whatsapp.model.ConversationParticipant;
+import com.ah.whatsapp.repository.projection.ParticipantRosterRow;
 
 import lombok.RequiredArgsConstructor;
 
@@ -51,6 +54,26 @@ public class ConversationParticipantMapper {
 		model.setActive(entity.isActive());
 		model.setLeftAt(entity.getLeftAt());
 		model.setLastReadAt(entity.getLastReadAt());
+		model.setUnreadCount(entity.getUnreadCount());
+		return model;
+	}
+
+	/**
+	 * Convert a roster row of an active conversation to model
+	 */
+	public ConversationParticipant toModel(ParticipantRosterRow row, UUID conversationId) {
+		ConversationParticipant model = new ConversationParticipant();
+		model.setId(row.getId());
+		model.setConversationId(conversationId);
+		model.setParticipantId(row.getUserId());
+		model.setParticipantEmail(row.getEmail());
+		model.setParticipantName(row.getName());
+		model.setParticipantProfilePicture(row.getProfilePicture());
+		model.setJoinedAt(row.getJoinedAt());
+		model.setActive(true);
+		model.setLeftAt(row.getLeftAt());
+		model.setLastReadAt(row.getLastReadAt());
+		model.setUnreadCount(row.getUnreadCount());
 		return model;
 	}
 }
@@ -7,10 +7,12 @@ package com.ah.whatsapp.mapper;
 import org.springframework.stereotype.Component;
 
 import com.ah.whatsapp.dto.MessageDto;
+import com.ah.whatsapp.dto.MessageSearchResultDto;
 import com.ah.whatsapp.entity.ConversationEntity;
 import com.ah.whatsapp.entity.MessageEntity;
 import com.ah.whatsapp.entity.UserEntity;
 import com.ah.whatsapp.model.Message;
+import com.ah.whatsapp.repository.projection.MessageSearchRow;
 
 @Component
 public class MessageMapper {
@@ -26,6 +28,7 @@ public class MessageMapper {
 		entity.setId(model.getId());
 		entity.setContent(model.getContent());
 		entity.setSentAt(model.getSentAt());
+		entity.setSeq(model.getSeq());
 		entity.setConversation(conversationEntity);
 		entity.setSender(senderEntity);
 		return entity;
@@ -36,6 +39,7 @@ public class MessageMapper {
 		model.setId(entity.getId());
 		model.setContent(entity.getContent());
 		model.setSentAt(entity.getSentAt());
+		model.setSeq(entity.getSeq());
 		model.setConversationId(entity.getConversation().getId());
 		model.setSender(userMapper.toModel(entity.getSender()));
 		return model;
@@ -48,6 +52,21 @@ public class MessageMapper {
 				model.getSender().getId(),
 				model.getSender().getName(),
 				model.getContent(),
-				model.getSentAt());
+				model.getSentAt(),
+				model.getSeq());
+	}
+
+	public MessageSearchResultDto toSearchResultDto(MessageSearchRow row) {
+		return new MessageSearchResultDto(
+				new MessageDto(
+						row.getId(),
+						row.getConversationId(),
+						row.getSenderId(),
+						row.getSenderName(),
+						row.getContent(),
+						row.getSentAt(),
+						row.getSeq()),
+				row.getSnippet(),
+				row.getRank());
 	}
 }
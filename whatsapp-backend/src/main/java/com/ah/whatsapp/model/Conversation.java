@@ -18,6 +18,8 @@ public class Conversation {
 	private UUID id;
 	private LocalDateTime createdAt;
 	private LocalDateTime updatedAt;
+	private long version;
+	private int unreadCount;
 	private List<ConversationParticipant> participants = new ArrayList<>();
 	private List<Message> messages = new ArrayList<>();
 	private Message lastMessage;
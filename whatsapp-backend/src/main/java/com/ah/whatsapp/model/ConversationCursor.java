@@ -0,0 +1,57 @@
+/*
+ * WhatsApp Clone - Backend Service
+ * Copyright (c) 2025
+ */
+package com.ah.whatsapp.model;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+import com.ah.whatsapp.exception.InvalidCursorException;
+
+/**
+ * Keyset position within a user's inbox. Conversations are ordered by {@code (updated_at, id)},
+ * so the pair uniquely identifies a position even when several conversations were updated at the
+ * same time.
+ */
+public record ConversationCursor(LocalDateTime updatedAt, UUID id) {
+	private static final String SEPARATOR = "|";
+
+	/**
+	 * Encodes this cursor as an opaque, URL-safe token.
+	 */
+	public String encode() {
+		String raw = updatedAt + SEPARATOR + id;
+		return Base64.getUrlEncoder()
+				.withoutPadding()
+				.encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Decodes a token produced by {@link #encode()}.
+	 *
+	 * @param token the opaque cursor token, may be {@code null}
+	 * @return the decoded cursor, or {@code null} if the token is {@code null} or blank
+	 * @throws InvalidCursorException if the token is malformed
+	 */
+	public static ConversationCursor decode(String token) {
+		if (token == null || token.isBlank()) {
+			return null;
+		}
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+			int separatorIndex = raw.indexOf(SEPARATOR);
+			if (separatorIndex < 0) {
+				throw new InvalidCursorException("Invalid cursor: " + token);
+			}
+			return new ConversationCursor(
+					LocalDateTime.parse(raw.substring(0, separatorIndex)),
+					UUID.fromString(raw.substring(separatorIndex + 1)));
+		} catch (IllegalArgumentException | DateTimeParseException e) {
+			throw new InvalidCursorException("Invalid cursor: " + token, e);
+		}
+	}
+}
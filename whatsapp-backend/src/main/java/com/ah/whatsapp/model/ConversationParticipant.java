@@ -23,4 +23,5 @@ public class ConversationParticipant {
 	private boolean isActive;
 	private LocalDateTime leftAt;
 	private LocalDateTime lastReadAt;
+	private int unreadCount;
 }
@@ -18,4 +18,5 @@ public class Message {
 	private User sender;
 	private String content;
 	private LocalDateTime sentAt;
+	private Long seq;
 }
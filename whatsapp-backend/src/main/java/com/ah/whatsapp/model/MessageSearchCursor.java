@@ -0,0 +1,57 @@
+/*
+ * WhatsApp Clone - Backend Service
+ * Copyright (c) 2025
+ */
+package com.ah.whatsapp.model;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+import com.ah.whatsapp.exception.InvalidCursorException;
+
+/**
+ * Keyset position within message search results. Results are ordered by {@code (rank, sent_at,
+ * id)}, so the triple uniquely identifies a position even when several messages rank equally.
+ */
+public record MessageSearchCursor(float rank, LocalDateTime sentAt, UUID id) {
+	private static final String SEPARATOR = "|";
+
+	/**
+	 * Encodes this cursor as an opaque, URL-safe token.
+	 */
+	public String encode() {
+		String raw = rank + SEPARATOR + sentAt + SEPARATOR + id;
+		return Base64.getUrlEncoder()
+				.withoutPadding()
+				.encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Decodes a token produced by {@link #encode()}.
+	 *
+	 * @param token the opaque cursor token, may be {@code null}
+	 * @return the decoded cursor, or {@code null} if the token is {@code null} or blank
+	 * @throws InvalidCursorException if the token is malformed
+	 */
+	public static MessageSearchCursor decode(String token) {
+		if (token == null || token.isBlank()) {
+			return null;
+		}
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+			String[] parts = raw.split("\\|", -1);
+			if (parts.length != 3) {
+				throw new InvalidCursorException("Invalid cursor: " + token);
+			}
+			return new MessageSearchCursor(
+					Float.parseFloat(parts[0]),
+					LocalDateTime.parse(parts[1]),
+					UUID.fromString(parts[2]));
+		} catch (IllegalArgumentException | DateTimeParseException e) {
+			throw new InvalidCursorException("Invalid cursor: " + token, e);
+		}
+	}
+}
@@ -0,0 +1,12 @@
+/*
+ * WhatsApp Clone - Backend Service
+ * Copyright (c) 2025
+ */
+package com.ah.whatsapp.model;
+
+import java.util.UUID;
+
+import com.ah.whatsapp.dto.SendMessageRequest;
+
+/** A message to send together with the user sending it, for batches that mix senders. */
+public record MessageSubmission(SendMessageRequest request, UUID senderId) {}
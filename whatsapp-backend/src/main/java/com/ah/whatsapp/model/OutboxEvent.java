@@ -0,0 +1,15 @@
+/*
+ * WhatsApp Clone - Backend Service
+ * Copyright (c) 2025
+ */
+package com.ah.whatsapp.model;
+
+import java.util.UUID;
+
+import com.ah.whatsapp.enums.EventType;
+
+/**
+ * A message event committed to the outbox. {@code seq} numbers the events of one conversation
+ * and {@code payload} is the serialized frame payload.
+ */
+public record OutboxEvent(long id, UUID conversationId, long seq, EventType type, String payload) {}
@@ -0,0 +1,15 @@
+/*
+ * WhatsApp Clone - Backend Service
+ * Copyright (c) 2025
+ */
+package com.ah.whatsapp.model;
+
+import java.util.List;
+
+/**
+ * A conversation ready to receive messages, with its full active roster, the participants who had
+ * left and were brought back by this send, and the first of the consecutive sequence numbers
+ * reserved for the messages.
+ */
+public record PreparedSend(
+		Conversation conversation, List<ConversationParticipant> reactivated, long messageSeq) {}
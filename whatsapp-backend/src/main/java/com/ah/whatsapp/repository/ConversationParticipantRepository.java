@@ -4,6 +4,7 @@
  */
 package com.ah.whatsapp.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -13,13 +14,22 @@ import com.ah.whatsapp.model.ConversationParticipant;
 
 public interface ConversationParticipantRepository {
 	/**
-	 * Save a conversation participant
+	 * Save a conversation participant, attaching the conversation and user by reference without
+	 * loading them
 	 *
 	 * @param participant the participant to save
-	 * @return the saved participant
+	 * @return the given participant with its ID set
 	 */
 	ConversationParticipant save(ConversationParticipant participant);
 
+	/**
+	 * Save conversation participants in one transaction so their inserts are sent in JDBC batches
+	 *
+	 * @param participants the participants to save
+	 * @return the given participants with their IDs set, in the same order
+	 */
+	List<ConversationParticipant> saveAll(List<ConversationParticipant> participants);
+
 	/**
 	 * Find a conversation participant by ID
 	 *
@@ -36,6 +46,16 @@ public interface ConversationParticipantRepository {
 	 */
 	List<ConversationParticipant> findByConversationIdAndIsActiveTrue(UUID conversationId);
 
+	/**
+	 * Record that an active participant has read a conversation and reset their unread count
+	 *
+	 * @param conversationId the conversation ID
+	 * @param userId         the user ID
+	 * @param readAt         when the conversation was read
+	 * @return true if the user is an active participant, false otherwise
+	 */
+	boolean markAsRead(UUID conversationId, UUID userId, LocalDateTime readAt);
+
 	/**
 	 * Check if a user is a participant in a conversation
 	 *
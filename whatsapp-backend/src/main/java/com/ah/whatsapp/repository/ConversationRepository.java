@@ -4,22 +4,52 @@
  */
 package com.ah.whatsapp.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import com.ah.whatsapp.dto.ConversationDto;
 import com.ah.whatsapp.model.Conversation;
+import com.ah.whatsapp.model.ConversationCursor;
+import com.ah.whatsapp.model.PreparedSend;
 
 public interface ConversationRepository {
 	Conversation save(Conversation conversation);
 
 	Optional<Conversation> findById(UUID id);
 
-	List<Conversation> findByUserId(UUID userId);
+	/**
+	 * Reads a page of the user's inbox straight into DTOs with one query: up to {@code limit} active
+	 * conversations, most recently updated first, each with its active participants, the user's
+	 * unread count and the last message the user can see.
+	 *
+	 * @param before keyset position to continue after, or {@code null} for the first page
+	 */
+	List<ConversationDto> findInboxPage(UUID userId, ConversationCursor before, int limit);
 
 	void delete(UUID id);
 
 	boolean existsById(UUID id);
 
 	Optional<Conversation> findDirectConversationBetweenUsers(UUID userId1, UUID userId2);
+
+	/** Current version of the conversation, without loading participants or messages. */
+	Optional<Long> findVersionById(UUID id);
+
+	/**
+	 * Checks that the sender is an active participant, reactivates all inactive participants,
+	 * reserves sequence numbers for {@code messageCount} messages and returns the conversation with
+	 * its full roster, all in one round trip. The last message is not loaded. The result also lists
+	 * the participants this call reactivated. The version moves on only when {@code
+	 * advanceVersion} is set, so a batch that prepares a conversation once per sender can advance
+	 * it once. Returns empty when the conversation does not exist or the sender is not an active
+	 * participant.
+	 */
+	Optional<PreparedSend> prepareForSend(
+			UUID conversationId,
+			UUID senderId,
+			LocalDateTime now,
+			int messageCount,
+			boolean advanceVersion);
 }
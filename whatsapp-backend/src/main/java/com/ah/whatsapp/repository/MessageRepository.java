@@ -6,28 +6,94 @@ package com.ah.whatsapp.repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
+import com.ah.whatsapp.dto.MessageSearchResultDto;
 import com.ah.whatsapp.model.Message;
+import com.ah.whatsapp.model.MessageCursor;
+import com.ah.whatsapp.model.MessageSearchCursor;
 
 public interface MessageRepository {
+	/**
+	 * Saves a message, attaching its conversation and sender by reference without loading them. A
+	 * missing conversation or sender surfaces as a constraint violation when the insert is flushed.
+	 *
+	 * @param message The message to save.
+	 * @return The given message with its ID set.
+	 */
 	Message save(Message message);
 
+	/**
+	 * Inserts a message whose conversation and sender are already known to exist, without loading
+	 * either of them.
+	 *
+	 * @param message The message to insert; its sender must carry the name used for mapping.
+	 * @return The given message with its generated ID set.
+	 */
+	Message insert(Message message);
+
+	/**
+	 * Saves messages in one transaction so their inserts are sent to the database in JDBC batches.
+	 * Conversations and senders are attached by reference, one proxy per distinct ID.
+	 *
+	 * @param messages The messages to save.
+	 * @return The given messages with their IDs set, in the same order.
+	 */
+	List<Message> saveAll(List<Message> messages);
+
 	Optional<Message> findById(UUID id);
 
 	List<Message> findByConversationIdAndSentAtAfter(UUID conversationId, LocalDateTime sentAt);
 
+	/**
+	 * Finds a page of messages older than the given cursor, newest first.
+	 *
+	 * @param conversationId The conversation ID.
+	 * @param joinedAt Only messages sent after this instant are visible.
+	 * @param before The cursor to page back from, or {@code null} to start at the newest message.
+	 * @param limit Maximum number of messages to return.
+	 * @return Messages ordered from newest to oldest.
+	 */
+	List<Message> findPageBefore(
+			UUID conversationId, LocalDateTime joinedAt, MessageCursor before, int limit);
+
+	/**
+	 * Finds a page of messages newer than the given cursor, oldest first.
+	 *
+	 * @param conversationId The conversation ID.
+	 * @param joinedAt Only messages sent after this instant are visible.
+	 * @param after The cursor to page forward from.
+	 * @param limit Maximum number of messages to return.
+	 * @return Messages ordered from oldest to newest.
+	 */
+	List<Message> findPageAfter(
+			UUID conversationId, LocalDateTime joinedAt, MessageCursor after, int limit);
+
+	/**
+	 * Finds the messages numbered after {@code seq}, oldest first.
+	 *
+	 * @param conversationId The conversation ID.
+	 * @param joinedAt Only messages sent after this instant are visible.
+	 * @param seq The last sequence number the caller has.
+	 * @param limit Maximum number of messages to return.
+	 * @return Messages ordered by sequence number.
+	 */
+	List<Message> findPageSince(UUID conversationId, LocalDateTime joinedAt, long seq, int limit);
+
 	void delete(UUID id);
 
 	Optional<Message> findLatestByConversationId(UUID conversationId);
 
 	/**
-	 * Finds the latest message for each of the given conversation IDs.
+	 * Full-text search over the messages the user can see, best match first, read straight into
+	 * DTOs with highlighted snippets. Conversation membership is enforced by the query.
 	 *
-	 * @param conversationIds A list of conversation IDs.
-	 * @return A Map where the key is the conversation ID and the value is the latest Message in that conversation.
+	 * @param userId The searching user.
+	 * @param query Search terms in web search syntax.
+	 * @param after The cursor to continue after, or {@code null} for the best matches.
+	 * @param limit Maximum number of results to return.
 	 */
-	Map<UUID, Message> findLatestMessagesForConversations(List<UUID> conversationIds);
+	List<MessageSearchResultDto> search(
+			UUID userId, String query, MessageSearchCursor after, int limit);
 }
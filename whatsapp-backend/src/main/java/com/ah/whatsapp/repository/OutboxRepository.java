@@ -0,0 +1,33 @@
+/*
+ * WhatsApp Clone - Backend Service
+ * Copyright (c) 2025
+ */
+package com.ah.whatsapp.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.ah.whatsapp.enums.EventType;
+import com.ah.whatsapp.model.OutboxEvent;
+
+public interface OutboxRepository {
+	/**
+	 * Records an event for the conversation's topic in the current transaction, so it is relayed
+	 * if and only if the transaction commits.
+	 *
+	 * @param conversationId The conversation whose subscribers receive the event.
+	 * @param type The frame type.
+	 * @param payload The frame payload, serialized to JSON.
+	 */
+	void append(UUID conversationId, EventType type, Object payload);
+
+	/**
+	 * Claims up to {@code limit} of the oldest events, waiting for a batch claimed by another
+	 * transaction to be relayed first. Must be called inside a transaction, which holds the claim
+	 * until it ends.
+	 */
+	List<OutboxEvent> lockNextBatch(int limit);
+
+	/** Removes relayed events. */
+	void deleteAll(List<OutboxEvent> events);
+}
@@ -19,7 +19,11 @@ public interface UserRepository {
 
 	Optional<User> findById(UUID id);
 
-	List<User> searchUsers(String query, UUID excludeUserId);
+	/**
+	 * Finds up to {@code limit} users matching the query by name, email or phone number, excluding
+	 * one user, with prefix matches first.
+	 */
+	List<User> searchUsers(String query, UUID excludeUserId, int limit);
 
 	boolean existsById(UUID id);
 
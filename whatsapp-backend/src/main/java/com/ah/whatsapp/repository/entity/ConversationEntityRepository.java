@@ -4,7 +4,9 @@
  */
 package com.ah.whatsapp.repository.entity;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -13,19 +15,107 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.ah.whatsapp.entity.ConversationEntity;
+import com.ah.whatsapp.repository.projection.InboxRow;
+import com.ah.whatsapp.repository.projection.ParticipantRosterRow;
 
 @Repository
 public interface ConversationEntityRepository extends JpaRepository<ConversationEntity, UUID> {
+	/**
+	 * First page of the user's inbox in one round trip: the {@code limit} most recently updated
+	 * active conversations, one row per active participant, each carrying the viewer's unread count
+	 * and the trigger-maintained last message. The last message is left out when it predates the
+	 * viewer's join time.
+	 */
 	@Query(
 			value =
 					"""
-					select c.* from conversations c
-					join conversation_participants cp on c.id = cp.conversation_id
-					where cp.user_id = :userId and cp.is_active = true
-					order by c.updated_at desc
+					with page as (
+						select c.id, c.created_at, c.updated_at, c.version, c.last_message_id,
+							me.unread_count, me.joined_at
+						from conversation_participants me
+						join conversations c on c.id = me.conversation_id
+						where me.user_id = :userId and me.is_active = true
+						order by c.updated_at desc, c.id desc
+						limit :limit
+					)
+					select p.id as id,
+						p.created_at as createdAt,
+						p.updated_at as updatedAt,
+						p.version as version,
+						p.unread_count as unreadCount,
+						m.id as lastMessageId,
+						m.content as lastMessageContent,
+						m.sent_at as lastMessageSentAt,
+						m.seq as lastMessageSeq,
+						s.id as lastMessageSenderId,
+						s.name as lastMessageSenderName,
+						cp.id as participantId,
+						u.id as participantUserId,
+						u.email as participantEmail,
+						u.name as participantName,
+						u.profile_picture as participantProfilePicture,
+						cp.joined_at as participantJoinedAt,
+						cast(cp.left_at as timestamp) as participantLeftAt,
+						cast(cp.last_read_at as timestamp) as participantLastReadAt
+					from page p
+					join conversation_participants cp on cp.conversation_id = p.id and cp.is_active = true
+					join users u on u.id = cp.user_id
+					left join messages m on m.id = p.last_message_id and m.sent_at >= p.joined_at
+					left join users s on s.id = m.sender_id
+					order by p.updated_at desc, p.id desc, cp.joined_at, cp.id
+					""",
+			nativeQuery = true)
+	List<InboxRow> findInboxFirstPage(@Param("userId") UUID userId, @Param("limit") int limit);
+
+	/**
+	 * Same as {@link #findInboxFirstPage(UUID, int)}, starting strictly after the given {@code
+	 * (updatedAt, id)} keyset position.
+	 */
+	@Query(
+			value =
+					"""
+					with page as (
+						select c.id, c.created_at, c.updated_at, c.version, c.last_message_id,
+							me.unread_count, me.joined_at
+						from conversation_participants me
+						join conversations c on c.id = me.conversation_id
+						where me.user_id = :userId and me.is_active = true
+						and (c.updated_at, c.id) < (:updatedAt, :id)
+						order by c.updated_at desc, c.id desc
+						limit :limit
+					)
+					select p.id as id,
+						p.created_at as createdAt,
+						p.updated_at as updatedAt,
+						p.version as version,
+						p.unread_count as unreadCount,
+						m.id as lastMessageId,
+						m.content as lastMessageContent,
+						m.sent_at as lastMessageSentAt,
+						m.seq as lastMessageSeq,
+						s.id as lastMessageSenderId,
+						s.name as lastMessageSenderName,
+						cp.id as participantId,
+						u.id as participantUserId,
+						u.email as participantEmail,
+						u.name as participantName,
+						u.profile_picture as participantProfilePicture,
+						cp.joined_at as participantJoinedAt,
+						cast(cp.left_at as timestamp) as participantLeftAt,
+						cast(cp.last_read_at as timestamp) as participantLastReadAt
+					from page p
+					join conversation_participants cp on cp.conversation_id = p.id and cp.is_active = true
+					join users u on u.id = cp.user_id
+					left join messages m on m.id = p.last_message_id and m.sent_at >= p.joined_at
+					left join users s on s.id = m.sender_id
+					order by p.updated_at desc, p.id desc, cp.joined_at, cp.id
 					""",
 			nativeQuery = true)
-	List<ConversationEntity> findConversationsByUserId(@Param("userId") UUID userId);
+	List<InboxRow> findInboxPageBefore(
+			@Param("userId") UUID userId,
+			@Param("updatedAt") LocalDateTime updatedAt,
+			@Param("id") UUID id,
+			@Param("limit") int limit);
 
 	@Query(
 			value =
@@ -40,4 +130,74 @@ public interface ConversationEntityRepository extends JpaRepository<Conversation
 			nativeQuery = true)
 	List<UUID> findConversationsWithParticipants(
 			@Param("userIds") List<UUID> userIds, @Param("participantCount") Long participantCount);
+
+	@Query("select c.version from ConversationEntity c where c.id = :id")
+	Optional<Long> findVersionById(@Param("id") UUID id);
+
+	/**
+	 * Prepares a conversation for {@code messageCount} new messages in a single statement: verifies
+	 * the sender is an active participant, reactivates every inactive participant, counts the
+	 * messages as unread for everyone but the sender, bumps the conversation version once when
+	 * {@code advanceVersion} is set, reserves the messages' sequence numbers and returns the full
+	 * roster with the new counts, version and last reserved sequence number. A reactivated
+	 * participant only sees messages sent after their new join time, so their count restarts at the
+	 * number of messages, and their row is flagged as reactivated. They rejoin a microsecond before
+	 * {@code now}, so the messages sent at {@code now} that bring them back are visible to them.
+	 * Returns no rows when the conversation does not exist or the sender is not active in it.
+	 */
+	@Query(
+			value =
+					"""
+					with sender as (
+						select cp.conversation_id from conversation_participants cp
+						where cp.conversation_id = :conversationId
+						and cp.user_id = :senderId
+						and cp.is_active = true
+					),
+					roster as (
+						update conversation_participants cp
+						set is_active = true,
+							joined_at = case when cp.is_active then cp.joined_at else cast(:now as timestamp) - interval '1 microsecond' end,
+							unread_count = case
+								when cp.user_id = :senderId then cp.unread_count
+								when cp.is_active then cp.unread_count + :messageCount
+								else :messageCount
+							end
+						from conversation_participants prev
+						where cp.conversation_id in (select conversation_id from sender)
+						and prev.id = cp.id
+						returning cp.id, cp.conversation_id, cp.user_id, cp.joined_at, cp.left_at,
+							cp.last_read_at, cp.unread_count, not prev.is_active as reactivated
+					),
+					bumped as (
+						update conversations c
+						set version = c.version + case when :advanceVersion then 1 else 0 end,
+							message_seq = c.message_seq + :messageCount
+						where c.id in (select conversation_id from sender)
+						returning c.id, c.created_at, c.version, c.message_seq
+					)
+					select cp.id as id,
+						cp.user_id as userId,
+						u.email as email,
+						u.name as name,
+						u.profile_picture as profilePicture,
+						cp.joined_at as joinedAt,
+						cast(cp.left_at as timestamp) as leftAt,
+						cast(cp.last_read_at as timestamp) as lastReadAt,
+						cp.unread_count as unreadCount,
+						cp.reactivated as reactivated,
+						c.created_at as conversationCreatedAt,
+						c.version as conversationVersion,
+						c.message_seq as messageSeq
+					from roster cp
+					join bumped c on c.id = cp.conversation_id
+					join users u on u.id = cp.user_id
+					""",
+			nativeQuery = true)
+	List<ParticipantRosterRow> activateParticipantsForSend(
+			@Param("conversationId") UUID conversationId,
+			@Param("senderId") UUID senderId,
+			@Param("now") LocalDateTime now,
+			@Param("messageCount") int messageCount,
+			@Param("advanceVersion") boolean advanceVersion);
 }
@@ -4,11 +4,13 @@
  */
 package com.ah.whatsapp.repository.entity;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -39,6 +41,20 @@ public interface ConversationParticipantEntityRepository
 	Optional<ConversationParticipantEntity> findByConversationIdAndUserIdAndIsActiveTrue(
 			@Param("conversationId") UUID conversationId, @Param("userId") UUID userId);
 
+	@Modifying
+	@Query(
+			"""
+			update ConversationParticipantEntity cpe
+			set cpe.lastReadAt = :readAt, cpe.unreadCount = 0
+			where cpe.conversation.id = :conversationId
+			and cpe.user.id = :userId
+			and cpe.isActive = true
+			""")
+	int markAsRead(
+			@Param("conversationId") UUID conversationId,
+			@Param("userId") UUID userId,
+			@Param("readAt") LocalDateTime readAt);
+
 	boolean existsByConversationIdAndUserIdAndIsActiveTrue(
 			@Param("conversationId") UUID conversationId, @Param("userId") UUID userId);
 
@@ -9,12 +9,14 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.ah.whatsapp.entity.MessageEntity;
+import com.ah.whatsapp.repository.projection.MessageSearchRow;
 
 @Repository
 public interface MessageEntityRepository extends JpaRepository<MessageEntity, UUID> {
@@ -25,10 +27,112 @@ public interface MessageEntityRepository extends JpaRepository<MessageEntity, UU
 			join fetch m.sender
 			where m.conversation.id = :conversationId
 			and m.sentAt > :sentAt
+			order by m.sentAt asc
 			""")
 	List<MessageEntity> findByConversationIdAndSendAtAfterOrderBySentAtAsc(
 			@Param("conversationId") UUID conversationId, @Param("sentAt") LocalDateTime sentAt);
 
+	/**
+	 * Finds the newest messages of a conversation sent after {@code joinedAt}, newest first.
+	 * Served by the {@code (conversation_id, sent_at desc, id)} index.
+	 *
+	 * @param conversationId The conversation ID.
+	 * @param joinedAt Lower bound (exclusive) on {@code sentAt}, usually the participant's join time.
+	 * @param limit Maximum number of messages to return.
+	 * @return Up to {@code limit} messages ordered by {@code sentAt desc, id asc}.
+	 */
+	@Query(
+			"""
+			select m from MessageEntity m
+			join fetch m.sender
+			where m.conversation.id = :conversationId
+			and m.sentAt > :joinedAt
+			order by m.sentAt desc, m.id asc
+			""")
+	List<MessageEntity> findLatestPage(
+			@Param("conversationId") UUID conversationId,
+			@Param("joinedAt") LocalDateTime joinedAt,
+			Limit limit);
+
+	/**
+	 * Finds messages strictly older than the {@code (sentAt, id)} cursor, newest first.
+	 *
+	 * @param conversationId The conversation ID.
+	 * @param joinedAt Lower bound (exclusive) on {@code sentAt}, usually the participant's join time.
+	 * @param sentAt The cursor timestamp.
+	 * @param id The cursor message ID, used to break ties between equal timestamps.
+	 * @param limit Maximum number of messages to return.
+	 * @return Up to {@code limit} messages ordered by {@code sentAt desc, id asc}.
+	 */
+	@Query(
+			"""
+			select m from MessageEntity m
+			join fetch m.sender
+			where m.conversation.id = :conversationId
+			and m.sentAt > :joinedAt
+			and m.sentAt <= :sentAt
+			and (m.sentAt < :sentAt or m.id > :id)
+			order by m.sentAt desc, m.id asc
+			""")
+	List<MessageEntity> findPageBefore(
+			@Param("conversationId") UUID conversationId,
+			@Param("joinedAt") LocalDateTime joinedAt,
+			@Param("sentAt") LocalDateTime sentAt,
+			@Param("id") UUID id,
+			Limit limit);
+
+	/**
+	 * Finds messages strictly newer than the {@code (sentAt, id)} cursor, oldest first.
+	 *
+	 * @param conversationId The conversation ID.
+	 * @param joinedAt Lower bound (exclusive) on {@code sentAt}, usually the participant's join time.
+	 * @param sentAt The cursor timestamp.
+	 * @param id The cursor message ID, used to break ties between equal timestamps.
+	 * @param limit Maximum number of messages to return.
+	 * @return Up to {@code limit} messages ordered by {@code sentAt asc, id desc}.
+	 */
+	@Query(
+			"""
+			select m from MessageEntity m
+			join fetch m.sender
+			where m.conversation.id = :conversationId
+			and m.sentAt > :joinedAt
+			and m.sentAt >= :sentAt
+			and (m.sentAt > :sentAt or m.id < :id)
+			order by m.sentAt asc, m.id desc
+			""")
+	List<MessageEntity> findPageAfter(
+			@Param("conversationId") UUID conversationId,
+			@Param("joinedAt") LocalDateTime joinedAt,
+			@Param("sentAt") LocalDateTime sentAt,
+			@Param("id") UUID id,
+			Limit limit);
+
+	/**
+	 * Finds messages numbered after {@code seq}, oldest first. Served by the {@code
+	 * (conversation_id, seq)} index.
+	 *
+	 * @param conversationId The conversation ID.
+	 * @param joinedAt Lower bound (exclusive) on {@code sentAt}, usually the participant's join time.
+	 * @param seq The last sequence number the caller has (exclusive).
+	 * @param limit Maximum number of messages to return.
+	 * @return Up to {@code limit} messages ordered by {@code seq asc}.
+	 */
+	@Query(
+			"""
+			select m from MessageEntity m
+			join fetch m.sender
+			where m.conversation.id = :conversationId
+			and m.sentAt > :joinedAt
+			and m.seq > :seq
+			order by m.seq asc
+			""")
+	List<MessageEntity> findPageSince(
+			@Param("conversationId") UUID conversationId,
+			@Param("joinedAt") LocalDateTime joinedAt,
+			@Param("seq") long seq,
+			Limit limit);
+
 	List<MessageEntity> findBySenderId(UUID senderId);
 
 	@Query(
@@ -43,31 +147,109 @@ public interface MessageEntityRepository extends JpaRepository<MessageEntity, UU
 			@Param("conversationId") UUID conversationId);
 
 	/**
-	 * Finds the IDs of the latest message entity for each conversation ID in the provided list
-	 * using a window function to rank messages within each conversation partition.
+	 * First page of a full-text search over the messages the user can see: those in conversations
+	 * where the user is an active participant, sent after the user joined. Results are ranked by
+	 * relevance, newest first among equal ranks, and carry a highlighted snippet computed only for
+	 * the returned page. The content is HTML-escaped before highlighting, so the snippet is safe to
+	 * render as HTML.
 	 *
-	 * @param conversationIds The list of conversation IDs.
-	 * @return A list of the UUIDs for the latest messages.
+	 * @param userId The searching user.
+	 * @param query Search terms in web search syntax (quoted phrases, {@code or}, {@code -word}).
+	 * @param limit Maximum number of messages to return.
 	 */
 	@Query(
 			value =
-"""
-		select m.id from ( select me.id, row_number() over(partition by me.conversation_id order by me.sent_at desc) as rn
-		from messages me
-		where me.conversation_id in (:conversationIds)
-		) m
-		where m.rn = 1
-""",
+					"""
+					with search as (
+						select websearch_to_tsquery('simple', :query) as query
+					),
+					hits as (
+						select m.id, m.conversation_id, m.sender_id, m.content, m.sent_at, m.seq,
+							ts_rank(m.content_tsv, search.query) as rank
+						from search
+						join messages m on m.content_tsv @@ search.query
+						join conversation_participants cp on cp.conversation_id = m.conversation_id
+						where cp.user_id = :userId
+						and cp.is_active = true
+						and m.sent_at > cp.joined_at
+					),
+					page as (
+						select * from hits h
+						order by h.rank desc, h.sent_at desc, h.id desc
+						limit :limit
+					)
+					select p.id as id,
+						p.conversation_id as conversationId,
+						p.sender_id as senderId,
+						u.name as senderName,
+						p.content as content,
+						p.sent_at as sentAt,
+						p.seq as seq,
+						p.rank as rank,
+						ts_headline('simple',
+							replace(replace(replace(p.content, '&', '&amp;'), '<', '&lt;'), '>', '&gt;'),
+							search.query,
+							'StartSel=<mark>, StopSel=</mark>, MaxFragments=2, MaxWords=20, MinWords=5')
+							as snippet
+					from page p
+					cross join search
+					join users u on u.id = p.sender_id
+					order by p.rank desc, p.sent_at desc, p.id desc
+					""",
 			nativeQuery = true)
-	List<UUID> findLatestMessageIdsForConversationIds(
-			@Param("conversationIds") List<UUID> conversationIds);
+	List<MessageSearchRow> searchFirstPage(
+			@Param("userId") UUID userId, @Param("query") String query, @Param("limit") int limit);
 
 	/**
-	 * Finds MessageEntities by their IDs, eagerly fetching the associated sender (UserEntity).
-	 *
-	 * @param messageIds The list of MessageEntity IDs to fetch.
-	 * @return A list of MessageEntity objects with their sender initialized.
+	 * Same as {@link #searchFirstPage(UUID, String, int)}, continuing strictly after the given
+	 * {@code (rank, sentAt, id)} keyset position.
 	 */
-	@Query("select m from MessageEntity m join fetch m.sender where m.id in :messageIds")
-	List<MessageEntity> findMessagesByIdsWithSender(@Param("messageIds") List<UUID> messageIds);
+	@Query(
+			value =
+					"""
+					with search as (
+						select websearch_to_tsquery('simple', :query) as query
+					),
+					hits as (
+						select m.id, m.conversation_id, m.sender_id, m.content, m.sent_at, m.seq,
+							ts_rank(m.content_tsv, search.query) as rank
+						from search
+						join messages m on m.content_tsv @@ search.query
+						join conversation_participants cp on cp.conversation_id = m.conversation_id
+						where cp.user_id = :userId
+						and cp.is_active = true
+						and m.sent_at > cp.joined_at
+					),
+					page as (
+						select * from hits h
+						where (h.rank, h.sent_at, h.id) < (cast(:rank as real), :sentAt, :id)
+						order by h.rank desc, h.sent_at desc, h.id desc
+						limit :limit
+					)
+					select p.id as id,
+						p.conversation_id as conversationId,
+						p.sender_id as senderId,
+						u.name as senderName,
+						p.content as content,
+						p.sent_at as sentAt,
+						p.seq as seq,
+						p.rank as rank,
+						ts_headline('simple',
+							replace(replace(replace(p.content, '&', '&amp;'), '<', '&lt;'), '>', '&gt;'),
+							search.query,
+							'StartSel=<mark>, StopSel=</mark>, MaxFragments=2, MaxWords=20, MinWords=5')
+							as snippet
+					from page p
+					cross join search
+					join users u on u.id = p.sender_id
+					order by p.rank desc, p.sent_at desc, p.id desc
+					""",
+			nativeQuery = true)
+	List<MessageSearchRow> searchPageAfter(
+			@Param("userId") UUID userId,
+			@Param("query") String query,
+			@Param("rank") float rank,
+			@Param("sentAt") LocalDateTime sentAt,
+			@Param("id") UUID id,
+			@Param("limit") int limit);
 }
@@ -0,0 +1,60 @@
+/*
+ * WhatsApp Clone - Backend Service
+ * Copyright (c) 2025
+ */
+package com.ah.whatsapp.repository.entity;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.ah.whatsapp.entity.OutboxEventEntity;
+
+@Repository
+public interface OutboxEventEntityRepository extends JpaRepository<OutboxEventEntity, Long> {
+	/**
+	 * Appends an event numbered one past the conversation's previous event. Taking the number
+	 * locks the conversation row until commit, so the events of one conversation commit in
+	 * sequence order. Appends nothing when the conversation no longer exists.
+	 */
+	@Modifying
+	@Query(
+			value =
+					"""
+					with next as (
+						update conversations
+						set event_seq = event_seq + 1
+						where id = :conversationId
+						returning event_seq
+					)
+					insert into message_outbox (conversation_id, seq, event_type, payload)
+					select :conversationId, event_seq, :eventType, cast(:payload as jsonb)
+					from next
+					""",
+			nativeQuery = true)
+	int append(
+			@Param("conversationId") UUID conversationId,
+			@Param("eventType") String eventType,
+			@Param("payload") String payload);
+
+	/**
+	 * Claims the oldest events. While another relay holds a batch this waits for it to finish and
+	 * then leaves out the events it deleted, so relays take turns in outbox order. The rows stay
+	 * locked until the caller's transaction ends.
+	 */
+	@Query(
+			value =
+					"""
+					select * from message_outbox
+					order by id
+					limit :limit
+					for update
+					""",
+			nativeQuery = true)
+	List<OutboxEventEntity> lockNextBatch(@Param("limit") int limit);
+}
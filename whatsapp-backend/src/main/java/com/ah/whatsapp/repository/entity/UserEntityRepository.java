@@ -7,6 +7,7 @@ package com.ah.whatsapp.repository.entity;
 import java.util.List;
 import java.util.UUID;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -20,6 +21,14 @@ public interface UserEntityRepository extends JpaRepository<UserEntity, UUID> {
 
 	UserEntity findByEmail(String email);
 
+	/**
+	 * Finds users whose name, email or phone number contains the query, excluding one user. Matches
+	 * at the start of the name, email or phone number come first, then matches at the start of a
+	 * later word of the name, then all others; ties are broken by lowercased name and then id. Names
+	 * compare character by character whatever the database collation, matching {@link
+	 * com.ah.whatsapp.cache.UserPrefixIndex}. The ilike patterns are served by the trigram indexes
+	 * on each column.
+	 */
 	@Query(
 			value =
 					"""
@@ -28,8 +37,24 @@ public interface UserEntityRepository extends JpaRepository<UserEntity, UUID> {
 						or email ilike '%' || :query || '%'
 						or phone like '%' || :query || '%')
 					and id != :excludeUserId
+					order by
+						case
+							when name ilike :query || '%'
+								or email ilike :query || '%'
+								or ltrim(phone, '+') like ltrim(:query, '+') || '%' then 0
+							when name ilike '% ' || :query || '%' then 1
+							else 2
+						end,
+						lower(name) collate "C",
+						id
+					limit :limit
 					""",
 			nativeQuery = true)
 	List<UserEntity> searchUsers(
-			@Param("query") String query, @Param("excludeUserId") UUID excludeUserId);
+			@Param("query") String query,
+			@Param("excludeUserId") UUID excludeUserId,
+			@Param("limit") int limit);
+
+	/** Next batch of users in id order, for walking the whole table without offsets. */
+	List<UserEntity> findByIdGreaterThanOrderByIdAsc(UUID id, Limit limit);
 }
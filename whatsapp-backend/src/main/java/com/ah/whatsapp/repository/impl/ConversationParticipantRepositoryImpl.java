@@ -4,7 +4,9 @@
  */
 package com.ah.whatsapp.repository.impl;
 
+import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -14,11 +16,10 @@ import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.ah.whatsapp.cache.ConversationSummaryCache;
 import com.ah.whatsapp.entity.ConversationEntity;
 import com.ah.whatsapp.entity.ConversationParticipantEntity;
 import com.ah.whatsapp.entity.UserEntity;
-import com.ah.whatsapp.exception.ConversationNotFoundException;
-import com.ah.whatsapp.exception.UserNotFoundException;
 import com.ah.whatsapp.mapper.ConversationParticipantMapper;
 import com.ah.whatsapp.model.ConversationParticipant;
 import com.ah.whatsapp.repository.ConversationParticipantRepository;
@@ -36,39 +37,53 @@ public class ConversationParticipantRepositoryImpl implements ConversationPartic
 	private final ConversationEntityRepository conversationEntityRepository;
 	private final UserEntityRepository userEntityRepository;
 	private final ConversationParticipantMapper participantMapper;
+	private final ConversationSummaryCache conversationSummaryCache;
 
 	@Override
 	@Transactional
 	public ConversationParticipant save(ConversationParticipant participant) {
-		// Get conversation entity
-		ConversationEntity conversationEntity =
-				conversationEntityRepository
-						.findById(participant.getConversationId())
-						.orElseThrow(
-								() ->
-										new ConversationNotFoundException(
-												"Conversation not found: "
-														+ participant.getConversationId()));
-
-		// Get user entity
-		UserEntity userEntity =
-				userEntityRepository
-						.findById(participant.getParticipantId())
-						.orElseThrow(
-								() ->
-										new UserNotFoundException(
-												"User not found: "
-														+ participant.getParticipantId()));
-
-		// Convert to entity
+		// The conversation association cascades, so its proxy has to come from this transaction
 		ConversationParticipantEntity entity =
-				participantMapper.toEntity(participant, conversationEntity, userEntity);
+				participantMapper.toEntity(
+						participant,
+						conversationEntityRepository.getReferenceById(
+								participant.getConversationId()),
+						userEntityRepository.getReferenceById(participant.getParticipantId()));
 
-		// Save entity
-		ConversationParticipantEntity savedEntity = participantEntityRepository.save(entity);
+		participant.setId(participantEntityRepository.save(entity).getId());
+		conversationSummaryCache.invalidate(participant.getConversationId());
 
-		// Convert back to model and return
-		return participantMapper.toModel(savedEntity);
+		// Mapping the saved entity back would initialize the user proxy, so keep the model
+		return participant;
+	}
+
+	@Override
+	@Transactional
+	public List<ConversationParticipant> saveAll(List<ConversationParticipant> participants) {
+		Map<UUID, ConversationEntity> conversations = new HashMap<>();
+		Map<UUID, UserEntity> users = new HashMap<>();
+		List<ConversationParticipantEntity> entities =
+				participants.stream()
+						.map(
+								participant ->
+										participantMapper.toEntity(
+												participant,
+												conversations.computeIfAbsent(
+														participant.getConversationId(),
+														conversationEntityRepository
+																::getReferenceById),
+												users.computeIfAbsent(
+														participant.getParticipantId(),
+														userEntityRepository::getReferenceById)))
+						.toList();
+
+		List<ConversationParticipantEntity> savedEntities =
+				participantEntityRepository.saveAll(entities);
+		for (int i = 0; i < participants.size(); i++) {
+			participants.get(i).setId(savedEntities.get(i).getId());
+		}
+		conversations.keySet().forEach(conversationSummaryCache::invalidate);
+		return participants;
 	}
 
 	@Override
@@ -115,6 +130,13 @@ public class ConversationParticipantRepositoryImpl implements ConversationPartic
 				.map(participantMapper::toModel);
 	}
 
+	@Override
+	@Transactional
+	public boolean markAsRead(UUID conversationId, UUID userId, LocalDateTime readAt) {
+		conversationSummaryCache.invalidate(conversationId);
+		return participantEntityRepository.markAsRead(conversationId, userId, readAt) > 0;
+	}
+
 	@Override
 	public List<ConversationParticipant> findByConversationId(UUID conversationId) {
 		return participantEntityRepository.findByConversationIdWithUser(conversationId).stream()
@@ -4,25 +4,31 @@
  */
 package com.ah.whatsapp.repository.impl;
 
-import java.util.Collections;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.ah.whatsapp.cache.ConversationSummaryCache;
+import com.ah.whatsapp.dto.ConversationDto;
 import com.ah.whatsapp.entity.ConversationEntity;
 import com.ah.whatsapp.mapper.ConversationMapper;
+import com.ah.whatsapp.mapper.ConversationParticipantMapper;
 import com.ah.whatsapp.model.Conversation;
+import com.ah.whatsapp.model.ConversationCursor;
 import com.ah.whatsapp.model.ConversationParticipant;
 import com.ah.whatsapp.model.Message;
+import com.ah.whatsapp.model.PreparedSend;
 import com.ah.whatsapp.repository.ConversationParticipantRepository;
 import com.ah.whatsapp.repository.ConversationRepository;
 import com.ah.whatsapp.repository.MessageRepository;
 import com.ah.whatsapp.repository.entity.ConversationEntityRepository;
+import com.ah.whatsapp.repository.projection.InboxRow;
+import com.ah.whatsapp.repository.projection.ParticipantRosterRow;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -35,17 +41,24 @@ public class ConversationRepositoryImpl implements ConversationRepository {
 	private final ConversationParticipantRepository conversationParticipantRepository;
 	private final MessageRepository messageRepository;
 	private final ConversationMapper conversationMapper;
+	private final ConversationParticipantMapper conversationParticipantMapper;
+	private final ConversationSummaryCache conversationSummaryCache;
 
 	@Override
 	@Transactional
 	public Conversation save(Conversation conversation) {
 		ConversationEntity entity = conversationMapper.toEntity(conversation);
 		ConversationEntity savedEntity = conversationEntityRepository.save(entity);
+		conversationSummaryCache.invalidate(savedEntity.getId());
 		return conversationMapper.toModel(savedEntity);
 	}
 
 	@Override
 	public Optional<Conversation> findById(UUID id) {
+		return conversationSummaryCache.get(id, this::loadSummary);
+	}
+
+	private Conversation loadSummary(UUID id) {
 		return conversationEntityRepository
 				.findById(id)
 				.map(
@@ -54,61 +67,18 @@ public class ConversationRepositoryImpl implements ConversationRepository {
 							loadLastMessage(conversation);
 							loadParticipants(conversation);
 							return conversation;
-						});
+						})
+				.orElse(null);
 	}
 
 	@Override
-	public List<Conversation> findByUserId(UUID userId) {
-		List<ConversationEntity> conversationEntities =
-				conversationEntityRepository.findConversationsByUserId(userId);
-
-		List<UUID> conversationIds =
-				conversationEntities.stream().map(ConversationEntity::getId).toList();
-
-		Map<UUID, Message> lastMessagesMap =
-				messageRepository.findLatestMessagesForConversations(conversationIds);
-		Map<UUID, List<ConversationParticipant>> participantsMap =
-				conversationParticipantRepository.findParticipantsForConversationsAndIsActiveTrue(
-						conversationIds);
-
-		Map<UUID, ConversationParticipant> userParticipantMap =
-				participantsMap.entrySet().stream()
-						.collect(
-								Collectors.toMap(
-										Map.Entry::getKey,
-										e ->
-												e.getValue().stream()
-														.filter(
-																p ->
-																		p.getParticipantId()
-																				.equals(userId))
-														.findFirst()
-														.orElse(null)));
-
-		return conversationEntities.stream()
-				.map(
-						entity -> {
-							Conversation conversation = conversationMapper.toModel(entity);
-							conversation.setParticipants(
-									participantsMap.getOrDefault(
-											entity.getId(), Collections.emptyList()));
-
-							ConversationParticipant userParticipant =
-									userParticipantMap.get(entity.getId());
-							conversation.setLastMessage(lastMessagesMap.get(entity.getId()));
-
-							if (userParticipant != null
-									&& conversation.getLastMessage() != null
-									&& conversation
-											.getLastMessage()
-											.getSentAt()
-											.isBefore(userParticipant.getJoinedAt())) {
-								conversation.setLastMessage(null);
-							}
-
-							return conversation;
-						})
-				.toList();
+	public List<ConversationDto> findInboxPage(UUID userId, ConversationCursor before, int limit) {
+		List<InboxRow> rows =
+				before == null
+						? conversationEntityRepository.findInboxFirstPage(userId, limit)
+						: conversationEntityRepository.findInboxPageBefore(
+								userId, before.updatedAt(), before.id(), limit);
+		return conversationMapper.toInboxDtos(rows);
 	}
 
 	private void loadLastMessage(Conversation conversation) {
@@ -128,6 +98,7 @@ public class ConversationRepositoryImpl implements ConversationRepository {
 	@Transactional
 	public void delete(UUID id) {
 		conversationEntityRepository.deleteById(id);
+		conversationSummaryCache.invalidate(id);
 	}
 
 	@Override
@@ -160,4 +131,45 @@ public class ConversationRepositoryImpl implements ConversationRepository {
 				userId2);
 		return findById(conversationId); // Reuse findById to load details
 	}
+
+	@Override
+	public Optional<Long> findVersionById(UUID id) {
+		return conversationEntityRepository.findVersionById(id);
+	}
+
+	@Override
+	@Transactional
+	public Optional<PreparedSend> prepareForSend(
+			UUID conversationId,
+			UUID senderId,
+			LocalDateTime now,
+			int messageCount,
+			boolean advanceVersion) {
+		List<ParticipantRosterRow> roster =
+				conversationEntityRepository.activateParticipantsForSend(
+						conversationId, senderId, now, messageCount, advanceVersion);
+		conversationSummaryCache.invalidate(conversationId);
+		if (roster.isEmpty()) {
+			return Optional.empty();
+		}
+
+		Conversation conversation = new Conversation();
+		conversation.setId(conversationId);
+		conversation.setCreatedAt(roster.getFirst().getConversationCreatedAt());
+		conversation.setUpdatedAt(now);
+		conversation.setVersion(roster.getFirst().getConversationVersion());
+		List<ConversationParticipant> participants = new ArrayList<>(roster.size());
+		List<ConversationParticipant> reactivated = new ArrayList<>();
+		for (ParticipantRosterRow row : roster) {
+			ConversationParticipant participant =
+					conversationParticipantMapper.toModel(row, conversationId);
+			participants.add(participant);
+			if (row.isReactivated()) {
+				reactivated.add(participant);
+			}
+		}
+		conversation.setParticipants(participants);
+		long firstMessageSeq = roster.getFirst().getMessageSeq() - messageCount + 1;
+		return Optional.of(new PreparedSend(conversation, reactivated, firstMessageSeq));
+	}
 }
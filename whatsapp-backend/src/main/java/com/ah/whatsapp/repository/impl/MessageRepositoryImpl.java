@@ -5,26 +5,29 @@
 package com.ah.whatsapp.repository.impl;
 
 import java.time.LocalDateTime;
-import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.ah.whatsapp.dto.MessageSearchResultDto;
 import com.ah.whatsapp.entity.ConversationEntity;
 import com.ah.whatsapp.entity.MessageEntity;
 import com.ah.whatsapp.entity.UserEntity;
-import com.ah.whatsapp.exception.ConversationNotFoundException;
-import com.ah.whatsapp.exception.UserNotFoundException;
 import com.ah.whatsapp.mapper.MessageMapper;
 import com.ah.whatsapp.model.Message;
+import com.ah.whatsapp.model.MessageCursor;
+import com.ah.whatsapp.model.MessageSearchCursor;
 import com.ah.whatsapp.repository.MessageRepository;
 import com.ah.whatsapp.repository.entity.ConversationEntityRepository;
 import com.ah.whatsapp.repository.entity.MessageEntityRepository;
 import com.ah.whatsapp.repository.entity.UserEntityRepository;
+import com.ah.whatsapp.repository.projection.MessageSearchRow;
 
 import lombok.RequiredArgsConstructor;
 
@@ -37,30 +40,50 @@ public class MessageRepositoryImpl implements MessageRepository {
 	private final MessageMapper messageMapper;
 
 	@Override
+	@Transactional
 	public Message save(Message message) {
-		ConversationEntity conversationEntity =
-				conversationEntityRepository
-						.findById(message.getConversationId())
-						.orElseThrow(
-								() ->
-										new ConversationNotFoundException(
-												"Conversation not found: "
-														+ message.getConversationId()));
-
-		UserEntity senderEntity =
-				userEntityRepository
-						.findById(message.getSender().getId())
-						.orElseThrow(
-								() ->
-										new UserNotFoundException(
-												"User not found: " + message.getSender().getId()));
+		return insert(message);
+	}
 
+	@Override
+	@Transactional
+	public Message insert(Message message) {
 		MessageEntity messageEntity =
-				messageMapper.toEntity(message, conversationEntity, senderEntity);
-
-		MessageEntity savedEntity = messageEntityRepository.save(messageEntity);
+				messageMapper.toEntity(
+						message,
+						conversationEntityRepository.getReferenceById(message.getConversationId()),
+						userEntityRepository.getReferenceById(message.getSender().getId()));
+
+		// Mapping the saved entity back would initialize the sender proxy, so keep the model
+		message.setId(messageEntityRepository.save(messageEntity).getId());
+		return message;
+	}
 
-		return messageMapper.toModel(savedEntity);
+	@Override
+	@Transactional
+	public List<Message> saveAll(List<Message> messages) {
+		Map<UUID, ConversationEntity> conversations = new HashMap<>();
+		Map<UUID, UserEntity> senders = new HashMap<>();
+		List<MessageEntity> entities =
+				messages.stream()
+						.map(
+								message ->
+										messageMapper.toEntity(
+												message,
+												conversations.computeIfAbsent(
+														message.getConversationId(),
+														conversationEntityRepository
+																::getReferenceById),
+												senders.computeIfAbsent(
+														message.getSender().getId(),
+														userEntityRepository::getReferenceById)))
+						.toList();
+
+		List<MessageEntity> savedEntities = messageEntityRepository.saveAll(entities);
+		for (int i = 0; i < messages.size(); i++) {
+			messages.get(i).setId(savedEntities.get(i).getId());
+		}
+		return messages;
 	}
 
 	@Override
@@ -78,6 +101,43 @@ public class MessageRepositoryImpl implements MessageRepository {
 				.toList();
 	}
 
+	@Override
+	public List<Message> findPageBefore(
+			UUID conversationId, LocalDateTime joinedAt, MessageCursor before, int limit) {
+		List<MessageEntity> entities =
+				before == null
+						? messageEntityRepository.findLatestPage(
+								conversationId, joinedAt, Limit.of(limit))
+						: messageEntityRepository.findPageBefore(
+								conversationId,
+								joinedAt,
+								before.sentAt(),
+								before.id(),
+								Limit.of(limit));
+		return entities.stream().map(messageMapper::toModel).toList();
+	}
+
+	@Override
+	public List<Message> findPageAfter(
+			UUID conversationId, LocalDateTime joinedAt, MessageCursor after, int limit) {
+		return messageEntityRepository
+				.findPageAfter(
+						conversationId, joinedAt, after.sentAt(), after.id(), Limit.of(limit))
+				.stream()
+				.map(messageMapper::toModel)
+				.toList();
+	}
+
+	@Override
+	public List<Message> findPageSince(
+			UUID conversationId, LocalDateTime joinedAt, long seq, int limit) {
+		return messageEntityRepository
+				.findPageSince(conversationId, joinedAt, seq, Limit.of(limit))
+				.stream()
+				.map(messageMapper::toModel)
+				.toList();
+	}
+
 	@Override
 	public void delete(UUID id) {
 		messageEntityRepository.deleteById(id);
@@ -91,28 +151,13 @@ public class MessageRepositoryImpl implements MessageRepository {
 	}
 
 	@Override
-	public Map<UUID, Message> findLatestMessagesForConversations(List<UUID> conversationIds) {
-		if (conversationIds == null || conversationIds.isEmpty()) {
-			return Collections.emptyMap();
-		}
-
-		List<UUID> latestMessageIds =
-				messageEntityRepository.findLatestMessageIdsForConversationIds(conversationIds);
-
-		if (latestMessageIds.isEmpty()) {
-			return Collections.emptyMap();
-		}
-
-		List<MessageEntity> latestMessagesWithSender =
-				messageEntityRepository.findMessagesByIdsWithSender(latestMessageIds);
-
-		// Group messages by conversation ID
-		return latestMessagesWithSender.stream()
-				.map(messageMapper::toModel)
-				.collect(
-						Collectors.toMap(
-								Message::getConversationId,
-								message -> message,
-								(existing, replacement) -> existing));
+	public List<MessageSearchResultDto> search(
+			UUID userId, String query, MessageSearchCursor after, int limit) {
+		List<MessageSearchRow> rows =
+				after == null
+						? messageEntityRepository.searchFirstPage(userId, query, limit)
+						: messageEntityRepository.searchPageAfter(
+								userId, query, after.rank(), after.sentAt(), after.id(), limit);
+		return rows.stream().map(messageMapper::toSearchResultDto).toList();
 	}
 }
@@ -0,0 +1,62 @@
+/*
+ * WhatsApp Clone - Backend Service
+ * Copyright (c) 2025
+ */
+package com.ah.whatsapp.repository.impl;
+
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+
+import com.ah.whatsapp.entity.OutboxEventEntity;
+import com.ah.whatsapp.enums.EventType;
+import com.ah.whatsapp.model.OutboxEvent;
+import com.ah.whatsapp.repository.OutboxRepository;
+import com.ah.whatsapp.repository.entity.OutboxEventEntityRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class OutboxRepositoryImpl implements OutboxRepository {
+	private final OutboxEventEntityRepository outboxEventEntityRepository;
+	private final ObjectMapper objectMapper;
+
+	@Override
+	public void append(UUID conversationId, EventType type, Object payload) {
+		try {
+			outboxEventEntityRepository.append(
+					conversationId, type.name(), objectMapper.writeValueAsString(payload));
+		} catch (JsonProcessingException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	@Override
+	public List<OutboxEvent> lockNextBatch(int limit) {
+		return outboxEventEntityRepository.lockNextBatch(limit).stream()
+				.map(OutboxRepositoryImpl::toModel)
+				.toList();
+	}
+
+	@Override
+	public void deleteAll(List<OutboxEvent> events) {
+		if (!events.isEmpty()) {
+			outboxEventEntityRepository.deleteAllByIdInBatch(
+					events.stream().map(OutboxEvent::id).toList());
+		}
+	}
+
+	private static OutboxEvent toModel(OutboxEventEntity entity) {
+		return new OutboxEvent(
+				entity.getId(),
+				entity.getConversationId(),
+				entity.getSeq(),
+				entity.getEventType(),
+				entity.getPayload());
+	}
+}
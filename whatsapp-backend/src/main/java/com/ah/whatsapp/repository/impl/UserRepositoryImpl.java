@@ -8,29 +8,72 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
 
+import com.ah.whatsapp.cache.UserPrefixIndex;
 import com.ah.whatsapp.entity.UserEntity;
 import com.ah.whatsapp.mapper.UserMapper;
 import com.ah.whatsapp.model.User;
 import com.ah.whatsapp.repository.UserRepository;
 import com.ah.whatsapp.repository.entity.UserEntityRepository;
 
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
 @Component
 public class UserRepositoryImpl implements UserRepository {
 
+	private static final int PREFIX_INDEX_BATCH_SIZE = 1000;
+
 	private final UserEntityRepository userEntityRepository;
 	private final UserMapper userMapper;
+	private final UserPrefixIndex userPrefixIndex;
 
-	public UserRepositoryImpl(UserEntityRepository userEntityRepository, UserMapper userMapper) {
+	public UserRepositoryImpl(
+			UserEntityRepository userEntityRepository,
+			UserMapper userMapper,
+			UserPrefixIndex userPrefixIndex) {
 		this.userEntityRepository = userEntityRepository;
 		this.userMapper = userMapper;
+		this.userPrefixIndex = userPrefixIndex;
+	}
+
+	/**
+	 * Loads every user into the prefix index once the application is up, in id order so each
+	 * batch is a single index range scan. PostgreSQL orders uuids as unsigned bytes, so the walk
+	 * starts from the all-zero id.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void loadPrefixIndex() {
+		if (!userPrefixIndex.isEnabled()) {
+			return;
+		}
+		UUID lastId = new UUID(0, 0);
+		long loaded = 0;
+		List<UserEntity> batch;
+		do {
+			batch =
+					userEntityRepository.findByIdGreaterThanOrderByIdAsc(
+							lastId, Limit.of(PREFIX_INDEX_BATCH_SIZE));
+			batch.stream().map(userMapper::toModel).forEach(userPrefixIndex::put);
+			if (!batch.isEmpty()) {
+				lastId = batch.getLast().getId();
+				loaded += batch.size();
+			}
+		} while (batch.size() == PREFIX_INDEX_BATCH_SIZE);
+		userPrefixIndex.markReady();
+		log.info("Loaded {} users into the search prefix index", loaded);
 	}
 
 	@Override
 	public User save(User user) {
 		UserEntity userEntity = userEntityRepository.save(userMapper.toEntity(user));
-		return userMapper.toModel(userEntity);
+		User saved = userMapper.toModel(userEntity);
+		userPrefixIndex.put(saved);
+		return saved;
 	}
 
 	@Override
@@ -53,10 +96,16 @@ public class UserRepositoryImpl implements UserRepository {
 	}
 
 	@Override
-	public List<User> searchUsers(String query, UUID excludeUserId) {
-		return userEntityRepository.searchUsers(query, excludeUserId).stream()
-				.map(userMapper::toModel)
-				.toList();
+	public List<User> searchUsers(String query, UUID excludeUserId, int limit) {
+		return userPrefixIndex
+				.search(query, excludeUserId, limit)
+				.orElseGet(
+						() ->
+								userEntityRepository
+										.searchUsers(query, excludeUserId, limit)
+										.stream()
+										.map(userMapper::toModel)
+										.toList());
 	}
 
 	@Override
@@ -0,0 +1,53 @@
+/*
+ * WhatsApp Clone - Backend Service
+ * Copyright (c) 2025
+ */
+package com.ah.whatsapp.repository.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One active participant of one conversation in a user's inbox. The conversation columns, the
+ * viewer's unread count and the last message the viewer can see repeat on every participant row
+ * of that conversation; the last message columns are null when there is none.
+ */
+public interface InboxRow {
+	UUID getId();
+
+	LocalDateTime getCreatedAt();
+
+	LocalDateTime getUpdatedAt();
+
+	long getVersion();
+
+	int getUnreadCount();
+
+	UUID getLastMessageId();
+
+	String getLastMessageContent();
+
+	LocalDateTime getLastMessageSentAt();
+
+	Long getLastMessageSeq();
+
+	UUID getLastMessageSenderId();
+
+	String getLastMessageSenderName();
+
+	UUID getParticipantId();
+
+	UUID getParticipantUserId();
+
+	String getParticipantEmail();
+
+	String getParticipantName();
+
+	String getParticipantProfilePicture();
+
+	LocalDateTime getParticipantJoinedAt();
+
+	LocalDateTime getParticipantLeftAt();
+
+	LocalDateTime getParticipantLastReadAt();
+}
@@ -0,0 +1,32 @@
+/*
+ * WhatsApp Clone - Backend Service
+ * Copyright (c) 2025
+ */
+package com.ah.whatsapp.repository.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One message matching a full-text search, with its relevance and a highlighted excerpt of the
+ * content.
+ */
+public interface MessageSearchRow {
+	UUID getId();
+
+	UUID getConversationId();
+
+	UUID getSenderId();
+
+	String getSenderName();
+
+	String getContent();
+
+	LocalDateTime getSentAt();
+
+	long getSeq();
+
+	float getRank();
+
+	String getSnippet();
+}
@@ -0,0 +1,42 @@
+/*
+ * WhatsApp Clone - Backend Service
+ * Copyright (c) 2025
+ */
+package com.ah.whatsapp.repository.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One participant of a conversation together with the user details, their unread count and the
+ * conversation creation time and version and the reserved message sequence number, as returned by the send-path roster query.
+ */
+public interface ParticipantRosterRow {
+	UUID getId();
+
+	UUID getUserId();
+
+	String getEmail();
+
+	String getName();
+
+	String getProfilePicture();
+
+	LocalDateTime getJoinedAt();
+
+	LocalDateTime getLeftAt();
+
+	LocalDateTime getLastReadAt();
+
+	int getUnreadCount();
+
+	/** Whether the send just brought this participant back into the conversation. */
+	boolean isReactivated();
+
+	LocalDateTime getConversationCreatedAt();
+
+	long getConversationVersion();
+
+	/** Last of the sequence numbers reserved for the messages being sent. */
+	long getMessageSeq();
+}
@@ -4,13 +4,14 @@
  */
 package com.ah.whatsapp.service;
 
-import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import org.springframework.security.access.AccessDeniedException;
 
 import com.ah.whatsapp.dto.ConversationDto;
 import com.ah.whatsapp.dto.CreateConversationRequest;
+import com.ah.whatsapp.dto.CursorPage;
 import com.ah.whatsapp.exception.ConversationNotFoundException;
 
 public interface ConversationService {
@@ -33,12 +34,23 @@ public interface ConversationService {
 	void addParticipant(UUID conversationId, UUID userId);
 
 	/**
-	 * Gets all conversations for a specific user
+	 * Gets one page of a user's conversations, most recently updated first
 	 *
 	 * @param userId ID of the user
-	 * @return list of conversations the user is part of
+	 * @param cursor opaque cursor from a previous page, or null for the first page
+	 * @param limit maximum number of conversations to return
+	 * @return the page with a cursor for the next one
 	 */
-	List<ConversationDto> findUserConversations(UUID userId);
+	CursorPage<ConversationDto> findUserConversations(UUID userId, String cursor, int limit);
+
+	/**
+	 * Walks all of a user's conversations page by page, most recently updated first, without
+	 * holding more than one page in memory
+	 *
+	 * @param userId ID of the user
+	 * @param action called once per conversation, in order
+	 */
+	void forEachUserConversation(UUID userId, Consumer<ConversationDto> action);
 
 	/**
 	 * Finds a specific conversation by its ID, ensuring the requesting user is a participant.
@@ -9,8 +9,12 @@ import java.util.UUID;
 
 import org.springframework.security.access.AccessDeniedException;
 
+import com.ah.whatsapp.dto.CursorPage;
 import com.ah.whatsapp.dto.MessageDto;
+import com.ah.whatsapp.dto.MessageSearchResultDto;
 import com.ah.whatsapp.dto.SendMessageRequest;
+import com.ah.whatsapp.exception.InvalidCursorException;
+import com.ah.whatsapp.model.MessageSubmission;
 
 public interface MessageService {
 	/**
@@ -23,14 +27,71 @@ public interface MessageService {
 	MessageDto sendMessage(SendMessageRequest request, UUID senderId);
 
 	/**
-	 * Retrieves all messages for a specific conversation
+	 * Sends several messages, possibly to different conversations, in one transaction. Membership
+	 * is checked once per conversation, and each conversation's subscribers get a single event
+	 * carrying all of its new messages. Nothing is sent if the sender may not post to any one of
+	 * the conversations.
+	 *
+	 * @param requests message details, in the order the messages were written
+	 * @param senderId ID of the user sending the messages
+	 * @return the created messages, in request order
+	 */
+	List<MessageDto> sendMessages(List<SendMessageRequest> requests, UUID senderId);
+
+	/**
+	 * Sends messages from any number of senders in one transaction, as {@link
+	 * #sendMessages(List, UUID)} does for one sender. Each conversation's messages are numbered in
+	 * submission order.
+	 *
+	 * @param submissions the messages with their senders, in arrival order
+	 * @return the created messages, in submission order
+	 */
+	List<MessageDto> sendMessages(List<MessageSubmission> submissions);
+
+	/**
+	 * Retrieves one page of messages for a specific conversation using keyset pagination.
+	 * Without a cursor the newest page is returned. Messages within a page are always in
+	 * chronological order.
 	 *
 	 * @param conversationId ID of the conversation
 	 * @param userId ID of the user requesting the messages
-	 * @return list of messages in the conversation
+	 * @param before cursor to page back from (older messages), may be null
+	 * @param after cursor to page forward from (newer messages), may be null
+	 * @param limit maximum number of messages to return, clamped to a server-side maximum
+	 * @return the page of messages and the cursor for the next page in the same direction
 	 * @throws AccessDeniedException if the user is not a participant in the conversation
+	 * @throws InvalidCursorException if a cursor is malformed or both cursors are given
+	 */
+	CursorPage<MessageDto> findConversationMessages(
+			UUID conversationId, UUID userId, String before, String after, int limit);
+
+	/**
+	 * Retrieves the messages of a conversation numbered after {@code seq}, oldest first, so a
+	 * reconnecting client can fetch only what it missed. When more remain, the returned cursor is
+	 * the sequence number to continue from.
+	 *
+	 * @param conversationId ID of the conversation
+	 * @param userId ID of the user requesting the messages
+	 * @param seq the last sequence number the client has, 0 for the whole visible history
+	 * @param limit maximum number of messages to return, clamped to a server-side maximum
+	 * @return the messages in sequence order and the sequence number to continue from
+	 * @throws AccessDeniedException if the user is not a participant in the conversation
+	 */
+	CursorPage<MessageDto> findMessagesSince(UUID conversationId, UUID userId, long seq, int limit);
+
+	/**
+	 * Searches the content of every message the user can see, in conversations where they are an
+	 * active participant. Results are ordered by relevance, newest first among equal matches.
+	 *
+	 * @param userId ID of the searching user
+	 * @param query search terms; quoted phrases, {@code or} and {@code -word} are supported
+	 * @param cursor cursor from a previous page, may be null
+	 * @param limit maximum number of results to return, clamped to a server-side maximum
+	 * @return the page of results, empty when the query is blank
+	 * @throws InvalidCursorException if the cursor is malformed
 	 */
-	List<MessageDto> findConversationMessages(UUID conversationId, UUID userId);
+	CursorPage<MessageSearchResultDto> searchMessages(
+			UUID userId, String query, String cursor, int limit);
 
 	/**
 	 * Deletes a message by its ID if the user is the sender.
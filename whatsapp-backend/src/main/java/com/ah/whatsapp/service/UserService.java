@@ -25,9 +25,19 @@ public interface UserService {
 
 	List<UserDto> searchUsers(String query, UUID excludeUserId);
 
+	/**
+	 * Search for the keystrokes of a typeahead box. Queries that extend the user's previous query
+	 * are answered from its cached result when possible, and each user is rate limited.
+	 *
+	 * @throws com.ah.whatsapp.exception.TooManyRequestsException when the user searches too often
+	 */
+	List<UserDto> typeaheadSearchUsers(String query, UUID currentUserId);
+
 	Boolean existsById(UUID id);
 
 	UserDto updateUser(UUID userId, UserUpdateDto userUpdateDto);
 
+	void revokeTokens(UUID userId);
+
 	UserDto updateProfilePicture(UUID userId, MultipartFile profilePicture);
 }
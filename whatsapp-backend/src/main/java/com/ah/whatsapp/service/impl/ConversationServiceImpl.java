@@ -8,19 +8,23 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.ah.whatsapp.dto.ConversationDeltaDto;
 import com.ah.whatsapp.dto.ConversationDto;
 import com.ah.whatsapp.dto.CreateConversationRequest;
-import com.ah.whatsapp.event.ConversationUpdateEvent;
+import com.ah.whatsapp.dto.CursorPage;
+import com.ah.whatsapp.event.ConversationDeltaEvent;
 import com.ah.whatsapp.exception.ConversationNotFoundException;
 import com.ah.whatsapp.exception.UserNotFoundException;
 import com.ah.whatsapp.mapper.ConversationMapper;
 import com.ah.whatsapp.model.Conversation;
+import com.ah.whatsapp.model.ConversationCursor;
 import com.ah.whatsapp.model.ConversationParticipant;
 import com.ah.whatsapp.model.User;
 import com.ah.whatsapp.repository.ConversationParticipantRepository;
@@ -35,6 +39,8 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 @RequiredArgsConstructor
 public class ConversationServiceImpl implements ConversationService {
+	private static final int MAX_PAGE_SIZE = 100;
+
 	private final ConversationRepository conversationRepository;
 	private final UserRepository userRepository;
 	private final ConversationMapper conversationMapper;
@@ -105,14 +111,39 @@ public class ConversationServiceImpl implements ConversationService {
 	}
 
 	@Override
-	public List<ConversationDto> findUserConversations(UUID userId) {
-		if (!userRepository.existsById(userId)) {
-			throw new UserNotFoundException("User not found");
-		}
+	public CursorPage<ConversationDto> findUserConversations(
+			UUID userId, String cursor, int limit) {
+		ConversationCursor before = ConversationCursor.decode(cursor);
+		int pageSize = Math.clamp(limit, 1, MAX_PAGE_SIZE);
+
+		// Fetch one extra conversation to learn whether another page exists
+		List<ConversationDto> conversations =
+				conversationRepository.findInboxPage(userId, before, pageSize + 1);
+
+		boolean hasMore = conversations.size() > pageSize;
+		List<ConversationDto> page = hasMore ? conversations.subList(0, pageSize) : conversations;
+		String nextCursor =
+				hasMore
+						? new ConversationCursor(
+										page.getLast().getUpdatedAt(), page.getLast().getId())
+								.encode()
+						: null;
+		return CursorPage.of(page, nextCursor);
+	}
 
-		return conversationRepository.findByUserId(userId).stream()
-				.map(conversationMapper::toDto)
-				.toList();
+	@Override
+	public void forEachUserConversation(UUID userId, Consumer<ConversationDto> action) {
+		ConversationCursor before = null;
+		List<ConversationDto> page;
+		do {
+			page = conversationRepository.findInboxPage(userId, before, MAX_PAGE_SIZE);
+			page.forEach(action);
+			if (!page.isEmpty()) {
+				before =
+						new ConversationCursor(
+								page.getLast().getUpdatedAt(), page.getLast().getId());
+			}
+		} while (page.size() == MAX_PAGE_SIZE);
 	}
 
 	@Override
@@ -140,6 +171,10 @@ public class ConversationServiceImpl implements ConversationService {
 										new ConversationNotFoundException(
 												"Conversation not found with id: "
 														+ conversationId));
+		conversation.getParticipants().stream()
+				.filter(p -> p.getParticipantId().equals(userId))
+				.findFirst()
+				.ifPresent(p -> conversation.setUnreadCount(p.getUnreadCount()));
 
 		return conversationMapper.toDto(conversation);
 	}
@@ -224,27 +259,28 @@ public class ConversationServiceImpl implements ConversationService {
 	@Override
 	@Transactional
 	public void markConversationAsRead(UUID conversationId, UUID userId) {
-		ConversationParticipant participant =
-				conversationParticipantRepository
-						.findByConversationIdAndUserIdAndIsActiveTrue(conversationId, userId)
+		LocalDateTime readAt = LocalDateTime.now();
+		if (!conversationParticipantRepository.markAsRead(conversationId, userId, readAt)) {
+			throw new AccessDeniedException("User is not a participant in this conversation");
+		}
+		List<ConversationParticipant> participants =
+				conversationParticipantRepository.findByConversationIdAndIsActiveTrue(
+						conversationId);
+
+		long version =
+				conversationRepository
+						.findVersionById(conversationId)
 						.orElseThrow(
 								() ->
-										new AccessDeniedException(
-												"User is not a participant in this conversation"));
-
-		participant.setLastReadAt(LocalDateTime.now());
-		conversationParticipantRepository.save(participant);
-
-		ConversationDto conversation =
-				conversationMapper.toDto(
-						conversationRepository
-								.findById(conversationId)
-								.orElseThrow(
-										() ->
-												new ConversationNotFoundException(
-														"Conversation not found with id: "
-																+ conversationId)));
+										new ConversationNotFoundException(
+												"Conversation not found with id: "
+														+ conversationId));
 
-		applicationEventPublisher.publishEvent(new ConversationUpdateEvent(this, conversation));
+		// A read receipt does not change the list order, so the version stays as it is
+		applicationEventPublisher.publishEvent(
+				new ConversationDeltaEvent(
+						this,
+						ConversationDeltaDto.read(conversationId, version, userId, readAt),
+						participants));
 	}
 }
@@ -5,8 +5,15 @@
 package com.ah.whatsapp.service.impl;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
@@ -14,13 +21,21 @@ import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.ah.whatsapp.dto.ConversationDto;
+import com.ah.whatsapp.dto.ConversationDeltaDto;
+import com.ah.whatsapp.dto.CursorPage;
+import com.ah.whatsapp.dto.DeleteMessageEvent;
+import com.ah.whatsapp.dto.MessageBatchDto;
 import com.ah.whatsapp.dto.MessageDto;
+import com.ah.whatsapp.dto.MessageSearchResultDto;
+import com.ah.whatsapp.dto.ParticipantsReactivatedDto;
 import com.ah.whatsapp.dto.SendMessageRequest;
-import com.ah.whatsapp.event.ConversationUpdateEvent;
+import com.ah.whatsapp.enums.EventType;
+import com.ah.whatsapp.event.ConversationDeltaEvent;
 import com.ah.whatsapp.event.MessageDeletedEvent;
 import com.ah.whatsapp.event.NewMessageEvent;
+import com.ah.whatsapp.event.ParticipantsReactivatedEvent;
 import com.ah.whatsapp.exception.ConversationNotFoundException;
+import com.ah.whatsapp.exception.InvalidCursorException;
 import com.ah.whatsapp.exception.MessageNotFoundException;
 import com.ah.whatsapp.exception.UserNotFoundException;
 import com.ah.whatsapp.mapper.ConversationMapper;
@@ -28,10 +43,15 @@ import com.ah.whatsapp.mapper.MessageMapper;
 import com.ah.whatsapp.model.Conversation;
 import com.ah.whatsapp.model.ConversationParticipant;
 import com.ah.whatsapp.model.Message;
+import com.ah.whatsapp.model.MessageCursor;
+import com.ah.whatsapp.model.MessageSearchCursor;
+import com.ah.whatsapp.model.MessageSubmission;
+import com.ah.whatsapp.model.PreparedSend;
 import com.ah.whatsapp.model.User;
 import com.ah.whatsapp.repository.ConversationParticipantRepository;
 import com.ah.whatsapp.repository.ConversationRepository;
 import com.ah.whatsapp.repository.MessageRepository;
+import com.ah.whatsapp.repository.OutboxRepository;
 import com.ah.whatsapp.repository.UserRepository;
 import com.ah.whatsapp.service.MessageService;
 
@@ -42,81 +62,286 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 @RequiredArgsConstructor
 public class MessageServiceImpl implements MessageService {
+	private static final int MAX_PAGE_SIZE = 100;
+
 	private final MessageRepository messageRepository;
 	private final ConversationRepository conversationRepository;
 	private final UserRepository userRepository;
 	private final ConversationParticipantRepository conversationParticipantRepository;
+	private final OutboxRepository outboxRepository;
 	private final MessageMapper messageMapper;
-	private final SimpMessagingTemplate messagingTemplate;
 	private final ConversationMapper conversationMapper;
+	private final SimpMessagingTemplate messagingTemplate;
 	private final ApplicationEventPublisher eventPublisher;
 
 	@Override
 	@Transactional
 	public MessageDto sendMessage(SendMessageRequest request, UUID senderId) {
-		User sender =
-				userRepository
-						.findById(senderId)
-						.orElseThrow(() -> new UserNotFoundException("User not found"));
+		LocalDateTime now = LocalDateTime.now();
 
-		Conversation conversation =
+		// Membership check, participant reactivation and roster load in one statement
+		PreparedSend preparedSend =
 				conversationRepository
-						.findById(request.conversationId())
-						.orElseThrow(
-								() -> new ConversationNotFoundException("Conversation not found"));
+						.prepareForSend(request.conversationId(), senderId, now, 1, true)
+						.orElseThrow(() -> sendRejection(request.conversationId(), senderId));
+		Conversation conversation = preparedSend.conversation();
+
+		Message message = new Message();
+		message.setConversationId(conversation.getId());
+		message.setSender(toSender(conversation, senderId));
+		message.setContent(request.content());
+		message.setSentAt(now);
+		message.setSeq(preparedSend.messageSeq());
+
+		// The messages insert trigger bumps conversations.updated_at
+		Message savedMessage = messageRepository.insert(message);
+
+		MessageDto messageDto = messageMapper.toDto(savedMessage);
+
+		// Everyone who rejoined is announced together, ahead of the message itself
+		publishReactivated(conversation, preparedSend.reactivated());
+
+		// Broadcast by the outbox relay once this transaction commits
+		outboxRepository.append(conversation.getId(), EventType.NEW_MESSAGE, messageDto);
+		eventPublisher.publishEvent(new NewMessageEvent(this, messageDto));
+
+		// Participants get a compact list delta rather than the whole conversation
+		eventPublisher.publishEvent(
+				new ConversationDeltaEvent(
+						this,
+						ConversationDeltaDto.newMessage(conversation.getVersion(), now, messageDto),
+						conversation.getParticipants()));
+
+		return messageDto;
+	}
+
+	@Override
+	@Transactional
+	public List<MessageDto> sendMessages(List<SendMessageRequest> requests, UUID senderId) {
+		return sendMessages(
+				requests.stream()
+						.map(request -> new MessageSubmission(request, senderId))
+						.toList());
+	}
+
+	@Override
+	@Transactional
+	public List<MessageDto> sendMessages(List<MessageSubmission> submissions) {
+		LocalDateTime now = LocalDateTime.now();
+
+		// One preparation per conversation and sender, in a fixed order so concurrent batches lock
+		// conversations in the same order. Only the first one advances the version, because the
+		// conversation's share goes out as a single delta
+		Map<SendKey, Long> messageCounts =
+				submissions.stream()
+						.collect(
+								Collectors.groupingBy(
+										SendKey::of,
+										() -> new TreeMap<>(SendKey.ORDER),
+										Collectors.counting()));
+		Map<UUID, ConversationShare> shares = new LinkedHashMap<>();
+		messageCounts.forEach(
+				(key, count) -> {
+					PreparedSend preparedSend =
+							conversationRepository
+									.prepareForSend(
+											key.conversationId(),
+											key.senderId(),
+											now,
+											count.intValue(),
+											!shares.containsKey(key.conversationId()))
+									.orElseThrow(
+											() ->
+													sendRejection(
+															key.conversationId(), key.senderId()));
+					shares.computeIfAbsent(
+									key.conversationId(),
+									id -> new ConversationShare(preparedSend.messageSeq()))
+							.add(preparedSend);
+				});
 
-		if (!conversationParticipantRepository.existsByConversationIdAndUserIdAndIsActiveTrue(
-				request.conversationId(), senderId)) {
-			throw new AccessDeniedException("User is not a participant in this conversation");
+		List<Message> messages = new ArrayList<>(submissions.size());
+		for (int i = 0; i < submissions.size(); i++) {
+			SendMessageRequest request = submissions.get(i).request();
+			ConversationShare share = shares.get(request.conversationId());
+			Message message = new Message();
+			message.setConversationId(request.conversationId());
+			message.setSender(toSender(share.latest.conversation(), submissions.get(i).senderId()));
+			message.setContent(request.content());
+			// History pages order by sent time, so a microsecond apart keeps the batch in seq order
+			message.setSentAt(now.plus(i, ChronoUnit.MICROS));
+			message.setSeq(share.nextSeq++);
+			messages.add(message);
 		}
 
-		List<ConversationParticipant> participants =
-				conversationParticipantRepository.findByConversationId(request.conversationId());
+		// One transaction, so the inserts go out in JDBC batches
+		List<MessageDto> messageDtos =
+				messageRepository.saveAll(messages).stream().map(messageMapper::toDto).toList();
+
+		messageDtos.forEach(dto -> shares.get(dto.conversationId()).messages.add(dto));
+		shares.values().forEach(this::publishShare);
 
-		for (ConversationParticipant participant : participants) {
-			if (!participant.isActive()) {
-				participant.setActive(true);
-				participant.setJoinedAt(LocalDateTime.now());
-				conversationParticipantRepository.save(participant);
-			}
+		return messageDtos;
+	}
+
+	/** Announces one conversation's share of a batch with a single event of each kind. */
+	private void publishShare(ConversationShare share) {
+		Conversation conversation = share.latest.conversation();
+		MessageDto lastMessage = share.messages.getLast();
+
+		publishReactivated(conversation, share.reactivated);
+
+		if (share.messages.size() == 1) {
+			outboxRepository.append(conversation.getId(), EventType.NEW_MESSAGE, lastMessage);
+		} else {
+			outboxRepository.append(
+					conversation.getId(),
+					EventType.NEW_MESSAGE_BATCH,
+					new MessageBatchDto(conversation.getId(), share.messages));
 		}
+		eventPublisher.publishEvent(new NewMessageEvent(this, lastMessage));
 
-		Message message = new Message();
-		message.setConversationId(conversation.getId());
-		message.setSender(sender);
-		message.setContent(request.content());
-		message.setSentAt(LocalDateTime.now());
+		eventPublisher.publishEvent(
+				new ConversationDeltaEvent(
+						this,
+						ConversationDeltaDto.newMessage(
+								conversation.getVersion(), lastMessage.sentAt(), lastMessage),
+						conversation.getParticipants()));
+	}
 
-		Message savedMessage = messageRepository.save(message);
+	private void publishReactivated(
+			Conversation conversation, List<ConversationParticipant> reactivated) {
+		if (reactivated.isEmpty()) {
+			return;
+		}
+		eventPublisher.publishEvent(
+				new ParticipantsReactivatedEvent(
+						this,
+						new ParticipantsReactivatedDto(
+								conversation.getId(),
+								reactivated.stream()
+										.map(conversationMapper::toParticipantDto)
+										.toList()),
+						conversation.getParticipants()));
+	}
 
-		// Update conversation last update timestamp
-		conversation.setUpdatedAt(LocalDateTime.now());
-		conversationRepository.save(conversation);
+	private record SendKey(UUID conversationId, UUID senderId) {
+		static final Comparator<SendKey> ORDER =
+				Comparator.comparing(SendKey::conversationId).thenComparing(SendKey::senderId);
 
-		MessageDto messageDto = messageMapper.toDto(savedMessage);
+		static SendKey of(MessageSubmission submission) {
+			return new SendKey(submission.request().conversationId(), submission.senderId());
+		}
+	}
 
-		eventPublisher.publishEvent(new NewMessageEvent(this, messageDto));
+	/**
+	 * One conversation's messages in a batch. Each sender's preparation reserves the next block of
+	 * sequence numbers while the conversation row stays locked, so together they form one
+	 * consecutive range, handed out in submission order. Only the first preparation advances the
+	 * version; the last one holds the final unread counts.
+	 */
+	private static final class ConversationShare {
+		private final List<ConversationParticipant> reactivated = new ArrayList<>();
+		private final List<MessageDto> messages = new ArrayList<>();
+		private long nextSeq;
+		private PreparedSend latest;
 
-		Conversation updatedConversation =
-				conversationRepository
-						.findById(conversation.getId())
-						.orElse(conversation); // Re-fetch or use existing
-		ConversationDto conversationDto = conversationMapper.toDto(updatedConversation);
+		ConversationShare(long firstSeq) {
+			this.nextSeq = firstSeq;
+		}
 
-		eventPublisher.publishEvent(new ConversationUpdateEvent(this, conversationDto));
+		void add(PreparedSend preparedSend) {
+			reactivated.addAll(preparedSend.reactivated());
+			latest = preparedSend;
+		}
+	}
 
-		return messageDto;
+	/**
+	 * Works out why a send was rejected. Only runs on the failure path, so the extra lookups do
+	 * not cost the common case anything.
+	 */
+	private RuntimeException sendRejection(UUID conversationId, UUID senderId) {
+		if (!userRepository.existsById(senderId)) {
+			return new UserNotFoundException("User not found");
+		}
+		if (!conversationRepository.existsById(conversationId)) {
+			return new ConversationNotFoundException("Conversation not found");
+		}
+		return new AccessDeniedException("User is not a participant in this conversation");
+	}
+
+	private User toSender(Conversation conversation, UUID senderId) {
+		ConversationParticipant participant =
+				conversation.getParticipants().stream()
+						.filter(p -> p.getParticipantId().equals(senderId))
+						.findFirst()
+						.orElseThrow(
+								() ->
+										new AccessDeniedException(
+												"User is not a participant in this conversation"));
+
+		User sender = new User();
+		sender.setId(senderId);
+		sender.setName(participant.getParticipantName());
+		sender.setEmail(participant.getParticipantEmail());
+		sender.setProfilePicture(participant.getParticipantProfilePicture());
+		return sender;
 	}
 
 	@Override
-	public List<MessageDto> findConversationMessages(UUID conversationId, UUID userId) {
+	public CursorPage<MessageDto> findConversationMessages(
+			UUID conversationId, UUID userId, String before, String after, int limit) {
+		if (before != null && after != null) {
+			throw new InvalidCursorException("Only one of 'before' or 'after' may be specified");
+		}
+		MessageCursor beforeCursor = MessageCursor.decode(before);
+		MessageCursor afterCursor = MessageCursor.decode(after);
+		int pageSize = Math.clamp(limit, 1, MAX_PAGE_SIZE);
+
 		if (!conversationRepository.existsById(conversationId)) {
 			throw new ConversationNotFoundException("Conversation not found");
 		}
 
-		if (!conversationParticipantRepository.existsByConversationIdAndUserIdAndIsActiveTrue(
-				conversationId, userId)) {
-			throw new AccessDeniedException("User is not a participant in this conversation");
+		ConversationParticipant participant =
+				conversationParticipantRepository
+						.findByConversationIdAndUserIdAndIsActiveTrue(conversationId, userId)
+						.orElseThrow(
+								() ->
+										new AccessDeniedException(
+												"User is not a participant in this conversation"));
+
+		// Fetch one extra row to learn whether another page exists
+		List<Message> messages =
+				afterCursor != null
+						? messageRepository.findPageAfter(
+								conversationId,
+								participant.getJoinedAt(),
+								afterCursor,
+								pageSize + 1)
+						: messageRepository.findPageBefore(
+								conversationId,
+								participant.getJoinedAt(),
+								beforeCursor,
+								pageSize + 1);
+
+		boolean hasMore = messages.size() > pageSize;
+		List<Message> page = hasMore ? messages.subList(0, pageSize) : messages;
+		String nextCursor = hasMore ? MessageCursor.of(page.getLast()).encode() : null;
+
+		List<MessageDto> items = page.stream().map(messageMapper::toDto).toList();
+		if (afterCursor == null) {
+			items = items.reversed();
+		}
+		return CursorPage.of(items, nextCursor);
+	}
+
+	@Override
+	public CursorPage<MessageDto> findMessagesSince(
+			UUID conversationId, UUID userId, long seq, int limit) {
+		int pageSize = Math.clamp(limit, 1, MAX_PAGE_SIZE);
+
+		if (!conversationRepository.existsById(conversationId)) {
+			throw new ConversationNotFoundException("Conversation not found");
 		}
 
 		ConversationParticipant participant =
@@ -127,11 +352,41 @@ public class MessageServiceImpl implements MessageService {
 										new AccessDeniedException(
 												"User is not a participant in this conversation"));
 
-		return messageRepository
-				.findByConversationIdAndSentAtAfter(conversationId, participant.getJoinedAt())
-				.stream()
-				.map(messageMapper::toDto)
-				.toList();
+		// Fetch one extra row to learn whether more messages follow
+		List<Message> messages =
+				messageRepository.findPageSince(
+						conversationId, participant.getJoinedAt(), seq, pageSize + 1);
+
+		boolean hasMore = messages.size() > pageSize;
+		List<Message> page = hasMore ? messages.subList(0, pageSize) : messages;
+		String nextCursor = hasMore ? String.valueOf(page.getLast().getSeq()) : null;
+		return CursorPage.of(page.stream().map(messageMapper::toDto).toList(), nextCursor);
+	}
+
+	@Override
+	public CursorPage<MessageSearchResultDto> searchMessages(
+			UUID userId, String query, String cursor, int limit) {
+		MessageSearchCursor after = MessageSearchCursor.decode(cursor);
+		if (query == null || query.isBlank()) {
+			return CursorPage.of(List.of(), null);
+		}
+		int pageSize = Math.clamp(limit, 1, MAX_PAGE_SIZE);
+
+		// Fetch one extra row to learn whether another page exists
+		List<MessageSearchResultDto> results =
+				messageRepository.search(userId, query.strip(), after, pageSize + 1);
+
+		boolean hasMore = results.size() > pageSize;
+		List<MessageSearchResultDto> page = hasMore ? results.subList(0, pageSize) : results;
+		String nextCursor = null;
+		if (hasMore) {
+			MessageSearchResultDto last = page.getLast();
+			nextCursor =
+					new MessageSearchCursor(
+									last.rank(), last.message().sentAt(), last.message().id())
+							.encode();
+		}
+		return CursorPage.of(page, nextCursor);
 	}
 
 	@Override
@@ -148,6 +403,10 @@ public class MessageServiceImpl implements MessageService {
 
 		messageRepository.delete(messageId);
 
+		outboxRepository.append(
+				message.getConversationId(),
+				EventType.DELETE_MESSAGE,
+				new DeleteMessageEvent(messageId, message.getConversationId()));
 		eventPublisher.publishEvent(
 				new MessageDeletedEvent(this, messageId, message.getConversationId()));
 	}
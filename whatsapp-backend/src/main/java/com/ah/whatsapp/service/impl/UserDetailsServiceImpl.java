@@ -9,6 +9,7 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import com.ah.whatsapp.cache.JwtUserCache;
 import com.ah.whatsapp.model.JwtUser;
 import com.ah.whatsapp.model.User;
 import com.ah.whatsapp.repository.UserRepository;
@@ -16,13 +17,22 @@ import com.ah.whatsapp.repository.UserRepository;
 @Service
 public class UserDetailsServiceImpl implements UserDetailsService {
 	private final UserRepository userRepository;
+	private final JwtUserCache jwtUserCache;
 
-	public UserDetailsServiceImpl(UserRepository userRepository) {
+	public UserDetailsServiceImpl(UserRepository userRepository, JwtUserCache jwtUserCache) {
 		this.userRepository = userRepository;
+		this.jwtUserCache = jwtUserCache;
 	}
 
 	@Override
 	public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+		if (username == null) {
+			return loadFromRepository(null);
+		}
+		return jwtUserCache.get(username, this::loadFromRepository);
+	}
+
+	private JwtUser loadFromRepository(String username) {
 		User user =
 				userRepository
 						.findByEmail(username)
@@ -19,11 +19,15 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.ObjectUtils;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.ah.whatsapp.cache.ConversationSummaryCache;
+import com.ah.whatsapp.cache.JwtUserCache;
+import com.ah.whatsapp.cache.TypeaheadSearchCache;
 import com.ah.whatsapp.dto.LoginDto;
 import com.ah.whatsapp.dto.UserDto;
 import com.ah.whatsapp.dto.UserUpdateDto;
 import com.ah.whatsapp.enums.FolderName;
 import com.ah.whatsapp.exception.InvalidCredentialsException;
+import com.ah.whatsapp.exception.TooManyRequestsException;
 import com.ah.whatsapp.exception.UserAlreadyExistsException;
 import com.ah.whatsapp.exception.UserNotFoundException;
 import com.ah.whatsapp.mapper.UserMapper;
@@ -31,31 +35,46 @@ import com.ah.whatsapp.model.User;
 import com.ah.whatsapp.repository.UserRepository;
 import com.ah.whatsapp.service.FileStorage;
 import com.ah.whatsapp.service.UserService;
-import com.ah.whatsapp.util.JwtUtil;
+import com.ah.whatsapp.util.JwtPrincipalResolver;
+import com.ah.whatsapp.util.UserSearchRateLimiter;
 
 @Transactional
 @Service
 public class UserServiceImpl implements UserService {
+	private static final int MAX_SEARCH_RESULTS = 20;
+
 	private final UserRepository userRepository;
 	private final UserMapper userMapper;
-	private final JwtUtil jwtUtil;
+	private final JwtPrincipalResolver jwtPrincipalResolver;
 	private final PasswordEncoder passwordEncoder;
 	private final AuthenticationManager authenticationManager;
 	private final FileStorage fileStorage;
+	private final JwtUserCache jwtUserCache;
+	private final ConversationSummaryCache conversationSummaryCache;
+	private final TypeaheadSearchCache typeaheadSearchCache;
+	private final UserSearchRateLimiter userSearchRateLimiter;
 
 	public UserServiceImpl(
 			UserRepository userRepository,
 			UserMapper userMapper,
-			JwtUtil jwtUtil,
+			JwtPrincipalResolver jwtPrincipalResolver,
 			PasswordEncoder passwordEncoder,
 			AuthenticationManager authenticationManager,
-			FileStorage fileStorage) {
+			FileStorage fileStorage,
+			JwtUserCache jwtUserCache,
+			ConversationSummaryCache conversationSummaryCache,
+			TypeaheadSearchCache typeaheadSearchCache,
+			UserSearchRateLimiter userSearchRateLimiter) {
 		this.userRepository = userRepository;
 		this.userMapper = userMapper;
-		this.jwtUtil = jwtUtil;
+		this.jwtPrincipalResolver = jwtPrincipalResolver;
 		this.passwordEncoder = passwordEncoder;
 		this.authenticationManager = authenticationManager;
 		this.fileStorage = fileStorage;
+		this.jwtUserCache = jwtUserCache;
+		this.conversationSummaryCache = conversationSummaryCache;
+		this.typeaheadSearchCache = typeaheadSearchCache;
+		this.userSearchRateLimiter = userSearchRateLimiter;
 	}
 
 	@Override
@@ -71,7 +90,8 @@ public class UserServiceImpl implements UserService {
 		}
 		user.setPassword(passwordEncoder.encode(user.getPassword()));
 		User registeredUser = save(user);
-		String jwtToken = jwtUtil.generateToken(registeredUser.getEmail());
+		jwtUserCache.invalidate(registeredUser.getEmail());
+		String jwtToken = jwtPrincipalResolver.issueToken(registeredUser);
 		return userMapper.toDto(registeredUser, jwtToken);
 	}
 
@@ -93,7 +113,7 @@ public class UserServiceImpl implements UserService {
 			throw new InvalidCredentialsException("Invalid credentials");
 		}
 
-		return userMapper.toDto(user, jwtUtil.generateToken(loginDto.email()));
+		return userMapper.toDto(user, jwtPrincipalResolver.issueToken(user));
 	}
 
 	@Override
@@ -110,11 +130,32 @@ public class UserServiceImpl implements UserService {
 			return List.of();
 		}
 
-		List<User> users = userRepository.searchUsers(query.trim(), excludeUserId);
+		List<User> users =
+				userRepository.searchUsers(query.trim(), excludeUserId, MAX_SEARCH_RESULTS);
 
 		return users.stream().map(userMapper::toDto).toList();
 	}
 
+	@Override
+	public List<UserDto> typeaheadSearchUsers(String query, UUID currentUserId) {
+		if (query == null || query.isBlank()) {
+			return List.of();
+		}
+		if (!userSearchRateLimiter.tryAcquire(currentUserId)) {
+			throw new TooManyRequestsException("Too many search requests, slow down");
+		}
+
+		String trimmed = query.trim();
+		return typeaheadSearchCache
+				.narrow(currentUserId, trimmed, MAX_SEARCH_RESULTS)
+				.orElseGet(
+						() -> {
+							List<UserDto> results = searchUsers(trimmed, currentUserId);
+							typeaheadSearchCache.store(currentUserId, trimmed, results);
+							return results;
+						});
+	}
+
 	@Override
 	public Boolean existsById(UUID id) {
 		return userRepository.existsById(id);
@@ -145,12 +186,19 @@ public class UserServiceImpl implements UserService {
 		if (updated) {
 			user.setUpdatedAt(LocalDateTime.now());
 			User savedUser = userRepository.save(user);
+			jwtUserCache.invalidate(savedUser.getEmail());
+			conversationSummaryCache.invalidateParticipant(userId);
 			return userMapper.toDto(savedUser);
 		} else {
 			return userMapper.toDto(user);
 		}
 	}
 
+	@Override
+	public void revokeTokens(UUID userId) {
+		jwtPrincipalResolver.revokeTokens(userId);
+	}
+
 	@Override
 	public UserDto updateProfilePicture(UUID userId, MultipartFile profilePicture) {
 		User user =
@@ -167,6 +215,7 @@ public class UserServiceImpl implements UserService {
 			user.setProfilePicture(filename);
 			user.setUpdatedAt(LocalDateTime.now());
 			User savedUser = userRepository.save(user);
+			conversationSummaryCache.invalidateParticipant(userId);
 			return userMapper.toDto(savedUser);
 		} catch (IOException ex) {
 			throw new RuntimeException(
@@ -0,0 +1,88 @@
+/*
+ * WhatsApp Clone - Backend Service
+ * Copyright (c) 2025
+ */
+package com.ah.whatsapp.util;
+
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Component;
+
+import com.ah.whatsapp.cache.TokenVersionRegistry;
+import com.ah.whatsapp.exception.UnauthorizedException;
+import com.ah.whatsapp.model.JwtUser;
+import com.ah.whatsapp.model.User;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * Issues tokens and turns verified claims back into a {@link JwtUser}.
+ *
+ * <p>Tokens carry the user id and token version. With {@code jwt.stateless-principal.enabled} set,
+ * the principal is built from those claims alone, without reading the users table. Tokens that
+ * lack the claims, or any token when the mode is off, are resolved through the {@link
+ * UserDetailsService}. A token whose version is older than the user's current version is rejected
+ * in both modes; a token without a version claim counts as version zero, so it is rejected once the
+ * user has revoked their tokens.
+ */
+@Component
+public class JwtPrincipalResolver {
+
+	private final JwtUtil jwtUtil;
+	private final UserDetailsService userDetailsService;
+	private final TokenVersionRegistry tokenVersionRegistry;
+	private final boolean statelessPrincipal;
+
+	public JwtPrincipalResolver(
+			JwtUtil jwtUtil,
+			UserDetailsService userDetailsService,
+			TokenVersionRegistry tokenVersionRegistry,
+			@Value("${jwt.stateless-principal.enabled}") boolean statelessPrincipal) {
+		this.jwtUtil = jwtUtil;
+		this.userDetailsService = userDetailsService;
+		this.tokenVersionRegistry = tokenVersionRegistry;
+		this.statelessPrincipal = statelessPrincipal;
+	}
+
+	public String issueToken(User user) {
+		return jwtUtil.generateToken(
+				user.getEmail(), user.getId(), tokenVersionRegistry.currentVersion(user.getId()));
+	}
+
+	/**
+	 * Returns the principal for the verified claims, or null if the user no longer exists.
+	 *
+	 * @throws UnauthorizedException if the token has been revoked
+	 */
+	public JwtUser resolve(Claims claims) {
+		String userIdClaim = claims.get(JwtUtil.USER_ID_CLAIM, String.class);
+		Integer tokenVersion = claims.get(JwtUtil.TOKEN_VERSION_CLAIM, Integer.class);
+		int version = tokenVersion != null ? tokenVersion : 0;
+
+		if (userIdClaim != null) {
+			UUID userId = UUID.fromString(userIdClaim);
+			checkNotRevoked(userId, version);
+			if (statelessPrincipal && tokenVersion != null) {
+				return new JwtUser(claims.getSubject(), userId, null);
+			}
+		}
+		JwtUser user = (JwtUser) userDetailsService.loadUserByUsername(claims.getSubject());
+		if (userIdClaim == null && user != null) {
+			checkNotRevoked(user.getUserId(), version);
+		}
+		return user;
+	}
+
+	private void checkNotRevoked(UUID userId, int tokenVersion) {
+		if (!tokenVersionRegistry.isCurrent(userId, tokenVersion)) {
+			throw new UnauthorizedException("Token has been revoked");
+		}
+	}
+
+	/** Revokes every token issued so far for the user. */
+	public void revokeTokens(UUID userId) {
+		tokenVersionRegistry.revoke(userId);
+	}
+}
@@ -4,8 +4,13 @@
  */
 package com.ah.whatsapp.util;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
+import java.util.HexFormat;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Function;
 
@@ -14,7 +19,13 @@ import javax.crypto.SecretKey;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -22,37 +33,75 @@ import io.jsonwebtoken.security.Keys;
 @Component
 public class JwtUtil {
 
-	@Value("${jwt.secret}")
-	private String secret;
+	public static final String USER_ID_CLAIM = "uid";
+	public static final String TOKEN_VERSION_CLAIM = "ver";
+
+	private final SecretKey key;
+	private final JwtParser parser;
+	private final Long expiration;
+
+	/**
+	 * Recently verified tokens, keyed by the SHA-256 digest of the compact token so raw bearer
+	 * tokens are never held in memory. Each entry lives until the token's own expiry.
+	 */
+	private final Cache<String, Claims> verifiedClaims;
 
-	@Value("${jwt.expiration}")
-	private Long expiration;
+	public JwtUtil(
+			@Value("${jwt.secret}") String secret,
+			@Value("${jwt.expiration}") Long expiration,
+			@Value("${jwt.verified-cache.max-size}") long verifiedCacheMaxSize) {
+		this.key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+		this.parser = Jwts.parser().verifyWith(key).build();
+		this.expiration = expiration;
+		this.verifiedClaims =
+				Caffeine.newBuilder()
+						.maximumSize(verifiedCacheMaxSize)
+						.expireAfter(new UntilTokenExpiry())
+						.build();
+	}
 
 	public String generateToken(String email) {
 		return createToken(Map.of(), email);
 	}
 
+	/**
+	 * Generates a token that also carries the user id and token version as signed claims, so
+	 * the principal can be rebuilt from the token alone.
+	 */
+	public String generateToken(String email, UUID userId, int tokenVersion) {
+		return createToken(
+				Map.of(USER_ID_CLAIM, userId.toString(), TOKEN_VERSION_CLAIM, tokenVersion), email);
+	}
+
 	private String createToken(Map<String, Object> claims, String subject) {
 		return Jwts.builder()
 				.claims(claims)
 				.subject(subject)
 				.issuedAt(new Date(System.currentTimeMillis()))
 				.expiration(new Date(System.currentTimeMillis() + expiration * 1000))
-				.signWith(getKey())
+				.signWith(key)
 				.id(UUID.randomUUID().toString())
 				.compact();
 	}
 
-	public Boolean validateToken(String token) {
+	/**
+	 * Verifies the token's signature, expiry and structure once and returns its claims, or empty
+	 * if the token is not valid. Callers should use this instead of {@link #validateToken}
+	 * followed by {@link #extractEmail}, which would verify the token twice.
+	 */
+	public Optional<Claims> verifiedClaims(String token) {
 		try {
-			// This will validate signature, expiration, and structure
-			extractAllClaims(token);
-			return true;
-		} catch (Exception e) {
-			return false;
+			return Optional.of(extractAllClaims(token));
+		} catch (JwtException | IllegalArgumentException e) {
+			return Optional.empty();
 		}
 	}
 
+	public Boolean validateToken(String token) {
+		// This will validate signature, expiration, and structure
+		return verifiedClaims(token).isPresent();
+	}
+
 	public String extractEmail(String token) {
 		return extractClaim(token, Claims::getSubject);
 	}
@@ -63,14 +112,54 @@ public class JwtUtil {
 	}
 
 	private Claims extractAllClaims(String token) {
-		return Jwts.parser().verifyWith(getKey()).build().parseSignedClaims(token).getPayload();
+		if (token == null || token.isBlank()) {
+			throw new IllegalArgumentException("Token must not be empty");
+		}
+		String digest = digest(token);
+		Claims cached = verifiedClaims.getIfPresent(digest);
+		if (cached != null) {
+			return cached;
+		}
+		Claims claims = parser.parseSignedClaims(token).getPayload();
+		verifiedClaims.put(digest, claims);
+		return claims;
 	}
 
 	public Date extractExpiration(String token) {
 		return extractClaim(token, Claims::getExpiration);
 	}
 
-	private SecretKey getKey() {
-		return Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+	private static String digest(String token) {
+		try {
+			MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+			return HexFormat.of()
+					.formatHex(sha256.digest(token.getBytes(StandardCharsets.US_ASCII)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not available", e);
+		}
+	}
+
+	private static final class UntilTokenExpiry implements Expiry<String, Claims> {
+		@Override
+		public long expireAfterCreate(String digest, Claims claims, long currentTime) {
+			Date expiresAt = claims.getExpiration();
+			if (expiresAt == null) {
+				return 0;
+			}
+			long remainingMillis = expiresAt.getTime() - System.currentTimeMillis();
+			return Math.max(0, remainingMillis) * 1_000_000;
+		}
+
+		@Override
+		public long expireAfterUpdate(
+				String digest, Claims claims, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+
+		@Override
+		public long expireAfterRead(
+				String digest, Claims claims, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
 	}
 }
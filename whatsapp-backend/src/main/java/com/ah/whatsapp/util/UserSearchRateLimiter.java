@@ -0,0 +1,81 @@
+/*
+ * WhatsApp Clone - Backend Service
+ * Copyright (c) 2025
+ */
+package com.ah.whatsapp.util;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Per-user token bucket for typeahead searches. Each user may issue {@code burst} searches at once
+ * and then {@code rate} per second. Buckets of users who stop searching are dropped after a
+ * minute, which is long enough for any bucket to have refilled.
+ */
+@Component
+public class UserSearchRateLimiter {
+	static final String THROTTLED_METRIC = "user.search.throttled";
+
+	private static final Duration IDLE_TIMEOUT = Duration.ofMinutes(1);
+	private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+	private final double permitsPerNano;
+	private final double burst;
+	private final Cache<UUID, Bucket> buckets;
+	private final Counter throttled;
+
+	public UserSearchRateLimiter(
+			@Value("${app.user-search.typeahead.rate}") double rate,
+			@Value("${app.user-search.typeahead.burst}") int burst,
+			MeterRegistry meterRegistry) {
+		this.permitsPerNano = rate / NANOS_PER_SECOND;
+		this.burst = burst;
+		this.buckets = Caffeine.newBuilder().expireAfterAccess(IDLE_TIMEOUT).build();
+		this.throttled =
+				Counter.builder(THROTTLED_METRIC)
+						.description("Typeahead searches rejected by the per-user rate limit")
+						.register(meterRegistry);
+	}
+
+	/** Takes one permit from the user's bucket, returning false when it is empty. */
+	public boolean tryAcquire(UUID userId) {
+		return tryAcquire(userId, System.nanoTime());
+	}
+
+	boolean tryAcquire(UUID userId, long nowNanos) {
+		boolean acquired = buckets.get(userId, id -> new Bucket(burst, nowNanos)).take(nowNanos);
+		if (!acquired) {
+			throttled.increment();
+		}
+		return acquired;
+	}
+
+	private final class Bucket {
+		private double tokens;
+		private long refilledAt;
+
+		private Bucket(double tokens, long refilledAt) {
+			this.tokens = tokens;
+			this.refilledAt = refilledAt;
+		}
+
+		private synchronized boolean take(long nowNanos) {
+			tokens = Math.min(burst, tokens + (nowNanos - refilledAt) * permitsPerNano);
+			refilledAt = nowNanos;
+			if (tokens < 1) {
+				return false;
+			}
+			tokens--;
+			return true;
+		}
+	}
+}
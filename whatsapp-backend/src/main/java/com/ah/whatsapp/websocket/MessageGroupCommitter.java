@@ -0,0 +1,225 @@
+/*
+ * WhatsApp Clone - Backend Service
+ * Copyright (c) 2025
+ */
+package com.ah.whatsapp.websocket;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import com.ah.whatsapp.dto.MessageDto;
+import com.ah.whatsapp.dto.SendMessageRequest;
+import com.ah.whatsapp.model.MessageSubmission;
+import com.ah.whatsapp.service.MessageService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Group commit for messages sent over STOMP. Instead of one transaction per message, sends are
+ * queued and a small pool of writers stores them in micro-batches: a batch closes when it holds
+ * {@code max-batch} messages or {@code max-delay} after its first message arrived, and is written
+ * and committed as one {@link MessageService#sendMessages(List)} call. Each conversation hashes
+ * onto one writer, so its messages are committed in the order they arrived.
+ *
+ * <p>Every send gets its own future, completed once its batch has committed. A batch rolls back as
+ * a whole, so when one send in it is rejected the writer retries the others one by one and only
+ * the rejected send fails. Writers are platform threads; a full queue makes the sending thread
+ * wait, which pushes back on the STOMP inbound channel.
+ */
+@Slf4j
+@Component
+public class MessageGroupCommitter implements SmartLifecycle {
+	static final String COMMITS_METRIC = "messages.group-commit.commits";
+	static final String BATCH_SIZE_METRIC = "messages.group-commit.batch.size";
+
+	private static final Duration IDLE_POLL = Duration.ofMillis(200);
+
+	private final MessageService messageService;
+	private final boolean enabled;
+	private final int maxBatch;
+	private final Duration maxDelay;
+	private final List<BlockingQueue<PendingSend>> queues;
+	private final List<Thread> writers = new ArrayList<>();
+	private final Counter commits;
+	private final DistributionSummary batchSizes;
+
+	private volatile boolean running;
+
+	public MessageGroupCommitter(
+			MessageService messageService,
+			@Value("${app.messages.group-commit.enabled}") boolean enabled,
+			@Value("${app.messages.group-commit.writers}") int writerCount,
+			@Value("${app.messages.group-commit.max-batch}") int maxBatch,
+			@Value("${app.messages.group-commit.max-delay}") Duration maxDelay,
+			@Value("${app.messages.group-commit.queue-capacity}") int queueCapacity,
+			MeterRegistry meterRegistry) {
+		this.messageService = messageService;
+		this.enabled = enabled;
+		this.maxBatch = maxBatch;
+		this.maxDelay = maxDelay;
+		this.queues = new ArrayList<>(writerCount);
+		for (int i = 0; i < writerCount; i++) {
+			queues.add(new ArrayBlockingQueue<>(queueCapacity));
+		}
+		this.commits =
+				Counter.builder(COMMITS_METRIC)
+						.description("Transactions committed by the message writers")
+						.register(meterRegistry);
+		this.batchSizes =
+				DistributionSummary.builder(BATCH_SIZE_METRIC)
+						.description("Messages written per group commit")
+						.register(meterRegistry);
+	}
+
+	/** Whether STOMP sends should be queued here rather than sent one transaction at a time. */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Queues a message for the next batch of its conversation's writer. The future completes with
+	 * the stored message once it is committed, or fails with the exception a direct send would
+	 * have thrown.
+	 */
+	public CompletableFuture<MessageDto> submit(SendMessageRequest request, UUID senderId) {
+		if (!running) {
+			return CompletableFuture.failedFuture(
+					new IllegalStateException("Message group commit is not running"));
+		}
+		PendingSend pending =
+				new PendingSend(
+						new MessageSubmission(request, senderId), new CompletableFuture<>());
+		try {
+			queues.get(Math.floorMod(request.conversationId().hashCode(), queues.size()))
+					.put(pending);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			pending.future().completeExceptionally(e);
+		}
+		return pending.future();
+	}
+
+	/** Collects one batch after another from the queue and writes each in one transaction. */
+	private void write(BlockingQueue<PendingSend> queue) {
+		List<PendingSend> batch = new ArrayList<>(maxBatch);
+		try {
+			// Sends queued before a stop are still written
+			while (running || !queue.isEmpty()) {
+				PendingSend first = queue.poll(IDLE_POLL.toNanos(), TimeUnit.NANOSECONDS);
+				if (first == null) {
+					continue;
+				}
+				batch.add(first);
+				long deadline = System.nanoTime() + maxDelay.toNanos();
+				while (batch.size() < maxBatch) {
+					if (queue.drainTo(batch, maxBatch - batch.size()) > 0) {
+						continue;
+					}
+					PendingSend next =
+							queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+					if (next == null) {
+						break;
+					}
+					batch.add(next);
+				}
+				flush(batch);
+				batch.clear();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			batch.forEach(pending -> pending.future().completeExceptionally(e));
+		}
+	}
+
+	private void flush(List<PendingSend> batch) {
+		batchSizes.record(batch.size());
+		List<MessageDto> sent;
+		try {
+			sent =
+					messageService.sendMessages(
+							batch.stream().map(PendingSend::submission).toList());
+		} catch (RuntimeException e) {
+			if (batch.size() == 1) {
+				batch.getFirst().future().completeExceptionally(e);
+				return;
+			}
+			log.debug(
+					"Group commit of {} messages failed, sending them one by one", batch.size(), e);
+			batch.forEach(this::flushAlone);
+			return;
+		}
+		commits.increment();
+		for (int i = 0; i < batch.size(); i++) {
+			batch.get(i).future().complete(sent.get(i));
+		}
+	}
+
+	private void flushAlone(PendingSend pending) {
+		try {
+			MessageDto sent = messageService.sendMessages(List.of(pending.submission())).getFirst();
+			commits.increment();
+			pending.future().complete(sent);
+		} catch (RuntimeException e) {
+			pending.future().completeExceptionally(e);
+		}
+	}
+
+	@Override
+	public void start() {
+		if (!enabled) {
+			return;
+		}
+		running = true;
+		for (int i = 0; i < queues.size(); i++) {
+			BlockingQueue<PendingSend> queue = queues.get(i);
+			writers.add(
+					Thread.ofPlatform()
+							.name("message-writer-" + i)
+							.daemon()
+							.start(() -> write(queue)));
+		}
+	}
+
+	/** Stops accepting sends and waits for the writers to commit what is already queued. */
+	@Override
+	public void stop() {
+		running = false;
+		for (Thread writer : writers) {
+			try {
+				writer.join(IDLE_POLL.toMillis() + 10_000);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+		writers.clear();
+		// Sends that slipped in as the writers finished
+		List<PendingSend> leftover = new ArrayList<>();
+		queues.forEach(queue -> queue.drainTo(leftover));
+		leftover.forEach(
+				pending ->
+						pending.future()
+								.completeExceptionally(
+										new IllegalStateException("Message group commit stopped")));
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+
+	record PendingSend(MessageSubmission submission, CompletableFuture<MessageDto> future) {}
+}
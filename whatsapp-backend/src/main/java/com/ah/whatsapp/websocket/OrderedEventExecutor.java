@@ -0,0 +1,169 @@
+/*
+ * WhatsApp Clone - Backend Service
+ * Copyright (c) 2025
+ */
+package com.ah.whatsapp.websocket;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.DisposableBean;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bounded executor that runs tasks with the same key in submission order. Tasks are hashed by key
+ * onto a fixed set of single-threaded lanes, each with its own bounded queue, so events for one
+ * conversation are never reordered while different conversations run in parallel.
+ *
+ * <p>Publishes queue depth, end-to-end latency (queued plus running) and overflow counts tagged
+ * with the executor name. Lane threads are virtual when virtual threads are enabled, so a lane
+ * blocked on a slow subscriber does not hold a platform thread.
+ */
+@Slf4j
+public class OrderedEventExecutor implements DisposableBean {
+
+	static final String QUEUE_DEPTH_METRIC = "websocket.events.queue.depth";
+	static final String LATENCY_METRIC = "websocket.events.latency";
+	static final String OVERFLOW_METRIC = "websocket.events.overflow";
+
+	private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+	/** What to do when a lane's queue is full. */
+	public enum OverflowPolicy {
+		/** Discard the oldest queued task in the lane. Suitable for ephemeral events. */
+		DROP_OLDEST,
+		/**
+		 * Make the publishing thread wait for room in the lane. This is the order-preserving form
+		 * of caller-runs: the publisher absorbs the backpressure without overtaking queued tasks.
+		 */
+		CALLER_WAITS
+	}
+
+	private final String name;
+	private final ThreadPoolExecutor[] lanes;
+	private final Timer latency;
+	private final Counter overflow;
+
+	public OrderedEventExecutor(
+			String name,
+			int laneCount,
+			int queueCapacity,
+			OverflowPolicy overflowPolicy,
+			MeterRegistry meterRegistry) {
+		this(name, laneCount, queueCapacity, overflowPolicy, meterRegistry, false);
+	}
+
+	public OrderedEventExecutor(
+			String name,
+			int laneCount,
+			int queueCapacity,
+			OverflowPolicy overflowPolicy,
+			MeterRegistry meterRegistry,
+			boolean virtualThreads) {
+		this.name = name;
+		this.latency = Timer.builder(LATENCY_METRIC).tag("executor", name).register(meterRegistry);
+		this.overflow =
+				Counter.builder(OVERFLOW_METRIC)
+						.tag("executor", name)
+						.tag("policy", overflowPolicy.name().toLowerCase())
+						.register(meterRegistry);
+		this.lanes = new ThreadPoolExecutor[laneCount];
+		for (int i = 0; i < laneCount; i++) {
+			lanes[i] =
+					new ThreadPoolExecutor(
+							1,
+							1,
+							0L,
+							TimeUnit.MILLISECONDS,
+							new ArrayBlockingQueue<>(queueCapacity),
+							laneThreadFactory("ws-" + name + "-" + i, virtualThreads),
+							rejectionHandler(overflowPolicy));
+		}
+		Gauge.builder(QUEUE_DEPTH_METRIC, this, OrderedEventExecutor::queueDepth)
+				.tag("executor", name)
+				.register(meterRegistry);
+	}
+
+	/** Runs the task after every task previously submitted with an equal key. */
+	public void execute(Object key, Runnable task) {
+		long queuedAt = System.nanoTime();
+		lanes[Math.floorMod(Objects.hashCode(key), lanes.length)].execute(
+				() -> {
+					try {
+						task.run();
+					} catch (RuntimeException e) {
+						log.error("Event task failed on executor {}", name, e);
+					} finally {
+						latency.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+					}
+				});
+	}
+
+	public int queueDepth() {
+		return Arrays.stream(lanes).mapToInt(lane -> lane.getQueue().size()).sum();
+	}
+
+	/** Stops accepting tasks and waits for queued tasks to finish. */
+	@Override
+	public void destroy() throws InterruptedException {
+		for (ThreadPoolExecutor lane : lanes) {
+			lane.shutdown();
+		}
+		for (ThreadPoolExecutor lane : lanes) {
+			if (!lane.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+				log.warn("Executor {} did not drain within {}s", name, SHUTDOWN_TIMEOUT_SECONDS);
+				lane.shutdownNow();
+			}
+		}
+	}
+
+	private RejectedExecutionHandler rejectionHandler(OverflowPolicy overflowPolicy) {
+		return switch (overflowPolicy) {
+			case DROP_OLDEST ->
+					(task, lane) -> {
+						if (!lane.isShutdown()) {
+							overflow.increment();
+							lane.getQueue().poll();
+							lane.execute(task);
+						}
+					};
+			case CALLER_WAITS ->
+					(task, lane) -> {
+						if (lane.isShutdown()) {
+							throw new RejectedExecutionException(
+									"Executor " + name + " is shut down");
+						}
+						overflow.increment();
+						try {
+							lane.getQueue().put(task);
+						} catch (InterruptedException e) {
+							Thread.currentThread().interrupt();
+							throw new RejectedExecutionException(
+									"Interrupted while waiting for executor " + name, e);
+						}
+					};
+		};
+	}
+
+	private static ThreadFactory laneThreadFactory(String threadName, boolean virtualThreads) {
+		if (virtualThreads) {
+			return Thread.ofVirtual().name(threadName).factory();
+		}
+		return runnable -> {
+			Thread thread = new Thread(runnable, threadName);
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+}
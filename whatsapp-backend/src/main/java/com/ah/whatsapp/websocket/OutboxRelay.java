@@ -0,0 +1,168 @@
+/*
+ * WhatsApp Clone - Backend Service
+ * Copyright (c) 2025
+ */
+package com.ah.whatsapp.websocket;
+
+import static com.ah.whatsapp.constant.WebSocketConstants.CONVERSATION_TOPIC_TEMPLATE;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.ah.whatsapp.dto.WebSocketEvent;
+import com.ah.whatsapp.event.MessageDeletedEvent;
+import com.ah.whatsapp.event.NewMessageEvent;
+import com.ah.whatsapp.model.OutboxEvent;
+import com.ah.whatsapp.repository.OutboxRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Broadcasts message events from the outbox to their conversation topics. Each batch is claimed
+ * with {@code for update}, sent event by event in outbox order and deleted in one transaction, so
+ * an event is only removed once it has been handed to the broker. Relays on several nodes take
+ * turns: a claim waits for the batch another relay holds and then skips the events it deleted, so
+ * batches never overlap and each conversation's events go out in order.
+ *
+ * <p>A failure before the commit sends the batch again, so delivery is at least once. Repeats are
+ * harmless to the web client, which keeps messages by id and treats deletes as idempotent; frames
+ * also carry the {@link WebSocketEvent#getEventSeq() event sequence}, the same for a repeat.
+ *
+ * <p>The worker wakes as soon as a message transaction on this node commits, and otherwise polls
+ * for events committed on other nodes or left behind by a crash.
+ */
+@Slf4j
+@Component
+public class OutboxRelay implements SmartLifecycle {
+	static final String RELAYED_METRIC = "outbox.events.relayed";
+
+	private final OutboxRepository outboxRepository;
+	private final SimpMessagingTemplate messagingTemplate;
+	private final ObjectMapper objectMapper;
+	private final TransactionTemplate transactionTemplate;
+	private final int batchSize;
+	private final Duration pollInterval;
+	private final Counter relayed;
+	private final Semaphore wakeUps = new Semaphore(0);
+
+	private volatile boolean running;
+	private Thread worker;
+
+	public OutboxRelay(
+			OutboxRepository outboxRepository,
+			SimpMessagingTemplate messagingTemplate,
+			ObjectMapper objectMapper,
+			PlatformTransactionManager transactionManager,
+			@Value("${app.outbox.batch-size}") int batchSize,
+			@Value("${app.outbox.poll-interval}") Duration pollInterval,
+			MeterRegistry meterRegistry) {
+		this.outboxRepository = outboxRepository;
+		this.messagingTemplate = messagingTemplate;
+		this.objectMapper = objectMapper;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.batchSize = batchSize;
+		this.pollInterval = pollInterval;
+		this.relayed =
+				Counter.builder(RELAYED_METRIC)
+						.description("Message events broadcast from the outbox")
+						.register(meterRegistry);
+	}
+
+	@TransactionalEventListener
+	public void onNewMessage(NewMessageEvent event) {
+		wakeUps.release();
+	}
+
+	@TransactionalEventListener
+	public void onMessageDeleted(MessageDeletedEvent event) {
+		wakeUps.release();
+	}
+
+	/** Broadcasts and removes one batch of events, returning how many were sent. */
+	int relayBatch() {
+		int sent =
+				transactionTemplate.execute(
+						status -> {
+							List<OutboxEvent> batch = outboxRepository.lockNextBatch(batchSize);
+							batch.forEach(this::send);
+							outboxRepository.deleteAll(batch);
+							return batch.size();
+						});
+		relayed.increment(sent);
+		return sent;
+	}
+
+	private void send(OutboxEvent event) {
+		messagingTemplate.convertAndSend(
+				String.format(CONVERSATION_TOPIC_TEMPLATE, event.conversationId()),
+				new WebSocketEvent<>(event.type(), readPayload(event), event.seq()));
+	}
+
+	private JsonNode readPayload(OutboxEvent event) {
+		try {
+			return objectMapper.readTree(event.payload());
+		} catch (JsonProcessingException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private void run() {
+		while (running) {
+			try {
+				if (relayBatch() == batchSize) {
+					// A full batch means more events are probably waiting
+					continue;
+				}
+			} catch (RuntimeException e) {
+				log.error("Outbox relay failed, retrying in {}", pollInterval, e);
+			}
+			try {
+				wakeUps.tryAcquire(pollInterval.toNanos(), TimeUnit.NANOSECONDS);
+				// Everything committed before these wake-ups is picked up by the next batch
+				wakeUps.drainPermits();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+
+	@Override
+	public void start() {
+		running = true;
+		worker = Thread.ofPlatform().name("outbox-relay").daemon().start(this::run);
+	}
+
+	/** Lets the batch in flight finish so its events are not sent twice. */
+	@Override
+	public void stop() {
+		running = false;
+		wakeUps.release();
+		try {
+			worker.join(pollInterval.toMillis() + 5_000);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+}
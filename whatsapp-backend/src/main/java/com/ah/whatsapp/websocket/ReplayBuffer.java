@@ -0,0 +1,201 @@
+/*
+ * WhatsApp Clone - Backend Service
+ * Copyright (c) 2025
+ */
+package com.ah.whatsapp.websocket;
+
+import static com.ah.whatsapp.constant.WebSocketConstants.CONVERSATION_QUEUE;
+import static com.ah.whatsapp.constant.WebSocketConstants.CONVERSATION_TOPIC_TEMPLATE;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Recent conversation events kept per destination, so a client that reconnects can be sent what
+ * it missed instead of reloading everything. Each conversation topic and each user's conversation
+ * queue has its own lane of at most {@code capacity} frames; lanes that sit idle are dropped.
+ *
+ * <p>Event ids increase across all destinations and across restarts: they start from the clock,
+ * in microseconds, or after the newest frame restored from disk. Every lane knows the id below
+ * which it may have lost frames, to capacity, idle eviction or a restart, and refuses to replay
+ * from before it, so a replay is either complete or not given at all.
+ */
+@Slf4j
+@Component
+public class ReplayBuffer implements AutoCloseable {
+	private static final List<String> REPLAYED_DESTINATIONS =
+			List.of(
+					String.format(CONVERSATION_TOPIC_TEMPLATE, "*"),
+					"/user/*" + CONVERSATION_QUEUE);
+
+	private final int capacity;
+	private final Cache<String, Lane> lanes;
+	private final ReplayRing ring;
+	private final PathMatcher pathMatcher = new AntPathMatcher();
+	private final AtomicLong nextId;
+	private final AtomicLong evictedFloor;
+
+	public ReplayBuffer(
+			@Value("${app.websocket.replay.capacity}") int capacity,
+			@Value("${app.websocket.replay.max-destinations}") long maxDestinations,
+			@Value("${app.websocket.replay.idle-timeout}") Duration idleTimeout,
+			@Value("${app.websocket.replay.disk.path}") String diskPath,
+			@Value("${app.websocket.replay.disk.slots}") int diskSlots,
+			@Value("${app.websocket.replay.disk.slot-size}") DataSize diskSlotSize) {
+		this.capacity = capacity;
+		this.lanes =
+				Caffeine.newBuilder()
+						.maximumSize(maxDestinations)
+						.expireAfterAccess(idleTimeout)
+						.<String, Lane>evictionListener(
+								(destination, lane, cause) -> {
+									if (lane != null) {
+										raiseEvictedFloor(lane.lastId());
+									}
+								})
+						.build();
+
+		long clockId = System.currentTimeMillis() * 1000;
+		List<ReplayFrame> restored = List.of();
+		try {
+			this.ring =
+					StringUtils.hasText(diskPath)
+							? new ReplayRing(
+									Path.of(diskPath), diskSlots, (int) diskSlotSize.toBytes())
+							: null;
+			if (ring != null) {
+				restored = ring.readAll();
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+
+		if (restored.isEmpty()) {
+			this.nextId = new AtomicLong(clockId);
+			this.evictedFloor = new AtomicLong(clockId - 1);
+		} else {
+			// Anything older than the oldest restored frame may have been overwritten
+			this.nextId = new AtomicLong(Math.max(clockId, restored.getLast().id() + 1));
+			this.evictedFloor = new AtomicLong(restored.getFirst().id() - 1);
+			restored.forEach(
+					frame -> {
+						if (frame.payload() == null) {
+							// Too large for the ring: its destination cannot replay past it
+							lane(frame.destination()).raiseFloor(frame.id());
+						} else {
+							lane(frame.destination()).add(frame);
+						}
+					});
+			log.info("Restored {} replay frames from {}", restored.size(), diskPath);
+		}
+	}
+
+	/** Whether events published to the destination are kept for replay. */
+	public boolean isReplayed(String destination) {
+		return destination != null
+				&& REPLAYED_DESTINATIONS.stream()
+						.anyMatch(pattern -> pathMatcher.match(pattern, destination));
+	}
+
+	/** Keeps the payload published to the destination and returns its new event id. */
+	public long record(String destination, byte[] payload) {
+		ReplayFrame frame = lane(destination).append(destination, payload);
+		if (ring != null) {
+			try {
+				if (!ring.append(frame)) {
+					log.warn(
+							"Replay frame {} for {} does not fit a disk slot",
+							frame.id(),
+							destination);
+				}
+			} catch (IOException e) {
+				// The frame is still replayable from memory until the next restart
+				log.warn("Could not write replay frame {} to disk", frame.id(), e);
+			}
+		}
+		return frame.id();
+	}
+
+	/**
+	 * Returns the frames published to the destination after the event id, oldest first, or empty
+	 * when frames after that id may have been lost and the client has to reload instead.
+	 */
+	public Optional<List<ReplayFrame>> since(String destination, long afterId) {
+		Lane lane = lanes.getIfPresent(destination);
+		if (lane == null) {
+			return afterId < evictedFloor.get() ? Optional.empty() : Optional.of(List.of());
+		}
+		return lane.since(afterId);
+	}
+
+	private Lane lane(String destination) {
+		return lanes.get(destination, key -> new Lane(evictedFloor.get()));
+	}
+
+	private void raiseEvictedFloor(long id) {
+		evictedFloor.accumulateAndGet(id, Math::max);
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (ring != null) {
+			ring.close();
+		}
+	}
+
+	/** The frames of one destination; ids are allocated under its lock so they stay in order. */
+	private final class Lane {
+		private final ArrayDeque<ReplayFrame> frames = new ArrayDeque<>();
+		private long floor;
+
+		private Lane(long floor) {
+			this.floor = floor;
+		}
+
+		synchronized ReplayFrame append(String destination, byte[] payload) {
+			ReplayFrame frame = new ReplayFrame(nextId.getAndIncrement(), destination, payload);
+			add(frame);
+			return frame;
+		}
+
+		synchronized void add(ReplayFrame frame) {
+			if (frames.size() >= capacity) {
+				floor = frames.removeFirst().id();
+			}
+			frames.addLast(frame);
+		}
+
+		synchronized void raiseFloor(long id) {
+			floor = Math.max(floor, id);
+		}
+
+		synchronized Optional<List<ReplayFrame>> since(long afterId) {
+			if (afterId < floor) {
+				return Optional.empty();
+			}
+			return Optional.of(frames.stream().filter(frame -> frame.id() > afterId).toList());
+		}
+
+		synchronized long lastId() {
+			return frames.isEmpty() ? floor : frames.getLast().id();
+		}
+	}
+}
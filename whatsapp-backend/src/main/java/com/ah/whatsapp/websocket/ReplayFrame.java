@@ -0,0 +1,11 @@
+/*
+ * WhatsApp Clone - Backend Service
+ * Copyright (c) 2025
+ */
+package com.ah.whatsapp.websocket;
+
+/**
+ * A broadcast frame kept for replay: the event id it was stamped with, the destination it was
+ * published to, and the serialized {@link com.ah.whatsapp.dto.WebSocketEvent WebSocketEvent}.
+ */
+record ReplayFrame(long id, String destination, byte[] payload) {}
@@ -0,0 +1,51 @@
+/*
+ * WhatsApp Clone - Backend Service
+ * Copyright (c) 2025
+ */
+package com.ah.whatsapp.websocket;
+
+import static com.ah.whatsapp.constant.WebSocketConstants.EVENT_ID_HEADER;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Records conversation events on their way to the broker and stamps each with its event id, which
+ * reaches clients as the {@value com.ah.whatsapp.constant.WebSocketConstants#EVENT_ID_HEADER}
+ * frame header. A user destination is recorded once, before it is resolved into the copies for
+ * each of the user's sessions; those copies carry the id already and pass through untouched.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReplayRecordingInterceptor implements ChannelInterceptor {
+
+	private final ReplayBuffer replayBuffer;
+
+	@Override
+	public Message<?> preSend(Message<?> message, MessageChannel channel) {
+		if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders())
+						!= SimpMessageType.MESSAGE
+				|| !(message.getPayload() instanceof byte[] payload)
+				|| SimpMessageHeaderAccessor.getFirstNativeHeader(
+								EVENT_ID_HEADER, message.getHeaders())
+						!= null) {
+			return message;
+		}
+		String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+		if (!replayBuffer.isReplayed(destination)) {
+			return message;
+		}
+
+		long eventId = replayBuffer.record(destination, payload);
+		SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+		accessor.setNativeHeader(EVENT_ID_HEADER, Long.toString(eventId));
+		return MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+	}
+}
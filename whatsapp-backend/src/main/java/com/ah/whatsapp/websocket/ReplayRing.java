@@ -0,0 +1,128 @@
+/*
+ * WhatsApp Clone - Backend Service
+ * Copyright (c) 2025
+ */
+package com.ah.whatsapp.websocket;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Fixed-size file of replay frames, overwritten oldest first, that lets the replay buffer survive a
+ * restart. The file holds {@code slots} records of {@code slotSize} bytes each: the event id (zero
+ * for an empty slot), the destination and payload lengths, then both byte strings. A frame too
+ * large for a slot is stored without its payload, so after a restart its destination knows it
+ * cannot be replayed past that frame.
+ *
+ * <p>Writes go to the page cache without {@code fsync}, so a machine crash may lose the newest
+ * frames; clients then fall back to a full reload, exactly as if the frames had aged out.
+ */
+class ReplayRing implements AutoCloseable {
+	private static final int HEADER_BYTES = Long.BYTES + 2 * Integer.BYTES;
+
+	private final FileChannel file;
+	private final int slots;
+	private final int slotSize;
+	private final ByteBuffer slot;
+	private int next;
+
+	ReplayRing(Path path, int slots, int slotSize) throws IOException {
+		if (slotSize <= HEADER_BYTES) {
+			throw new IllegalArgumentException(
+					"Replay ring slots must be larger than their header");
+		}
+		if (path.getParent() != null) {
+			Files.createDirectories(path.getParent());
+		}
+		this.file =
+				FileChannel.open(
+						path,
+						StandardOpenOption.CREATE,
+						StandardOpenOption.READ,
+						StandardOpenOption.WRITE);
+		this.slots = slots;
+		this.slotSize = slotSize;
+		this.slot = ByteBuffer.allocate(slotSize);
+		long size = (long) slots * slotSize;
+		if (file.size() != size) {
+			// A ring written with another geometry cannot be read back; start empty
+			file.truncate(0);
+			file.write(ByteBuffer.allocate(1), size - 1);
+		}
+	}
+
+	/**
+	 * Reads every stored frame, oldest first, and continues writing after the newest one. Frames
+	 * that were too large to store come back with a null payload.
+	 */
+	synchronized List<ReplayFrame> readAll() throws IOException {
+		List<ReplayFrame> frames = new ArrayList<>();
+		long newestId = 0;
+		for (int index = 0; index < slots; index++) {
+			slot.clear();
+			file.read(slot, (long) index * slotSize);
+			slot.flip();
+			long id = slot.getLong();
+			int destinationLength = slot.getInt();
+			int payloadLength = slot.getInt();
+			if (id <= 0
+					|| destinationLength < 0
+					|| payloadLength < -1
+					|| destinationLength > slot.remaining() - Math.max(payloadLength, 0)) {
+				// Empty, or torn by a crash mid-write
+				continue;
+			}
+			byte[] destination = new byte[destinationLength];
+			slot.get(destination);
+			byte[] payload = payloadLength < 0 ? null : new byte[payloadLength];
+			if (payload != null) {
+				slot.get(payload);
+			}
+			frames.add(
+					new ReplayFrame(id, new String(destination, StandardCharsets.UTF_8), payload));
+			if (id > newestId) {
+				newestId = id;
+				next = (index + 1) % slots;
+			}
+		}
+		frames.sort(Comparator.comparingLong(ReplayFrame::id));
+		return frames;
+	}
+
+	/**
+	 * Stores the frame over the oldest slot, without its payload when the whole frame does not fit.
+	 * Returns false when not even the destination fits and nothing was stored.
+	 */
+	synchronized boolean append(ReplayFrame frame) throws IOException {
+		byte[] destination = frame.destination().getBytes(StandardCharsets.UTF_8);
+		if (HEADER_BYTES + destination.length > slotSize) {
+			return false;
+		}
+		boolean fits = HEADER_BYTES + destination.length + frame.payload().length <= slotSize;
+		slot.clear();
+		slot.putLong(frame.id())
+				.putInt(destination.length)
+				.putInt(fits ? frame.payload().length : -1)
+				.put(destination);
+		if (fits) {
+			slot.put(frame.payload());
+		}
+		slot.flip();
+		file.write(slot, (long) next * slotSize);
+		next = (next + 1) % slots;
+		return true;
+	}
+
+	@Override
+	public void close() throws IOException {
+		file.close();
+	}
+}
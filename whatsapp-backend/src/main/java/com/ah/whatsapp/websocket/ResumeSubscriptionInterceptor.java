@@ -0,0 +1,181 @@
+/*
+ * WhatsApp Clone - Backend Service
+ * Copyright (c) 2025
+ */
+package com.ah.whatsapp.websocket;
+
+import static com.ah.whatsapp.constant.WebSocketConstants.EVENT_ID_HEADER;
+import static com.ah.whatsapp.constant.WebSocketConstants.RESUME_AFTER_HEADER;
+
+import java.io.UncheckedIOException;
+import java.security.Principal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.broker.AbstractBrokerMessageHandler;
+import org.springframework.messaging.simp.user.UserDestinationMessageHandler;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import com.ah.whatsapp.dto.WebSocketEvent;
+import com.ah.whatsapp.enums.EventType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Replays missed events to a subscription that carries the {@value
+ * com.ah.whatsapp.constant.WebSocketConstants#RESUME_AFTER_HEADER} header with the last event id
+ * the client saw. The replay is sent once the broker has registered the subscription, so an event
+ * published meanwhile arrives live, replayed, or both, and clients drop repeats by event id. When
+ * the buffer cannot prove the replay complete, the subscription gets a single {@link
+ * EventType#RESYNC} event and the client reloads instead.
+ */
+@Slf4j
+@Component
+public class ResumeSubscriptionInterceptor implements ExecutorChannelInterceptor {
+	static final String REPLAYED_METRIC = "websocket.replay.frames";
+	static final String RESYNC_METRIC = "websocket.replay.resyncs";
+
+	private static final String USER_PREFIX = "/user";
+
+	private final ReplayBuffer replayBuffer;
+	private final MessageChannel clientOutboundChannel;
+	private final ObjectMapper objectMapper;
+	private final Counter replayed;
+	private final Counter resyncs;
+
+	public ResumeSubscriptionInterceptor(
+			ReplayBuffer replayBuffer,
+			// The outbound channel is built from the configuration this interceptor is part of
+			@Lazy @Qualifier("clientOutboundChannel") MessageChannel clientOutboundChannel,
+			ObjectMapper objectMapper,
+			MeterRegistry meterRegistry) {
+		this.replayBuffer = replayBuffer;
+		this.clientOutboundChannel = clientOutboundChannel;
+		this.objectMapper = objectMapper;
+		this.replayed =
+				Counter.builder(REPLAYED_METRIC)
+						.description("Buffered events replayed to resumed subscriptions")
+						.register(meterRegistry);
+		this.resyncs =
+				Counter.builder(RESYNC_METRIC)
+						.description("Resumed subscriptions told to reload instead")
+						.register(meterRegistry);
+	}
+
+	@Override
+	public void afterMessageHandled(
+			Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+		MessageHeaders headers = message.getHeaders();
+		if (ex != null
+				|| SimpMessageHeaderAccessor.getMessageType(headers) != SimpMessageType.SUBSCRIBE) {
+			return;
+		}
+		String resumeAfter =
+				SimpMessageHeaderAccessor.getFirstNativeHeader(RESUME_AFTER_HEADER, headers);
+		String destination = SimpMessageHeaderAccessor.getDestination(headers);
+		if (resumeAfter == null
+				|| destination == null
+				|| !registersSubscription(handler, destination)) {
+			return;
+		}
+
+		String recordedDestination =
+				recordedDestination(destination, SimpMessageHeaderAccessor.getUser(headers));
+		if (recordedDestination == null || !replayBuffer.isReplayed(recordedDestination)) {
+			return;
+		}
+
+		Optional<List<ReplayFrame>> frames =
+				parseEventId(resumeAfter)
+						.flatMap(afterId -> replayBuffer.since(recordedDestination, afterId));
+		if (frames.isPresent()) {
+			frames.get().forEach(frame -> send(headers, destination, frame.payload(), frame.id()));
+			replayed.increment(frames.get().size());
+		} else {
+			log.debug(
+					"Cannot replay {} after event {}, asking session {} to reload",
+					destination,
+					resumeAfter,
+					SimpMessageHeaderAccessor.getSessionId(headers));
+			send(headers, destination, resyncPayload(destination), null);
+			resyncs.increment();
+		}
+	}
+
+	/**
+	 * Whether the handler is the one that registers this subscription with the broker: user
+	 * destinations are resolved and registered by the user destination handler, the rest by the
+	 * broker itself.
+	 */
+	private static boolean registersSubscription(MessageHandler handler, String destination) {
+		return destination.startsWith(USER_PREFIX + "/")
+				? handler instanceof UserDestinationMessageHandler
+				: handler instanceof AbstractBrokerMessageHandler;
+	}
+
+	/**
+	 * Maps a subscribed destination to the one events are published to: "/user/queue/x" is
+	 * published to as "/user/{name}/queue/x".
+	 */
+	private static String recordedDestination(String destination, Principal user) {
+		if (!destination.startsWith(USER_PREFIX + "/")) {
+			return destination;
+		}
+		if (user == null) {
+			return null;
+		}
+		return USER_PREFIX
+				+ "/"
+				+ user.getName().replace("/", "%2F")
+				+ destination.substring(USER_PREFIX.length());
+	}
+
+	private static Optional<Long> parseEventId(String value) {
+		try {
+			return Optional.of(Long.parseLong(value.trim()));
+		} catch (NumberFormatException e) {
+			return Optional.empty();
+		}
+	}
+
+	private byte[] resyncPayload(String destination) {
+		try {
+			return objectMapper.writeValueAsBytes(
+					new WebSocketEvent<>(EventType.RESYNC, Map.of("destination", destination)));
+		} catch (JsonProcessingException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/** Sends a frame straight to the resuming subscription, the way the broker delivers one. */
+	private void send(MessageHeaders subscribe, String destination, byte[] payload, Long eventId) {
+		SimpMessageHeaderAccessor accessor =
+				SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+		accessor.setSessionId(SimpMessageHeaderAccessor.getSessionId(subscribe));
+		accessor.setSubscriptionId(SimpMessageHeaderAccessor.getSubscriptionId(subscribe));
+		accessor.setDestination(destination);
+		accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+		if (eventId != null) {
+			accessor.setNativeHeader(EVENT_ID_HEADER, eventId.toString());
+		}
+		accessor.setLeaveMutable(true);
+		clientOutboundChannel.send(
+				MessageBuilder.createMessage(payload, accessor.getMessageHeaders()));
+	}
+}
@@ -0,0 +1,44 @@
+/*
+ * WhatsApp Clone - Backend Service
+ * Copyright (c) 2025
+ */
+package com.ah.whatsapp.websocket;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Acknowledges a client frame that asked for a {@code receipt}. The brokers only answer receipts
+ * for frames they handle themselves, so application destinations confirm their work here, once it
+ * is committed.
+ */
+@Component
+public class StompReceiptSender {
+	private static final byte[] EMPTY_PAYLOAD = new byte[0];
+
+	private final MessageChannel clientOutboundChannel;
+
+	public StompReceiptSender(
+			// The outbound channel is built from the configuration that uses this sender
+			@Lazy @Qualifier("clientOutboundChannel") MessageChannel clientOutboundChannel) {
+		this.clientOutboundChannel = clientOutboundChannel;
+	}
+
+	/** Sends a RECEIPT for the frame, if it carries a {@code receipt} header. */
+	public void sendReceipt(StompHeaderAccessor frame) {
+		String receipt = frame.getReceipt();
+		if (receipt == null) {
+			return;
+		}
+		StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.RECEIPT);
+		accessor.setSessionId(frame.getSessionId());
+		accessor.setReceiptId(receipt);
+		clientOutboundChannel.send(
+				MessageBuilder.createMessage(EMPTY_PAYLOAD, accessor.getMessageHeaders()));
+	}
+}
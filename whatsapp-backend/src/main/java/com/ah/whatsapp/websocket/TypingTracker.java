@@ -0,0 +1,176 @@
+/*
+ * WhatsApp Clone - Backend Service
+ * Copyright (c) 2025
+ */
+package com.ah.whatsapp.websocket;
+
+import static com.ah.whatsapp.constant.WebSocketConstants.TYPING_INDICATOR_TOPIC;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.ah.whatsapp.configuration.WebSocketExecutorConfig;
+import com.ah.whatsapp.dto.TypingIndicatorDto;
+import com.ah.whatsapp.dto.TypingStateDto;
+import com.ah.whatsapp.dto.WebSocketEvent;
+import com.ah.whatsapp.enums.EventType;
+
+/**
+ * Tracks who is typing in each conversation and publishes at most one {@link
+ * EventType#TYPING_STATE} frame per conversation per tick. Repeated {@code TYPING_START} frames
+ * from a typist only extend their deadline, and a typist who sends nothing before the timeout is
+ * dropped as if they had sent {@code TYPING_STOP}. Traffic therefore follows changes in who is
+ * typing rather than keystrokes.
+ *
+ * <p>Frames carry only the typists who started or stopped, never the full list: in relay mode
+ * every node tracks just the sessions connected to it, and full lists from several nodes would
+ * overwrite each other on the shared topic. A typist who keeps typing is re-announced once per
+ * timeout, so clients can forget typists whose node went away without sending a stop.
+ */
+@Component
+public class TypingTracker {
+
+	private final SimpMessagingTemplate messagingTemplate;
+	private final OrderedEventExecutor typingEventExecutor;
+	private final long timeoutNanos;
+	private final Map<UUID, ConversationTyping> conversations = new ConcurrentHashMap<>();
+
+	public TypingTracker(
+			SimpMessagingTemplate messagingTemplate,
+			@Qualifier(WebSocketExecutorConfig.TYPING_EVENT_EXECUTOR) OrderedEventExecutor typingEventExecutor,
+			@Value("${app.typing.timeout}") Duration timeout) {
+		this.messagingTemplate = messagingTemplate;
+		this.typingEventExecutor = typingEventExecutor;
+		this.timeoutNanos = timeout.toNanos();
+	}
+
+	public void record(TypingIndicatorDto typingDto) {
+		record(typingDto, System.nanoTime());
+	}
+
+	void record(TypingIndicatorDto typingDto, long now) {
+		if (typingDto.getConversationId() == null || typingDto.getUserId() == null) {
+			return;
+		}
+		boolean typing = typingDto.getEventType() != EventType.TYPING_STOP;
+		conversations.compute(
+				typingDto.getConversationId(),
+				(conversationId, state) -> {
+					if (state == null) {
+						if (!typing) {
+							return null;
+						}
+						state = new ConversationTyping();
+					}
+					if (typing) {
+						state.start(typingDto.getUserId(), now + timeoutNanos);
+					} else {
+						state.stop(typingDto.getUserId());
+					}
+					return state;
+				});
+	}
+
+	/** Expires idle typists and publishes the typing state of every conversation that changed. */
+	@Scheduled(fixedRateString = "${app.typing.tick}")
+	public void flush() {
+		flush(System.nanoTime());
+	}
+
+	void flush(long now) {
+		for (UUID conversationId : conversations.keySet()) {
+			List<TypingStateDto> changed = new ArrayList<>(1);
+			conversations.computeIfPresent(
+					conversationId,
+					(id, state) -> {
+						state.expire(now);
+						state.reannounce(now, timeoutNanos);
+						if (!state.started.isEmpty() || !state.stopped.isEmpty()) {
+							changed.add(
+									new TypingStateDto(
+											id,
+											List.copyOf(state.started),
+											List.copyOf(state.stopped)));
+							state.announce(now);
+						}
+						return state.deadlines.isEmpty() ? null : state;
+					});
+			if (!changed.isEmpty()) {
+				publish(changed.get(0));
+			}
+		}
+	}
+
+	private void publish(TypingStateDto typingState) {
+		typingEventExecutor.execute(
+				typingState.conversationId(),
+				() ->
+						messagingTemplate.convertAndSend(
+								String.format(TYPING_INDICATOR_TOPIC, typingState.conversationId()),
+								new WebSocketEvent<>(EventType.TYPING_STATE, typingState)));
+	}
+
+	/** Typists of one conversation; only touched inside the map's compute functions. */
+	private static final class ConversationTyping {
+		private final Map<UUID, Long> deadlines = new LinkedHashMap<>();
+		// When each typist was last published as started; absent until their first frame
+		private final Map<UUID, Long> announcedAt = new HashMap<>();
+		private final Set<UUID> started = new LinkedHashSet<>();
+		private final Set<UUID> stopped = new LinkedHashSet<>();
+
+		void start(UUID userId, long deadline) {
+			if (deadlines.put(userId, deadline) == null) {
+				stopped.remove(userId);
+				started.add(userId);
+			}
+		}
+
+		void stop(UUID userId) {
+			if (deadlines.remove(userId) != null) {
+				started.remove(userId);
+				// Clients never heard of a typist who stopped before their first frame
+				if (announcedAt.remove(userId) != null) {
+					stopped.add(userId);
+				}
+			}
+		}
+
+		void expire(long now) {
+			List<UUID> expired =
+					deadlines.entrySet().stream()
+							.filter(entry -> entry.getValue() - now <= 0)
+							.map(Map.Entry::getKey)
+							.toList();
+			expired.forEach(this::stop);
+		}
+
+		void reannounce(long now, long interval) {
+			announcedAt.forEach(
+					(userId, at) -> {
+						if (now - at >= interval) {
+							started.add(userId);
+						}
+					});
+		}
+
+		void announce(long now) {
+			started.forEach(userId -> announcedAt.put(userId, now));
+			started.clear();
+			stopped.clear();
+		}
+	}
+}
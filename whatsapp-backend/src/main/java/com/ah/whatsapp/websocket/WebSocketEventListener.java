@@ -5,47 +5,56 @@
 package com.ah.whatsapp.websocket;
 
 import static com.ah.whatsapp.constant.WebSocketConstants.CONVERSATION_QUEUE;
-import static com.ah.whatsapp.constant.WebSocketConstants.CONVERSATION_TOPIC_TEMPLATE;
-import static com.ah.whatsapp.constant.WebSocketConstants.TYPING_INDICATOR_TOPIC;
 
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.event.EventListener;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import com.ah.whatsapp.configuration.WebSocketExecutorConfig;
+import com.ah.whatsapp.dto.ConversationDeltaDto;
 import com.ah.whatsapp.dto.ConversationDto;
-import com.ah.whatsapp.dto.DeleteMessageEvent;
-import com.ah.whatsapp.dto.MessageDto;
+import com.ah.whatsapp.dto.ParticipantsReactivatedDto;
 import com.ah.whatsapp.dto.TypingIndicatorDto;
 import com.ah.whatsapp.dto.WebSocketEvent;
 import com.ah.whatsapp.enums.EventType;
+import com.ah.whatsapp.event.ConversationDeltaEvent;
 import com.ah.whatsapp.event.ConversationUpdateEvent;
-import com.ah.whatsapp.event.MessageDeletedEvent;
-import com.ah.whatsapp.event.NewMessageEvent;
+import com.ah.whatsapp.event.ParticipantsReactivatedEvent;
+import com.ah.whatsapp.model.ConversationParticipant;
 
+/**
+ * Fans application events out to STOMP destinations. Events are handed to an executor per event
+ * class and keyed by conversation, so delivery for one conversation keeps publication order.
+ * Events published inside a transaction go out once it commits. New and deleted messages are
+ * broadcast by the {@link OutboxRelay} instead.
+ */
 @Component
 public class WebSocketEventListener {
 	private final SimpMessagingTemplate messagingTemplate;
+	private final OrderedEventExecutor conversationEventExecutor;
+	private final TypingTracker typingTracker;
 
-	public WebSocketEventListener(SimpMessagingTemplate messagingTemplate) {
+	public WebSocketEventListener(
+			SimpMessagingTemplate messagingTemplate,
+			@Qualifier(WebSocketExecutorConfig.CONVERSATION_EVENT_EXECUTOR) OrderedEventExecutor conversationEventExecutor,
+			TypingTracker typingTracker) {
 		this.messagingTemplate = messagingTemplate;
+		this.conversationEventExecutor = conversationEventExecutor;
+		this.typingTracker = typingTracker;
 	}
 
-	@Async
-	@EventListener
-	public void handleNewMessage(NewMessageEvent event) {
-		MessageDto messageDto = event.getMessageDto();
-		WebSocketEvent<MessageDto> wsEvent =
-				new WebSocketEvent<>(EventType.NEW_MESSAGE, messageDto);
-		String destination =
-				String.format(CONVERSATION_TOPIC_TEMPLATE, messageDto.conversationId());
-		messagingTemplate.convertAndSend(destination, wsEvent);
-	}
-
-	@Async
-	@EventListener
+	@TransactionalEventListener(fallbackExecution = true)
 	public void handleConversationUpdate(ConversationUpdateEvent event) {
 		ConversationDto conversationDto = event.getConversationDto();
+		conversationEventExecutor.execute(
+				conversationDto.getId(), () -> sendConversationUpdate(conversationDto));
+	}
+
+	private void sendConversationUpdate(ConversationDto conversationDto) {
 		WebSocketEvent<ConversationDto> wsEvent =
 				new WebSocketEvent<>(EventType.CONVERSATION_UPDATE, conversationDto);
 		// Send to each participant's queue
@@ -61,23 +70,53 @@ public class WebSocketEventListener {
 						});
 	}
 
-	@Async
-	@EventListener
-	public void handleMessageDeleted(MessageDeletedEvent event) {
-		WebSocketEvent<DeleteMessageEvent> webSocketEvent =
-				new WebSocketEvent<>(
-						EventType.DELETE_MESSAGE,
-						new DeleteMessageEvent(event.getMessageId(), event.getConversationId()));
-		String destination = String.format(CONVERSATION_TOPIC_TEMPLATE, event.getConversationId());
-		messagingTemplate.convertAndSend(destination, webSocketEvent);
+	@TransactionalEventListener(fallbackExecution = true)
+	public void handleConversationDelta(ConversationDeltaEvent event) {
+		ConversationDeltaDto delta = event.getDelta();
+		conversationEventExecutor.execute(
+				delta.conversationId(), () -> sendConversationDelta(delta, event.getRecipients()));
+	}
+
+	private void sendConversationDelta(
+			ConversationDeltaDto delta, List<ConversationParticipant> recipients) {
+		recipients.forEach(
+				participant -> {
+					String email = participant.getParticipantEmail();
+					if (email != null) {
+						messagingTemplate.convertAndSendToUser(
+								email,
+								CONVERSATION_QUEUE,
+								new WebSocketEvent<>(
+										EventType.CONVERSATION_DELTA,
+										delta.forParticipant(participant.getUnreadCount())));
+					}
+				});
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void handleParticipantsReactivated(ParticipantsReactivatedEvent event) {
+		ParticipantsReactivatedDto reactivation = event.getReactivation();
+		conversationEventExecutor.execute(
+				reactivation.conversationId(),
+				() -> sendParticipantsReactivated(reactivation, event.getRecipients()));
+	}
+
+	private void sendParticipantsReactivated(
+			ParticipantsReactivatedDto reactivation, List<ConversationParticipant> recipients) {
+		WebSocketEvent<ParticipantsReactivatedDto> wsEvent =
+				new WebSocketEvent<>(EventType.PARTICIPANTS_REACTIVATED, reactivation);
+		recipients.forEach(
+				participant -> {
+					String email = participant.getParticipantEmail();
+					if (email != null) {
+						messagingTemplate.convertAndSendToUser(email, CONVERSATION_QUEUE, wsEvent);
+					}
+				});
 	}
 
-	@Async
+	/** Typing frames are coalesced by {@link TypingTracker}, which publishes them once per tick. */
 	@EventListener
 	public void handleTypingIndicator(TypingIndicatorDto typingDto) {
-		WebSocketEvent<TypingIndicatorDto> wsEvent =
-				new WebSocketEvent<>(typingDto.getEventType(), typingDto);
-		String destination = String.format(TYPING_INDICATOR_TOPIC, typingDto.getConversationId());
-		messagingTemplate.convertAndSend(destination, wsEvent);
+		typingTracker.record(typingDto);
 	}
 }
@@ -0,0 +1,5 @@
+-- keyset pagination over (sent_at, id) within a conversation
+create index idx_messages_conversation_sent_at_id on messages (conversation_id, sent_at desc, id);
+
+-- the composite index covers every lookup the single-column index served
+drop index if exists idx_message_conversation;
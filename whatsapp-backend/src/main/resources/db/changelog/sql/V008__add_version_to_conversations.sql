@@ -0,0 +1,3 @@
+-- bumped on every change to the conversation list entry so clients can detect missed deltas
+alter table conversations
+	add column version bigint not null default 0;
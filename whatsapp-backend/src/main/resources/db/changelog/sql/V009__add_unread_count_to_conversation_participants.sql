@@ -0,0 +1,12 @@
+alter table conversation_participants
+	add column unread_count integer not null default 0;
+
+-- messages from others since the participant last read the conversation or joined it
+update conversation_participants cp
+set unread_count = (
+	select count(*) from messages m
+	where m.conversation_id = cp.conversation_id
+	and m.sender_id <> cp.user_id
+	and m.sent_at > greatest(cp.joined_at, cast(cp.last_read_at as timestamp))
+)
+where cp.is_active = true;
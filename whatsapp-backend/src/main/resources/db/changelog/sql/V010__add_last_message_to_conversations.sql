@@ -0,0 +1,50 @@
+-- latest message of each conversation, maintained by triggers on messages so the inbox can join
+-- it directly instead of ranking every message of every conversation
+alter table conversations
+	add column last_message_id uuid,
+	add column last_message_at timestamp;
+
+update conversations c
+set last_message_id = m.id, last_message_at = m.sent_at
+from (
+	select distinct on (conversation_id) conversation_id, id, sent_at
+	from messages
+	order by conversation_id, sent_at desc, id
+) m
+where m.conversation_id = c.id;
+
+create or replace function update_conversation_timestamp()
+returns trigger as $BODY$
+begin
+    update conversations
+    set updated_at = current_timestamp,
+        last_message_id = case
+            when last_message_at is null or new.sent_at >= last_message_at then new.id
+            else last_message_id
+        end,
+        last_message_at = greatest(last_message_at, new.sent_at)
+    where id = new.conversation_id;
+    return new;
+end;
+$BODY$ language plpgsql;
+
+-- a deleted last message hands over to the newest remaining one
+create or replace function reset_conversation_last_message()
+returns trigger as $BODY$
+begin
+    update conversations c
+    set (last_message_id, last_message_at) = (
+        select m.id, m.sent_at from messages m
+        where m.conversation_id = old.conversation_id
+        order by m.sent_at desc, m.id
+        limit 1
+    )
+    where c.id = old.conversation_id and c.last_message_id = old.id;
+    return old;
+end;
+$BODY$ language plpgsql;
+
+create trigger trg_reset_conversation_last_message
+after delete on messages
+for each row
+execute function reset_conversation_last_message();
@@ -0,0 +1,6 @@
+-- full-text search over message content; the 'simple' configuration lowercases and splits words
+-- without language-specific stemming or stop words, since conversations are not all in English
+alter table messages
+	add column content_tsv tsvector generated always as (to_tsvector('simple', content)) stored;
+
+create index idx_messages_content_tsv on messages using gin (content_tsv);
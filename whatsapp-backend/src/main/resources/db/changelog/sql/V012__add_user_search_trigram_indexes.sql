@@ -0,0 +1,7 @@
+-- trigram indexes let the contact search's '%query%' ilike patterns use an index instead of
+-- scanning every user
+create extension if not exists pg_trgm;
+
+create index idx_users_name_trgm on users using gin (name gin_trgm_ops);
+create index idx_users_email_trgm on users using gin (email gin_trgm_ops);
+create index idx_users_phone_trgm on users using gin (phone gin_trgm_ops);
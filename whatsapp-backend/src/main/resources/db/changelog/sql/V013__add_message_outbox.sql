@@ -0,0 +1,13 @@
+-- message events are written here in the transaction that changes the messages and relayed to the
+-- broker after commit; each conversation numbers its events so clients can order and de-duplicate
+alter table conversations
+	add column event_seq bigint not null default 0;
+
+create table message_outbox (
+	id bigserial primary key,
+	conversation_id uuid not null,
+	seq bigint not null,
+	event_type varchar(50) not null,
+	payload jsonb not null,
+	created_at timestamp not null default current_timestamp
+);
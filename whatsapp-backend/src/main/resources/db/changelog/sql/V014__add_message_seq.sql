@@ -0,0 +1,47 @@
+-- messages are numbered 1, 2, 3... within their conversation, so a reconnecting client can ask for
+-- just the messages after the last number it saw
+alter table conversations
+	add column message_seq bigint not null default 0;
+
+alter table messages
+	add column seq bigint;
+
+update messages m
+set seq = numbered.seq
+from (
+	select id, row_number() over (partition by conversation_id order by sent_at, id) as seq
+	from messages
+) numbered
+where numbered.id = m.id;
+
+update conversations c
+set message_seq = numbered.max_seq
+from (
+	select conversation_id, max(seq) as max_seq from messages group by conversation_id
+) numbered
+where numbered.conversation_id = c.id;
+
+alter table messages
+	alter column seq set not null;
+
+create unique index idx_messages_conversation_seq on messages (conversation_id, seq);
+
+-- the send path reserves the number together with the roster; any other insert takes the next
+-- one here, under the same conversation row lock
+create or replace function assign_message_seq()
+returns trigger as $BODY$
+begin
+    if new.seq is null then
+        update conversations
+        set message_seq = message_seq + 1
+        where id = new.conversation_id
+        returning message_seq into new.seq;
+    end if;
+    return new;
+end;
+$BODY$ language plpgsql;
+
+create trigger trg_assign_message_seq
+before insert on messages
+for each row
+execute function assign_message_seq();
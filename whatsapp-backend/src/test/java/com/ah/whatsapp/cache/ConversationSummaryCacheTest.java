@@ -0,0 +1,154 @@
+/*
+ * WhatsApp Clone - Backend Service
+ * Copyright (c) 2025
+ */
+package com.ah.whatsapp.cache;
+
+import static com.ah.whatsapp.mapper.ConversationParticipantTestDataBuilder.aConversationParticipant;
+import static com.ah.whatsapp.mapper.ConversationTestDataBuilder.aConversation;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.ah.whatsapp.dto.MessageDtoTestDataBuilder;
+import com.ah.whatsapp.event.MessageDeletedEvent;
+import com.ah.whatsapp.event.NewMessageEvent;
+import com.ah.whatsapp.model.Conversation;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("ConversationSummaryCache Tests")
+class ConversationSummaryCacheTest {
+
+	private SimpleMeterRegistry meterRegistry;
+	private ConversationSummaryCache conversationSummaryCache;
+	private AtomicInteger loads;
+	private UUID conversationId;
+	private UUID userId;
+	private Conversation conversation;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		conversationSummaryCache =
+				new ConversationSummaryCache(100, Duration.ofMinutes(10), meterRegistry);
+		loads = new AtomicInteger();
+		conversationId = UUID.randomUUID();
+		userId = UUID.randomUUID();
+		conversation = aConversation().withId(conversationId).build();
+		conversation.setParticipants(
+				List.of(
+						aConversationParticipant()
+								.withConversationId(conversationId)
+								.withParticipantId(userId)
+								.build()));
+	}
+
+	private Conversation load(UUID id) {
+		loads.incrementAndGet();
+		return conversation;
+	}
+
+	@Test
+	@DisplayName("Should load once and serve subsequent lookups from cache")
+	void shouldLoadOnceAndServeFromCache() {
+		assertEquals(conversation, conversationSummaryCache.get(conversationId, this::load).get());
+		assertEquals(conversation, conversationSummaryCache.get(conversationId, this::load).get());
+
+		assertEquals(1, loads.get());
+	}
+
+	@Test
+	@DisplayName("Should hand out copies that do not change the cached summary")
+	void shouldReturnIndependentCopies() {
+		Conversation first = conversationSummaryCache.get(conversationId, this::load).get();
+		first.setUnreadCount(5);
+		first.getParticipants().getFirst().setActive(false);
+
+		Conversation second = conversationSummaryCache.get(conversationId, this::load).get();
+
+		assertNotSame(first, second);
+		assertEquals(0, second.getUnreadCount());
+		assertTrue(second.getParticipants().getFirst().isActive());
+	}
+
+	@Test
+	@DisplayName("Should not cache a missing conversation")
+	void shouldNotCacheMissingConversation() {
+		assertTrue(conversationSummaryCache.get(conversationId, id -> null).isEmpty());
+		conversationSummaryCache.get(conversationId, this::load);
+
+		assertEquals(1, loads.get());
+	}
+
+	@Test
+	@DisplayName("Should reload after a new message in the conversation")
+	void shouldReloadAfterNewMessage() {
+		conversationSummaryCache.get(conversationId, this::load);
+		conversationSummaryCache.onNewMessage(
+				new NewMessageEvent(
+						this,
+						MessageDtoTestDataBuilder.aMessageDto()
+								.withConversationId(conversationId)
+								.build()));
+		conversationSummaryCache.get(conversationId, this::load);
+
+		assertEquals(2, loads.get());
+	}
+
+	@Test
+	@DisplayName("Should reload after a message in the conversation is deleted")
+	void shouldReloadAfterMessageDeleted() {
+		conversationSummaryCache.get(conversationId, this::load);
+		conversationSummaryCache.onMessageDeleted(
+				new MessageDeletedEvent(this, UUID.randomUUID(), conversationId));
+		conversationSummaryCache.get(conversationId, this::load);
+
+		assertEquals(2, loads.get());
+	}
+
+	@Test
+	@DisplayName("Should drop only the conversations of a changed participant")
+	void shouldInvalidateConversationsOfParticipant() {
+		UUID otherConversationId = UUID.randomUUID();
+		conversationSummaryCache.get(conversationId, this::load);
+		conversationSummaryCache.get(
+				otherConversationId, id -> aConversation().withId(otherConversationId).build());
+
+		conversationSummaryCache.invalidateParticipant(userId);
+		conversationSummaryCache.get(conversationId, this::load);
+		conversationSummaryCache.get(
+				otherConversationId,
+				id -> {
+					throw new IllegalStateException("should be cached");
+				});
+
+		assertEquals(2, loads.get());
+	}
+
+	@Test
+	@DisplayName("Should expose the hit ratio")
+	void shouldExposeHitRatio() {
+		conversationSummaryCache.get(conversationId, this::load);
+		conversationSummaryCache.get(conversationId, this::load);
+		conversationSummaryCache.get(conversationId, this::load);
+		conversationSummaryCache.get(conversationId, this::load);
+
+		assertEquals(
+				0.75,
+				meterRegistry
+						.get("cache.hit.ratio")
+						.tag("cache", ConversationSummaryCache.CACHE_NAME)
+						.gauge()
+						.value());
+	}
+}
@@ -0,0 +1,109 @@
+/*
+ * WhatsApp Clone - Backend Service
+ * Copyright (c) 2025
+ */
+package com.ah.whatsapp.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.ah.whatsapp.model.JwtUser;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("JwtUserCache Tests")
+class JwtUserCacheTest {
+
+	private static final String EMAIL = "test@example.com";
+
+	private SimpleMeterRegistry meterRegistry;
+	private JwtUserCache jwtUserCache;
+	private AtomicInteger loads;
+	private JwtUser jwtUser;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		jwtUserCache = new JwtUserCache(100, Duration.ofMinutes(5), meterRegistry);
+		loads = new AtomicInteger();
+		jwtUser = new JwtUser(EMAIL, UUID.randomUUID(), "hash");
+	}
+
+	private JwtUser load(String email) {
+		loads.incrementAndGet();
+		return jwtUser;
+	}
+
+	@Test
+	@DisplayName("Should load once and serve subsequent lookups from cache")
+	void shouldLoadOnceAndServeFromCache() {
+		assertSame(jwtUser, jwtUserCache.get(EMAIL, this::load));
+		assertSame(jwtUser, jwtUserCache.get(EMAIL, this::load));
+
+		assertEquals(1, loads.get());
+	}
+
+	@Test
+	@DisplayName("Should reload after invalidation")
+	void shouldReloadAfterInvalidation() {
+		jwtUserCache.get(EMAIL, this::load);
+		jwtUserCache.invalidate(EMAIL);
+		jwtUserCache.get(EMAIL, this::load);
+
+		assertEquals(2, loads.get());
+	}
+
+	@Test
+	@DisplayName("Should ignore invalidation of null email")
+	void shouldIgnoreNullInvalidation() {
+		jwtUserCache.invalidate(null);
+	}
+
+	@Test
+	@DisplayName("Should propagate loader exceptions without caching")
+	void shouldPropagateLoaderExceptions() {
+		assertThrows(
+				IllegalStateException.class,
+				() ->
+						jwtUserCache.get(
+								EMAIL,
+								email -> {
+									throw new IllegalStateException("missing");
+								}));
+
+		assertSame(jwtUser, jwtUserCache.get(EMAIL, this::load));
+	}
+
+	@Test
+	@DisplayName("Should expose hit and miss metrics")
+	void shouldExposeHitAndMissMetrics() {
+		jwtUserCache.get(EMAIL, this::load);
+		jwtUserCache.get(EMAIL, this::load);
+
+		assertEquals(
+				1.0,
+				meterRegistry
+						.get("cache.gets")
+						.tag("cache", JwtUserCache.CACHE_NAME)
+						.tag("result", "hit")
+						.functionCounter()
+						.count());
+		assertEquals(
+				1.0,
+				meterRegistry
+						.get("cache.gets")
+						.tag("cache", JwtUserCache.CACHE_NAME)
+						.tag("result", "miss")
+						.functionCounter()
+						.count());
+	}
+}
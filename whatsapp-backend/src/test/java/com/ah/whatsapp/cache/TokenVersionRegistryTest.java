@@ -0,0 +1,46 @@
+/*
+ * WhatsApp Clone - Backend Service
+ * Copyright (c) 2025
+ */
+package com.ah.whatsapp.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TokenVersionRegistry Tests")
+class TokenVersionRegistryTest {
+
+	private TokenVersionRegistry registry;
+	private UUID userId;
+
+	@BeforeEach
+	void setUp() {
+		registry = new TokenVersionRegistry();
+		userId = UUID.randomUUID();
+	}
+
+	@Test
+	@DisplayName("Should start every user at version zero")
+	void shouldStartAtVersionZero() {
+		assertEquals(0, registry.currentVersion(userId));
+		assertTrue(registry.isCurrent(userId, 0));
+	}
+
+	@Test
+	@DisplayName("Should reject older versions after revocation")
+	void shouldRejectOlderVersionsAfterRevocation() {
+		assertEquals(1, registry.revoke(userId));
+		assertEquals(2, registry.revoke(userId));
+
+		assertFalse(registry.isCurrent(userId, 1));
+		assertTrue(registry.isCurrent(userId, 2));
+		assertTrue(registry.isCurrent(UUID.randomUUID(), 0));
+	}
+}
@@ -0,0 +1,105 @@
+/*
+ * WhatsApp Clone - Backend Service
+ * Copyright (c) 2025
+ */
+package com.ah.whatsapp.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.ah.whatsapp.dto.UserDto;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("TypeaheadSearchCache Tests")
+class TypeaheadSearchCacheTest {
+
+	private SimpleMeterRegistry meterRegistry;
+	private TypeaheadSearchCache typeaheadSearchCache;
+	private UUID userId;
+	private UserDto markJones;
+	private UserDto bobMarley;
+	private UserDto annaKimar;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		typeaheadSearchCache = new TypeaheadSearchCache(100, Duration.ofSeconds(30), meterRegistry);
+		userId = UUID.randomUUID();
+		markJones = user("Mark Jones", "mark@example.com", "+15550001");
+		bobMarley = user("Bob Marley", "bob@example.com", "+15550002");
+		annaKimar = user("Anna Kimar", "anna@example.com", "+15550003");
+	}
+
+	@Test
+	@DisplayName("Should narrow a complete previous result in memory")
+	void shouldNarrowPreviousResult() {
+		typeaheadSearchCache.store(userId, "ma", List.of(markJones, bobMarley, annaKimar));
+
+		List<UserDto> results = typeaheadSearchCache.narrow(userId, "Mar", 20).orElseThrow();
+
+		assertEquals(List.of(markJones, bobMarley, annaKimar), results);
+		assertEquals(
+				List.of(bobMarley), typeaheadSearchCache.narrow(userId, "marl", 20).orElseThrow());
+	}
+
+	@Test
+	@DisplayName("Should rank like the database search")
+	void shouldRankLikeDatabase() {
+		typeaheadSearchCache.store(userId, "m", List.of(annaKimar, bobMarley, markJones));
+
+		List<UserDto> results = typeaheadSearchCache.narrow(userId, "ma", 20).orElseThrow();
+
+		assertEquals(List.of(markJones, bobMarley, annaKimar), results);
+	}
+
+	@Test
+	@DisplayName("Should fall back when the previous result may have been cut off")
+	void shouldFallBackWhenPreviousResultTruncated() {
+		typeaheadSearchCache.store(userId, "ma", List.of(markJones, bobMarley));
+
+		assertTrue(typeaheadSearchCache.narrow(userId, "mar", 2).isEmpty());
+	}
+
+	@Test
+	@DisplayName("Should fall back when the query does not extend the previous one")
+	void shouldFallBackWhenQueryChanges() {
+		typeaheadSearchCache.store(userId, "mar", List.of(markJones, bobMarley));
+
+		assertTrue(typeaheadSearchCache.narrow(userId, "ma", 20).isEmpty());
+		assertTrue(typeaheadSearchCache.narrow(userId, "bo", 20).isEmpty());
+		assertTrue(typeaheadSearchCache.narrow(UUID.randomUUID(), "mark", 20).isEmpty());
+	}
+
+	@Test
+	@DisplayName("Should count cache answers and database fallbacks")
+	void shouldCountLookups() {
+		typeaheadSearchCache.narrow(userId, "ma", 20);
+		typeaheadSearchCache.store(userId, "ma", List.of(markJones));
+		typeaheadSearchCache.narrow(userId, "mar", 20);
+		typeaheadSearchCache.narrow(userId, "mark", 20);
+
+		assertEquals(2, count("cache"));
+		assertEquals(1, count("database"));
+	}
+
+	private double count(String source) {
+		return meterRegistry
+				.get(TypeaheadSearchCache.LOOKUP_METRIC)
+				.tag("source", source)
+				.counter()
+				.count();
+	}
+
+	private static UserDto user(String name, String email, String phone) {
+		return new UserDto(UUID.randomUUID(), name, email, phone, null, null);
+	}
+}
@@ -0,0 +1,198 @@
+/*
+ * WhatsApp Clone - Backend Service
+ * Copyright (c) 2025
+ */
+package com.ah.whatsapp.cache;
+
+import static com.ah.whatsapp.mapper.UserTestDataBuilder.aUser;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.ah.whatsapp.model.User;
+
+@DisplayName("UserPrefixIndex Tests")
+class UserPrefixIndexTest {
+
+	private UserPrefixIndex userPrefixIndex;
+	private User markJones;
+	private User bobMarley;
+	private User maryAnn;
+
+	@BeforeEach
+	void setUp() {
+		userPrefixIndex = new UserPrefixIndex(true);
+		markJones = user("Mark Jones", "mark.jones@example.com", "+15550001");
+		bobMarley = user("Bob Marley", "bob@example.com", "+15550002");
+		maryAnn = user("Mary Ann", "mary@example.com", "+15550003");
+		userPrefixIndex.put(bobMarley);
+		userPrefixIndex.put(markJones);
+		userPrefixIndex.put(maryAnn);
+		userPrefixIndex.markReady();
+	}
+
+	@Test
+	@DisplayName("Should list leading matches before later-word matches")
+	void shouldRankLeadingMatchesFirst() {
+		List<User> results = userPrefixIndex.search("Mar", null, 3).orElseThrow();
+
+		assertEquals(
+				List.of(markJones.getId(), maryAnn.getId(), bobMarley.getId()),
+				results.stream().map(User::getId).toList());
+	}
+
+	@Test
+	@DisplayName("Should pick the first matches by name, whichever key matched")
+	void shouldOrderMatchesByNameLikeTheDatabase() {
+		// Keys in order: "a.zed@", "aaron", "ab@"; by name: Aaron, Yan, Zed
+		User zedAdams = user("Zed Adams", "a.zed@example.com", "+15550011");
+		User yan = user("Yan", "ab@example.com", "+15550012");
+		User aaron = user("Aaron", "aaron@example.com", "+15550013");
+		User bobAllen = user("Bob Allen", "bob.allen@example.com", "+15550014");
+		List.of(zedAdams, yan, aaron, bobAllen).forEach(userPrefixIndex::put);
+
+		assertEquals(
+				List.of(aaron.getId(), yan.getId()),
+				userPrefixIndex.search("a", null, 2).orElseThrow().stream()
+						.map(User::getId)
+						.toList());
+		assertEquals(
+				List.of(aaron.getId(), yan.getId(), zedAdams.getId(), bobAllen.getId()),
+				userPrefixIndex.search("a", null, 4).orElseThrow().stream()
+						.map(User::getId)
+						.toList());
+	}
+
+	@Test
+	@DisplayName("Should leave the excluded user out")
+	void shouldExcludeUser() {
+		List<User> results = userPrefixIndex.search("mar", markJones.getId(), 2).orElseThrow();
+
+		assertEquals(
+				List.of(maryAnn.getId(), bobMarley.getId()),
+				results.stream().map(User::getId).toList());
+	}
+
+	@Test
+	@DisplayName("Should defer to the database when it has fewer matches than requested")
+	void shouldDeferWhenTooFewMatches() {
+		assertTrue(userPrefixIndex.search("mar", null, 4).isEmpty());
+	}
+
+	@Test
+	@DisplayName("Should answer nothing before the initial load completes")
+	void shouldDeferUntilReady() {
+		UserPrefixIndex loading = new UserPrefixIndex(true);
+		loading.put(markJones);
+
+		assertTrue(loading.search("mark", null, 1).isEmpty());
+	}
+
+	@Test
+	@DisplayName("Should answer nothing when disabled")
+	void shouldDeferWhenDisabled() {
+		UserPrefixIndex disabled = new UserPrefixIndex(false);
+		disabled.put(markJones);
+		disabled.markReady();
+
+		assertTrue(disabled.search("mark", null, 1).isEmpty());
+	}
+
+	@Test
+	@DisplayName("Should match phone numbers with or without the leading plus")
+	void shouldMatchPhoneNumbers() {
+		assertEquals(
+				markJones.getId(),
+				userPrefixIndex.search("15550001", null, 1).orElseThrow().getFirst().getId());
+		assertEquals(
+				markJones.getId(),
+				userPrefixIndex.search("+15550001", null, 1).orElseThrow().getFirst().getId());
+	}
+
+	@Test
+	@DisplayName("Should replace the keys of an updated user")
+	void shouldReplaceKeysOnUpdate() {
+		markJones.setName("Zed Jones");
+		markJones.setEmail("zed@example.com");
+		userPrefixIndex.put(markJones);
+
+		assertTrue(userPrefixIndex.search("mark", null, 1).isEmpty());
+		assertEquals(
+				markJones.getId(),
+				userPrefixIndex.search("zed", null, 1).orElseThrow().getFirst().getId());
+	}
+
+	@Test
+	@DisplayName("Should drop a removed user")
+	void shouldDropRemovedUser() {
+		userPrefixIndex.remove(bobMarley.getId());
+
+		assertTrue(userPrefixIndex.search("bob", null, 1).isEmpty());
+	}
+
+	@Test
+	@DisplayName("Should never hand out passwords")
+	void shouldNotExposePasswords() {
+		User result = userPrefixIndex.search("mark", null, 1).orElseThrow().getFirst();
+
+		assertNull(result.getPassword());
+	}
+
+	private static User user(String name, String email, String phone) {
+		return aUser().withId(UUID.randomUUID())
+				.withName(name)
+				.withEmail(email)
+				.withPhone(phone)
+				.withPassword("secret")
+				.build();
+	}
+
+	@Test
+	@DisplayName("Should add a user saved in a transaction only once it commits")
+	void shouldAddUserAfterCommit() {
+		User markTwain = user("Mark Twain", "twain@example.com", "+15550004");
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			userPrefixIndex.put(markTwain);
+			assertTrue(userPrefixIndex.search("twain", null, 1).isEmpty());
+
+			TransactionSynchronizationManager.getSynchronizations()
+					.forEach(TransactionSynchronization::afterCommit);
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		assertEquals(
+				markTwain.getId(),
+				userPrefixIndex.search("twain", null, 1).orElseThrow().getFirst().getId());
+	}
+
+	@Test
+	@DisplayName("Should not add a user whose transaction rolled back")
+	void shouldNotAddUserWhenRolledBack() {
+		User markTwain = user("Mark Twain", "twain@example.com", "+15550004");
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			userPrefixIndex.put(markTwain);
+
+			TransactionSynchronizationManager.getSynchronizations()
+					.forEach(
+							sync ->
+									sync.afterCompletion(
+											TransactionSynchronization.STATUS_ROLLED_BACK));
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		assertTrue(userPrefixIndex.search("twain", null, 1).isEmpty());
+	}
+}
@@ -0,0 +1,126 @@
+/*
+ * WhatsApp Clone - Backend Service
+ * Copyright (c) 2025
+ */
+package com.ah.whatsapp.configuration;
+
+import static com.ah.whatsapp.constant.WebSocketConstants.RESUME_AFTER_HEADER;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import com.ah.whatsapp.model.JwtUser;
+import com.ah.whatsapp.repository.ConversationParticipantRepository;
+import com.ah.whatsapp.util.JwtPrincipalResolver;
+import com.ah.whatsapp.util.JwtUtil;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuthChannelInterceptor Tests")
+class AuthChannelInterceptorTest {
+
+	private static final UUID CONVERSATION_ID =
+			UUID.fromString("11111111-1111-1111-1111-111111111111");
+	private static final UUID USER_ID = UUID.fromString("22222222-2222-2222-2222-222222222222");
+	private static final String TOPIC = "/topic/conversations/" + CONVERSATION_ID;
+
+	@Mock private JwtUtil jwtUtil;
+	@Mock private JwtPrincipalResolver jwtPrincipalResolver;
+	@Mock private ConversationParticipantRepository conversationParticipantRepository;
+	@Mock private MessageChannel channel;
+
+	@InjectMocks private AuthChannelInterceptor interceptor;
+
+	private static Message<byte[]> subscribe(String destination, String resumeAfter) {
+		StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+		accessor.setDestination(destination);
+		accessor.setSubscriptionId("sub-0");
+		JwtUser user = new JwtUser("test@example.com", USER_ID, null);
+		accessor.setUser(
+				new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+		if (resumeAfter != null) {
+			accessor.setNativeHeader(RESUME_AFTER_HEADER, resumeAfter);
+		}
+		accessor.setLeaveMutable(true);
+		return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+	}
+
+	@Test
+	@DisplayName("Should let a participant subscribe to the conversation topic")
+	void preSend_ShouldAllowParticipant() {
+		// Given
+		Message<byte[]> message = subscribe(TOPIC, "41");
+		when(conversationParticipantRepository.existsByConversationIdAndUserIdAndIsActiveTrue(
+						CONVERSATION_ID, USER_ID))
+				.thenReturn(true);
+
+		// When / Then
+		assertSame(message, interceptor.preSend(message, channel));
+	}
+
+	@Test
+	@DisplayName("Should reject a resume from a user outside the conversation")
+	void preSend_ShouldRejectResumeFromNonParticipant() {
+		// Given
+		Message<byte[]> message = subscribe(TOPIC, "41");
+		when(conversationParticipantRepository.existsByConversationIdAndUserIdAndIsActiveTrue(
+						CONVERSATION_ID, USER_ID))
+				.thenReturn(false);
+
+		// When / Then
+		assertThrows(AccessDeniedException.class, () -> interceptor.preSend(message, channel));
+	}
+
+	@Test
+	@DisplayName("Should check membership for the typing topic below a conversation")
+	void preSend_ShouldRejectTypingTopicForNonParticipant() {
+		// Given
+		Message<byte[]> message = subscribe(TOPIC + "/typing", null);
+		when(conversationParticipantRepository.existsByConversationIdAndUserIdAndIsActiveTrue(
+						CONVERSATION_ID, USER_ID))
+				.thenReturn(false);
+
+		// When / Then
+		assertThrows(AccessDeniedException.class, () -> interceptor.preSend(message, channel));
+	}
+
+	@Test
+	@DisplayName("Should reject a conversation topic that does not name a conversation")
+	void preSend_ShouldRejectMalformedConversationTopic() {
+		// Given
+		Message<byte[]> message = subscribe("/topic/conversations/not-a-uuid", null);
+
+		// When / Then
+		assertThrows(AccessDeniedException.class, () -> interceptor.preSend(message, channel));
+		verifyNoInteractions(conversationParticipantRepository);
+	}
+
+	@Test
+	@DisplayName("Should not check membership for the user queue")
+	void preSend_ShouldSkipUserQueue() {
+		// Given
+		Message<byte[]> message = subscribe("/user/queue/conversations", "41");
+
+		// When
+		interceptor.preSend(message, channel);
+
+		// Then
+		verifyNoInteractions(conversationParticipantRepository);
+	}
+}
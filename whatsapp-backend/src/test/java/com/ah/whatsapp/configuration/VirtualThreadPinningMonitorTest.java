@@ -0,0 +1,71 @@
+/*
+ * WhatsApp Clone - Backend Service
+ * Copyright (c) 2025
+ */
+package com.ah.whatsapp.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("VirtualThreadPinningMonitor Tests")
+class VirtualThreadPinningMonitorTest {
+
+	private SimpleMeterRegistry meterRegistry;
+	private VirtualThreadPinningMonitor monitor;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		monitor = new VirtualThreadPinningMonitor(Duration.ofMillis(5), meterRegistry);
+	}
+
+	@AfterEach
+	void tearDown() {
+		monitor.destroy();
+	}
+
+	@Test
+	@DisplayName("Should record a virtual thread that sleeps while holding a monitor")
+	void shouldRecordPinnedVirtualThread() throws InterruptedException {
+		// Given
+		Object lock = new Object();
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(15);
+
+		// When
+		while (pinnedCount() == 0 && System.nanoTime() < deadline) {
+			Thread.ofVirtual()
+					.start(
+							() -> {
+								synchronized (lock) {
+									sleep(20);
+								}
+							})
+					.join();
+			Thread.sleep(200);
+		}
+
+		// Then
+		assertTrue(pinnedCount() > 0);
+	}
+
+	private long pinnedCount() {
+		return meterRegistry.get(VirtualThreadPinningMonitor.PINNED_METRIC).timer().count();
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -5,16 +5,25 @@
 package com.ah.whatsapp.controller;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -22,22 +31,27 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.ah.whatsapp.dto.ApiResponse;
 import com.ah.whatsapp.dto.ConversationDto;
 import com.ah.whatsapp.dto.ConversationDtoTestDataBuilder;
 import com.ah.whatsapp.dto.CreateConversationRequest;
 import com.ah.whatsapp.dto.CreateConversationRequestTestDataBuilder;
+import com.ah.whatsapp.dto.CursorPage;
 import com.ah.whatsapp.dto.MessageDtoTestDataBuilder;
 import com.ah.whatsapp.dto.ParticipantDtoTestDataBuilder;
 import com.ah.whatsapp.exception.ConversationNotFoundException;
 import com.ah.whatsapp.exception.UserNotFoundException;
 import com.ah.whatsapp.model.JwtUser;
 import com.ah.whatsapp.service.ConversationService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("ConversationController Unit Tests")
@@ -45,6 +59,8 @@ class ConversationControllerTest {
 
 	@Mock private ConversationService conversationService;
 
+	@Spy private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
 	@InjectMocks private ConversationController conversationController;
 
 	// Test data constants
@@ -99,12 +115,12 @@ class ConversationControllerTest {
 															.build()))
 									.build());
 
-			when(conversationService.findUserConversations(TEST_USER_ID))
-					.thenReturn(expectedConversations);
+			when(conversationService.findUserConversations(TEST_USER_ID, "cursor", 2))
+					.thenReturn(CursorPage.of(expectedConversations, "next"));
 
 			// When
-			ResponseEntity<ApiResponse<List<ConversationDto>>> response =
-					conversationController.getUserConversations(currentUser);
+			ResponseEntity<ApiResponse<CursorPage<ConversationDto>>> response =
+					conversationController.getUserConversations("cursor", 2, currentUser);
 
 			// Then
 			assertNotNull(response);
@@ -112,10 +128,12 @@ class ConversationControllerTest {
 			assertNotNull(response.getBody());
 			assertEquals(200, response.getBody().getStatus());
 			assertNotNull(response.getBody().getData());
-			assertEquals(2, response.getBody().getData().size());
-			assertEquals(TEST_CONVERSATION_ID, response.getBody().getData().get(0).getId());
+			assertEquals(2, response.getBody().getData().items().size());
+			assertEquals(TEST_CONVERSATION_ID, response.getBody().getData().items().get(0).getId());
+			assertEquals("next", response.getBody().getData().nextCursor());
+			assertTrue(response.getBody().getData().hasMore());
 
-			verify(conversationService).findUserConversations(TEST_USER_ID);
+			verify(conversationService).findUserConversations(TEST_USER_ID, "cursor", 2);
 		}
 
 		@Test
@@ -125,12 +143,12 @@ class ConversationControllerTest {
 			JwtUser currentUser = new JwtUser(TEST_EMAIL, TEST_USER_ID, null);
 			List<ConversationDto> emptyConversations = Collections.emptyList();
 
-			when(conversationService.findUserConversations(TEST_USER_ID))
-					.thenReturn(emptyConversations);
+			when(conversationService.findUserConversations(TEST_USER_ID, null, 50))
+					.thenReturn(CursorPage.of(emptyConversations, null));
 
 			// When
-			ResponseEntity<ApiResponse<List<ConversationDto>>> response =
-					conversationController.getUserConversations(currentUser);
+			ResponseEntity<ApiResponse<CursorPage<ConversationDto>>> response =
+					conversationController.getUserConversations(null, 50, currentUser);
 
 			// Then
 			assertNotNull(response);
@@ -138,9 +156,51 @@ class ConversationControllerTest {
 			assertNotNull(response.getBody());
 			assertEquals(200, response.getBody().getStatus());
 			assertNotNull(response.getBody().getData());
-			assertEquals(0, response.getBody().getData().size());
+			assertEquals(0, response.getBody().getData().items().size());
+			assertFalse(response.getBody().getData().hasMore());
+
+			verify(conversationService).findUserConversations(TEST_USER_ID, null, 50);
+		}
+
+		@Test
+		@DisplayName("Should stream one JSON document per conversation")
+		void shouldStreamConversationsAsNdjson() throws IOException {
+			// Given
+			JwtUser currentUser = new JwtUser(TEST_EMAIL, TEST_USER_ID, null);
+			UUID otherConversationId = UUID.randomUUID();
+			doAnswer(
+							invocation -> {
+								Consumer<ConversationDto> action = invocation.getArgument(1);
+								action.accept(
+										ConversationDtoTestDataBuilder.aConversationDto()
+												.withId(TEST_CONVERSATION_ID)
+												.build());
+								action.accept(
+										ConversationDtoTestDataBuilder.aConversationDto()
+												.withId(otherConversationId)
+												.build());
+								return null;
+							})
+					.when(conversationService)
+					.forEachUserConversation(eq(TEST_USER_ID), any());
+
+			// When
+			ResponseEntity<StreamingResponseBody> response =
+					conversationController.streamUserConversations(currentUser);
+			ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+			response.getBody().writeTo(outputStream);
 
-			verify(conversationService).findUserConversations(TEST_USER_ID);
+			// Then
+			assertEquals(HttpStatus.OK, response.getStatusCode());
+			assertEquals(MediaType.APPLICATION_NDJSON, response.getHeaders().getContentType());
+			List<String> lines = outputStream.toString(StandardCharsets.UTF_8).lines().toList();
+			assertEquals(2, lines.size());
+			assertEquals(
+					TEST_CONVERSATION_ID,
+					objectMapper.readValue(lines.get(0), ConversationDto.class).getId());
+			assertEquals(
+					otherConversationId,
+					objectMapper.readValue(lines.get(1), ConversationDto.class).getId());
 		}
 	}
 
@@ -154,15 +214,15 @@ class ConversationControllerTest {
 			// Given
 			JwtUser currentUser = new JwtUser(TEST_EMAIL, TEST_USER_ID, null);
 
-			when(conversationService.findUserConversations(TEST_USER_ID))
+			when(conversationService.findUserConversations(TEST_USER_ID, null, 50))
 					.thenThrow(new RuntimeException("Database error"));
 
 			// When & Then
 			assertThrows(
 					RuntimeException.class,
-					() -> conversationController.getUserConversations(currentUser));
+					() -> conversationController.getUserConversations(null, 50, currentUser));
 
-			verify(conversationService).findUserConversations(TEST_USER_ID);
+			verify(conversationService).findUserConversations(TEST_USER_ID, null, 50);
 		}
 	}
 
@@ -7,6 +7,7 @@ package com.ah.whatsapp.controller;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
@@ -20,7 +21,9 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -35,8 +38,11 @@ import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 
 import com.ah.whatsapp.dto.ApiResponse;
+import com.ah.whatsapp.dto.CursorPage;
 import com.ah.whatsapp.dto.MessageDto;
 import com.ah.whatsapp.dto.MessageDtoTestDataBuilder;
+import com.ah.whatsapp.dto.MessageSearchResultDto;
+import com.ah.whatsapp.dto.SendMessageBatchRequest;
 import com.ah.whatsapp.dto.SendMessageRequest;
 import com.ah.whatsapp.dto.SendMessageRequestTestDataBuilder;
 import com.ah.whatsapp.exception.ConversationNotFoundException;
@@ -44,12 +50,16 @@ import com.ah.whatsapp.exception.MessageNotFoundException;
 import com.ah.whatsapp.exception.UserNotFoundException;
 import com.ah.whatsapp.model.JwtUser;
 import com.ah.whatsapp.service.MessageService;
+import com.ah.whatsapp.websocket.MessageGroupCommitter;
+import com.ah.whatsapp.websocket.StompReceiptSender;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("MessageController Unit Tests")
 class MessageControllerTest {
 
 	@Mock private MessageService messageService;
+	@Mock private MessageGroupCommitter groupCommitter;
+	@Mock private StompReceiptSender receiptSender;
 	@Mock private StompHeaderAccessor headerAccessor;
 	@Mock private UsernamePasswordAuthenticationToken authToken;
 
@@ -89,12 +99,14 @@ class MessageControllerTest {
 									.withContent("Hello back!")
 									.build());
 
-			when(messageService.findConversationMessages(TEST_CONVERSATION_ID, TEST_USER_ID))
-					.thenReturn(expectedMessages);
+			when(messageService.findConversationMessages(
+							TEST_CONVERSATION_ID, TEST_USER_ID, null, null, 50))
+					.thenReturn(CursorPage.of(expectedMessages, null));
 
 			// When
-			ResponseEntity<ApiResponse<List<MessageDto>>> response =
-					messageController.getConversationMessages(TEST_CONVERSATION_ID, currentUser);
+			ResponseEntity<ApiResponse<CursorPage<MessageDto>>> response =
+					messageController.getConversationMessages(
+							TEST_CONVERSATION_ID, null, null, 50, currentUser);
 
 			// Then
 			assertNotNull(response);
@@ -102,11 +114,12 @@ class MessageControllerTest {
 			assertNotNull(response.getBody());
 			assertEquals(
 					HttpStatus.OK.value(), Objects.requireNonNull(response.getBody()).getStatus());
-			assertEquals(expectedMessages, Objects.requireNonNull(response.getBody()).getData());
-			assertEquals(2, Objects.requireNonNull(response.getBody()).getData().size());
+			assertEquals(
+					expectedMessages, Objects.requireNonNull(response.getBody()).getData().items());
+			assertEquals(2, Objects.requireNonNull(response.getBody()).getData().items().size());
 
 			verify(messageService, times(1))
-					.findConversationMessages(TEST_CONVERSATION_ID, TEST_USER_ID);
+					.findConversationMessages(TEST_CONVERSATION_ID, TEST_USER_ID, null, null, 50);
 		}
 
 		@Test
@@ -116,12 +129,14 @@ class MessageControllerTest {
 			JwtUser currentUser = new JwtUser(TEST_EMAIL, TEST_USER_ID, null);
 			List<MessageDto> emptyMessages = Collections.emptyList();
 
-			when(messageService.findConversationMessages(TEST_CONVERSATION_ID, TEST_USER_ID))
-					.thenReturn(emptyMessages);
+			when(messageService.findConversationMessages(
+							TEST_CONVERSATION_ID, TEST_USER_ID, null, null, 50))
+					.thenReturn(CursorPage.of(emptyMessages, null));
 
 			// When
-			ResponseEntity<ApiResponse<List<MessageDto>>> response =
-					messageController.getConversationMessages(TEST_CONVERSATION_ID, currentUser);
+			ResponseEntity<ApiResponse<CursorPage<MessageDto>>> response =
+					messageController.getConversationMessages(
+							TEST_CONVERSATION_ID, null, null, 50, currentUser);
 
 			// Then
 			assertNotNull(response);
@@ -129,11 +144,41 @@ class MessageControllerTest {
 			assertNotNull(response.getBody());
 			assertEquals(
 					HttpStatus.OK.value(), Objects.requireNonNull(response.getBody()).getStatus());
-			assertEquals(emptyMessages, Objects.requireNonNull(response.getBody()).getData());
-			assertEquals(0, Objects.requireNonNull(response.getBody()).getData().size());
+			assertEquals(
+					emptyMessages, Objects.requireNonNull(response.getBody()).getData().items());
+			assertEquals(0, Objects.requireNonNull(response.getBody()).getData().items().size());
 
 			verify(messageService, times(1))
-					.findConversationMessages(TEST_CONVERSATION_ID, TEST_USER_ID);
+					.findConversationMessages(TEST_CONVERSATION_ID, TEST_USER_ID, null, null, 50);
+		}
+
+		@Test
+		@DisplayName("Should pass cursor and limit through and return next cursor")
+		void shouldPassCursorAndLimitThrough() {
+			// Given
+			JwtUser currentUser = new JwtUser(TEST_EMAIL, TEST_USER_ID, null);
+			List<MessageDto> page =
+					List.of(
+							MessageDtoTestDataBuilder.aMessageDto()
+									.withId(TEST_MESSAGE_ID)
+									.withConversationId(TEST_CONVERSATION_ID)
+									.build());
+
+			when(messageService.findConversationMessages(
+							TEST_CONVERSATION_ID, TEST_USER_ID, "cursor-1", null, 20))
+					.thenReturn(CursorPage.of(page, "cursor-2"));
+
+			// When
+			ResponseEntity<ApiResponse<CursorPage<MessageDto>>> response =
+					messageController.getConversationMessages(
+							TEST_CONVERSATION_ID, "cursor-1", null, 20, currentUser);
+
+			// Then
+			assertEquals(HttpStatus.OK, response.getStatusCode());
+			CursorPage<MessageDto> data = Objects.requireNonNull(response.getBody()).getData();
+			assertEquals(page, data.items());
+			assertEquals("cursor-2", data.nextCursor());
+			assertTrue(data.hasMore());
 		}
 	}
 
@@ -147,7 +192,8 @@ class MessageControllerTest {
 			// Given
 			JwtUser currentUser = new JwtUser(TEST_EMAIL, TEST_USER_ID, null);
 
-			when(messageService.findConversationMessages(TEST_CONVERSATION_ID, TEST_USER_ID))
+			when(messageService.findConversationMessages(
+							TEST_CONVERSATION_ID, TEST_USER_ID, null, null, 50))
 					.thenThrow(new ConversationNotFoundException("Conversation not found"));
 
 			// When & Then
@@ -156,11 +202,11 @@ class MessageControllerTest {
 							ConversationNotFoundException.class,
 							() ->
 									messageController.getConversationMessages(
-											TEST_CONVERSATION_ID, currentUser));
+											TEST_CONVERSATION_ID, null, null, 50, currentUser));
 
 			assertEquals("Conversation not found", exception.getMessage());
 			verify(messageService, times(1))
-					.findConversationMessages(TEST_CONVERSATION_ID, TEST_USER_ID);
+					.findConversationMessages(TEST_CONVERSATION_ID, TEST_USER_ID, null, null, 50);
 		}
 
 		@Test
@@ -169,7 +215,8 @@ class MessageControllerTest {
 			// Given
 			JwtUser currentUser = new JwtUser(TEST_EMAIL, TEST_USER_ID, null);
 
-			when(messageService.findConversationMessages(TEST_CONVERSATION_ID, TEST_USER_ID))
+			when(messageService.findConversationMessages(
+							TEST_CONVERSATION_ID, TEST_USER_ID, null, null, 50))
 					.thenThrow(
 							new AccessDeniedException(
 									"User is not a participant in this conversation"));
@@ -180,19 +227,20 @@ class MessageControllerTest {
 							AccessDeniedException.class,
 							() ->
 									messageController.getConversationMessages(
-											TEST_CONVERSATION_ID, currentUser));
+											TEST_CONVERSATION_ID, null, null, 50, currentUser));
 
 			assertEquals("User is not a participant in this conversation", exception.getMessage());
 			verify(messageService, times(1))
-					.findConversationMessages(TEST_CONVERSATION_ID, TEST_USER_ID);
+					.findConversationMessages(TEST_CONVERSATION_ID, TEST_USER_ID, null, null, 50);
 		}
 
 		@Test
 		@DisplayName("Should handle null user authentication")
 		void shouldHandleNullUserAuthentication() {
 			// When
-			ResponseEntity<ApiResponse<List<MessageDto>>> response =
-					messageController.getConversationMessages(TEST_CONVERSATION_ID, null);
+			ResponseEntity<ApiResponse<CursorPage<MessageDto>>> response =
+					messageController.getConversationMessages(
+							TEST_CONVERSATION_ID, null, null, 50, null);
 
 			// Then
 			assertNotNull(response);
@@ -212,7 +260,8 @@ class MessageControllerTest {
 			// Given
 			JwtUser currentUser = new JwtUser(TEST_EMAIL, TEST_USER_ID, null);
 
-			when(messageService.findConversationMessages(TEST_CONVERSATION_ID, TEST_USER_ID))
+			when(messageService.findConversationMessages(
+							TEST_CONVERSATION_ID, TEST_USER_ID, null, null, 50))
 					.thenThrow(new RuntimeException("Database connection error"));
 
 			// When & Then
@@ -221,11 +270,228 @@ class MessageControllerTest {
 							RuntimeException.class,
 							() ->
 									messageController.getConversationMessages(
-											TEST_CONVERSATION_ID, currentUser));
+											TEST_CONVERSATION_ID, null, null, 50, currentUser));
 
 			assertEquals("Database connection error", exception.getMessage());
 			verify(messageService, times(1))
-					.findConversationMessages(TEST_CONVERSATION_ID, TEST_USER_ID);
+					.findConversationMessages(TEST_CONVERSATION_ID, TEST_USER_ID, null, null, 50);
+		}
+	}
+
+	@Nested
+	@DisplayName("Get Messages Since")
+	class GetMessagesSince {
+
+		@Test
+		@DisplayName("Should return the messages after the given sequence number")
+		void shouldReturnMessagesSinceSeq() {
+			// Given
+			JwtUser currentUser = new JwtUser(TEST_EMAIL, TEST_USER_ID, null);
+			CursorPage<MessageDto> page =
+					CursorPage.of(
+							List.of(
+									MessageDtoTestDataBuilder.aMessageDto()
+											.withId(TEST_MESSAGE_ID)
+											.withSeq(8L)
+											.build()),
+							null);
+			when(messageService.findMessagesSince(TEST_CONVERSATION_ID, TEST_USER_ID, 7L, 100))
+					.thenReturn(page);
+
+			// When
+			ResponseEntity<ApiResponse<CursorPage<MessageDto>>> response =
+					messageController.getMessagesSince(TEST_CONVERSATION_ID, 7L, 100, currentUser);
+
+			// Then
+			assertEquals(HttpStatus.OK, response.getStatusCode());
+			assertEquals(page, Objects.requireNonNull(response.getBody()).getData());
+		}
+
+		@Test
+		@DisplayName("Should return unauthorized without a user")
+		void shouldReturnUnauthorizedWithoutUser() {
+			// When
+			ResponseEntity<ApiResponse<CursorPage<MessageDto>>> response =
+					messageController.getMessagesSince(TEST_CONVERSATION_ID, 7L, 100, null);
+
+			// Then
+			assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
+			verifyNoInteractions(messageService);
+		}
+	}
+
+	@Nested
+	@DisplayName("Search Messages")
+	class SearchMessages {
+
+		@Test
+		@DisplayName("Should return the page of search results")
+		void shouldReturnSearchResults() {
+			// Given
+			JwtUser currentUser = new JwtUser(TEST_EMAIL, TEST_USER_ID, null);
+			CursorPage<MessageSearchResultDto> results =
+					CursorPage.of(
+							List.of(
+									new MessageSearchResultDto(
+											MessageDtoTestDataBuilder.aMessageDto()
+													.withId(TEST_MESSAGE_ID)
+													.build(),
+											"<mark>Hello</mark>, how are you?",
+											0.1f)),
+							"next");
+			when(messageService.searchMessages(TEST_USER_ID, "hello", null, 20))
+					.thenReturn(results);
+
+			// When
+			ResponseEntity<ApiResponse<CursorPage<MessageSearchResultDto>>> response =
+					messageController.searchMessages("hello", null, 20, currentUser);
+
+			// Then
+			assertEquals(HttpStatus.OK, response.getStatusCode());
+			assertEquals(results, Objects.requireNonNull(response.getBody()).getData());
+		}
+
+		@Test
+		@DisplayName("Should return unauthorized without a user")
+		void shouldReturnUnauthorizedWithoutUser() {
+			// When
+			ResponseEntity<ApiResponse<CursorPage<MessageSearchResultDto>>> response =
+					messageController.searchMessages("hello", null, 20, null);
+
+			// Then
+			assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
+			verifyNoInteractions(messageService);
+		}
+	}
+
+	@Nested
+	@DisplayName("Send Message Batch")
+	class SendMessageBatch {
+
+		private SendMessageBatchRequest batchRequest() {
+			return new SendMessageBatchRequest(
+					List.of(
+							SendMessageRequestTestDataBuilder.aSendMessageRequest()
+									.withConversationId(TEST_CONVERSATION_ID)
+									.withContent("first")
+									.build(),
+							SendMessageRequestTestDataBuilder.aSendMessageRequest()
+									.withConversationId(TEST_CONVERSATION_ID)
+									.withContent("second")
+									.build()));
+		}
+
+		@Test
+		@DisplayName("Should send the batch and return the created messages")
+		void shouldSendBatchAndReturnCreatedMessages() {
+			// Given
+			JwtUser currentUser = new JwtUser(TEST_EMAIL, TEST_USER_ID, null);
+			SendMessageBatchRequest request = batchRequest();
+			List<MessageDto> created =
+					List.of(
+							MessageDtoTestDataBuilder.aMessageDto().withSeq(1L).build(),
+							MessageDtoTestDataBuilder.aMessageDto().withSeq(2L).build());
+			when(messageService.sendMessages(request.messages(), TEST_USER_ID)).thenReturn(created);
+
+			// When
+			ResponseEntity<ApiResponse<List<MessageDto>>> response =
+					messageController.sendMessages(request, currentUser);
+
+			// Then
+			assertEquals(HttpStatus.CREATED, response.getStatusCode());
+			assertEquals(created, Objects.requireNonNull(response.getBody()).getData());
+		}
+
+		@Test
+		@DisplayName("Should return unauthorized without a user")
+		void shouldReturnUnauthorizedWithoutUser() {
+			// When
+			ResponseEntity<ApiResponse<List<MessageDto>>> response =
+					messageController.sendMessages(batchRequest(), null);
+
+			// Then
+			assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
+			verifyNoInteractions(messageService);
+		}
+
+		@Test
+		@DisplayName("Should send a batch received via WebSocket")
+		void shouldSendBatchViaWebSocket() {
+			// Given
+			SendMessageBatchRequest request = batchRequest();
+			when(headerAccessor.getUser()).thenReturn(authToken);
+			when(authToken.getPrincipal()).thenReturn(new JwtUser(TEST_EMAIL, TEST_USER_ID, null));
+
+			// When
+			messageController.handleSendMessages(request, headerAccessor);
+
+			// Then
+			verify(messageService).sendMessages(request.messages(), TEST_USER_ID);
+		}
+
+		@Test
+		@DisplayName("Should ignore a WebSocket batch without an authenticated user")
+		void shouldIgnoreUnauthenticatedWebSocketBatch() {
+			// Given
+			when(headerAccessor.getUser()).thenReturn(null);
+
+			// When
+			messageController.handleSendMessages(batchRequest(), headerAccessor);
+
+			// Then
+			verifyNoInteractions(messageService);
+		}
+	}
+
+	@Nested
+	@DisplayName("WebSocket Send Message - Group Commit")
+	class WebSocketSendMessageGroupCommit {
+
+		private SendMessageRequest sendRequest;
+
+		@BeforeEach
+		void setUp() {
+			sendRequest =
+					SendMessageRequestTestDataBuilder.aSendMessageRequest()
+							.withConversationId(TEST_CONVERSATION_ID)
+							.withContent(TEST_MESSAGE_CONTENT)
+							.build();
+			when(headerAccessor.getUser()).thenReturn(authToken);
+			when(authToken.getPrincipal()).thenReturn(new JwtUser(TEST_EMAIL, TEST_USER_ID, null));
+			when(groupCommitter.isEnabled()).thenReturn(true);
+		}
+
+		@Test
+		@DisplayName("Should queue the message and acknowledge it once committed")
+		void shouldQueueMessageAndAcknowledgeOnCommit() {
+			// Given
+			CompletableFuture<MessageDto> committed = new CompletableFuture<>();
+			when(groupCommitter.submit(sendRequest, TEST_USER_ID)).thenReturn(committed);
+
+			// When
+			messageController.handleSendMessage(sendRequest, headerAccessor);
+
+			// Then
+			verify(messageService, never()).sendMessage(any(), any());
+			verify(receiptSender, never()).sendReceipt(any());
+			committed.complete(MessageDtoTestDataBuilder.aMessageDto().build());
+			verify(receiptSender).sendReceipt(headerAccessor);
+		}
+
+		@Test
+		@DisplayName("Should not acknowledge a queued message that failed")
+		void shouldNotAcknowledgeFailedMessage() {
+			// Given
+			when(groupCommitter.submit(sendRequest, TEST_USER_ID))
+					.thenReturn(
+							CompletableFuture.failedFuture(
+									new AccessDeniedException("not a participant")));
+
+			// When
+			messageController.handleSendMessage(sendRequest, headerAccessor);
+
+			// Then
+			verify(receiptSender, never()).sendReceipt(any());
 		}
 	}
 
@@ -255,6 +521,7 @@ class MessageControllerTest {
 			verify(headerAccessor, times(1)).getUser();
 			verify(authToken, times(1)).getPrincipal();
 			verify(messageService, times(1)).sendMessage(sendRequest, TEST_USER_ID);
+			verify(receiptSender).sendReceipt(headerAccessor);
 		}
 
 		@Test
@@ -642,16 +909,19 @@ class MessageControllerTest {
 			// When & Then
 			// The actual validation would be handled by Spring's validation framework
 			// Here we test the controller's behavior with null parameters
-			when(messageService.findConversationMessages(null, TEST_USER_ID))
+			when(messageService.findConversationMessages(null, TEST_USER_ID, null, null, 50))
 					.thenThrow(new IllegalArgumentException("Conversation ID cannot be null"));
 
 			IllegalArgumentException exception =
 					assertThrows(
 							IllegalArgumentException.class,
-							() -> messageController.getConversationMessages(null, currentUser));
+							() ->
+									messageController.getConversationMessages(
+											null, null, null, 50, currentUser));
 
 			assertEquals("Conversation ID cannot be null", exception.getMessage());
-			verify(messageService, times(1)).findConversationMessages(null, TEST_USER_ID);
+			verify(messageService, times(1))
+					.findConversationMessages(null, TEST_USER_ID, null, null, 50);
 		}
 
 		@Test
@@ -747,18 +1017,20 @@ class MessageControllerTest {
 									.withSenderId(specificUserId)
 									.build());
 
-			when(messageService.findConversationMessages(TEST_CONVERSATION_ID, specificUserId))
-					.thenReturn(messages);
+			when(messageService.findConversationMessages(
+							TEST_CONVERSATION_ID, specificUserId, null, null, 50))
+					.thenReturn(CursorPage.of(messages, null));
 
 			// When
-			ResponseEntity<ApiResponse<List<MessageDto>>> response =
-					messageController.getConversationMessages(TEST_CONVERSATION_ID, currentUser);
+			ResponseEntity<ApiResponse<CursorPage<MessageDto>>> response =
+					messageController.getConversationMessages(
+							TEST_CONVERSATION_ID, null, null, 50, currentUser);
 
 			// Then
 			assertNotNull(response);
 			assertEquals(HttpStatus.OK, response.getStatusCode());
 			verify(messageService, times(1))
-					.findConversationMessages(TEST_CONVERSATION_ID, specificUserId);
+					.findConversationMessages(TEST_CONVERSATION_ID, specificUserId, null, null, 50);
 		}
 
 		@Test
@@ -818,18 +1090,20 @@ class MessageControllerTest {
 			JwtUser currentUser = new JwtUser(TEST_EMAIL, TEST_USER_ID, null);
 
 			List<MessageDto> messages = Collections.emptyList();
-			when(messageService.findConversationMessages(largeConversationId, TEST_USER_ID))
-					.thenReturn(messages);
+			when(messageService.findConversationMessages(
+							largeConversationId, TEST_USER_ID, null, null, 50))
+					.thenReturn(CursorPage.of(messages, null));
 
 			// When
-			ResponseEntity<ApiResponse<List<MessageDto>>> response =
-					messageController.getConversationMessages(largeConversationId, currentUser);
+			ResponseEntity<ApiResponse<CursorPage<MessageDto>>> response =
+					messageController.getConversationMessages(
+							largeConversationId, null, null, 50, currentUser);
 
 			// Then
 			assertNotNull(response);
 			assertEquals(HttpStatus.OK, response.getStatusCode());
 			verify(messageService, times(1))
-					.findConversationMessages(largeConversationId, TEST_USER_ID);
+					.findConversationMessages(largeConversationId, TEST_USER_ID, null, null, 50);
 		}
 
 		@Test
@@ -887,7 +1161,8 @@ class MessageControllerTest {
 			JwtUser restUser = new JwtUser(TEST_EMAIL, TEST_USER_ID, null);
 
 			// Test REST endpoint behavior
-			when(messageService.findConversationMessages(TEST_CONVERSATION_ID, TEST_USER_ID))
+			when(messageService.findConversationMessages(
+							TEST_CONVERSATION_ID, TEST_USER_ID, null, null, 50))
 					.thenThrow(new AccessDeniedException("User is not a participant"));
 
 			// When & Then - REST endpoint
@@ -896,7 +1171,7 @@ class MessageControllerTest {
 							AccessDeniedException.class,
 							() ->
 									messageController.getConversationMessages(
-											TEST_CONVERSATION_ID, restUser));
+											TEST_CONVERSATION_ID, null, null, 50, restUser));
 
 			assertEquals("User is not a participant", restException.getMessage());
 
@@ -925,7 +1200,7 @@ class MessageControllerTest {
 
 			// Verify both endpoints called the service
 			verify(messageService, times(1))
-					.findConversationMessages(TEST_CONVERSATION_ID, TEST_USER_ID);
+					.findConversationMessages(TEST_CONVERSATION_ID, TEST_USER_ID, null, null, 50);
 			verify(messageService, times(1)).sendMessage(sendRequest, TEST_USER_ID);
 		}
 
@@ -936,7 +1211,8 @@ class MessageControllerTest {
 			JwtUser currentUser = new JwtUser(TEST_EMAIL, TEST_USER_ID, null);
 
 			// Test that all endpoints properly propagate service exceptions
-			when(messageService.findConversationMessages(TEST_CONVERSATION_ID, TEST_USER_ID))
+			when(messageService.findConversationMessages(
+							TEST_CONVERSATION_ID, TEST_USER_ID, null, null, 50))
 					.thenThrow(new RuntimeException("Service unavailable"));
 
 			doThrow(new RuntimeException("Service unavailable"))
@@ -949,7 +1225,7 @@ class MessageControllerTest {
 							RuntimeException.class,
 							() ->
 									messageController.getConversationMessages(
-											TEST_CONVERSATION_ID, currentUser));
+											TEST_CONVERSATION_ID, null, null, 50, currentUser));
 			assertEquals("Service unavailable", getException.getMessage());
 
 			// When & Then - Delete message
@@ -960,7 +1236,7 @@ class MessageControllerTest {
 			assertEquals("Service unavailable", deleteException.getMessage());
 
 			verify(messageService, times(1))
-					.findConversationMessages(TEST_CONVERSATION_ID, TEST_USER_ID);
+					.findConversationMessages(TEST_CONVERSATION_ID, TEST_USER_ID, null, null, 50);
 			verify(messageService, times(1)).deleteMessage(TEST_MESSAGE_ID, TEST_USER_ID);
 		}
 	}
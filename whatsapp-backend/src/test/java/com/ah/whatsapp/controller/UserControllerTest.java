@@ -6,6 +6,7 @@ package com.ah.whatsapp.controller;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -232,7 +233,7 @@ class UserControllerTest {
 
 			// When
 			ResponseEntity<ApiResponse<List<UserDto>>> response =
-					userController.searchUsers(SEARCH_QUERY, currentUser);
+					userController.searchUsers(SEARCH_QUERY, false, currentUser);
 
 			// Then
 			assertNotNull(response);
@@ -258,7 +259,7 @@ class UserControllerTest {
 
 			// When
 			ResponseEntity<ApiResponse<List<UserDto>>> response =
-					userController.searchUsers(nonMatchingQuery, currentUser);
+					userController.searchUsers(nonMatchingQuery, false, currentUser);
 
 			// Then
 			assertNotNull(response);
@@ -271,6 +272,25 @@ class UserControllerTest {
 
 			verify(userService, times(1)).searchUsers(nonMatchingQuery, TEST_USER_ID);
 		}
+
+		@Test
+		@DisplayName("Should use the typeahead search when requested")
+		void shouldUseTypeaheadSearchWhenRequested() {
+			// Given
+			JwtUser currentUser = new JwtUser(TEST_EMAIL, TEST_USER_ID, null);
+			List<UserDto> searchResults = List.of(UserDtoTestDataBuilder.aUserDto().build());
+			when(userService.typeaheadSearchUsers(SEARCH_QUERY, TEST_USER_ID))
+					.thenReturn(searchResults);
+
+			// When
+			ResponseEntity<ApiResponse<List<UserDto>>> response =
+					userController.searchUsers(SEARCH_QUERY, true, currentUser);
+
+			// Then
+			assertEquals(HttpStatus.OK, response.getStatusCode());
+			assertEquals(searchResults, Objects.requireNonNull(response.getBody()).getData());
+			verify(userService, never()).searchUsers(SEARCH_QUERY, TEST_USER_ID);
+		}
 	}
 
 	@Nested
@@ -387,6 +407,26 @@ class UserControllerTest {
 		}
 	}
 
+	@Nested
+	@DisplayName("Logout All Tests")
+	class LogoutAllTests {
+
+		@Test
+		@DisplayName("Should revoke all tokens of current user")
+		void shouldRevokeAllTokensOfCurrentUser() {
+			// Given
+			JwtUser currentUser = new JwtUser(TEST_EMAIL, TEST_USER_ID, null);
+
+			// When
+			ResponseEntity<ApiResponse<UUID>> response = userController.logoutAll(currentUser);
+
+			// Then
+			assertEquals(HttpStatus.OK, response.getStatusCode());
+			assertEquals(TEST_USER_ID, Objects.requireNonNull(response.getBody()).getData());
+			verify(userService, times(1)).revokeTokens(TEST_USER_ID);
+		}
+	}
+
 	@Nested
 	@DisplayName("Upload Profile Picture Tests")
 	class UploadProfilePictureTests {
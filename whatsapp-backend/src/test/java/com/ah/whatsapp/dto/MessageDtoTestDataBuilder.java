@@ -19,6 +19,7 @@ public class MessageDtoTestDataBuilder {
 	private String senderName = "Test Sender";
 	private String content = "Hello, this is a test message";
 	private LocalDateTime sentAt = LocalDateTime.now();
+	private Long seq = 1L;
 
 	public static MessageDtoTestDataBuilder aMessageDto() {
 		return new MessageDtoTestDataBuilder();
@@ -54,6 +55,11 @@ public class MessageDtoTestDataBuilder {
 		return this;
 	}
 
+	public MessageDtoTestDataBuilder withSeq(Long seq) {
+		this.seq = seq;
+		return this;
+	}
+
 	public MessageDtoTestDataBuilder withNullValues() {
 		this.id = null;
 		this.conversationId = null;
@@ -61,11 +67,12 @@ public class MessageDtoTestDataBuilder {
 		this.senderName = null;
 		this.content = null;
 		this.sentAt = null;
+		this.seq = null;
 		return this;
 	}
 
 	public MessageDto build() {
-		return new MessageDto(id, conversationId, senderId, senderName, content, sentAt);
+		return new MessageDto(id, conversationId, senderId, senderName, content, sentAt, seq);
 	}
 }
 
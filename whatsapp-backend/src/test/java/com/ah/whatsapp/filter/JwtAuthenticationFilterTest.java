@@ -14,6 +14,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
+import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -28,12 +29,14 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetailsService;
 
 import com.ah.whatsapp.exception.UnauthorizedException;
 import com.ah.whatsapp.model.JwtUser;
+import com.ah.whatsapp.util.JwtPrincipalResolver;
 import com.ah.whatsapp.util.JwtUtil;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -49,7 +52,7 @@ class JwtAuthenticationFilterTest {
 
 	@Mock private JwtUtil jwtUtil;
 
-	@Mock private UserDetailsService userDetailsService;
+	@Mock private JwtPrincipalResolver jwtPrincipalResolver;
 
 	@Mock private HttpServletRequest request;
 
@@ -65,11 +68,13 @@ class JwtAuthenticationFilterTest {
 
 	private String validToken;
 	private String testEmail;
+	private Claims claims;
 
 	@BeforeEach
 	void setUp() {
 		validToken = "valid.jwt.token";
 		testEmail = "test@example.com";
+		claims = Jwts.claims().subject(testEmail).build();
 	}
 
 	@Test
@@ -78,9 +83,8 @@ class JwtAuthenticationFilterTest {
 		// Given
 		String authorizationHeader = "Bearer " + validToken;
 		when(request.getHeader("Authorization")).thenReturn(authorizationHeader);
-		when(jwtUtil.validateToken(validToken)).thenReturn(true);
-		when(jwtUtil.extractEmail(validToken)).thenReturn(testEmail);
-		when(userDetailsService.loadUserByUsername(testEmail)).thenReturn(jwtUser);
+		when(jwtUtil.verifiedClaims(validToken)).thenReturn(Optional.of(claims));
+		when(jwtPrincipalResolver.resolve(claims)).thenReturn(jwtUser);
 
 		try (MockedStatic<SecurityContextHolder> mockedSecurityContextHolder =
 				Mockito.mockStatic(SecurityContextHolder.class)) {
@@ -103,9 +107,10 @@ class JwtAuthenticationFilterTest {
 			assertNull(capturedToken.getCredentials());
 
 			verify(filterChain).doFilter(request, response);
-			verify(jwtUtil).validateToken(validToken);
-			verify(jwtUtil).extractEmail(validToken);
-			verify(userDetailsService).loadUserByUsername(testEmail);
+			verify(jwtUtil).verifiedClaims(validToken);
+			verify(jwtUtil, never()).validateToken(anyString());
+			verify(jwtUtil, never()).extractEmail(anyString());
+			verify(jwtPrincipalResolver).resolve(claims);
 		}
 	}
 
@@ -116,8 +121,7 @@ class JwtAuthenticationFilterTest {
 		// Given
 		String authorizationHeader = "Bearer " + validToken;
 		when(request.getHeader("Authorization")).thenReturn(authorizationHeader);
-		when(jwtUtil.validateToken(validToken)).thenReturn(true);
-		when(jwtUtil.extractEmail(validToken)).thenReturn(testEmail);
+		when(jwtUtil.verifiedClaims(validToken)).thenReturn(Optional.of(claims));
 
 		UsernamePasswordAuthenticationToken existingAuth =
 				new UsernamePasswordAuthenticationToken(
@@ -135,7 +139,7 @@ class JwtAuthenticationFilterTest {
 			jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
 			// Then
-			verify(userDetailsService, never()).loadUserByUsername(anyString());
+			verify(jwtPrincipalResolver, never()).resolve(any());
 			verify(securityContext, never()).setAuthentication(any());
 			verify(filterChain).doFilter(request, response);
 		}
@@ -148,7 +152,7 @@ class JwtAuthenticationFilterTest {
 		String invalidToken = "invalid.token";
 		String authorizationHeader = "Bearer " + invalidToken;
 		when(request.getHeader("Authorization")).thenReturn(authorizationHeader);
-		when(jwtUtil.validateToken(invalidToken)).thenReturn(false);
+		when(jwtUtil.verifiedClaims(invalidToken)).thenReturn(Optional.empty());
 
 		try (MockedStatic<SecurityContextHolder> mockedSecurityContextHolder =
 				Mockito.mockStatic(SecurityContextHolder.class)) {
@@ -177,7 +181,7 @@ class JwtAuthenticationFilterTest {
 		String invalidToken = "malformed.token";
 		String authorizationHeader = "Bearer " + invalidToken;
 		when(request.getHeader("Authorization")).thenReturn(authorizationHeader);
-		when(jwtUtil.validateToken(invalidToken))
+		when(jwtUtil.verifiedClaims(invalidToken))
 				.thenThrow(new RuntimeException("Token parsing error"));
 
 		try (MockedStatic<SecurityContextHolder> mockedSecurityContextHolder =
@@ -210,9 +214,8 @@ class JwtAuthenticationFilterTest {
 		jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
 		// Then
-		verify(jwtUtil, never()).validateToken(anyString());
-		verify(jwtUtil, never()).extractEmail(anyString());
-		verify(userDetailsService, never()).loadUserByUsername(anyString());
+		verify(jwtUtil, never()).verifiedClaims(anyString());
+		verify(jwtPrincipalResolver, never()).resolve(any());
 		verify(filterChain).doFilter(request, response);
 	}
 
@@ -228,9 +231,8 @@ class JwtAuthenticationFilterTest {
 		jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
 		// Then
-		verify(jwtUtil, never()).validateToken(anyString());
-		verify(jwtUtil, never()).extractEmail(anyString());
-		verify(userDetailsService, never()).loadUserByUsername(anyString());
+		verify(jwtUtil, never()).verifiedClaims(anyString());
+		verify(jwtPrincipalResolver, never()).resolve(any());
 		verify(filterChain).doFilter(request, response);
 	}
 
@@ -244,21 +246,19 @@ class JwtAuthenticationFilterTest {
 		jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
 		// Then
-		verify(jwtUtil, never()).validateToken(anyString());
-		verify(jwtUtil, never()).extractEmail(anyString());
-		verify(userDetailsService, never()).loadUserByUsername(anyString());
+		verify(jwtUtil, never()).verifiedClaims(anyString());
+		verify(jwtPrincipalResolver, never()).resolve(any());
 		verify(filterChain).doFilter(request, response);
 	}
 
 	@Test
-	@DisplayName("Should handle user not found from UserDetailsService")
-	void shouldHandleUserNotFoundFromUserDetailsService() throws ServletException, IOException {
+	@DisplayName("Should handle user not found from JwtPrincipalResolver")
+	void shouldHandleUserNotFoundFromJwtPrincipalResolver() throws ServletException, IOException {
 		// Given
 		String authorizationHeader = "Bearer " + validToken;
 		when(request.getHeader("Authorization")).thenReturn(authorizationHeader);
-		when(jwtUtil.validateToken(validToken)).thenReturn(true);
-		when(jwtUtil.extractEmail(validToken)).thenReturn(testEmail);
-		when(userDetailsService.loadUserByUsername(testEmail)).thenReturn(null);
+		when(jwtUtil.verifiedClaims(validToken)).thenReturn(Optional.of(claims));
+		when(jwtPrincipalResolver.resolve(claims)).thenReturn(null);
 
 		try (MockedStatic<SecurityContextHolder> mockedSecurityContextHolder =
 				Mockito.mockStatic(SecurityContextHolder.class)) {
@@ -276,4 +276,36 @@ class JwtAuthenticationFilterTest {
 			verify(filterChain).doFilter(request, response);
 		}
 	}
+
+	@Test
+	@DisplayName("Should throw UnauthorizedException for revoked token")
+	void shouldThrowUnauthorizedExceptionForRevokedToken() throws ServletException, IOException {
+		// Given
+		String authorizationHeader = "Bearer " + validToken;
+		when(request.getHeader("Authorization")).thenReturn(authorizationHeader);
+		when(jwtUtil.verifiedClaims(validToken)).thenReturn(Optional.of(claims));
+		when(jwtPrincipalResolver.resolve(claims))
+				.thenThrow(new UnauthorizedException("Token has been revoked"));
+
+		try (MockedStatic<SecurityContextHolder> mockedSecurityContextHolder =
+				Mockito.mockStatic(SecurityContextHolder.class)) {
+
+			mockedSecurityContextHolder
+					.when(SecurityContextHolder::getContext)
+					.thenReturn(securityContext);
+			when(securityContext.getAuthentication()).thenReturn(null);
+
+			// When & Then
+			UnauthorizedException exception =
+					assertThrows(
+							UnauthorizedException.class,
+							() ->
+									jwtAuthenticationFilter.doFilterInternal(
+											request, response, filterChain));
+
+			assertEquals("Token has been revoked", exception.getMessage());
+			mockedSecurityContextHolder.verify(SecurityContextHolder::clearContext);
+			verify(filterChain, never()).doFilter(request, response);
+		}
+	}
 }
@@ -12,9 +12,13 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -26,6 +30,7 @@ import com.ah.whatsapp.entity.ConversationEntity;
 import com.ah.whatsapp.model.Conversation;
 import com.ah.whatsapp.model.ConversationParticipant;
 import com.ah.whatsapp.model.Message;
+import com.ah.whatsapp.repository.projection.InboxRow;
 
 public class ConversationMapperTest {
 
@@ -62,6 +67,68 @@ public class ConversationMapperTest {
 		assertEquals(entity.getUpdatedAt(), result.getUpdatedAt());
 	}
 
+	@Test
+	public void testToInboxDtos_GroupsParticipantRowsPerConversation() {
+		UUID firstId = UUID.randomUUID();
+		UUID secondId = UUID.randomUUID();
+		InboxRow alice = inboxRow(firstId, "Alice");
+		InboxRow bob = inboxRow(firstId, "Bob");
+		InboxRow carol = inboxRow(secondId, "Carol");
+		when(alice.getVersion()).thenReturn(6L);
+		when(alice.getUnreadCount()).thenReturn(3);
+
+		List<ConversationDto> result = conversationMapper.toInboxDtos(List.of(alice, bob, carol));
+
+		assertEquals(2, result.size());
+		assertEquals(firstId, result.get(0).getId());
+		assertEquals(6L, result.get(0).getVersion());
+		assertEquals(3, result.get(0).getUnreadCount());
+		assertEquals(
+				List.of("Alice", "Bob"),
+				result.get(0).getParticipants().stream().map(ParticipantDto::name).toList());
+		assertEquals(secondId, result.get(1).getId());
+		assertEquals("Carol", result.get(1).getParticipants().getFirst().name());
+		assertTrue(result.get(0).getMessages().isEmpty());
+		assertNull(result.get(0).getLastMessage());
+	}
+
+	@Test
+	public void testToInboxDtos_WithLastMessage() {
+		UUID conversationId = UUID.randomUUID();
+		UUID messageId = UUID.randomUUID();
+		UUID senderId = UUID.randomUUID();
+		LocalDateTime sentAt = LocalDateTime.of(2025, 1, 2, 3, 4, 5);
+		InboxRow row = inboxRow(conversationId, "John Doe");
+		when(row.getLastMessageId()).thenReturn(messageId);
+		when(row.getLastMessageContent()).thenReturn("Hello");
+		when(row.getLastMessageSentAt()).thenReturn(sentAt);
+		when(row.getLastMessageSeq()).thenReturn(3L);
+		when(row.getLastMessageSenderId()).thenReturn(senderId);
+		when(row.getLastMessageSenderName()).thenReturn("John Doe");
+
+		MessageDto result =
+				conversationMapper.toInboxDtos(List.of(row)).getFirst().getLastMessage();
+
+		assertEquals(
+				new MessageDto(
+						messageId, conversationId, senderId, "John Doe", "Hello", sentAt, 3L),
+				result);
+	}
+
+	@Test
+	public void testToInboxDtos_WithNoRows() {
+		assertTrue(conversationMapper.toInboxDtos(List.of()).isEmpty());
+	}
+
+	private InboxRow inboxRow(UUID conversationId, String participantName) {
+		InboxRow row = mock(InboxRow.class);
+		when(row.getId()).thenReturn(conversationId);
+		when(row.getParticipantId()).thenReturn(UUID.randomUUID());
+		when(row.getParticipantUserId()).thenReturn(UUID.randomUUID());
+		when(row.getParticipantName()).thenReturn(participantName);
+		return row;
+	}
+
 	@Test
 	public void testCreateNewConversation() {
 		Conversation result = conversationMapper.createNewConversation();
@@ -13,7 +13,11 @@ import static com.ah.whatsapp.mapper.UserTestDataBuilder.aUser;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -23,6 +27,7 @@ import com.ah.whatsapp.entity.ConversationEntity;
 import com.ah.whatsapp.entity.ConversationParticipantEntity;
 import com.ah.whatsapp.entity.UserEntity;
 import com.ah.whatsapp.model.ConversationParticipant;
+import com.ah.whatsapp.repository.projection.ParticipantRosterRow;
 
 public class ConversationParticipantMapperTest {
 
@@ -180,4 +185,33 @@ public class ConversationParticipantMapperTest {
 
 		assertConversationParticipantsAreEquivalent(originalModel, resultModel);
 	}
+
+	@Test
+	public void testToModelFromRosterRow() {
+		LocalDateTime joinedAt = LocalDateTime.of(2025, 1, 2, 3, 4, 5);
+		LocalDateTime lastReadAt = joinedAt.plusHours(1);
+		ParticipantRosterRow row = mock(ParticipantRosterRow.class);
+		when(row.getId()).thenReturn(PARTICIPANT_ID);
+		when(row.getUserId()).thenReturn(USER_ID);
+		when(row.getEmail()).thenReturn("john.doe@example.com");
+		when(row.getName()).thenReturn("John Doe");
+		when(row.getProfilePicture()).thenReturn("http://example.com/john.jpg");
+		when(row.getJoinedAt()).thenReturn(joinedAt);
+		when(row.getLastReadAt()).thenReturn(lastReadAt);
+		when(row.getUnreadCount()).thenReturn(4);
+
+		ConversationParticipant result = participantMapper.toModel(row, CONVERSATION_ID);
+
+		assertEquals(PARTICIPANT_ID, result.getId());
+		assertEquals(CONVERSATION_ID, result.getConversationId());
+		assertEquals(USER_ID, result.getParticipantId());
+		assertEquals("john.doe@example.com", result.getParticipantEmail());
+		assertEquals("John Doe", result.getParticipantName());
+		assertEquals("http://example.com/john.jpg", result.getParticipantProfilePicture());
+		assertEquals(joinedAt, result.getJoinedAt());
+		assertEquals(lastReadAt, result.getLastReadAt());
+		assertEquals(4, result.getUnreadCount());
+		assertNull(result.getLeftAt());
+		assertTrue(result.isActive());
+	}
 }
@@ -28,6 +28,7 @@ public class ConversationParticipantTestDataBuilder {
 	private boolean active = true;
 	private LocalDateTime leftAt = null;
 	private LocalDateTime lastReadAt = LocalDateTime.now().minusHours(1);
+	private int unreadCount;
 
 	public static ConversationParticipantTestDataBuilder aConversationParticipant() {
 		return new ConversationParticipantTestDataBuilder();
@@ -84,6 +85,11 @@ public class ConversationParticipantTestDataBuilder {
 		return this;
 	}
 
+	public ConversationParticipantTestDataBuilder withUnreadCount(int unreadCount) {
+		this.unreadCount = unreadCount;
+		return this;
+	}
+
 	public ConversationParticipantTestDataBuilder withInactiveState() {
 		this.active = false;
 		this.leftAt = LocalDateTime.now();
@@ -108,6 +114,7 @@ public class ConversationParticipantTestDataBuilder {
 		participant.setJoinedAt(joinedAt);
 		participant.setActive(active);
 		participant.setLeftAt(leftAt);
+		participant.setUnreadCount(unreadCount);
 		participant.setLastReadAt(lastReadAt);
 		return participant;
 	}
@@ -10,18 +10,23 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import com.ah.whatsapp.dto.MessageDto;
+import com.ah.whatsapp.dto.MessageSearchResultDto;
 import com.ah.whatsapp.entity.ConversationEntity;
 import com.ah.whatsapp.entity.MessageEntity;
 import com.ah.whatsapp.entity.UserEntity;
 import com.ah.whatsapp.model.Message;
 import com.ah.whatsapp.model.User;
+import com.ah.whatsapp.repository.projection.MessageSearchRow;
 
 public class MessageMapperTest {
 
@@ -84,6 +89,7 @@ public class MessageMapperTest {
 		User sender = aUser().build();
 
 		Message message = aMessage().withContent("Test message for DTO").withSender(sender).build();
+		message.setSeq(42L);
 
 		MessageDto result = messageMapper.toDto(message);
 
@@ -93,6 +99,40 @@ public class MessageMapperTest {
 		assertEquals(message.getSender().getName(), result.senderName());
 		assertEquals(message.getContent(), result.content());
 		assertEquals(message.getSentAt(), result.sentAt());
+		assertEquals(42L, result.seq());
+	}
+
+	@Test
+	public void testToSearchResultDto() {
+		UUID messageId = UUID.randomUUID();
+		UUID conversationId = UUID.randomUUID();
+		UUID senderId = UUID.randomUUID();
+		LocalDateTime sentAt = LocalDateTime.of(2025, 1, 2, 3, 4, 5);
+		MessageSearchRow row = mock(MessageSearchRow.class);
+		when(row.getId()).thenReturn(messageId);
+		when(row.getConversationId()).thenReturn(conversationId);
+		when(row.getSenderId()).thenReturn(senderId);
+		when(row.getSenderName()).thenReturn("John Doe");
+		when(row.getContent()).thenReturn("see you at the station");
+		when(row.getSentAt()).thenReturn(sentAt);
+		when(row.getRank()).thenReturn(0.25f);
+		when(row.getSeq()).thenReturn(9L);
+		when(row.getSnippet()).thenReturn("see you at the <mark>station</mark>");
+
+		MessageSearchResultDto result = messageMapper.toSearchResultDto(row);
+
+		assertEquals(
+				new MessageDto(
+						messageId,
+						conversationId,
+						senderId,
+						"John Doe",
+						"see you at the station",
+						sentAt,
+						9L),
+				result.message());
+		assertEquals("see you at the <mark>station</mark>", result.snippet());
+		assertEquals(0.25f, result.rank());
 	}
 
 	@Test
@@ -10,7 +10,6 @@ import static com.ah.whatsapp.mapper.UserTestDataBuilder.aUser;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
-import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
@@ -35,11 +34,10 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.ah.whatsapp.cache.ConversationSummaryCache;
 import com.ah.whatsapp.entity.ConversationEntity;
 import com.ah.whatsapp.entity.ConversationParticipantEntity;
 import com.ah.whatsapp.entity.UserEntity;
-import com.ah.whatsapp.exception.ConversationNotFoundException;
-import com.ah.whatsapp.exception.UserNotFoundException;
 import com.ah.whatsapp.mapper.ConversationParticipantMapper;
 import com.ah.whatsapp.model.ConversationParticipant;
 import com.ah.whatsapp.repository.entity.ConversationEntityRepository;
@@ -64,6 +62,8 @@ class ConversationParticipantRepositoryTest {
 
 	@Mock private ConversationParticipantMapper participantMapper;
 
+	@Mock private ConversationSummaryCache conversationSummaryCache;
+
 	@InjectMocks private ConversationParticipantRepositoryImpl conversationParticipantRepository;
 
 	private UUID conversationId;
@@ -110,71 +110,74 @@ class ConversationParticipantRepositoryTest {
 	class SaveOperationTests {
 
 		@Test
-		@DisplayName("Should save conversation participant successfully")
-		void save_WithValidParticipant_ShouldReturnSavedParticipant() {
+		@DisplayName("Should save conversation participant using references")
+		void save_WithValidParticipant_ShouldUseReferencesAndReturnParticipant() {
 			// Given
-			when(conversationEntityRepository.findById(conversationId))
-					.thenReturn(Optional.of(testConversationEntity));
-			when(userEntityRepository.findById(userId)).thenReturn(Optional.of(testUserEntity));
+			when(conversationEntityRepository.getReferenceById(conversationId))
+					.thenReturn(testConversationEntity);
+			when(userEntityRepository.getReferenceById(userId)).thenReturn(testUserEntity);
 			when(participantMapper.toEntity(
 							testParticipant, testConversationEntity, testUserEntity))
 					.thenReturn(testParticipantEntity);
 			when(participantEntityRepository.save(testParticipantEntity))
 					.thenReturn(testParticipantEntity);
-			when(participantMapper.toModel(testParticipantEntity)).thenReturn(testParticipant);
 
 			// When
 			ConversationParticipant result =
 					conversationParticipantRepository.save(testParticipant);
 
 			// Then
-			assertNotNull(result);
 			assertEquals(testParticipant, result);
-			verify(conversationEntityRepository).findById(conversationId);
-			verify(userEntityRepository).findById(userId);
-			verify(participantMapper)
-					.toEntity(testParticipant, testConversationEntity, testUserEntity);
+			assertEquals(participantId, result.getId());
 			verify(participantEntityRepository).save(testParticipantEntity);
-			verify(participantMapper).toModel(testParticipantEntity);
+			verify(conversationSummaryCache).invalidate(conversationId);
+			verify(conversationEntityRepository, never()).findById(any());
+			verify(userEntityRepository, never()).findById(any());
+			verify(participantMapper, never()).toModel(any());
 		}
 
 		@Test
-		@DisplayName("Should throw ConversationNotFoundException when conversation not found")
-		void save_WithNonExistentConversation_ShouldThrowConversationNotFoundException() {
+		@DisplayName("Should save all participants with one reference per conversation")
+		void saveAll_WithParticipants_ShouldShareReferencesAndSetIds() {
 			// Given
-			when(conversationEntityRepository.findById(conversationId))
-					.thenReturn(Optional.empty());
+			UUID otherUserId = UUID.randomUUID();
+			UserEntity otherUserEntity = aUser().withId(otherUserId).buildEntity();
+			ConversationParticipant other =
+					aConversationParticipant()
+							.withId(null)
+							.withConversationId(conversationId)
+							.withParticipantId(otherUserId)
+							.build();
+			testParticipant.setId(null);
+			ConversationParticipantEntity otherEntity =
+					aConversationParticipant()
+							.withConversationId(conversationId)
+							.withParticipantId(otherUserId)
+							.buildEntity(testConversationEntity, otherUserEntity);
+			List<ConversationParticipantEntity> entities =
+					List.of(testParticipantEntity, otherEntity);
 
-			// When & Then
-			ConversationNotFoundException exception =
-					assertThrows(
-							ConversationNotFoundException.class,
-							() -> conversationParticipantRepository.save(testParticipant));
+			when(conversationEntityRepository.getReferenceById(conversationId))
+					.thenReturn(testConversationEntity);
+			when(userEntityRepository.getReferenceById(userId)).thenReturn(testUserEntity);
+			when(userEntityRepository.getReferenceById(otherUserId)).thenReturn(otherUserEntity);
+			when(participantMapper.toEntity(
+							testParticipant, testConversationEntity, testUserEntity))
+					.thenReturn(testParticipantEntity);
+			when(participantMapper.toEntity(other, testConversationEntity, otherUserEntity))
+					.thenReturn(otherEntity);
+			when(participantEntityRepository.saveAll(entities)).thenReturn(entities);
 
-			assertEquals("Conversation not found: " + conversationId, exception.getMessage());
-			verify(conversationEntityRepository).findById(conversationId);
-			verify(userEntityRepository, never()).findById(any());
-			verify(participantEntityRepository, never()).save(any());
-		}
+			// When
+			List<ConversationParticipant> result =
+					conversationParticipantRepository.saveAll(List.of(testParticipant, other));
 
-		@Test
-		@DisplayName("Should throw UserNotFoundException when user not found")
-		void save_WithNonExistentUser_ShouldThrowUserNotFoundException() {
-			// Given
-			when(conversationEntityRepository.findById(conversationId))
-					.thenReturn(Optional.of(testConversationEntity));
-			when(userEntityRepository.findById(userId)).thenReturn(Optional.empty());
-
-			// When & Then
-			UserNotFoundException exception =
-					assertThrows(
-							UserNotFoundException.class,
-							() -> conversationParticipantRepository.save(testParticipant));
-
-			assertEquals("User not found: " + userId, exception.getMessage());
-			verify(conversationEntityRepository).findById(conversationId);
-			verify(userEntityRepository).findById(userId);
-			verify(participantEntityRepository, never()).save(any());
+			// Then
+			assertEquals(List.of(testParticipant, other), result);
+			assertEquals(participantId, result.get(0).getId());
+			assertEquals(otherEntity.getId(), result.get(1).getId());
+			verify(conversationEntityRepository).getReferenceById(conversationId);
+			verify(conversationSummaryCache).invalidate(conversationId);
 		}
 	}
 
@@ -10,15 +10,21 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -29,15 +35,24 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.ah.whatsapp.cache.ConversationSummaryCache;
+import com.ah.whatsapp.dto.ConversationDto;
 import com.ah.whatsapp.entity.ConversationEntity;
 import com.ah.whatsapp.mapper.ConversationMapper;
+import com.ah.whatsapp.mapper.ConversationParticipantMapper;
 import com.ah.whatsapp.model.Conversation;
+import com.ah.whatsapp.model.ConversationCursor;
 import com.ah.whatsapp.model.ConversationParticipant;
-import com.ah.whatsapp.model.Message;
+import com.ah.whatsapp.model.PreparedSend;
 import com.ah.whatsapp.repository.entity.ConversationEntityRepository;
 import com.ah.whatsapp.repository.impl.ConversationRepositoryImpl;
+import com.ah.whatsapp.repository.projection.InboxRow;
+import com.ah.whatsapp.repository.projection.ParticipantRosterRow;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 /**
  * Comprehensive Unit Tests for ConversationRepository
@@ -55,6 +70,12 @@ class ConversationRepositoryTest {
 
 	@Mock private ConversationMapper conversationMapper;
 
+	@Mock private ConversationParticipantMapper conversationParticipantMapper;
+
+	@Spy
+	private ConversationSummaryCache conversationSummaryCache =
+			new ConversationSummaryCache(100, Duration.ofMinutes(10), new SimpleMeterRegistry());
+
 	@InjectMocks private ConversationRepositoryImpl conversationRepository;
 
 	private Conversation testConversation;
@@ -158,6 +179,56 @@ class ConversationRepositoryTest {
 					.findByConversationIdAndIsActiveTrue(testConversationId);
 		}
 
+		@Test
+		@DisplayName("Should serve repeated lookups from the summary cache")
+		void findById_ShouldLoadOnce_WhenCalledTwice() {
+			// Given
+			when(conversationEntityRepository.findById(testConversationId))
+					.thenReturn(Optional.of(testConversationEntity));
+			when(conversationMapper.toModel(testConversationEntity)).thenReturn(testConversation);
+			when(messageRepository.findLatestByConversationId(testConversationId))
+					.thenReturn(Optional.empty());
+			when(conversationParticipantRepository.findByConversationIdAndIsActiveTrue(
+							testConversationId))
+					.thenReturn(Collections.emptyList());
+
+			// When
+			Conversation first = conversationRepository.findById(testConversationId).orElseThrow();
+			first.setUnreadCount(9);
+			Conversation second = conversationRepository.findById(testConversationId).orElseThrow();
+
+			// Then
+			assertEquals(0, second.getUnreadCount());
+			verify(conversationEntityRepository, times(1)).findById(testConversationId);
+			verify(messageRepository, times(1)).findLatestByConversationId(testConversationId);
+		}
+
+		@Test
+		@DisplayName("Should reload after a send invalidates the cached summary")
+		void findById_ShouldReload_AfterPrepareForSend() {
+			// Given
+			LocalDateTime now = LocalDateTime.now();
+			when(conversationEntityRepository.findById(testConversationId))
+					.thenReturn(Optional.of(testConversationEntity));
+			when(conversationMapper.toModel(testConversationEntity)).thenReturn(testConversation);
+			when(messageRepository.findLatestByConversationId(testConversationId))
+					.thenReturn(Optional.empty());
+			when(conversationParticipantRepository.findByConversationIdAndIsActiveTrue(
+							testConversationId))
+					.thenReturn(Collections.emptyList());
+			when(conversationEntityRepository.activateParticipantsForSend(
+							testConversationId, testUserId1, now, 1, true))
+					.thenReturn(Collections.emptyList());
+
+			// When
+			conversationRepository.findById(testConversationId);
+			conversationRepository.prepareForSend(testConversationId, testUserId1, now, 1, true);
+			conversationRepository.findById(testConversationId);
+
+			// Then
+			verify(conversationEntityRepository, times(2)).findById(testConversationId);
+		}
+
 		@Test
 		@DisplayName("Should return empty optional when no conversation found by ID")
 		void findById_ShouldReturnEmpty_WhenNoConversationExists() {
@@ -176,69 +247,49 @@ class ConversationRepositoryTest {
 	}
 
 	@Nested
-	@DisplayName("Find By User ID Tests")
-	class FindByUserIdTests {
+	@DisplayName("Find Inbox Page Tests")
+	class FindInboxPageTests {
 
 		@Test
-		@DisplayName("Should return conversations for user with loaded details")
-		void findByUserId_ShouldReturnConversationsWithDetails_WhenUserHasConversations() {
+		@DisplayName("Should read the first page when no cursor is given")
+		void findInboxPage_ShouldReadFirstPage_WhenCursorIsNull() {
 			// Given
-			List<ConversationEntity> entities = Arrays.asList(testConversationEntity);
-			List<UUID> conversationIds = Arrays.asList(testConversationId);
-			Map<UUID, Message> lastMessagesMap = new HashMap<>();
-			Map<UUID, List<ConversationParticipant>> participantsMap = new HashMap<>();
-
-			// Create a participant that matches testUserId1 to avoid NullPointerException
-			ConversationParticipant participant1 =
-					aConversationParticipant()
-							.withConversationId(testConversationId)
-							.withParticipantId(testUserId1)
-							.withParticipantName("Test User 1")
-							.withParticipantEmail("user1@example.com")
-							.build();
-
-			participantsMap.put(testConversationId, Arrays.asList(participant1));
-
-			when(conversationEntityRepository.findConversationsByUserId(testUserId1))
-					.thenReturn(entities);
-			when(messageRepository.findLatestMessagesForConversations(conversationIds))
-					.thenReturn(lastMessagesMap);
-			when(conversationParticipantRepository.findParticipantsForConversationsAndIsActiveTrue(
-							conversationIds))
-					.thenReturn(participantsMap);
-			when(conversationMapper.toModel(testConversationEntity)).thenReturn(testConversation);
+			InboxRow row = mock(InboxRow.class);
+			List<ConversationDto> conversations = List.of(new ConversationDto());
+			when(conversationEntityRepository.findInboxFirstPage(testUserId1, 21))
+					.thenReturn(List.of(row));
+			when(conversationMapper.toInboxDtos(List.of(row))).thenReturn(conversations);
 
 			// When
-			List<Conversation> conversations = conversationRepository.findByUserId(testUserId1);
+			List<ConversationDto> result =
+					conversationRepository.findInboxPage(testUserId1, null, 21);
 
 			// Then
-			assertNotNull(conversations);
-			assertEquals(1, conversations.size());
-			verify(conversationEntityRepository).findConversationsByUserId(testUserId1);
-			verify(messageRepository).findLatestMessagesForConversations(conversationIds);
-			verify(conversationParticipantRepository)
-					.findParticipantsForConversationsAndIsActiveTrue(conversationIds);
+			assertEquals(conversations, result);
+			verify(conversationEntityRepository, never())
+					.findInboxPageBefore(any(), any(), any(), anyInt());
+			verifyNoInteractions(conversationParticipantRepository, messageRepository);
 		}
 
 		@Test
-		@DisplayName("Should return empty list when user has no conversations")
-		void findByUserId_ShouldReturnEmptyList_WhenUserHasNoConversations() {
+		@DisplayName("Should continue after the cursor position")
+		void findInboxPage_ShouldReadPageBefore_WhenCursorIsGiven() {
 			// Given
-			when(conversationEntityRepository.findConversationsByUserId(testUserId1))
+			ConversationCursor cursor =
+					new ConversationCursor(LocalDateTime.now(), testConversationId);
+			when(conversationEntityRepository.findInboxPageBefore(
+							testUserId1, cursor.updatedAt(), cursor.id(), 21))
+					.thenReturn(Collections.emptyList());
+			when(conversationMapper.toInboxDtos(Collections.emptyList()))
 					.thenReturn(Collections.emptyList());
-			when(messageRepository.findLatestMessagesForConversations(Collections.emptyList()))
-					.thenReturn(Collections.emptyMap());
-			when(conversationParticipantRepository.findParticipantsForConversationsAndIsActiveTrue(
-							Collections.emptyList()))
-					.thenReturn(Collections.emptyMap());
 
 			// When
-			List<Conversation> conversations = conversationRepository.findByUserId(testUserId1);
+			List<ConversationDto> result =
+					conversationRepository.findInboxPage(testUserId1, cursor, 21);
 
 			// Then
-			assertNotNull(conversations);
-			assertTrue(conversations.isEmpty());
-			verify(conversationEntityRepository).findConversationsByUserId(testUserId1);
+			assertTrue(result.isEmpty());
+			verify(conversationEntityRepository, never()).findInboxFirstPage(any(), anyInt());
 		}
 	}
 
@@ -392,4 +443,91 @@ class ConversationRepositoryTest {
 					.findConversationsWithParticipants(Arrays.asList(testUserId1, testUserId2), 2L);
 		}
 	}
+
+	@Nested
+	@DisplayName("Prepare For Send Tests")
+	class PrepareForSendTests {
+
+		@Test
+		@DisplayName("Should build conversation from roster rows")
+		void prepareForSend_ShouldBuildConversation_WhenSenderIsActiveParticipant() {
+			// Given
+			LocalDateTime now = LocalDateTime.now();
+			LocalDateTime createdAt = now.minusDays(3);
+			ParticipantRosterRow row1 = mock(ParticipantRosterRow.class);
+			ParticipantRosterRow row2 = mock(ParticipantRosterRow.class);
+			when(row1.getConversationCreatedAt()).thenReturn(createdAt);
+			when(row1.getConversationVersion()).thenReturn(5L);
+			when(row1.getMessageSeq()).thenReturn(12L);
+			ConversationParticipant participant1 =
+					aConversationParticipant().withParticipantId(testUserId1).build();
+			ConversationParticipant participant2 =
+					aConversationParticipant().withParticipantId(testUserId2).build();
+
+			when(row2.isReactivated()).thenReturn(true);
+			when(conversationEntityRepository.activateParticipantsForSend(
+							testConversationId, testUserId1, now, 1, true))
+					.thenReturn(List.of(row1, row2));
+			when(conversationParticipantMapper.toModel(row1, testConversationId))
+					.thenReturn(participant1);
+			when(conversationParticipantMapper.toModel(row2, testConversationId))
+					.thenReturn(participant2);
+
+			// When
+			Optional<PreparedSend> result =
+					conversationRepository.prepareForSend(
+							testConversationId, testUserId1, now, 1, true);
+
+			// Then
+			assertTrue(result.isPresent());
+			Conversation conversation = result.get().conversation();
+			assertEquals(testConversationId, conversation.getId());
+			assertEquals(createdAt, conversation.getCreatedAt());
+			assertEquals(now, conversation.getUpdatedAt());
+			assertEquals(5L, conversation.getVersion());
+			assertEquals(List.of(participant1, participant2), conversation.getParticipants());
+			assertEquals(List.of(participant2), result.get().reactivated());
+			assertEquals(12L, result.get().messageSeq());
+		}
+
+		@Test
+		@DisplayName("Should return the first of the sequence numbers reserved for a batch")
+		void prepareForSend_ShouldReturnFirstReservedSeq_WhenSendingSeveralMessages() {
+			// Given
+			LocalDateTime now = LocalDateTime.now();
+			ParticipantRosterRow row = mock(ParticipantRosterRow.class);
+			when(row.getMessageSeq()).thenReturn(12L);
+			when(conversationEntityRepository.activateParticipantsForSend(
+							testConversationId, testUserId1, now, 3, true))
+					.thenReturn(List.of(row));
+			when(conversationParticipantMapper.toModel(row, testConversationId))
+					.thenReturn(aConversationParticipant().withParticipantId(testUserId1).build());
+
+			// When
+			Optional<PreparedSend> result =
+					conversationRepository.prepareForSend(
+							testConversationId, testUserId1, now, 3, true);
+
+			// Then
+			assertEquals(10L, result.orElseThrow().messageSeq());
+		}
+
+		@Test
+		@DisplayName("Should return empty when sender is not an active participant")
+		void prepareForSend_ShouldReturnEmpty_WhenNoRosterRows() {
+			// Given
+			LocalDateTime now = LocalDateTime.now();
+			when(conversationEntityRepository.activateParticipantsForSend(
+							testConversationId, testUserId1, now, 1, true))
+					.thenReturn(Collections.emptyList());
+
+			// When
+			Optional<PreparedSend> result =
+					conversationRepository.prepareForSend(
+							testConversationId, testUserId1, now, 1, true);
+
+			// Then
+			assertFalse(result.isPresent());
+		}
+	}
 }
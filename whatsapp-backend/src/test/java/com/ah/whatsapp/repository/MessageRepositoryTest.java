@@ -4,13 +4,16 @@
  */
 package com.ah.whatsapp.repository;
 
+import static com.ah.whatsapp.dto.MessageDtoTestDataBuilder.aMessageDto;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
-import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyFloat;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -19,7 +22,6 @@ import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -31,21 +33,24 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
+import com.ah.whatsapp.dto.MessageSearchResultDto;
 import com.ah.whatsapp.entity.ConversationEntity;
 import com.ah.whatsapp.entity.MessageEntity;
 import com.ah.whatsapp.entity.UserEntity;
-import com.ah.whatsapp.exception.ConversationNotFoundException;
-import com.ah.whatsapp.exception.UserNotFoundException;
 import com.ah.whatsapp.mapper.MessageMapper;
 import com.ah.whatsapp.mapper.MessageTestDataBuilder;
 import com.ah.whatsapp.mapper.UserTestDataBuilder;
 import com.ah.whatsapp.model.Message;
+import com.ah.whatsapp.model.MessageCursor;
+import com.ah.whatsapp.model.MessageSearchCursor;
 import com.ah.whatsapp.model.User;
 import com.ah.whatsapp.repository.entity.ConversationEntityRepository;
 import com.ah.whatsapp.repository.entity.MessageEntityRepository;
 import com.ah.whatsapp.repository.entity.UserEntityRepository;
 import com.ah.whatsapp.repository.impl.MessageRepositoryImpl;
+import com.ah.whatsapp.repository.projection.MessageSearchRow;
 
 /**
  * Comprehensive Unit Tests for MessageRepository
@@ -120,71 +125,101 @@ class MessageRepositoryTest {
 	class SaveMessageTests {
 
 		@Test
-		@DisplayName("Should save message successfully when conversation and user exist")
-		void save_ShouldReturnSavedMessage_WhenValidMessageProvided() {
+		@DisplayName("Should save message using references without loading them")
+		void save_ShouldUseReferencesAndReturnMessage() {
 			// Given
-			when(conversationEntityRepository.findById(testConversationId))
-					.thenReturn(Optional.of(testConversationEntity));
-			when(userEntityRepository.findById(testUserId)).thenReturn(Optional.of(testUserEntity));
+			when(conversationEntityRepository.getReferenceById(testConversationId))
+					.thenReturn(testConversationEntity);
+			when(userEntityRepository.getReferenceById(testUserId)).thenReturn(testUserEntity);
 			when(messageMapper.toEntity(testMessage, testConversationEntity, testUserEntity))
 					.thenReturn(testMessageEntity);
 			when(messageEntityRepository.save(testMessageEntity)).thenReturn(testMessageEntity);
-			when(messageMapper.toModel(testMessageEntity)).thenReturn(testMessage);
 
 			// When
 			Message savedMessage = messageRepository.save(testMessage);
 
 			// Then
-			assertNotNull(savedMessage);
-			assertEquals(testMessage.getId(), savedMessage.getId());
+			assertEquals(testMessageId, savedMessage.getId());
 			assertEquals(testMessage.getContent(), savedMessage.getContent());
-
-			// Verify interactions
-			verify(conversationEntityRepository).findById(testConversationId);
-			verify(userEntityRepository).findById(testUserId);
-			verify(messageMapper).toEntity(testMessage, testConversationEntity, testUserEntity);
 			verify(messageEntityRepository).save(testMessageEntity);
-			verify(messageMapper).toModel(testMessageEntity);
+			verify(conversationEntityRepository, never()).findById(any());
+			verify(userEntityRepository, never()).findById(any());
+			verify(messageMapper, never()).toModel(any());
 		}
 
 		@Test
-		@DisplayName("Should throw ConversationNotFoundException when conversation does not exist")
-		void save_ShouldThrowConversationNotFoundException_WhenConversationDoesNotExist() {
+		@DisplayName("Should save all messages with one reference per conversation and sender")
+		void saveAll_ShouldShareReferencesAndSetGeneratedIds() {
 			// Given
-			when(conversationEntityRepository.findById(testConversationId))
-					.thenReturn(Optional.empty());
+			Message first =
+					messageTestDataBuilder
+							.withId(null)
+							.withConversationId(testConversationId)
+							.withSender(testUser)
+							.withContent("first")
+							.build();
+			Message second =
+					messageTestDataBuilder
+							.withId(null)
+							.withConversationId(testConversationId)
+							.withSender(testUser)
+							.withContent("second")
+							.build();
+			MessageEntity firstEntity = new MessageEntity();
+			firstEntity.setId(UUID.randomUUID());
+			MessageEntity secondEntity = new MessageEntity();
+			secondEntity.setId(UUID.randomUUID());
+			List<MessageEntity> entities = List.of(firstEntity, secondEntity);
+
+			when(conversationEntityRepository.getReferenceById(testConversationId))
+					.thenReturn(testConversationEntity);
+			when(userEntityRepository.getReferenceById(testUserId)).thenReturn(testUserEntity);
+			when(messageMapper.toEntity(first, testConversationEntity, testUserEntity))
+					.thenReturn(firstEntity);
+			when(messageMapper.toEntity(second, testConversationEntity, testUserEntity))
+					.thenReturn(secondEntity);
+			when(messageEntityRepository.saveAll(entities)).thenReturn(entities);
 
-			// When & Then
-			ConversationNotFoundException exception =
-					assertThrows(
-							ConversationNotFoundException.class,
-							() -> {
-								messageRepository.save(testMessage);
-							});
+			// When
+			List<Message> result = messageRepository.saveAll(List.of(first, second));
 
-			assertNotNull(exception);
-			verify(conversationEntityRepository).findById(testConversationId);
+			// Then
+			assertEquals(List.of(first, second), result);
+			assertEquals(firstEntity.getId(), first.getId());
+			assertEquals(secondEntity.getId(), second.getId());
+			verify(conversationEntityRepository).getReferenceById(testConversationId);
+			verify(userEntityRepository).getReferenceById(testUserId);
 		}
+	}
+
+	@Nested
+	@DisplayName("Insert Message Tests")
+	class InsertMessageTests {
 
 		@Test
-		@DisplayName("Should throw UserNotFoundException when sender does not exist")
-		void save_ShouldThrowUserNotFoundException_WhenSenderDoesNotExist() {
+		@DisplayName("Should insert using references and return message with generated ID")
+		void insert_ShouldUseReferencesAndSetGeneratedId() {
 			// Given
-			when(conversationEntityRepository.findById(testConversationId))
-					.thenReturn(Optional.of(testConversationEntity));
-			when(userEntityRepository.findById(testUserId)).thenReturn(Optional.empty());
-
-			// When & Then
-			UserNotFoundException exception =
-					assertThrows(
-							UserNotFoundException.class,
-							() -> {
-								messageRepository.save(testMessage);
-							});
-
-			assertNotNull(exception);
-			verify(conversationEntityRepository).findById(testConversationId);
-			verify(userEntityRepository).findById(testUserId);
+			testMessage.setId(null);
+			MessageEntity savedEntity = new MessageEntity();
+			savedEntity.setId(testMessageId);
+
+			when(conversationEntityRepository.getReferenceById(testConversationId))
+					.thenReturn(testConversationEntity);
+			when(userEntityRepository.getReferenceById(testUserId)).thenReturn(testUserEntity);
+			when(messageMapper.toEntity(testMessage, testConversationEntity, testUserEntity))
+					.thenReturn(testMessageEntity);
+			when(messageEntityRepository.save(testMessageEntity)).thenReturn(savedEntity);
+
+			// When
+			Message result = messageRepository.insert(testMessage);
+
+			// Then
+			assertEquals(testMessageId, result.getId());
+			assertEquals(testUser, result.getSender());
+			verify(conversationEntityRepository, never()).findById(any());
+			verify(userEntityRepository, never()).findById(any());
+			verify(messageMapper, never()).toModel(any());
 		}
 	}
 
@@ -283,200 +318,211 @@ class MessageRepositoryTest {
 	}
 
 	@Nested
-	@DisplayName("Delete Tests")
-	class DeleteTests {
+	@DisplayName("Cursor Page Tests")
+	class CursorPageTests {
 
 		@Test
-		@DisplayName("Should delete message successfully")
-		void delete_ShouldDeleteMessage_WhenValidIdProvided() {
+		@DisplayName("Should fetch latest page when no cursor is given")
+		void findPageBefore_ShouldFetchLatestPage_WhenCursorIsNull() {
 			// Given
-			doNothing().when(messageEntityRepository).deleteById(testMessageId);
+			LocalDateTime joinedAt = LocalDateTime.now().minusDays(1);
+			when(messageEntityRepository.findLatestPage(testConversationId, joinedAt, Limit.of(21)))
+					.thenReturn(List.of(testMessageEntity));
+			when(messageMapper.toModel(testMessageEntity)).thenReturn(testMessage);
 
 			// When
-			messageRepository.delete(testMessageId);
+			List<Message> messages =
+					messageRepository.findPageBefore(testConversationId, joinedAt, null, 21);
 
 			// Then
-			verify(messageEntityRepository).deleteById(testMessageId);
+			assertEquals(List.of(testMessage), messages);
+			verify(messageEntityRepository, never())
+					.findPageBefore(any(), any(), any(), any(), any(Limit.class));
 		}
 
 		@Test
-		@DisplayName("Should handle deletion of non-existent message")
-		void delete_ShouldHandleNonExistentMessage_WhenIdDoesNotExist() {
+		@DisplayName("Should fetch page older than cursor")
+		void findPageBefore_ShouldUseCursorPosition_WhenCursorIsGiven() {
 			// Given
-			UUID nonExistentId = UUID.randomUUID();
-			doNothing().when(messageEntityRepository).deleteById(nonExistentId);
+			LocalDateTime joinedAt = LocalDateTime.now().minusDays(1);
+			MessageCursor cursor = new MessageCursor(LocalDateTime.now(), UUID.randomUUID());
+			when(messageEntityRepository.findPageBefore(
+							testConversationId,
+							joinedAt,
+							cursor.sentAt(),
+							cursor.id(),
+							Limit.of(21)))
+					.thenReturn(List.of(testMessageEntity));
+			when(messageMapper.toModel(testMessageEntity)).thenReturn(testMessage);
 
 			// When
-			messageRepository.delete(nonExistentId);
+			List<Message> messages =
+					messageRepository.findPageBefore(testConversationId, joinedAt, cursor, 21);
 
 			// Then
-			verify(messageEntityRepository).deleteById(nonExistentId);
+			assertEquals(List.of(testMessage), messages);
+			verify(messageEntityRepository, never()).findLatestPage(any(), any(), any(Limit.class));
 		}
-	}
-
-	@Nested
-	@DisplayName("Find Latest By Conversation ID Tests")
-	class FindLatestByConversationIdTests {
 
 		@Test
-		@DisplayName("Should return latest message when conversation has messages")
-		void findLatestByConversationId_ShouldReturnLatestMessage_WhenConversationHasMessages() {
+		@DisplayName("Should fetch page newer than cursor")
+		void findPageAfter_ShouldUseCursorPosition() {
 			// Given
-			when(messageEntityRepository.findByConversationIdOrderBySentAtDesc(testConversationId))
-					.thenReturn(Optional.of(testMessageEntity));
-			when(messageMapper.toModel(testMessageEntity)).thenReturn(testMessage);
+			LocalDateTime joinedAt = LocalDateTime.now().minusDays(1);
+			MessageCursor cursor = new MessageCursor(LocalDateTime.now(), UUID.randomUUID());
+			when(messageEntityRepository.findPageAfter(
+							testConversationId,
+							joinedAt,
+							cursor.sentAt(),
+							cursor.id(),
+							Limit.of(21)))
+					.thenReturn(Collections.emptyList());
 
 			// When
-			Optional<Message> latestMessage =
-					messageRepository.findLatestByConversationId(testConversationId);
+			List<Message> messages =
+					messageRepository.findPageAfter(testConversationId, joinedAt, cursor, 21);
 
 			// Then
-			assertTrue(latestMessage.isPresent());
-			assertEquals(testMessage.getId(), latestMessage.get().getId());
-			verify(messageEntityRepository)
-					.findByConversationIdOrderBySentAtDesc(testConversationId);
-			verify(messageMapper).toModel(testMessageEntity);
+			assertTrue(messages.isEmpty());
 		}
 
 		@Test
-		@DisplayName("Should return empty when conversation has no messages")
-		void findLatestByConversationId_ShouldReturnEmpty_WhenConversationHasNoMessages() {
+		@DisplayName("Should fetch messages numbered after the sequence number")
+		void findPageSince_ShouldQueryBySeq() {
 			// Given
-			when(messageEntityRepository.findByConversationIdOrderBySentAtDesc(testConversationId))
-					.thenReturn(Optional.empty());
+			LocalDateTime joinedAt = LocalDateTime.now().minusDays(1);
+			when(messageEntityRepository.findPageSince(
+							testConversationId, joinedAt, 7L, Limit.of(21)))
+					.thenReturn(List.of(testMessageEntity));
+			when(messageMapper.toModel(testMessageEntity)).thenReturn(testMessage);
 
 			// When
-			Optional<Message> latestMessage =
-					messageRepository.findLatestByConversationId(testConversationId);
+			List<Message> messages =
+					messageRepository.findPageSince(testConversationId, joinedAt, 7L, 21);
 
 			// Then
-			assertFalse(latestMessage.isPresent());
-			verify(messageEntityRepository)
-					.findByConversationIdOrderBySentAtDesc(testConversationId);
+			assertEquals(List.of(testMessage), messages);
 		}
 	}
 
 	@Nested
-	@DisplayName("Find Latest Messages For Conversations Tests")
-	class FindLatestMessagesForConversationsTests {
+	@DisplayName("Search Tests")
+	class SearchTests {
 
 		@Test
-		@DisplayName("Should return latest messages for multiple conversations")
-		void
-				findLatestMessagesForConversations_ShouldReturnLatestMessages_WhenConversationsHaveMessages() {
+		@DisplayName("Should read the best matches when no cursor is given")
+		void search_ShouldReadFirstPage_WhenCursorIsNull() {
 			// Given
-			UUID conversationId2 = UUID.randomUUID();
-			List<UUID> conversationIds = Arrays.asList(testConversationId, conversationId2);
-
-			UUID messageId2 = UUID.randomUUID();
-			List<UUID> latestMessageIds = Arrays.asList(testMessageId, messageId2);
-
-			Message message2 =
-					messageTestDataBuilder
-							.withId(messageId2)
-							.withConversationId(conversationId2)
-							.withContent("Second message")
-							.build();
+			UUID userId = UUID.randomUUID();
+			MessageSearchRow row = mock(MessageSearchRow.class);
+			MessageSearchResultDto result =
+					new MessageSearchResultDto(aMessageDto().build(), "<mark>hello</mark>", 0.1f);
+			when(messageEntityRepository.searchFirstPage(userId, "hello", 21))
+					.thenReturn(List.of(row));
+			when(messageMapper.toSearchResultDto(row)).thenReturn(result);
 
-			MessageEntity messageEntity2 = new MessageEntity();
-			messageEntity2.setId(messageId2);
-			messageEntity2.setContent("Second message");
+			// When
+			List<MessageSearchResultDto> results =
+					messageRepository.search(userId, "hello", null, 21);
 
-			List<MessageEntity> latestEntities = Arrays.asList(testMessageEntity, messageEntity2);
+			// Then
+			assertEquals(List.of(result), results);
+			verify(messageEntityRepository, never())
+					.searchPageAfter(any(), any(), anyFloat(), any(), any(), anyInt());
+		}
 
-			when(messageEntityRepository.findLatestMessageIdsForConversationIds(conversationIds))
-					.thenReturn(latestMessageIds);
-			when(messageEntityRepository.findMessagesByIdsWithSender(latestMessageIds))
-					.thenReturn(latestEntities);
-			when(messageMapper.toModel(testMessageEntity)).thenReturn(testMessage);
-			when(messageMapper.toModel(messageEntity2)).thenReturn(message2);
+		@Test
+		@DisplayName("Should continue after the cursor position")
+		void search_ShouldUseCursorPosition_WhenCursorIsGiven() {
+			// Given
+			UUID userId = UUID.randomUUID();
+			MessageSearchCursor cursor =
+					new MessageSearchCursor(0.5f, LocalDateTime.now(), UUID.randomUUID());
+			when(messageEntityRepository.searchPageAfter(
+							userId, "hello", 0.5f, cursor.sentAt(), cursor.id(), 21))
+					.thenReturn(Collections.emptyList());
 
 			// When
-			Map<UUID, Message> latestMessages =
-					messageRepository.findLatestMessagesForConversations(conversationIds);
+			List<MessageSearchResultDto> results =
+					messageRepository.search(userId, "hello", cursor, 21);
 
 			// Then
-			assertNotNull(latestMessages);
-			assertEquals(2, latestMessages.size());
-			assertTrue(latestMessages.containsKey(testConversationId));
-			assertTrue(latestMessages.containsKey(conversationId2));
-			assertEquals(testMessage.getId(), latestMessages.get(testConversationId).getId());
-			assertEquals(message2.getId(), latestMessages.get(conversationId2).getId());
-			verify(messageEntityRepository).findLatestMessageIdsForConversationIds(conversationIds);
-			verify(messageEntityRepository).findMessagesByIdsWithSender(latestMessageIds);
+			assertTrue(results.isEmpty());
+			verify(messageEntityRepository, never()).searchFirstPage(any(), any(), anyInt());
 		}
+	}
+
+	@Nested
+	@DisplayName("Delete Tests")
+	class DeleteTests {
 
 		@Test
-		@DisplayName("Should return empty map when conversations have no messages")
-		void
-				findLatestMessagesForConversations_ShouldReturnEmptyMap_WhenConversationsHaveNoMessages() {
+		@DisplayName("Should delete message successfully")
+		void delete_ShouldDeleteMessage_WhenValidIdProvided() {
 			// Given
-			List<UUID> conversationIds = Arrays.asList(testConversationId);
-			when(messageEntityRepository.findLatestMessageIdsForConversationIds(conversationIds))
-					.thenReturn(Collections.emptyList());
+			doNothing().when(messageEntityRepository).deleteById(testMessageId);
 
 			// When
-			Map<UUID, Message> latestMessages =
-					messageRepository.findLatestMessagesForConversations(conversationIds);
+			messageRepository.delete(testMessageId);
 
 			// Then
-			assertNotNull(latestMessages);
-			assertTrue(latestMessages.isEmpty());
-			verify(messageEntityRepository).findLatestMessageIdsForConversationIds(conversationIds);
+			verify(messageEntityRepository).deleteById(testMessageId);
 		}
 
 		@Test
-		@DisplayName("Should handle empty conversation IDs list")
-		void
-				findLatestMessagesForConversations_ShouldReturnEmptyMap_WhenConversationIdsListIsEmpty() {
+		@DisplayName("Should handle deletion of non-existent message")
+		void delete_ShouldHandleNonExistentMessage_WhenIdDoesNotExist() {
 			// Given
-			List<UUID> emptyConversationIds = Collections.emptyList();
+			UUID nonExistentId = UUID.randomUUID();
+			doNothing().when(messageEntityRepository).deleteById(nonExistentId);
 
 			// When
-			Map<UUID, Message> latestMessages =
-					messageRepository.findLatestMessagesForConversations(emptyConversationIds);
+			messageRepository.delete(nonExistentId);
 
 			// Then
-			assertNotNull(latestMessages);
-			assertTrue(latestMessages.isEmpty());
-			// Should not call repository methods when list is empty
-			verify(messageEntityRepository, never()).findLatestMessageIdsForConversationIds(any());
-			verify(messageEntityRepository, never()).findMessagesByIdsWithSender(any());
+			verify(messageEntityRepository).deleteById(nonExistentId);
 		}
+	}
+
+	@Nested
+	@DisplayName("Find Latest By Conversation ID Tests")
+	class FindLatestByConversationIdTests {
 
 		@Test
-		@DisplayName("Should handle null conversation IDs list")
-		void
-				findLatestMessagesForConversations_ShouldReturnEmptyMap_WhenConversationIdsListIsNull() {
+		@DisplayName("Should return latest message when conversation has messages")
+		void findLatestByConversationId_ShouldReturnLatestMessage_WhenConversationHasMessages() {
+			// Given
+			when(messageEntityRepository.findByConversationIdOrderBySentAtDesc(testConversationId))
+					.thenReturn(Optional.of(testMessageEntity));
+			when(messageMapper.toModel(testMessageEntity)).thenReturn(testMessage);
+
 			// When
-			Map<UUID, Message> latestMessages =
-					messageRepository.findLatestMessagesForConversations(null);
+			Optional<Message> latestMessage =
+					messageRepository.findLatestByConversationId(testConversationId);
 
 			// Then
-			assertNotNull(latestMessages);
-			assertTrue(latestMessages.isEmpty());
-			// Should not call repository methods when list is null
-			verify(messageEntityRepository, never()).findLatestMessageIdsForConversationIds(any());
-			verify(messageEntityRepository, never()).findMessagesByIdsWithSender(any());
+			assertTrue(latestMessage.isPresent());
+			assertEquals(testMessage.getId(), latestMessage.get().getId());
+			verify(messageEntityRepository)
+					.findByConversationIdOrderBySentAtDesc(testConversationId);
+			verify(messageMapper).toModel(testMessageEntity);
 		}
 
 		@Test
-		@DisplayName("Should handle empty message IDs from first query")
-		void findLatestMessagesForConversations_ShouldReturnEmptyMap_WhenNoLatestMessageIdsFound() {
+		@DisplayName("Should return empty when conversation has no messages")
+		void findLatestByConversationId_ShouldReturnEmpty_WhenConversationHasNoMessages() {
 			// Given
-			List<UUID> conversationIds = Arrays.asList(testConversationId);
-			when(messageEntityRepository.findLatestMessageIdsForConversationIds(conversationIds))
-					.thenReturn(Collections.emptyList());
+			when(messageEntityRepository.findByConversationIdOrderBySentAtDesc(testConversationId))
+					.thenReturn(Optional.empty());
 
 			// When
-			Map<UUID, Message> latestMessages =
-					messageRepository.findLatestMessagesForConversations(conversationIds);
+			Optional<Message> latestMessage =
+					messageRepository.findLatestByConversationId(testConversationId);
 
 			// Then
-			assertNotNull(latestMessages);
-			assertTrue(latestMessages.isEmpty());
-			verify(messageEntityRepository).findLatestMessageIdsForConversationIds(conversationIds);
-			verify(messageEntityRepository, never()).findMessagesByIdsWithSender(any());
+			assertFalse(latestMessage.isPresent());
+			verify(messageEntityRepository)
+					.findByConversationIdOrderBySentAtDesc(testConversationId);
 		}
 	}
 }
@@ -0,0 +1,103 @@
+/*
+ * WhatsApp Clone - Backend Service
+ * Copyright (c) 2025
+ */
+package com.ah.whatsapp.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.ah.whatsapp.dto.DeleteMessageEvent;
+import com.ah.whatsapp.entity.OutboxEventEntity;
+import com.ah.whatsapp.enums.EventType;
+import com.ah.whatsapp.model.OutboxEvent;
+import com.ah.whatsapp.repository.entity.OutboxEventEntityRepository;
+import com.ah.whatsapp.repository.impl.OutboxRepositoryImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxRepository Tests")
+class OutboxRepositoryTest {
+
+	@Mock private OutboxEventEntityRepository outboxEventEntityRepository;
+
+	private OutboxRepositoryImpl outboxRepository;
+	private UUID conversationId;
+
+	@BeforeEach
+	void setUp() {
+		outboxRepository =
+				new OutboxRepositoryImpl(outboxEventEntityRepository, new ObjectMapper());
+		conversationId = UUID.randomUUID();
+	}
+
+	@Test
+	@DisplayName("Should append the event type and the payload as JSON")
+	void append_ShouldSerializePayload() {
+		// Given
+		UUID messageId = UUID.randomUUID();
+
+		// When
+		outboxRepository.append(
+				conversationId,
+				EventType.DELETE_MESSAGE,
+				new DeleteMessageEvent(messageId, conversationId));
+
+		// Then
+		verify(outboxEventEntityRepository)
+				.append(
+						conversationId,
+						"DELETE_MESSAGE",
+						"{\"messageId\":\""
+								+ messageId
+								+ "\",\"conversationId\":\""
+								+ conversationId
+								+ "\"}");
+	}
+
+	@Test
+	@DisplayName("Should map claimed rows to events")
+	void lockNextBatch_ShouldMapRows() {
+		// Given
+		OutboxEventEntity entity = new OutboxEventEntity();
+		entity.setId(7L);
+		entity.setConversationId(conversationId);
+		entity.setSeq(3);
+		entity.setEventType(EventType.NEW_MESSAGE);
+		entity.setPayload("{}");
+		when(outboxEventEntityRepository.lockNextBatch(50)).thenReturn(List.of(entity));
+
+		// When
+		List<OutboxEvent> events = outboxRepository.lockNextBatch(50);
+
+		// Then
+		assertEquals(
+				List.of(new OutboxEvent(7L, conversationId, 3, EventType.NEW_MESSAGE, "{}")),
+				events);
+	}
+
+	@Test
+	@DisplayName("Should delete relayed events by ID and skip an empty batch")
+	void deleteAll_ShouldDeleteByIds() {
+		// When
+		outboxRepository.deleteAll(
+				List.of(new OutboxEvent(7L, conversationId, 3, EventType.NEW_MESSAGE, "{}")));
+		outboxRepository.deleteAll(List.of());
+
+		// Then
+		verify(outboxEventEntityRepository).deleteAllByIdInBatch(List.of(7L));
+		verify(outboxEventEntityRepository, never()).deleteAllByIdInBatch(List.of());
+	}
+}
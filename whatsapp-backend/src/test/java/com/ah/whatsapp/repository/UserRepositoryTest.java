@@ -9,6 +9,10 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -26,7 +30,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
+import com.ah.whatsapp.cache.UserPrefixIndex;
 import com.ah.whatsapp.entity.UserEntity;
 import com.ah.whatsapp.mapper.UserMapper;
 import com.ah.whatsapp.model.User;
@@ -45,6 +51,8 @@ class UserRepositoryTest {
 
 	@Mock private UserMapper userMapper;
 
+	@Mock private UserPrefixIndex userPrefixIndex;
+
 	@InjectMocks private UserRepositoryImpl userRepository;
 
 	private User testUser;
@@ -103,6 +111,7 @@ class UserRepositoryTest {
 			verify(userMapper).toEntity(testUser);
 			verify(userEntityRepository).save(testUserEntity);
 			verify(userMapper).toModel(testUserEntity);
+			verify(userPrefixIndex).put(testUser);
 		}
 
 		@Test
@@ -281,6 +290,29 @@ class UserRepositoryTest {
 		}
 	}
 
+	@Nested
+	@DisplayName("Load Prefix Index Tests")
+	class LoadPrefixIndexTests {
+
+		@Test
+		@DisplayName("Should start from the lowest id in PostgreSQL's uuid order")
+		void loadPrefixIndex_ShouldStartFromZeroId() {
+			// Given
+			when(userPrefixIndex.isEnabled()).thenReturn(true);
+			when(userEntityRepository.findByIdGreaterThanOrderByIdAsc(
+							eq(new UUID(0, 0)), any(Limit.class)))
+					.thenReturn(List.of(testUserEntity));
+			when(userMapper.toModel(testUserEntity)).thenReturn(testUser);
+
+			// When
+			userRepository.loadPrefixIndex();
+
+			// Then
+			verify(userPrefixIndex).put(testUser);
+			verify(userPrefixIndex).markReady();
+		}
+	}
+
 	@Nested
 	@DisplayName("Search Users Tests")
 	class SearchUsersTests {
@@ -293,37 +325,55 @@ class UserRepositoryTest {
 			UUID excludeUserId = UUID.randomUUID();
 			List<UserEntity> entityResults = Arrays.asList(testUserEntity);
 
-			when(userEntityRepository.searchUsers(query, excludeUserId)).thenReturn(entityResults);
+			when(userEntityRepository.searchUsers(query, excludeUserId, 20))
+					.thenReturn(entityResults);
 			when(userMapper.toModel(testUserEntity)).thenReturn(testUser);
 
 			// When
-			List<User> results = userRepository.searchUsers(query, excludeUserId);
+			List<User> results = userRepository.searchUsers(query, excludeUserId, 20);
 
 			// Then
 			assertNotNull(results);
 			assertEquals(1, results.size());
 			assertEquals(testUser.getId(), results.get(0).getId());
 			assertEquals(testUser.getName(), results.get(0).getName());
-			verify(userEntityRepository).searchUsers(query, excludeUserId);
+			verify(userEntityRepository).searchUsers(query, excludeUserId, 20);
 			verify(userMapper).toModel(testUserEntity);
 		}
 
+		@Test
+		@DisplayName("Should answer from the prefix index without querying the database")
+		void searchUsers_ShouldUsePrefixIndex_WhenIndexHasEnoughMatches() {
+			// Given
+			String query = "Jo";
+			UUID excludeUserId = UUID.randomUUID();
+			when(userPrefixIndex.search(query, excludeUserId, 20))
+					.thenReturn(Optional.of(List.of(testUser)));
+
+			// When
+			List<User> results = userRepository.searchUsers(query, excludeUserId, 20);
+
+			// Then
+			assertEquals(List.of(testUser), results);
+			verify(userEntityRepository, never()).searchUsers(any(), any(), anyInt());
+		}
+
 		@Test
 		@DisplayName("Should return empty list when no users match search criteria")
 		void searchUsers_ShouldReturnEmptyList_WhenNoUsersMatch() {
 			// Given
 			String query = "NonExistent";
 			UUID excludeUserId = UUID.randomUUID();
-			when(userEntityRepository.searchUsers(query, excludeUserId))
+			when(userEntityRepository.searchUsers(query, excludeUserId, 20))
 					.thenReturn(Collections.emptyList());
 
 			// When
-			List<User> results = userRepository.searchUsers(query, excludeUserId);
+			List<User> results = userRepository.searchUsers(query, excludeUserId, 20);
 
 			// Then
 			assertNotNull(results);
 			assertTrue(results.isEmpty());
-			verify(userEntityRepository).searchUsers(query, excludeUserId);
+			verify(userEntityRepository).searchUsers(query, excludeUserId, 20);
 		}
 
 		@Test
@@ -341,17 +391,18 @@ class UserRepositoryTest {
 
 			List<UserEntity> entityResults = Arrays.asList(testUserEntity, secondEntity);
 
-			when(userEntityRepository.searchUsers(query, excludeUserId)).thenReturn(entityResults);
+			when(userEntityRepository.searchUsers(query, excludeUserId, 20))
+					.thenReturn(entityResults);
 			when(userMapper.toModel(testUserEntity)).thenReturn(testUser);
 			when(userMapper.toModel(secondEntity)).thenReturn(secondUser);
 
 			// When
-			List<User> results = userRepository.searchUsers(query, excludeUserId);
+			List<User> results = userRepository.searchUsers(query, excludeUserId, 20);
 
 			// Then
 			assertNotNull(results);
 			assertEquals(2, results.size());
-			verify(userEntityRepository).searchUsers(query, excludeUserId);
+			verify(userEntityRepository).searchUsers(query, excludeUserId, 20);
 		}
 
 		@Test
@@ -360,16 +411,16 @@ class UserRepositoryTest {
 			// Given
 			String query = "";
 			UUID excludeUserId = UUID.randomUUID();
-			when(userEntityRepository.searchUsers(query, excludeUserId))
+			when(userEntityRepository.searchUsers(query, excludeUserId, 20))
 					.thenReturn(Collections.emptyList());
 
 			// When
-			List<User> results = userRepository.searchUsers(query, excludeUserId);
+			List<User> results = userRepository.searchUsers(query, excludeUserId, 20);
 
 			// Then
 			assertNotNull(results);
 			assertTrue(results.isEmpty());
-			verify(userEntityRepository).searchUsers(query, excludeUserId);
+			verify(userEntityRepository).searchUsers(query, excludeUserId, 20);
 		}
 	}
 
@@ -15,13 +15,17 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -38,13 +42,17 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 
+import com.ah.whatsapp.dto.ConversationDeltaDto;
 import com.ah.whatsapp.dto.ConversationDto;
 import com.ah.whatsapp.dto.CreateConversationRequest;
-import com.ah.whatsapp.event.ConversationUpdateEvent;
+import com.ah.whatsapp.dto.CursorPage;
+import com.ah.whatsapp.event.ConversationDeltaEvent;
 import com.ah.whatsapp.exception.ConversationNotFoundException;
+import com.ah.whatsapp.exception.InvalidCursorException;
 import com.ah.whatsapp.exception.UserNotFoundException;
 import com.ah.whatsapp.mapper.ConversationMapper;
 import com.ah.whatsapp.model.Conversation;
+import com.ah.whatsapp.model.ConversationCursor;
 import com.ah.whatsapp.model.ConversationParticipant;
 import com.ah.whatsapp.model.User;
 import com.ah.whatsapp.repository.ConversationParticipantRepository;
@@ -226,40 +234,116 @@ class ConversationServiceImplTest {
 	class FindUserConversationsTests {
 
 		@Test
-		@DisplayName("Should return list of conversations when user exists")
-		void findUserConversations_ShouldReturnList_WhenUserExists() {
+		@DisplayName("Should return a cursor when more conversations exist")
+		void findUserConversations_ShouldReturnNextCursor_WhenMoreConversationsExist() {
 			// Given
-			List<Conversation> conversations = Arrays.asList(testConversation);
-			List<ConversationDto> conversationDtos = Arrays.asList(testConversationDto);
+			LocalDateTime now = LocalDateTime.now();
+			ConversationDto newest =
+					aConversationDto().withId(UUID.randomUUID()).withUpdatedAt(now).build();
+			ConversationDto middle =
+					aConversationDto()
+							.withId(UUID.randomUUID())
+							.withUpdatedAt(now.minusMinutes(1))
+							.build();
+			ConversationDto oldest =
+					aConversationDto()
+							.withId(UUID.randomUUID())
+							.withUpdatedAt(now.minusMinutes(2))
+							.build();
+			when(conversationRepository.findInboxPage(testUserId1, null, 3))
+					.thenReturn(List.of(newest, middle, oldest));
 
-			when(userRepository.existsById(testUserId1)).thenReturn(true);
-			when(conversationRepository.findByUserId(testUserId1)).thenReturn(conversations);
-			when(conversationMapper.toDto(testConversation)).thenReturn(testConversationDto);
+			// When
+			CursorPage<ConversationDto> page =
+					conversationService.findUserConversations(testUserId1, null, 2);
+
+			// Then
+			assertEquals(List.of(newest, middle), page.items());
+			assertTrue(page.hasMore());
+			assertEquals(
+					new ConversationCursor(middle.getUpdatedAt(), middle.getId()),
+					ConversationCursor.decode(page.nextCursor()));
+		}
+
+		@Test
+		@DisplayName("Should continue from the cursor and stop on the last page")
+		void findUserConversations_ShouldContinueFromCursor_WhenCursorIsGiven() {
+			// Given
+			ConversationCursor cursor =
+					new ConversationCursor(LocalDateTime.now(), UUID.randomUUID());
+			when(conversationRepository.findInboxPage(testUserId1, cursor, 51))
+					.thenReturn(List.of(testConversationDto));
 
 			// When
-			List<ConversationDto> result = conversationService.findUserConversations(testUserId1);
+			CursorPage<ConversationDto> page =
+					conversationService.findUserConversations(testUserId1, cursor.encode(), 50);
 
 			// Then
-			assertNotNull(result);
-			assertEquals(1, result.size());
-			assertEquals(testConversationId, result.get(0).getId());
+			assertEquals(List.of(testConversationDto), page.items());
+			assertFalse(page.hasMore());
+			assertNull(page.nextCursor());
+		}
+
+		@Test
+		@DisplayName("Should cap the page size")
+		void findUserConversations_ShouldCapPageSize_WhenLimitIsTooLarge() {
+			// Given
+			when(conversationRepository.findInboxPage(testUserId1, null, 101))
+					.thenReturn(Collections.emptyList());
+
+			// When
+			CursorPage<ConversationDto> page =
+					conversationService.findUserConversations(testUserId1, null, 10_000);
 
-			verify(userRepository).existsById(testUserId1);
-			verify(conversationRepository).findByUserId(testUserId1);
+			// Then
+			assertTrue(page.items().isEmpty());
+			assertFalse(page.hasMore());
 		}
 
 		@Test
-		@DisplayName("Should throw UserNotFoundException when user does not exist")
-		void findUserConversations_ShouldThrowException_WhenUserNotFound() {
+		@DisplayName("Should walk every page of the inbox in order")
+		void forEachUserConversation_ShouldWalkAllPages() {
 			// Given
-			when(userRepository.existsById(testUserId1)).thenReturn(false);
+			LocalDateTime now = LocalDateTime.now();
+			List<ConversationDto> firstPage = new ArrayList<>();
+			for (int i = 0; i < 100; i++) {
+				firstPage.add(
+						aConversationDto()
+								.withId(UUID.randomUUID())
+								.withUpdatedAt(now.minusSeconds(i))
+								.build());
+			}
+			ConversationDto last = firstPage.getLast();
+			when(conversationRepository.findInboxPage(testUserId1, null, 100))
+					.thenReturn(firstPage);
+			when(conversationRepository.findInboxPage(
+							testUserId1,
+							new ConversationCursor(last.getUpdatedAt(), last.getId()),
+							100))
+					.thenReturn(List.of(testConversationDto));
+			List<ConversationDto> visited = new ArrayList<>();
+
+			// When
+			conversationService.forEachUserConversation(testUserId1, visited::add);
+
+			// Then
+			assertEquals(101, visited.size());
+			assertEquals(firstPage.getFirst(), visited.getFirst());
+			assertEquals(testConversationDto, visited.getLast());
+			verify(conversationRepository, times(2)).findInboxPage(eq(testUserId1), any(), eq(100));
+		}
 
+		@Test
+		@DisplayName("Should throw InvalidCursorException when cursor is malformed")
+		void findUserConversations_ShouldThrowException_WhenCursorIsMalformed() {
 			// When & Then
 			assertThrows(
-					UserNotFoundException.class,
-					() -> conversationService.findUserConversations(testUserId1));
+					InvalidCursorException.class,
+					() ->
+							conversationService.findUserConversations(
+									testUserId1, "not-a-cursor", 50));
 
-			verify(conversationRepository, never()).findByUserId(any());
+			verify(conversationRepository, never()).findInboxPage(any(), any(), anyInt());
 		}
 	}
 
@@ -292,6 +376,35 @@ class ConversationServiceImplTest {
 			verify(conversationMapper).toDto(testConversation);
 		}
 
+		@Test
+		@DisplayName("Should carry the requesting user's unread count")
+		void findConversationByIdAndUser_ShouldSetUnreadCountOfRequestingUser() {
+			// Given
+			testConversation.setParticipants(
+					List.of(
+							aConversationParticipant()
+									.withParticipantId(testUserId1)
+									.withUnreadCount(2)
+									.build(),
+							aConversationParticipant()
+									.withParticipantId(testUserId2)
+									.withUnreadCount(5)
+									.build()));
+			when(userRepository.existsById(testUserId1)).thenReturn(true);
+			when(conversationParticipantRepository.existsByConversationIdAndUserIdAndIsActiveTrue(
+							testConversationId, testUserId1))
+					.thenReturn(true);
+			when(conversationRepository.findById(testConversationId))
+					.thenReturn(Optional.of(testConversation));
+			when(conversationMapper.toDto(testConversation)).thenReturn(testConversationDto);
+
+			// When
+			conversationService.findConversationByIdAndUser(testConversationId, testUserId1);
+
+			// Then
+			assertEquals(2, testConversation.getUnreadCount());
+		}
+
 		@Test
 		@DisplayName("Should throw AccessDeniedException when user is not participant")
 		void findConversationByIdAndUser_ShouldThrowException_WhenUserNotParticipant() {
@@ -609,7 +722,7 @@ class ConversationServiceImplTest {
 	class MarkConversationAsReadTests {
 
 		@Test
-		@DisplayName("Should update last read time and publish event when user is participant")
+		@DisplayName("Should reset unread count and publish read delta when user is participant")
 		void markConversationAsRead_ShouldUpdateLastReadTime_WhenUserIsParticipant() {
 			// Given
 			ConversationParticipant participant =
@@ -618,35 +731,53 @@ class ConversationServiceImplTest {
 							.withParticipantId(testUserId1)
 							.withActive(true)
 							.build();
+			ConversationParticipant otherParticipant =
+					aConversationParticipant()
+							.withConversationId(testConversationId)
+							.withParticipantId(testUserId2)
+							.withActive(true)
+							.build();
 
-			when(conversationParticipantRepository.findByConversationIdAndUserIdAndIsActiveTrue(
-							testConversationId, testUserId1))
-					.thenReturn(Optional.of(participant));
-			when(conversationRepository.findById(testConversationId))
-					.thenReturn(Optional.of(testConversation));
-			when(conversationMapper.toDto(testConversation)).thenReturn(testConversationDto);
+			when(conversationParticipantRepository.markAsRead(
+							eq(testConversationId), eq(testUserId1), any(LocalDateTime.class)))
+					.thenReturn(true);
+			when(conversationParticipantRepository.findByConversationIdAndIsActiveTrue(
+							testConversationId))
+					.thenReturn(List.of(participant, otherParticipant));
+			when(conversationRepository.findVersionById(testConversationId))
+					.thenReturn(Optional.of(4L));
 
 			// When
 			conversationService.markConversationAsRead(testConversationId, testUserId1);
 
 			// Then
-			ArgumentCaptor<ConversationParticipant> participantCaptor =
-					ArgumentCaptor.forClass(ConversationParticipant.class);
-			verify(conversationParticipantRepository).save(participantCaptor.capture());
+			ArgumentCaptor<LocalDateTime> readAtCaptor =
+					ArgumentCaptor.forClass(LocalDateTime.class);
+			verify(conversationParticipantRepository)
+					.markAsRead(eq(testConversationId), eq(testUserId1), readAtCaptor.capture());
+			assertNotNull(readAtCaptor.getValue());
+			verify(conversationParticipantRepository, never()).save(any());
 
-			ConversationParticipant savedParticipant = participantCaptor.getValue();
-			assertNotNull(savedParticipant.getLastReadAt());
+			ArgumentCaptor<ConversationDeltaEvent> eventCaptor =
+					ArgumentCaptor.forClass(ConversationDeltaEvent.class);
+			verify(applicationEventPublisher).publishEvent(eventCaptor.capture());
+			ConversationDeltaDto delta = eventCaptor.getValue().getDelta();
+			assertEquals(4L, delta.version());
+			assertEquals(testUserId1, delta.readByUserId());
+			assertEquals(readAtCaptor.getValue(), delta.readAt());
+			assertEquals(2, eventCaptor.getValue().getRecipients().size());
 
-			verify(applicationEventPublisher).publishEvent(any(ConversationUpdateEvent.class));
+			// The read receipt does not reload the conversation
+			verify(conversationRepository, never()).findById(any());
 		}
 
 		@Test
 		@DisplayName("Should throw AccessDeniedException when user is not participant")
 		void markConversationAsRead_ShouldThrowException_WhenUserNotParticipant() {
 			// Given
-			when(conversationParticipantRepository.findByConversationIdAndUserIdAndIsActiveTrue(
-							testConversationId, testUserId1))
-					.thenReturn(Optional.empty());
+			when(conversationParticipantRepository.markAsRead(
+							eq(testConversationId), eq(testUserId1), any(LocalDateTime.class)))
+					.thenReturn(false);
 
 			// When & Then
 			assertThrows(
@@ -655,7 +786,6 @@ class ConversationServiceImplTest {
 							conversationService.markConversationAsRead(
 									testConversationId, testUserId1));
 
-			verify(conversationParticipantRepository, never()).save(any());
 			verify(applicationEventPublisher, never()).publishEvent(any());
 		}
 	}
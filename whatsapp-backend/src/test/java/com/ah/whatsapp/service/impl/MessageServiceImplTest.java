@@ -11,12 +11,16 @@ import static com.ah.whatsapp.mapper.ConversationTestDataBuilder.aConversation;
 import static com.ah.whatsapp.mapper.MessageTestDataBuilder.aMessage;
 import static com.ah.whatsapp.mapper.UserTestDataBuilder.aUser;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
-import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -39,13 +43,21 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 
-import com.ah.whatsapp.dto.ConversationDto;
+import com.ah.whatsapp.dto.ConversationDeltaDto;
+import com.ah.whatsapp.dto.CursorPage;
+import com.ah.whatsapp.dto.DeleteMessageEvent;
+import com.ah.whatsapp.dto.MessageBatchDto;
 import com.ah.whatsapp.dto.MessageDto;
+import com.ah.whatsapp.dto.MessageSearchResultDto;
+import com.ah.whatsapp.dto.ParticipantDto;
 import com.ah.whatsapp.dto.SendMessageRequest;
-import com.ah.whatsapp.event.ConversationUpdateEvent;
+import com.ah.whatsapp.enums.EventType;
+import com.ah.whatsapp.event.ConversationDeltaEvent;
 import com.ah.whatsapp.event.MessageDeletedEvent;
 import com.ah.whatsapp.event.NewMessageEvent;
+import com.ah.whatsapp.event.ParticipantsReactivatedEvent;
 import com.ah.whatsapp.exception.ConversationNotFoundException;
+import com.ah.whatsapp.exception.InvalidCursorException;
 import com.ah.whatsapp.exception.MessageNotFoundException;
 import com.ah.whatsapp.exception.UserNotFoundException;
 import com.ah.whatsapp.mapper.ConversationMapper;
@@ -53,10 +65,15 @@ import com.ah.whatsapp.mapper.MessageMapper;
 import com.ah.whatsapp.model.Conversation;
 import com.ah.whatsapp.model.ConversationParticipant;
 import com.ah.whatsapp.model.Message;
+import com.ah.whatsapp.model.MessageCursor;
+import com.ah.whatsapp.model.MessageSearchCursor;
+import com.ah.whatsapp.model.MessageSubmission;
+import com.ah.whatsapp.model.PreparedSend;
 import com.ah.whatsapp.model.User;
 import com.ah.whatsapp.repository.ConversationParticipantRepository;
 import com.ah.whatsapp.repository.ConversationRepository;
 import com.ah.whatsapp.repository.MessageRepository;
+import com.ah.whatsapp.repository.OutboxRepository;
 import com.ah.whatsapp.repository.UserRepository;
 
 @ExtendWith(MockitoExtension.class)
@@ -71,6 +88,8 @@ class MessageServiceImplTest {
 
 	@Mock private ConversationParticipantRepository conversationParticipantRepository;
 
+	@Mock private OutboxRepository outboxRepository;
+
 	@Mock private MessageMapper messageMapper;
 
 	@Mock private ConversationMapper conversationMapper;
@@ -121,35 +140,45 @@ class MessageServiceImplTest {
 	@DisplayName("Send Message Tests")
 	class SendMessageTests {
 
-		@Test
-		@DisplayName("Should send message successfully when all conditions are met")
-		void shouldSendMessageSuccessfully() {
-			// Given
-			ConversationParticipant inactiveParticipant =
+		private Conversation preparedConversation;
+
+		@BeforeEach
+		void setUpPreparedConversation() {
+			ConversationParticipant senderParticipant =
+					aConversationParticipant()
+							.withConversationId(conversationId)
+							.withParticipantId(senderId)
+							.withParticipantName("Sender Name")
+							.withParticipantEmail("sender@example.com")
+							.withActive(true)
+							.build();
+			ConversationParticipant otherParticipant =
 					aConversationParticipant()
 							.withConversationId(conversationId)
 							.withParticipantId(UUID.randomUUID())
-							.withActive(false)
+							.withActive(true)
 							.build();
+			preparedConversation =
+					aConversation()
+							.withId(conversationId)
+							.withParticipants(List.of(senderParticipant, otherParticipant))
+							.withLastMessage(null)
+							.build();
+		}
 
-			List<ConversationParticipant> participants =
-					Arrays.asList(participant, inactiveParticipant);
-			ConversationDto conversationDto = new ConversationDto();
-			conversationDto.setId(conversationId);
-			conversationDto.setCreatedAt(LocalDateTime.now());
-			conversationDto.setUpdatedAt(LocalDateTime.now());
-
-			when(userRepository.findById(senderId)).thenReturn(Optional.of(sender));
-			when(conversationRepository.findById(conversationId))
-					.thenReturn(Optional.of(conversation));
-			when(conversationParticipantRepository.existsByConversationIdAndUserIdAndIsActiveTrue(
-							conversationId, senderId))
-					.thenReturn(true);
-			when(conversationParticipantRepository.findByConversationId(conversationId))
-					.thenReturn(participants);
-			when(messageRepository.save(any(Message.class))).thenReturn(message);
+		@Test
+		@DisplayName("Should send message successfully when all conditions are met")
+		void shouldSendMessageSuccessfully() {
+			// Given
+			when(conversationRepository.prepareForSend(
+							eq(conversationId),
+							eq(senderId),
+							any(LocalDateTime.class),
+							eq(1),
+							eq(true)))
+					.thenReturn(Optional.of(new PreparedSend(preparedConversation, List.of(), 7L)));
+			when(messageRepository.insert(any(Message.class))).thenReturn(message);
 			when(messageMapper.toDto(message)).thenReturn(messageDto);
-			when(conversationMapper.toDto(conversation)).thenReturn(conversationDto);
 
 			// When
 			MessageDto result = messageService.sendMessage(sendMessageRequest, senderId);
@@ -158,32 +187,135 @@ class MessageServiceImplTest {
 			assertNotNull(result);
 			assertEquals(messageId, result.id());
 
-			// Verify repository interactions
-			verify(userRepository).findById(senderId);
-			verify(conversationRepository, times(2)).findById(conversationId);
-			verify(conversationParticipantRepository)
-					.existsByConversationIdAndUserIdAndIsActiveTrue(conversationId, senderId);
-			verify(conversationParticipantRepository).findByConversationId(conversationId);
-			verify(messageRepository).save(any(Message.class));
-			verify(conversationRepository).save(any(Conversation.class));
-
-			// Verify inactive participant was activated
-			verify(conversationParticipantRepository).save(eq(inactiveParticipant));
+			// Verify the message was inserted with the sender taken from the roster
+			ArgumentCaptor<Message> messageCaptor = ArgumentCaptor.forClass(Message.class);
+			verify(messageRepository).insert(messageCaptor.capture());
+			Message inserted = messageCaptor.getValue();
+			assertEquals(conversationId, inserted.getConversationId());
+			assertEquals(senderId, inserted.getSender().getId());
+			assertEquals("Sender Name", inserted.getSender().getName());
+			assertEquals("Test message", inserted.getContent());
+			assertEquals(7L, inserted.getSeq());
+
+			// Verify nothing is reloaded or re-saved
+			verify(userRepository, never()).findById(any());
+			verify(conversationRepository, never()).findById(any());
+			verify(conversationRepository, never()).save(any());
+			verify(conversationParticipantRepository, never()).save(any());
+			verify(messageRepository, never()).save(any());
 
-			// Verify events were published
+			// Verify the broadcast goes through the outbox and events were published
+			verify(outboxRepository).append(conversationId, EventType.NEW_MESSAGE, messageDto);
 			verify(eventPublisher).publishEvent(any(NewMessageEvent.class));
-			verify(eventPublisher).publishEvent(any(ConversationUpdateEvent.class));
+			verify(eventPublisher).publishEvent(any(ConversationDeltaEvent.class));
+		}
 
-			// Verify message mapping
-			verify(messageMapper).toDto(message);
-			verify(conversationMapper).toDto(conversation);
+		@Test
+		@DisplayName("Should announce every reactivated participant in one event")
+		void shouldPublishOneEventForReactivatedParticipants() {
+			// Given
+			ConversationParticipant returning = preparedConversation.getParticipants().get(1);
+			ParticipantDto returningDto =
+					new ParticipantDto(
+							returning.getId(),
+							returning.getParticipantId(),
+							null,
+							null,
+							null,
+							null,
+							null,
+							null);
+			when(conversationRepository.prepareForSend(
+							eq(conversationId),
+							eq(senderId),
+							any(LocalDateTime.class),
+							eq(1),
+							eq(true)))
+					.thenReturn(
+							Optional.of(
+									new PreparedSend(
+											preparedConversation, List.of(returning), 7L)));
+			when(conversationMapper.toParticipantDto(returning)).thenReturn(returningDto);
+			when(messageRepository.insert(any(Message.class))).thenReturn(message);
+			when(messageMapper.toDto(message)).thenReturn(messageDto);
+
+			// When
+			messageService.sendMessage(sendMessageRequest, senderId);
+
+			// Then
+			ArgumentCaptor<ParticipantsReactivatedEvent> eventCaptor =
+					ArgumentCaptor.forClass(ParticipantsReactivatedEvent.class);
+			verify(eventPublisher).publishEvent(eventCaptor.capture());
+			ParticipantsReactivatedEvent event = eventCaptor.getValue();
+			assertEquals(conversationId, event.getReactivation().conversationId());
+			assertEquals(List.of(returningDto), event.getReactivation().participants());
+			assertEquals(preparedConversation.getParticipants(), event.getRecipients());
+			verify(conversationParticipantRepository, never()).save(any());
+		}
+
+		@Test
+		@DisplayName("Should not announce reactivation when everyone was already active")
+		void shouldNotPublishReactivationWhenNobodyRejoined() {
+			// Given
+			when(conversationRepository.prepareForSend(
+							eq(conversationId),
+							eq(senderId),
+							any(LocalDateTime.class),
+							eq(1),
+							eq(true)))
+					.thenReturn(Optional.of(new PreparedSend(preparedConversation, List.of(), 7L)));
+			when(messageRepository.insert(any(Message.class))).thenReturn(message);
+			when(messageMapper.toDto(message)).thenReturn(messageDto);
+
+			// When
+			messageService.sendMessage(sendMessageRequest, senderId);
+
+			// Then
+			verify(eventPublisher, never()).publishEvent(any(ParticipantsReactivatedEvent.class));
+		}
+
+		@Test
+		@DisplayName("Should publish a conversation delta built from the prepared conversation")
+		void shouldPublishConversationDeltaFromDataInHand() {
+			// Given
+			preparedConversation.setVersion(7);
+			when(conversationRepository.prepareForSend(
+							eq(conversationId),
+							eq(senderId),
+							any(LocalDateTime.class),
+							eq(1),
+							eq(true)))
+					.thenReturn(Optional.of(new PreparedSend(preparedConversation, List.of(), 7L)));
+			when(messageRepository.insert(any(Message.class))).thenReturn(message);
+			when(messageMapper.toDto(message)).thenReturn(messageDto);
+
+			// When
+			messageService.sendMessage(sendMessageRequest, senderId);
+
+			// Then
+			ArgumentCaptor<ConversationDeltaEvent> eventCaptor =
+					ArgumentCaptor.forClass(ConversationDeltaEvent.class);
+			verify(eventPublisher).publishEvent(eventCaptor.capture());
+			ConversationDeltaDto delta = eventCaptor.getValue().getDelta();
+			assertEquals(7, delta.version());
+			assertEquals(messageDto, delta.lastMessage());
+			assertNotNull(delta.updatedAt());
+			assertEquals(
+					preparedConversation.getParticipants(), eventCaptor.getValue().getRecipients());
 		}
 
 		@Test
 		@DisplayName("Should throw UserNotFoundException when sender does not exist")
 		void shouldThrowUserNotFoundExceptionWhenSenderDoesNotExist() {
 			// Given
-			when(userRepository.findById(senderId)).thenReturn(Optional.empty());
+			when(conversationRepository.prepareForSend(
+							eq(conversationId),
+							eq(senderId),
+							any(LocalDateTime.class),
+							eq(1),
+							eq(true)))
+					.thenReturn(Optional.empty());
+			when(userRepository.existsById(senderId)).thenReturn(false);
 
 			// When & Then
 			UserNotFoundException exception =
@@ -194,9 +326,8 @@ class MessageServiceImplTest {
 			assertEquals("User not found", exception.getMessage());
 
 			// Verify no further interactions
-			verify(userRepository).findById(senderId);
-			verify(conversationRepository, never()).findById(any());
-			verify(messageRepository, never()).save(any());
+			verify(conversationRepository, never()).existsById(any());
+			verify(messageRepository, never()).insert(any());
 			verify(eventPublisher, never()).publishEvent(any());
 		}
 
@@ -204,8 +335,15 @@ class MessageServiceImplTest {
 		@DisplayName("Should throw ConversationNotFoundException when conversation does not exist")
 		void shouldThrowConversationNotFoundExceptionWhenConversationDoesNotExist() {
 			// Given
-			when(userRepository.findById(senderId)).thenReturn(Optional.of(sender));
-			when(conversationRepository.findById(conversationId)).thenReturn(Optional.empty());
+			when(conversationRepository.prepareForSend(
+							eq(conversationId),
+							eq(senderId),
+							any(LocalDateTime.class),
+							eq(1),
+							eq(true)))
+					.thenReturn(Optional.empty());
+			when(userRepository.existsById(senderId)).thenReturn(true);
+			when(conversationRepository.existsById(conversationId)).thenReturn(false);
 
 			// When & Then
 			ConversationNotFoundException exception =
@@ -216,9 +354,7 @@ class MessageServiceImplTest {
 			assertEquals("Conversation not found", exception.getMessage());
 
 			// Verify interactions
-			verify(userRepository).findById(senderId);
-			verify(conversationRepository).findById(conversationId);
-			verify(messageRepository, never()).save(any());
+			verify(messageRepository, never()).insert(any());
 			verify(eventPublisher, never()).publishEvent(any());
 		}
 
@@ -226,12 +362,15 @@ class MessageServiceImplTest {
 		@DisplayName("Should throw AccessDeniedException when user is not a participant")
 		void shouldThrowAccessDeniedExceptionWhenUserIsNotParticipant() {
 			// Given
-			when(userRepository.findById(senderId)).thenReturn(Optional.of(sender));
-			when(conversationRepository.findById(conversationId))
-					.thenReturn(Optional.of(conversation));
-			when(conversationParticipantRepository.existsByConversationIdAndUserIdAndIsActiveTrue(
-							conversationId, senderId))
-					.thenReturn(false);
+			when(conversationRepository.prepareForSend(
+							eq(conversationId),
+							eq(senderId),
+							any(LocalDateTime.class),
+							eq(1),
+							eq(true)))
+					.thenReturn(Optional.empty());
+			when(userRepository.existsById(senderId)).thenReturn(true);
+			when(conversationRepository.existsById(conversationId)).thenReturn(true);
 
 			// When & Then
 			AccessDeniedException exception =
@@ -242,59 +381,274 @@ class MessageServiceImplTest {
 			assertEquals("User is not a participant in this conversation", exception.getMessage());
 
 			// Verify interactions
-			verify(userRepository).findById(senderId);
-			verify(conversationRepository).findById(conversationId);
-			verify(conversationParticipantRepository)
-					.existsByConversationIdAndUserIdAndIsActiveTrue(conversationId, senderId);
-			verify(messageRepository, never()).save(any());
+			verify(messageRepository, never()).insert(any());
 			verify(eventPublisher, never()).publishEvent(any());
 		}
+	}
 
-		@Test
-		@DisplayName("Should activate all inactive participants when sending message")
-		void shouldActivateAllInactiveParticipants() {
-			// Given
-			ConversationParticipant inactiveParticipant1 =
-					aConversationParticipant()
-							.withConversationId(conversationId)
-							.withParticipantId(UUID.randomUUID())
-							.withActive(false)
-							.build();
+	@Nested
+	@DisplayName("Send Messages Tests")
+	class SendMessagesTests {
+
+		private UUID otherConversationId;
 
-			ConversationParticipant inactiveParticipant2 =
+		@BeforeEach
+		void setUpOtherConversation() {
+			otherConversationId = UUID.randomUUID();
+		}
+
+		private PreparedSend preparedSend(UUID id, long firstSeq) {
+			ConversationParticipant senderParticipant =
 					aConversationParticipant()
-							.withConversationId(conversationId)
-							.withParticipantId(UUID.randomUUID())
-							.withActive(false)
+							.withConversationId(id)
+							.withParticipantId(senderId)
+							.withParticipantName("Sender Name")
+							.withActive(true)
+							.build();
+			Conversation prepared =
+					aConversation()
+							.withId(id)
+							.withParticipants(List.of(senderParticipant))
+							.withLastMessage(null)
 							.build();
+			return new PreparedSend(prepared, List.of(), firstSeq);
+		}
 
-			List<ConversationParticipant> participants =
-					Arrays.asList(participant, inactiveParticipant1, inactiveParticipant2);
-			ConversationDto conversationDto = new ConversationDto();
-			conversationDto.setId(conversationId);
-			conversationDto.setCreatedAt(LocalDateTime.now());
-			conversationDto.setUpdatedAt(LocalDateTime.now());
-
-			when(userRepository.findById(senderId)).thenReturn(Optional.of(sender));
-			when(conversationRepository.findById(conversationId))
-					.thenReturn(Optional.of(conversation));
-			when(conversationParticipantRepository.existsByConversationIdAndUserIdAndIsActiveTrue(
-							conversationId, senderId))
-					.thenReturn(true);
-			when(conversationParticipantRepository.findByConversationId(conversationId))
-					.thenReturn(participants);
-			when(messageRepository.save(any(Message.class))).thenReturn(message);
-			when(messageMapper.toDto(message)).thenReturn(messageDto);
-			when(conversationMapper.toDto(conversation)).thenReturn(conversationDto);
+		private void mapSavedMessages() {
+			when(messageRepository.saveAll(any()))
+					.thenAnswer(invocation -> invocation.getArgument(0));
+			when(messageMapper.toDto(any(Message.class)))
+					.thenAnswer(
+							invocation -> {
+								Message saved = invocation.getArgument(0);
+								return aMessageDto()
+										.withConversationId(saved.getConversationId())
+										.withContent(saved.getContent())
+										.withSentAt(saved.getSentAt())
+										.withSeq(saved.getSeq())
+										.build();
+							});
+		}
+
+		@Test
+		@DisplayName("Should prepare each conversation once and insert every message together")
+		void shouldPrepareEachConversationOnceAndSaveAll() {
+			// Given
+			List<SendMessageRequest> requests =
+					List.of(
+							aSendMessageRequest()
+									.withConversationId(conversationId)
+									.withContent("one")
+									.build(),
+							aSendMessageRequest()
+									.withConversationId(otherConversationId)
+									.withContent("two")
+									.build(),
+							aSendMessageRequest()
+									.withConversationId(conversationId)
+									.withContent("three")
+									.build());
+			when(conversationRepository.prepareForSend(
+							eq(conversationId),
+							eq(senderId),
+							any(LocalDateTime.class),
+							eq(2),
+							eq(true)))
+					.thenReturn(Optional.of(preparedSend(conversationId, 5L)));
+			when(conversationRepository.prepareForSend(
+							eq(otherConversationId),
+							eq(senderId),
+							any(LocalDateTime.class),
+							eq(1),
+							eq(true)))
+					.thenReturn(Optional.of(preparedSend(otherConversationId, 9L)));
+			mapSavedMessages();
 
 			// When
-			messageService.sendMessage(sendMessageRequest, senderId);
+			List<MessageDto> result = messageService.sendMessages(requests, senderId);
+
+			// Then: messages come back in request order, numbered per conversation
+			assertEquals(
+					List.of("one", "two", "three"),
+					result.stream().map(MessageDto::content).toList());
+			assertEquals(List.of(5L, 9L, 6L), result.stream().map(MessageDto::seq).toList());
+			assertTrue(result.get(0).sentAt().isBefore(result.get(2).sentAt()));
+
+			@SuppressWarnings("unchecked")
+			ArgumentCaptor<List<Message>> savedCaptor = ArgumentCaptor.forClass(List.class);
+			verify(messageRepository).saveAll(savedCaptor.capture());
+			assertEquals(3, savedCaptor.getValue().size());
+			assertEquals("Sender Name", savedCaptor.getValue().getFirst().getSender().getName());
+			verify(messageRepository, never()).insert(any());
+		}
+
+		@Test
+		@DisplayName("Should broadcast one event per conversation")
+		void shouldPublishOneEventPerConversation() {
+			// Given
+			List<SendMessageRequest> requests =
+					List.of(
+							aSendMessageRequest()
+									.withConversationId(conversationId)
+									.withContent("one")
+									.build(),
+							aSendMessageRequest()
+									.withConversationId(conversationId)
+									.withContent("two")
+									.build());
+			PreparedSend prepared = preparedSend(conversationId, 1L);
+			prepared.conversation().setVersion(4);
+			when(conversationRepository.prepareForSend(
+							eq(conversationId),
+							eq(senderId),
+							any(LocalDateTime.class),
+							eq(2),
+							eq(true)))
+					.thenReturn(Optional.of(prepared));
+			mapSavedMessages();
+
+			// When
+			List<MessageDto> result = messageService.sendMessages(requests, senderId);
 
 			// Then
-			verify(conversationParticipantRepository).save(eq(inactiveParticipant1));
-			verify(conversationParticipantRepository).save(eq(inactiveParticipant2));
-			verify(conversationParticipantRepository, never())
-					.save(eq(participant)); // Already active
+			ArgumentCaptor<MessageBatchDto> batchCaptor =
+					ArgumentCaptor.forClass(MessageBatchDto.class);
+			verify(outboxRepository)
+					.append(
+							eq(conversationId),
+							eq(EventType.NEW_MESSAGE_BATCH),
+							batchCaptor.capture());
+			assertEquals(new MessageBatchDto(conversationId, result), batchCaptor.getValue());
+
+			ArgumentCaptor<ConversationDeltaEvent> deltaCaptor =
+					ArgumentCaptor.forClass(ConversationDeltaEvent.class);
+			verify(eventPublisher).publishEvent(deltaCaptor.capture());
+			ConversationDeltaDto delta = deltaCaptor.getValue().getDelta();
+			assertEquals(4, delta.version());
+			assertEquals(result.getLast(), delta.lastMessage());
+			verify(eventPublisher).publishEvent(any(NewMessageEvent.class));
+		}
+
+		@Test
+		@DisplayName("Should number a conversation's messages in arrival order across senders")
+		void shouldNumberMessagesInArrivalOrderAcrossSenders() {
+			// Given: the other sender sorts last, so its preparation runs second
+			UUID otherSenderId = new UUID(Long.MAX_VALUE, Long.MAX_VALUE);
+			List<MessageSubmission> submissions =
+					List.of(
+							new MessageSubmission(
+									aSendMessageRequest()
+											.withConversationId(conversationId)
+											.withContent("first")
+											.build(),
+									senderId),
+							new MessageSubmission(
+									aSendMessageRequest()
+											.withConversationId(conversationId)
+											.withContent("second")
+											.build(),
+									otherSenderId),
+							new MessageSubmission(
+									aSendMessageRequest()
+											.withConversationId(conversationId)
+											.withContent("third")
+											.build(),
+									senderId));
+			PreparedSend first = preparedSend(conversationId, 3L);
+			PreparedSend second = preparedSend(conversationId, 5L);
+			second.conversation()
+					.setParticipants(
+							List.of(
+									first.conversation().getParticipants().getFirst(),
+									aConversationParticipant()
+											.withConversationId(conversationId)
+											.withParticipantId(otherSenderId)
+											.withParticipantName("Other Sender")
+											.withActive(true)
+											.build()));
+			first.conversation().setVersion(9);
+			second.conversation().setVersion(9);
+			when(conversationRepository.prepareForSend(
+							eq(conversationId),
+							eq(senderId),
+							any(LocalDateTime.class),
+							eq(2),
+							eq(true)))
+					.thenReturn(Optional.of(first));
+			when(conversationRepository.prepareForSend(
+							eq(conversationId),
+							eq(otherSenderId),
+							any(LocalDateTime.class),
+							eq(1),
+							eq(false)))
+					.thenReturn(Optional.of(second));
+			mapSavedMessages();
+
+			// When
+			List<MessageDto> result = messageService.sendMessages(submissions);
+
+			// Then: the reserved range 3..5 is handed out in arrival order, whoever reserved it
+			assertEquals(List.of(3L, 4L, 5L), result.stream().map(MessageDto::seq).toList());
+			ArgumentCaptor<ConversationDeltaEvent> deltaCaptor =
+					ArgumentCaptor.forClass(ConversationDeltaEvent.class);
+			verify(eventPublisher).publishEvent(deltaCaptor.capture());
+			assertEquals(9, deltaCaptor.getValue().getDelta().version());
+			assertEquals(
+					second.conversation().getParticipants(),
+					deltaCaptor.getValue().getRecipients());
+		}
+
+		@Test
+		@DisplayName("Should broadcast a lone message in a batch as a plain new message")
+		void shouldPublishSingleMessageAsNewMessage() {
+			// Given
+			when(conversationRepository.prepareForSend(
+							eq(conversationId),
+							eq(senderId),
+							any(LocalDateTime.class),
+							eq(1),
+							eq(true)))
+					.thenReturn(Optional.of(preparedSend(conversationId, 1L)));
+			mapSavedMessages();
+
+			// When
+			List<MessageDto> result =
+					messageService.sendMessages(List.of(sendMessageRequest), senderId);
+
+			// Then
+			verify(outboxRepository)
+					.append(conversationId, EventType.NEW_MESSAGE, result.getFirst());
+		}
+
+		@Test
+		@DisplayName("Should reject the whole batch when one conversation refuses the sender")
+		void shouldRejectBatchWhenSenderIsNotParticipant() {
+			// Given
+			List<SendMessageRequest> requests =
+					List.of(
+							aSendMessageRequest().withConversationId(conversationId).build(),
+							aSendMessageRequest().withConversationId(otherConversationId).build());
+			when(conversationRepository.prepareForSend(
+							any(UUID.class),
+							eq(senderId),
+							any(LocalDateTime.class),
+							eq(1),
+							eq(true)))
+					.thenAnswer(
+							invocation ->
+									conversationId.equals(invocation.getArgument(0))
+											? Optional.of(preparedSend(conversationId, 1L))
+											: Optional.empty());
+			when(userRepository.existsById(senderId)).thenReturn(true);
+			when(conversationRepository.existsById(otherConversationId)).thenReturn(true);
+
+			// When & Then
+			assertThrows(
+					AccessDeniedException.class,
+					() -> messageService.sendMessages(requests, senderId));
+			verify(messageRepository, never()).saveAll(any());
+			verify(outboxRepository, never()).append(any(), any(), any());
+			verify(eventPublisher, never()).publishEvent(any());
 		}
 	}
 
@@ -302,11 +656,11 @@ class MessageServiceImplTest {
 	@DisplayName("Find Conversation Messages Tests")
 	class FindConversationMessagesTests {
 
-		@Test
-		@DisplayName("Should return conversation messages successfully when user is participant")
-		void shouldReturnConversationMessagesSuccessfully() {
-			// Given
-			LocalDateTime joinedAt = LocalDateTime.now().minusDays(1);
+		private LocalDateTime joinedAt;
+
+		@BeforeEach
+		void setUpParticipant() {
+			joinedAt = LocalDateTime.now().minusDays(1);
 			participant =
 					aConversationParticipant()
 							.withConversationId(conversationId)
@@ -314,49 +668,162 @@ class MessageServiceImplTest {
 							.withActive(true)
 							.withJoinedAt(joinedAt)
 							.build();
+		}
 
+		@Test
+		@DisplayName("Should return conversation messages successfully when user is participant")
+		void shouldReturnConversationMessagesSuccessfully() {
+			// Given
 			Message message1 =
 					aMessage().withId(UUID.randomUUID()).withConversationId(conversationId).build();
 			Message message2 =
 					aMessage().withId(UUID.randomUUID()).withConversationId(conversationId).build();
-			List<Message> messages = Arrays.asList(message1, message2);
+			// Repository returns the latest page newest first
+			List<Message> messages = Arrays.asList(message2, message1);
 
 			MessageDto messageDto1 = aMessageDto().withId(message1.getId()).build();
 			MessageDto messageDto2 = aMessageDto().withId(message2.getId()).build();
 
 			when(conversationRepository.existsById(conversationId)).thenReturn(true);
-			when(conversationParticipantRepository.existsByConversationIdAndUserIdAndIsActiveTrue(
-							conversationId, senderId))
-					.thenReturn(true);
 			when(conversationParticipantRepository.findByConversationIdAndUserIdAndIsActiveTrue(
 							conversationId, senderId))
 					.thenReturn(Optional.of(participant));
-			when(messageRepository.findByConversationIdAndSentAtAfter(conversationId, joinedAt))
+			when(messageRepository.findPageBefore(conversationId, joinedAt, null, 51))
 					.thenReturn(messages);
 			when(messageMapper.toDto(message1)).thenReturn(messageDto1);
 			when(messageMapper.toDto(message2)).thenReturn(messageDto2);
 
 			// When
-			List<MessageDto> result =
-					messageService.findConversationMessages(conversationId, senderId);
+			CursorPage<MessageDto> result =
+					messageService.findConversationMessages(
+							conversationId, senderId, null, null, 50);
 
 			// Then
 			assertNotNull(result);
-			assertEquals(2, result.size());
-			assertEquals(messageDto1.id(), result.get(0).id());
-			assertEquals(messageDto2.id(), result.get(1).id());
+			assertEquals(2, result.items().size());
+			assertEquals(messageDto1.id(), result.items().get(0).id());
+			assertEquals(messageDto2.id(), result.items().get(1).id());
+			assertFalse(result.hasMore());
+			assertNull(result.nextCursor());
 
 			// Verify interactions
 			verify(conversationRepository).existsById(conversationId);
-			verify(conversationParticipantRepository)
-					.existsByConversationIdAndUserIdAndIsActiveTrue(conversationId, senderId);
 			verify(conversationParticipantRepository)
 					.findByConversationIdAndUserIdAndIsActiveTrue(conversationId, senderId);
-			verify(messageRepository).findByConversationIdAndSentAtAfter(conversationId, joinedAt);
+			verify(messageRepository).findPageBefore(conversationId, joinedAt, null, 51);
 			verify(messageMapper).toDto(message1);
 			verify(messageMapper).toDto(message2);
 		}
 
+		@Test
+		@DisplayName("Should return next cursor pointing at oldest message when more pages exist")
+		void shouldReturnNextCursorWhenMorePagesExist() {
+			// Given
+			LocalDateTime now = LocalDateTime.now();
+			Message newest = aMessage().withId(UUID.randomUUID()).withSentAt(now).build();
+			Message middle =
+					aMessage().withId(UUID.randomUUID()).withSentAt(now.minusMinutes(1)).build();
+			Message extra =
+					aMessage().withId(UUID.randomUUID()).withSentAt(now.minusMinutes(2)).build();
+
+			when(conversationRepository.existsById(conversationId)).thenReturn(true);
+			when(conversationParticipantRepository.findByConversationIdAndUserIdAndIsActiveTrue(
+							conversationId, senderId))
+					.thenReturn(Optional.of(participant));
+			when(messageRepository.findPageBefore(conversationId, joinedAt, null, 3))
+					.thenReturn(Arrays.asList(newest, middle, extra));
+			when(messageMapper.toDto(newest))
+					.thenReturn(aMessageDto().withId(newest.getId()).build());
+			when(messageMapper.toDto(middle))
+					.thenReturn(aMessageDto().withId(middle.getId()).build());
+
+			// When
+			CursorPage<MessageDto> result =
+					messageService.findConversationMessages(
+							conversationId, senderId, null, null, 2);
+
+			// Then
+			assertTrue(result.hasMore());
+			assertEquals(middle.getId(), result.items().get(0).id());
+			assertEquals(newest.getId(), result.items().get(1).id());
+			assertEquals(MessageCursor.of(middle), MessageCursor.decode(result.nextCursor()));
+			verify(messageMapper, never()).toDto(extra);
+		}
+
+		@Test
+		@DisplayName("Should page forward from after cursor in ascending order")
+		void shouldPageForwardFromAfterCursor() {
+			// Given
+			MessageCursor cursor = new MessageCursor(LocalDateTime.now(), UUID.randomUUID());
+			Message next = aMessage().withId(UUID.randomUUID()).build();
+			MessageDto nextDto = aMessageDto().withId(next.getId()).build();
+
+			when(conversationRepository.existsById(conversationId)).thenReturn(true);
+			when(conversationParticipantRepository.findByConversationIdAndUserIdAndIsActiveTrue(
+							conversationId, senderId))
+					.thenReturn(Optional.of(participant));
+			when(messageRepository.findPageAfter(conversationId, joinedAt, cursor, 11))
+					.thenReturn(List.of(next));
+			when(messageMapper.toDto(next)).thenReturn(nextDto);
+
+			// When
+			CursorPage<MessageDto> result =
+					messageService.findConversationMessages(
+							conversationId, senderId, null, cursor.encode(), 10);
+
+			// Then
+			assertEquals(List.of(nextDto), result.items());
+			assertFalse(result.hasMore());
+			verify(messageRepository, never()).findPageBefore(any(), any(), any(), anyInt());
+		}
+
+		@Test
+		@DisplayName("Should clamp requested page size to the maximum")
+		void shouldClampPageSize() {
+			// Given
+			when(conversationRepository.existsById(conversationId)).thenReturn(true);
+			when(conversationParticipantRepository.findByConversationIdAndUserIdAndIsActiveTrue(
+							conversationId, senderId))
+					.thenReturn(Optional.of(participant));
+			when(messageRepository.findPageBefore(conversationId, joinedAt, null, 101))
+					.thenReturn(Collections.emptyList());
+
+			// When
+			messageService.findConversationMessages(conversationId, senderId, null, null, 5000);
+
+			// Then
+			verify(messageRepository).findPageBefore(conversationId, joinedAt, null, 101);
+		}
+
+		@Test
+		@DisplayName("Should throw InvalidCursorException when cursor is malformed")
+		void shouldThrowInvalidCursorExceptionWhenCursorIsMalformed() {
+			// When & Then
+			assertThrows(
+					InvalidCursorException.class,
+					() ->
+							messageService.findConversationMessages(
+									conversationId, senderId, "not-a-cursor", null, 50));
+
+			verify(conversationRepository, never()).existsById(any());
+		}
+
+		@Test
+		@DisplayName("Should throw InvalidCursorException when both cursors are given")
+		void shouldThrowInvalidCursorExceptionWhenBothCursorsGiven() {
+			// Given
+			String cursor = new MessageCursor(LocalDateTime.now(), UUID.randomUUID()).encode();
+
+			// When & Then
+			assertThrows(
+					InvalidCursorException.class,
+					() ->
+							messageService.findConversationMessages(
+									conversationId, senderId, cursor, cursor, 50));
+
+			verify(conversationRepository, never()).existsById(any());
+		}
+
 		@Test
 		@DisplayName("Should throw ConversationNotFoundException when conversation does not exist")
 		void shouldThrowConversationNotFoundExceptionWhenConversationDoesNotExist() {
@@ -369,15 +836,15 @@ class MessageServiceImplTest {
 							ConversationNotFoundException.class,
 							() ->
 									messageService.findConversationMessages(
-											conversationId, senderId));
+											conversationId, senderId, null, null, 50));
 
 			assertEquals("Conversation not found", exception.getMessage());
 
 			// Verify interactions
 			verify(conversationRepository).existsById(conversationId);
 			verify(conversationParticipantRepository, never())
-					.existsByConversationIdAndUserIdAndIsActiveTrue(any(), any());
-			verify(messageRepository, never()).findByConversationIdAndSentAtAfter(any(), any());
+					.findByConversationIdAndUserIdAndIsActiveTrue(any(), any());
+			verify(messageRepository, never()).findPageBefore(any(), any(), any(), anyInt());
 		}
 
 		@Test
@@ -385,9 +852,9 @@ class MessageServiceImplTest {
 		void shouldThrowAccessDeniedExceptionWhenUserIsNotActiveParticipant() {
 			// Given
 			when(conversationRepository.existsById(conversationId)).thenReturn(true);
-			when(conversationParticipantRepository.existsByConversationIdAndUserIdAndIsActiveTrue(
+			when(conversationParticipantRepository.findByConversationIdAndUserIdAndIsActiveTrue(
 							conversationId, senderId))
-					.thenReturn(false);
+					.thenReturn(Optional.empty());
 
 			// When & Then
 			AccessDeniedException exception =
@@ -395,53 +862,55 @@ class MessageServiceImplTest {
 							AccessDeniedException.class,
 							() ->
 									messageService.findConversationMessages(
-											conversationId, senderId));
+											conversationId, senderId, null, null, 50));
 
 			assertEquals("User is not a participant in this conversation", exception.getMessage());
 
 			// Verify interactions
 			verify(conversationRepository).existsById(conversationId);
 			verify(conversationParticipantRepository)
-					.existsByConversationIdAndUserIdAndIsActiveTrue(conversationId, senderId);
-			verify(messageRepository, never()).findByConversationIdAndSentAtAfter(any(), any());
+					.findByConversationIdAndUserIdAndIsActiveTrue(conversationId, senderId);
+			verify(messageRepository, never()).findPageBefore(any(), any(), any(), anyInt());
 		}
 
 		@Test
-		@DisplayName("Should throw AccessDeniedException when participant not found")
-		void shouldThrowAccessDeniedExceptionWhenParticipantNotFound() {
+		@DisplayName("Should return empty page when no messages exist after join date")
+		void shouldReturnEmptyListWhenNoMessagesExistAfterJoinDate() {
 			// Given
 			when(conversationRepository.existsById(conversationId)).thenReturn(true);
-			when(conversationParticipantRepository.existsByConversationIdAndUserIdAndIsActiveTrue(
-							conversationId, senderId))
-					.thenReturn(true);
 			when(conversationParticipantRepository.findByConversationIdAndUserIdAndIsActiveTrue(
 							conversationId, senderId))
-					.thenReturn(Optional.empty());
+					.thenReturn(Optional.of(participant));
+			when(messageRepository.findPageBefore(conversationId, joinedAt, null, 51))
+					.thenReturn(Collections.emptyList());
 
-			// When & Then
-			AccessDeniedException exception =
-					assertThrows(
-							AccessDeniedException.class,
-							() ->
-									messageService.findConversationMessages(
-											conversationId, senderId));
+			// When
+			CursorPage<MessageDto> result =
+					messageService.findConversationMessages(
+							conversationId, senderId, null, null, 50);
 
-			assertEquals("User is not a participant in this conversation", exception.getMessage());
+			// Then
+			assertNotNull(result);
+			assertEquals(0, result.items().size());
+			assertFalse(result.hasMore());
 
 			// Verify interactions
 			verify(conversationRepository).existsById(conversationId);
-			verify(conversationParticipantRepository)
-					.existsByConversationIdAndUserIdAndIsActiveTrue(conversationId, senderId);
 			verify(conversationParticipantRepository)
 					.findByConversationIdAndUserIdAndIsActiveTrue(conversationId, senderId);
-			verify(messageRepository, never()).findByConversationIdAndSentAtAfter(any(), any());
+			verify(messageRepository).findPageBefore(conversationId, joinedAt, null, 51);
 		}
+	}
 
-		@Test
-		@DisplayName("Should return empty list when no messages exist after join date")
-		void shouldReturnEmptyListWhenNoMessagesExistAfterJoinDate() {
-			// Given
-			LocalDateTime joinedAt = LocalDateTime.now().minusDays(1);
+	@Nested
+	@DisplayName("Find Messages Since Tests")
+	class FindMessagesSinceTests {
+
+		private LocalDateTime joinedAt;
+
+		@BeforeEach
+		void setUpParticipant() {
+			joinedAt = LocalDateTime.now().minusDays(1);
 			participant =
 					aConversationParticipant()
 							.withConversationId(conversationId)
@@ -449,32 +918,152 @@ class MessageServiceImplTest {
 							.withActive(true)
 							.withJoinedAt(joinedAt)
 							.build();
+		}
+
+		@Test
+		@DisplayName("Should return the tail after the sequence number with a cursor to continue")
+		void shouldReturnTailWithNextCursor() {
+			// Given
+			Message next = aMessage().withId(UUID.randomUUID()).build();
+			next.setSeq(8L);
+			Message last = aMessage().withId(UUID.randomUUID()).build();
+			last.setSeq(9L);
+			Message extra = aMessage().withId(UUID.randomUUID()).build();
+			extra.setSeq(10L);
+			MessageDto nextDto = aMessageDto().withId(next.getId()).withSeq(8L).build();
+			MessageDto lastDto = aMessageDto().withId(last.getId()).withSeq(9L).build();
 
 			when(conversationRepository.existsById(conversationId)).thenReturn(true);
-			when(conversationParticipantRepository.existsByConversationIdAndUserIdAndIsActiveTrue(
+			when(conversationParticipantRepository.findByConversationIdAndUserIdAndIsActiveTrue(
 							conversationId, senderId))
-					.thenReturn(true);
+					.thenReturn(Optional.of(participant));
+			when(messageRepository.findPageSince(conversationId, joinedAt, 7L, 3))
+					.thenReturn(List.of(next, last, extra));
+			when(messageMapper.toDto(next)).thenReturn(nextDto);
+			when(messageMapper.toDto(last)).thenReturn(lastDto);
+
+			// When
+			CursorPage<MessageDto> result =
+					messageService.findMessagesSince(conversationId, senderId, 7L, 2);
+
+			// Then
+			assertEquals(List.of(nextDto, lastDto), result.items());
+			assertTrue(result.hasMore());
+			assertEquals("9", result.nextCursor());
+			verify(messageMapper, never()).toDto(extra);
+		}
+
+		@Test
+		@DisplayName("Should return an empty page when the client is up to date")
+		void shouldReturnEmptyPageWhenUpToDate() {
+			// Given
+			when(conversationRepository.existsById(conversationId)).thenReturn(true);
 			when(conversationParticipantRepository.findByConversationIdAndUserIdAndIsActiveTrue(
 							conversationId, senderId))
 					.thenReturn(Optional.of(participant));
-			when(messageRepository.findByConversationIdAndSentAtAfter(conversationId, joinedAt))
+			when(messageRepository.findPageSince(conversationId, joinedAt, 42L, 101))
 					.thenReturn(Collections.emptyList());
 
 			// When
-			List<MessageDto> result =
-					messageService.findConversationMessages(conversationId, senderId);
+			CursorPage<MessageDto> result =
+					messageService.findMessagesSince(conversationId, senderId, 42L, 5000);
 
 			// Then
-			assertNotNull(result);
-			assertEquals(0, result.size());
+			assertTrue(result.items().isEmpty());
+			assertFalse(result.hasMore());
+			assertNull(result.nextCursor());
+		}
 
-			// Verify interactions
-			verify(conversationRepository).existsById(conversationId);
-			verify(conversationParticipantRepository)
-					.existsByConversationIdAndUserIdAndIsActiveTrue(conversationId, senderId);
-			verify(conversationParticipantRepository)
-					.findByConversationIdAndUserIdAndIsActiveTrue(conversationId, senderId);
-			verify(messageRepository).findByConversationIdAndSentAtAfter(conversationId, joinedAt);
+		@Test
+		@DisplayName("Should throw AccessDeniedException when user is not an active participant")
+		void shouldThrowAccessDeniedExceptionWhenUserIsNotActiveParticipant() {
+			// Given
+			when(conversationRepository.existsById(conversationId)).thenReturn(true);
+			when(conversationParticipantRepository.findByConversationIdAndUserIdAndIsActiveTrue(
+							conversationId, senderId))
+					.thenReturn(Optional.empty());
+
+			// When & Then
+			assertThrows(
+					AccessDeniedException.class,
+					() -> messageService.findMessagesSince(conversationId, senderId, 0L, 50));
+			verify(messageRepository, never()).findPageSince(any(), any(), anyLong(), anyInt());
+		}
+	}
+
+	@Nested
+	@DisplayName("Search Messages Tests")
+	class SearchMessagesTests {
+
+		@Test
+		@DisplayName("Should return a cursor when more results exist")
+		void shouldReturnNextCursorWhenMoreResultsExist() {
+			// Given
+			MessageSearchResultDto best = searchResult(0.9f);
+			MessageSearchResultDto second = searchResult(0.5f);
+			when(messageRepository.search(senderId, "station", null, 2))
+					.thenReturn(List.of(best, second));
+
+			// When
+			CursorPage<MessageSearchResultDto> page =
+					messageService.searchMessages(senderId, "  station ", null, 1);
+
+			// Then
+			assertEquals(List.of(best), page.items());
+			assertTrue(page.hasMore());
+			assertEquals(
+					new MessageSearchCursor(0.9f, best.message().sentAt(), best.message().id()),
+					MessageSearchCursor.decode(page.nextCursor()));
+		}
+
+		@Test
+		@DisplayName("Should continue from the cursor and cap the page size")
+		void shouldContinueFromCursor() {
+			// Given
+			MessageSearchCursor cursor =
+					new MessageSearchCursor(0.5f, LocalDateTime.now(), UUID.randomUUID());
+			when(messageRepository.search(senderId, "station", cursor, 101))
+					.thenReturn(List.of(searchResult(0.1f)));
+
+			// When
+			CursorPage<MessageSearchResultDto> page =
+					messageService.searchMessages(senderId, "station", cursor.encode(), 1_000);
+
+			// Then
+			assertEquals(1, page.items().size());
+			assertFalse(page.hasMore());
+			assertNull(page.nextCursor());
+		}
+
+		@Test
+		@DisplayName("Should return nothing for a blank query without searching")
+		void shouldReturnEmptyPageForBlankQuery() {
+			// When
+			CursorPage<MessageSearchResultDto> page =
+					messageService.searchMessages(senderId, "   ", null, 20);
+
+			// Then
+			assertTrue(page.items().isEmpty());
+			assertFalse(page.hasMore());
+			verify(messageRepository, never()).search(any(), any(), any(), anyInt());
+		}
+
+		@Test
+		@DisplayName("Should throw InvalidCursorException when cursor is malformed")
+		void shouldThrowInvalidCursorExceptionWhenCursorIsMalformed() {
+			// When & Then
+			assertThrows(
+					InvalidCursorException.class,
+					() -> messageService.searchMessages(senderId, "station", "not-a-cursor", 20));
+
+			verify(messageRepository, never()).search(any(), any(), any(), anyInt());
+		}
+
+		private MessageSearchResultDto searchResult(float rank) {
+			return new MessageSearchResultDto(
+					aMessageDto().withId(UUID.randomUUID()).withSentAt(LocalDateTime.now()).build(),
+					"<mark>station</mark>",
+					rank);
 		}
 	}
 
@@ -503,6 +1092,11 @@ class MessageServiceImplTest {
 			MessageDeletedEvent capturedEvent = eventCaptor.getValue();
 			assertEquals(messageId, capturedEvent.getMessageId());
 			assertEquals(conversationId, capturedEvent.getConversationId());
+			verify(outboxRepository)
+					.append(
+							conversationId,
+							EventType.DELETE_MESSAGE,
+							new DeleteMessageEvent(messageId, conversationId));
 		}
 
 		@Test
@@ -596,22 +1190,16 @@ class MessageServiceImplTest {
 		@DisplayName("Should handle complete message lifecycle - send, find, delete")
 		void shouldHandleCompleteMessageLifecycle() {
 			// Given - Setup for send message
-			ConversationDto conversationDto = new ConversationDto();
-			conversationDto.setId(conversationId);
-			conversationDto.setCreatedAt(LocalDateTime.now());
-			conversationDto.setUpdatedAt(LocalDateTime.now());
-
-			when(userRepository.findById(senderId)).thenReturn(Optional.of(sender));
-			when(conversationRepository.findById(conversationId))
-					.thenReturn(Optional.of(conversation));
-			when(conversationParticipantRepository.existsByConversationIdAndUserIdAndIsActiveTrue(
-							conversationId, senderId))
-					.thenReturn(true);
-			when(conversationParticipantRepository.findByConversationId(conversationId))
-					.thenReturn(Arrays.asList(participant));
-			when(messageRepository.save(any(Message.class))).thenReturn(message);
+			conversation.setParticipants(List.of(participant));
+			when(conversationRepository.prepareForSend(
+							eq(conversationId),
+							eq(senderId),
+							any(LocalDateTime.class),
+							eq(1),
+							eq(true)))
+					.thenReturn(Optional.of(new PreparedSend(conversation, List.of(), 7L)));
+			when(messageRepository.insert(any(Message.class))).thenReturn(message);
 			when(messageMapper.toDto(message)).thenReturn(messageDto);
-			when(conversationMapper.toDto(conversation)).thenReturn(conversationDto);
 
 			// When - Send message
 			MessageDto sentMessage = messageService.sendMessage(sendMessageRequest, senderId);
@@ -620,7 +1208,7 @@ class MessageServiceImplTest {
 			assertNotNull(sentMessage);
 			assertEquals(messageId, sentMessage.id());
 			verify(eventPublisher).publishEvent(any(NewMessageEvent.class));
-			verify(eventPublisher).publishEvent(any(ConversationUpdateEvent.class));
+			verify(eventPublisher).publishEvent(any(ConversationDeltaEvent.class));
 
 			// Given - Setup for find messages
 			LocalDateTime joinedAt = LocalDateTime.now().minusDays(1);
@@ -636,16 +1224,17 @@ class MessageServiceImplTest {
 			when(conversationParticipantRepository.findByConversationIdAndUserIdAndIsActiveTrue(
 							conversationId, senderId))
 					.thenReturn(Optional.of(participant));
-			when(messageRepository.findByConversationIdAndSentAtAfter(conversationId, joinedAt))
+			when(messageRepository.findPageBefore(conversationId, joinedAt, null, 51))
 					.thenReturn(Arrays.asList(message));
 
 			// When - Find messages
-			List<MessageDto> foundMessages =
-					messageService.findConversationMessages(conversationId, senderId);
+			CursorPage<MessageDto> foundMessages =
+					messageService.findConversationMessages(
+							conversationId, senderId, null, null, 50);
 
 			// Then - Verify find
 			assertNotNull(foundMessages);
-			assertEquals(1, foundMessages.size());
+			assertEquals(1, foundMessages.items().size());
 
 			// Given - Setup for delete message
 			when(messageRepository.findById(messageId)).thenReturn(Optional.of(message));
@@ -13,6 +13,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -23,14 +24,18 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
+import com.ah.whatsapp.cache.JwtUserCache;
 import com.ah.whatsapp.model.JwtUser;
 import com.ah.whatsapp.model.User;
 import com.ah.whatsapp.repository.UserRepository;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 /**
  * Comprehensive Unit Tests for UserDetailsServiceImpl
  * Following industry best practices for Spring Security UserDetailsService testing
@@ -41,6 +46,10 @@ class UserDetailsServiceImplTest {
 
 	@Mock private UserRepository userRepository;
 
+	@Spy
+	private JwtUserCache jwtUserCache =
+			new JwtUserCache(100, Duration.ofMinutes(5), new SimpleMeterRegistry());
+
 	@InjectMocks private UserDetailsServiceImpl userDetailsService;
 
 	private User testUser;
@@ -298,7 +307,8 @@ class UserDetailsServiceImplTest {
 			assertEquals(firstCall.getPassword(), secondCall.getPassword());
 			assertEquals(((JwtUser) firstCall).getUserId(), ((JwtUser) secondCall).getUserId());
 
-			verify(userRepository, times(2)).findByEmail(testEmail);
+			// The second call is served from the principal cache
+			verify(userRepository, times(1)).findByEmail(testEmail);
 		}
 	}
 
@@ -354,11 +364,66 @@ class UserDetailsServiceImplTest {
 			UserRepository mockRepository = userRepository;
 
 			// When
-			UserDetailsServiceImpl service = new UserDetailsServiceImpl(mockRepository);
+			UserDetailsServiceImpl service =
+					new UserDetailsServiceImpl(mockRepository, jwtUserCache);
 
 			// Then
 			assertNotNull(service);
 			// The service should be ready to use after proper dependency injection
 		}
 	}
+
+	@Nested
+	@DisplayName("Principal Cache Tests")
+	class PrincipalCacheTests {
+
+		@Test
+		@DisplayName("Should query repository once for repeated lookups")
+		void shouldQueryRepositoryOnceForRepeatedLookups() {
+			// Given
+			when(userRepository.findByEmail(testEmail)).thenReturn(Optional.of(testUser));
+
+			// When
+			UserDetails first = userDetailsService.loadUserByUsername(testEmail);
+			UserDetails second = userDetailsService.loadUserByUsername(testEmail);
+
+			// Then
+			assertEquals(first, second);
+			verify(userRepository, times(1)).findByEmail(testEmail);
+		}
+
+		@Test
+		@DisplayName("Should reload user after cache entry is invalidated")
+		void shouldReloadUserAfterInvalidation() {
+			// Given
+			when(userRepository.findByEmail(testEmail)).thenReturn(Optional.of(testUser));
+			userDetailsService.loadUserByUsername(testEmail);
+
+			// When
+			jwtUserCache.invalidate(testEmail);
+			userDetailsService.loadUserByUsername(testEmail);
+
+			// Then
+			verify(userRepository, times(2)).findByEmail(testEmail);
+		}
+
+		@Test
+		@DisplayName("Should not cache missing users")
+		void shouldNotCacheMissingUsers() {
+			// Given
+			when(userRepository.findByEmail(testEmail))
+					.thenReturn(Optional.empty())
+					.thenReturn(Optional.of(testUser));
+
+			// When
+			assertThrows(
+					UsernameNotFoundException.class,
+					() -> userDetailsService.loadUserByUsername(testEmail));
+			UserDetails result = userDetailsService.loadUserByUsername(testEmail);
+
+			// Then
+			assertEquals(testEmail, result.getUsername());
+			verify(userRepository, times(2)).findByEmail(testEmail);
+		}
+	}
 }
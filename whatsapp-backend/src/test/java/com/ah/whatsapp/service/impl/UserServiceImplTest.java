@@ -33,18 +33,23 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.ah.whatsapp.cache.ConversationSummaryCache;
+import com.ah.whatsapp.cache.JwtUserCache;
+import com.ah.whatsapp.cache.TypeaheadSearchCache;
 import com.ah.whatsapp.dto.LoginDto;
 import com.ah.whatsapp.dto.UserDto;
 import com.ah.whatsapp.dto.UserUpdateDto;
 import com.ah.whatsapp.enums.FolderName;
 import com.ah.whatsapp.exception.InvalidCredentialsException;
+import com.ah.whatsapp.exception.TooManyRequestsException;
 import com.ah.whatsapp.exception.UserAlreadyExistsException;
 import com.ah.whatsapp.exception.UserNotFoundException;
 import com.ah.whatsapp.mapper.UserMapper;
 import com.ah.whatsapp.model.User;
 import com.ah.whatsapp.repository.UserRepository;
 import com.ah.whatsapp.service.FileStorage;
-import com.ah.whatsapp.util.JwtUtil;
+import com.ah.whatsapp.util.JwtPrincipalResolver;
+import com.ah.whatsapp.util.UserSearchRateLimiter;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("UserServiceImpl Tests")
@@ -54,7 +59,7 @@ class UserServiceImplTest {
 
 	@Mock private UserMapper userMapper;
 
-	@Mock private JwtUtil jwtUtil;
+	@Mock private JwtPrincipalResolver jwtPrincipalResolver;
 
 	@Mock private PasswordEncoder passwordEncoder;
 
@@ -62,6 +67,11 @@ class UserServiceImplTest {
 
 	@Mock private FileStorage fileStorage;
 
+	@Mock private JwtUserCache jwtUserCache;
+	@Mock private ConversationSummaryCache conversationSummaryCache;
+	@Mock private TypeaheadSearchCache typeaheadSearchCache;
+	@Mock private UserSearchRateLimiter userSearchRateLimiter;
+
 	@InjectMocks private UserServiceImpl userService;
 
 	private User testUser;
@@ -119,7 +129,7 @@ class UserServiceImplTest {
 			when(userRepository.existsByEmail(testEmail)).thenReturn(false);
 			when(passwordEncoder.encode(rawPassword)).thenReturn(encodedPassword);
 			when(userRepository.save(any(User.class))).thenReturn(testUser);
-			when(jwtUtil.generateToken(testEmail)).thenReturn(testJwtToken);
+			when(jwtPrincipalResolver.issueToken(testUser)).thenReturn(testJwtToken);
 			when(userMapper.toDto(testUser, testJwtToken)).thenReturn(testUserDto);
 
 			// When
@@ -136,8 +146,9 @@ class UserServiceImplTest {
 
 			verify(userRepository).existsByEmail(testEmail);
 			verify(passwordEncoder).encode(rawPassword);
-			verify(jwtUtil).generateToken(testEmail);
+			verify(jwtPrincipalResolver).issueToken(testUser);
 			verify(userMapper).toDto(testUser, testJwtToken);
+			verify(jwtUserCache).invalidate(testUser.getEmail());
 		}
 
 		@Test
@@ -173,7 +184,7 @@ class UserServiceImplTest {
 					aLoginDto().withEmail(testEmail).withPassword("password123").build();
 
 			when(userRepository.findByEmail(testEmail)).thenReturn(Optional.of(testUser));
-			when(jwtUtil.generateToken(testEmail)).thenReturn(testJwtToken);
+			when(jwtPrincipalResolver.issueToken(testUser)).thenReturn(testJwtToken);
 			when(userMapper.toDto(testUser, testJwtToken)).thenReturn(testUserDto);
 
 			// When
@@ -187,7 +198,7 @@ class UserServiceImplTest {
 			verify(authenticationManager)
 					.authenticate(
 							new UsernamePasswordAuthenticationToken(testEmail, "password123"));
-			verify(jwtUtil).generateToken(testEmail);
+			verify(jwtPrincipalResolver).issueToken(testUser);
 			verify(userMapper).toDto(testUser, testJwtToken);
 		}
 
@@ -281,7 +292,7 @@ class UserServiceImplTest {
 			List<User> users = List.of(testUser);
 			List<UserDto> userDtos = List.of(testUserDto);
 
-			when(userRepository.searchUsers(query, excludeUserId)).thenReturn(users);
+			when(userRepository.searchUsers(query, excludeUserId, 20)).thenReturn(users);
 			when(userMapper.toDto(testUser)).thenReturn(testUserDto);
 
 			// When
@@ -291,7 +302,7 @@ class UserServiceImplTest {
 			assertNotNull(result);
 			assertEquals(1, result.size());
 			assertEquals(userDtos, result);
-			verify(userRepository).searchUsers(query, excludeUserId);
+			verify(userRepository).searchUsers(query, excludeUserId, 20);
 			verify(userMapper).toDto(testUser);
 		}
 
@@ -304,7 +315,7 @@ class UserServiceImplTest {
 			// Then
 			assertNotNull(result);
 			assertTrue(result.isEmpty());
-			verify(userRepository, never()).searchUsers(any(), any());
+			verify(userRepository, never()).searchUsers(any(), any(), anyInt());
 		}
 
 		@Test
@@ -316,7 +327,7 @@ class UserServiceImplTest {
 			// Then
 			assertNotNull(result);
 			assertTrue(result.isEmpty());
-			verify(userRepository, never()).searchUsers(any(), any());
+			verify(userRepository, never()).searchUsers(any(), any(), anyInt());
 		}
 
 		@Test
@@ -325,13 +336,80 @@ class UserServiceImplTest {
 			// Given
 			String query = "  john  ";
 			UUID excludeUserId = UUID.randomUUID();
-			when(userRepository.searchUsers("john", excludeUserId)).thenReturn(List.of());
+			when(userRepository.searchUsers("john", excludeUserId, 20)).thenReturn(List.of());
 
 			// When
 			userService.searchUsers(query, excludeUserId);
 
 			// Then
-			verify(userRepository).searchUsers("john", excludeUserId);
+			verify(userRepository).searchUsers("john", excludeUserId, 20);
+		}
+	}
+
+	@Nested
+	@DisplayName("Typeahead Search Tests")
+	class TypeaheadSearchTests {
+
+		@Test
+		@DisplayName("Should answer a narrowed query from the cached result")
+		void shouldAnswerFromCache() {
+			// Given
+			UUID currentUserId = UUID.randomUUID();
+			when(userSearchRateLimiter.tryAcquire(currentUserId)).thenReturn(true);
+			when(typeaheadSearchCache.narrow(currentUserId, "john", 20))
+					.thenReturn(Optional.of(List.of(testUserDto)));
+
+			// When
+			List<UserDto> result = userService.typeaheadSearchUsers(" john ", currentUserId);
+
+			// Then
+			assertEquals(List.of(testUserDto), result);
+			verify(userRepository, never()).searchUsers(any(), any(), anyInt());
+		}
+
+		@Test
+		@DisplayName("Should search the database and remember the result on a cache miss")
+		void shouldSearchAndStoreOnMiss() {
+			// Given
+			UUID currentUserId = UUID.randomUUID();
+			when(userSearchRateLimiter.tryAcquire(currentUserId)).thenReturn(true);
+			when(typeaheadSearchCache.narrow(currentUserId, "john", 20))
+					.thenReturn(Optional.empty());
+			when(userRepository.searchUsers("john", currentUserId, 20))
+					.thenReturn(List.of(testUser));
+			when(userMapper.toDto(testUser)).thenReturn(testUserDto);
+
+			// When
+			List<UserDto> result = userService.typeaheadSearchUsers("john", currentUserId);
+
+			// Then
+			assertEquals(List.of(testUserDto), result);
+			verify(typeaheadSearchCache).store(currentUserId, "john", List.of(testUserDto));
+		}
+
+		@Test
+		@DisplayName("Should reject the search when the user is rate limited")
+		void shouldRejectWhenRateLimited() {
+			// Given
+			UUID currentUserId = UUID.randomUUID();
+			when(userSearchRateLimiter.tryAcquire(currentUserId)).thenReturn(false);
+
+			// When & Then
+			assertThrows(
+					TooManyRequestsException.class,
+					() -> userService.typeaheadSearchUsers("john", currentUserId));
+			verifyNoInteractions(typeaheadSearchCache, userRepository);
+		}
+
+		@Test
+		@DisplayName("Should not spend a permit on a blank query")
+		void shouldIgnoreBlankQuery() {
+			// When
+			List<UserDto> result = userService.typeaheadSearchUsers("  ", UUID.randomUUID());
+
+			// Then
+			assertTrue(result.isEmpty());
+			verifyNoInteractions(userSearchRateLimiter);
 		}
 	}
 
@@ -407,6 +485,8 @@ class UserServiceImplTest {
 			assertEquals("New Name", savedUser.getName());
 			assertEquals("+9876543210", savedUser.getPhone());
 			assertNotNull(savedUser.getUpdatedAt());
+			verify(jwtUserCache).invalidate(updatedUser.getEmail());
+			verify(conversationSummaryCache).invalidateParticipant(testUserId);
 
 			verify(userRepository).findById(testUserId);
 			verify(userMapper).toDto(updatedUser);
@@ -507,6 +587,21 @@ class UserServiceImplTest {
 		}
 	}
 
+	@Nested
+	@DisplayName("Revoke Tokens Tests")
+	class RevokeTokensTests {
+
+		@Test
+		@DisplayName("Should revoke tokens for user")
+		void shouldRevokeTokensForUser() {
+			// When
+			userService.revokeTokens(testUserId);
+
+			// Then
+			verify(jwtPrincipalResolver).revokeTokens(testUserId);
+		}
+	}
+
 	@Nested
 	@DisplayName("Update Profile Picture Tests")
 	class UpdateProfilePictureTests {
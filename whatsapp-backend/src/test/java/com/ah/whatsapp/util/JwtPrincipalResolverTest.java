@@ -0,0 +1,203 @@
+/*
+ * WhatsApp Clone - Backend Service
+ * Copyright (c) 2025
+ */
+package com.ah.whatsapp.util;
+
+import static com.ah.whatsapp.mapper.UserTestDataBuilder.aUser;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import com.ah.whatsapp.cache.TokenVersionRegistry;
+import com.ah.whatsapp.exception.UnauthorizedException;
+import com.ah.whatsapp.model.JwtUser;
+import com.ah.whatsapp.model.User;
+
+import io.jsonwebtoken.Claims;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JwtPrincipalResolver Tests")
+class JwtPrincipalResolverTest {
+
+	private static final String TEST_SECRET =
+			"dGVzdC1zZWNyZXQtdGhhdC1pcy1hdC1sZWFzdC0yNTYtYml0cy1sb25nLWZvci1obWFjLXNoYTI1Ng==";
+
+	@Mock private UserDetailsService userDetailsService;
+
+	private JwtUtil jwtUtil;
+	private TokenVersionRegistry tokenVersionRegistry;
+	private User user;
+
+	@BeforeEach
+	void setUp() {
+		jwtUtil = new JwtUtil(TEST_SECRET, 3600L, 16);
+		tokenVersionRegistry = new TokenVersionRegistry();
+		user = aUser().withId(UUID.randomUUID()).withEmail("test@example.com").build();
+	}
+
+	private JwtPrincipalResolver resolver(boolean statelessPrincipal) {
+		return new JwtPrincipalResolver(
+				jwtUtil, userDetailsService, tokenVersionRegistry, statelessPrincipal);
+	}
+
+	private Claims claimsOf(String token) {
+		return jwtUtil.verifiedClaims(token).orElseThrow();
+	}
+
+	@Nested
+	@DisplayName("Stateless Mode Tests")
+	class StatelessModeTests {
+
+		@Test
+		@DisplayName("Should build principal from claims without loading the user")
+		void shouldBuildPrincipalFromClaims() {
+			// Given
+			JwtPrincipalResolver resolver = resolver(true);
+			Claims claims = claimsOf(resolver.issueToken(user));
+
+			// When
+			JwtUser principal = resolver.resolve(claims);
+
+			// Then
+			assertEquals(user.getEmail(), principal.getUsername());
+			assertEquals(user.getId(), principal.getUserId());
+			assertNull(principal.getPassword());
+			verify(userDetailsService, never()).loadUserByUsername(anyString());
+		}
+
+		@Test
+		@DisplayName("Should reject tokens issued before revocation")
+		void shouldRejectTokensIssuedBeforeRevocation() {
+			// Given
+			JwtPrincipalResolver resolver = resolver(true);
+			Claims claims = claimsOf(resolver.issueToken(user));
+
+			// When
+			resolver.revokeTokens(user.getId());
+
+			// Then
+			UnauthorizedException exception =
+					assertThrows(UnauthorizedException.class, () -> resolver.resolve(claims));
+			assertEquals("Token has been revoked", exception.getMessage());
+		}
+
+		@Test
+		@DisplayName("Should accept tokens issued after revocation")
+		void shouldAcceptTokensIssuedAfterRevocation() {
+			// Given
+			JwtPrincipalResolver resolver = resolver(true);
+			resolver.revokeTokens(user.getId());
+
+			// When
+			JwtUser principal = resolver.resolve(claimsOf(resolver.issueToken(user)));
+
+			// Then
+			assertEquals(user.getId(), principal.getUserId());
+		}
+
+		@Test
+		@DisplayName("Should load user for tokens without user id claim")
+		void shouldLoadUserForLegacyTokens() {
+			// Given
+			JwtUser loaded = new JwtUser(user.getEmail(), user.getId(), "hash");
+			when(userDetailsService.loadUserByUsername(user.getEmail())).thenReturn(loaded);
+
+			// When
+			JwtUser principal =
+					resolver(true).resolve(claimsOf(jwtUtil.generateToken(user.getEmail())));
+
+			// Then
+			assertSame(loaded, principal);
+		}
+	}
+
+	@Nested
+	@DisplayName("Database Mode Tests")
+	class DatabaseModeTests {
+
+		@Test
+		@DisplayName("Should issue tokens with user id and version claims")
+		void shouldIssueTokensWithVersionClaims() {
+			// When
+			Claims claims = claimsOf(resolver(false).issueToken(user));
+
+			// Then
+			assertEquals(user.getEmail(), claims.getSubject());
+			assertEquals(user.getId().toString(), claims.get(JwtUtil.USER_ID_CLAIM));
+			assertEquals(0, claims.get(JwtUtil.TOKEN_VERSION_CLAIM, Integer.class));
+		}
+
+		@Test
+		@DisplayName("Should reject tokens issued before logout from all devices")
+		void shouldRejectTokensIssuedBeforeLogoutAll() {
+			// Given
+			JwtPrincipalResolver resolver = resolver(false);
+			Claims claims = claimsOf(resolver.issueToken(user));
+
+			// When
+			resolver.revokeTokens(user.getId());
+
+			// Then
+			assertThrows(UnauthorizedException.class, () -> resolver.resolve(claims));
+			verify(userDetailsService, never()).loadUserByUsername(anyString());
+		}
+
+		@Test
+		@DisplayName("Should reject tokens without version claim once the user has revoked")
+		void shouldRejectUnversionedTokensAfterRevocation() {
+			// Given
+			when(userDetailsService.loadUserByUsername(user.getEmail()))
+					.thenReturn(new JwtUser(user.getEmail(), user.getId(), "hash"));
+			Claims claims = claimsOf(jwtUtil.generateToken(user.getEmail()));
+
+			// When
+			tokenVersionRegistry.revoke(user.getId());
+
+			// Then
+			assertThrows(UnauthorizedException.class, () -> resolver(false).resolve(claims));
+		}
+
+		@Test
+		@DisplayName("Should load user even when token carries user id claim")
+		void shouldLoadUserEvenWithUserIdClaim() {
+			// Given
+			JwtUser loaded = new JwtUser(user.getEmail(), user.getId(), "hash");
+			when(userDetailsService.loadUserByUsername(user.getEmail())).thenReturn(loaded);
+			Claims claims = claimsOf(resolver(true).issueToken(user));
+
+			// When
+			JwtUser principal = resolver(false).resolve(claims);
+
+			// Then
+			assertSame(loaded, principal);
+		}
+
+		@Test
+		@DisplayName("Should still reject revoked versioned tokens")
+		void shouldRejectRevokedVersionedTokens() {
+			// Given
+			Claims claims = claimsOf(resolver(true).issueToken(user));
+			tokenVersionRegistry.revoke(user.getId());
+
+			// When & Then
+			assertThrows(UnauthorizedException.class, () -> resolver(false).resolve(claims));
+		}
+	}
+}
@@ -9,11 +9,12 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-import java.lang.reflect.Field;
 import java.util.Date;
+import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -37,12 +38,11 @@ class JwtUtilTest {
 			"dGVzdC1zZWNyZXQtdGhhdC1pcy1hdC1sZWFzdC0yNTYtYml0cy1sb25nLWZvci1obWFjLXNoYTI1Ng==";
 	private static final Long TEST_EXPIRATION = 3600L; // 1 hour in seconds
 	private static final String TEST_EMAIL = "test@example.com";
+	private static final long TEST_CACHE_SIZE = 16;
 
 	@BeforeEach
-	void setUp() throws Exception {
-		jwtUtil = new JwtUtil();
-		setPrivateField(jwtUtil, "secret", TEST_SECRET);
-		setPrivateField(jwtUtil, "expiration", TEST_EXPIRATION);
+	void setUp() {
+		jwtUtil = new JwtUtil(TEST_SECRET, TEST_EXPIRATION, TEST_CACHE_SIZE);
 	}
 
 	@Nested
@@ -183,11 +183,10 @@ class JwtUtilTest {
 
 		@Test
 		@DisplayName("Should not validate expired token")
-		void shouldNotValidateExpiredToken() throws Exception {
+		void shouldNotValidateExpiredToken() {
 			// Given - create a JwtUtil with very short expiration
-			JwtUtil shortExpirationJwtUtil = new JwtUtil();
-			setPrivateField(shortExpirationJwtUtil, "secret", TEST_SECRET);
-			setPrivateField(shortExpirationJwtUtil, "expiration", -1L); // Already expired
+			JwtUtil shortExpirationJwtUtil =
+					new JwtUtil(TEST_SECRET, -1L, TEST_CACHE_SIZE); // Already expired
 
 			String expiredToken = shortExpirationJwtUtil.generateToken(TEST_EMAIL);
 
@@ -371,6 +370,77 @@ class JwtUtilTest {
 		}
 	}
 
+	@Nested
+	@DisplayName("Verified Claims Tests")
+	class VerifiedClaimsTests {
+
+		@Test
+		@DisplayName("Should return claims for valid token")
+		void shouldReturnClaimsForValidToken() {
+			// Given
+			String token = jwtUtil.generateToken(TEST_EMAIL);
+
+			// When
+			Optional<Claims> claims = jwtUtil.verifiedClaims(token);
+
+			// Then
+			assertTrue(claims.isPresent());
+			assertEquals(TEST_EMAIL, claims.get().getSubject());
+		}
+
+		@Test
+		@DisplayName("Should return empty for invalid, null or empty token")
+		void shouldReturnEmptyForInvalidToken() {
+			assertTrue(jwtUtil.verifiedClaims("invalid.jwt.token").isEmpty());
+			assertTrue(jwtUtil.verifiedClaims(null).isEmpty());
+			assertTrue(jwtUtil.verifiedClaims("").isEmpty());
+		}
+
+		@Test
+		@DisplayName("Should return cached claims for repeated verification of same token")
+		void shouldReturnCachedClaimsForRepeatedVerification() {
+			// Given
+			String token = jwtUtil.generateToken(TEST_EMAIL);
+
+			// When
+			Claims first = jwtUtil.verifiedClaims(token).orElseThrow();
+			Claims second = jwtUtil.verifiedClaims(token).orElseThrow();
+
+			// Then
+			assertSame(first, second);
+			assertEquals(TEST_EMAIL, jwtUtil.extractEmail(token));
+		}
+
+		@Test
+		@DisplayName("Should not cache expired tokens")
+		void shouldNotCacheExpiredTokens() {
+			// Given
+			JwtUtil expiredJwtUtil = new JwtUtil(TEST_SECRET, -1L, TEST_CACHE_SIZE);
+			String expiredToken = expiredJwtUtil.generateToken(TEST_EMAIL);
+
+			// When & Then
+			assertTrue(jwtUtil.verifiedClaims(expiredToken).isEmpty());
+			assertTrue(jwtUtil.verifiedClaims(expiredToken).isEmpty());
+		}
+
+		@Test
+		@DisplayName("Should reject token whose signature differs from a cached token")
+		void shouldRejectTamperedTokenAfterCachingOriginal() {
+			// Given
+			String token = jwtUtil.generateToken(TEST_EMAIL);
+			jwtUtil.verifiedClaims(token);
+			int signatureStart = token.lastIndexOf('.') + 1;
+			char replacement = token.charAt(signatureStart) == 'A' ? 'B' : 'A';
+			String tampered =
+					token.substring(0, signatureStart)
+							+ replacement
+							+ token.substring(signatureStart + 1);
+
+			// When & Then
+			assertTrue(jwtUtil.verifiedClaims(tampered).isEmpty());
+		}
+	}
+
 	@Nested
 	@DisplayName("Integration Tests")
 	class IntegrationTests {
@@ -419,13 +489,4 @@ class JwtUtilTest {
 			}
 		}
 	}
-
-	/**
-	 * Helper method to set private fields using reflection
-	 */
-	private void setPrivateField(Object target, String fieldName, Object value) throws Exception {
-		Field field = target.getClass().getDeclaredField(fieldName);
-		field.setAccessible(true);
-		field.set(target, value);
-	}
 }
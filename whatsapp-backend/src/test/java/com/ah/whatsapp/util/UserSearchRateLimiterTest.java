@@ -0,0 +1,78 @@
+/*
+ * WhatsApp Clone - Backend Service
+ * Copyright (c) 2025
+ */
+package com.ah.whatsapp.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("UserSearchRateLimiter Tests")
+class UserSearchRateLimiterTest {
+
+	private static final long SECOND = 1_000_000_000L;
+
+	private SimpleMeterRegistry meterRegistry;
+	private UserSearchRateLimiter rateLimiter;
+	private UUID userId;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		rateLimiter = new UserSearchRateLimiter(2, 3, meterRegistry);
+		userId = UUID.randomUUID();
+	}
+
+	@Test
+	@DisplayName("Should allow a burst and then reject")
+	void shouldAllowBurstThenReject() {
+		for (int i = 0; i < 3; i++) {
+			assertTrue(rateLimiter.tryAcquire(userId, 0));
+		}
+
+		assertFalse(rateLimiter.tryAcquire(userId, 0));
+		assertEquals(
+				1, meterRegistry.get(UserSearchRateLimiter.THROTTLED_METRIC).counter().count());
+	}
+
+	@Test
+	@DisplayName("Should refill at the configured rate")
+	void shouldRefillOverTime() {
+		for (int i = 0; i < 3; i++) {
+			rateLimiter.tryAcquire(userId, 0);
+		}
+
+		assertTrue(rateLimiter.tryAcquire(userId, SECOND / 2));
+		assertFalse(rateLimiter.tryAcquire(userId, SECOND / 2));
+	}
+
+	@Test
+	@DisplayName("Should not refill past the burst size")
+	void shouldCapRefillAtBurst() {
+		rateLimiter.tryAcquire(userId, 0);
+
+		for (int i = 0; i < 3; i++) {
+			assertTrue(rateLimiter.tryAcquire(userId, 10 * SECOND));
+		}
+		assertFalse(rateLimiter.tryAcquire(userId, 10 * SECOND));
+	}
+
+	@Test
+	@DisplayName("Should keep a separate bucket per user")
+	void shouldKeepBucketPerUser() {
+		for (int i = 0; i < 3; i++) {
+			rateLimiter.tryAcquire(userId, 0);
+		}
+
+		assertTrue(rateLimiter.tryAcquire(UUID.randomUUID(), 0));
+	}
+}
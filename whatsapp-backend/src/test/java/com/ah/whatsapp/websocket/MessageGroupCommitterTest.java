@@ -0,0 +1,190 @@
+/*
+ * WhatsApp Clone - Backend Service
+ * Copyright (c) 2025
+ */
+package com.ah.whatsapp.websocket;
+
+import static com.ah.whatsapp.dto.MessageDtoTestDataBuilder.aMessageDto;
+import static com.ah.whatsapp.dto.SendMessageRequestTestDataBuilder.aSendMessageRequest;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.access.AccessDeniedException;
+
+import com.ah.whatsapp.dto.MessageDto;
+import com.ah.whatsapp.dto.SendMessageRequest;
+import com.ah.whatsapp.model.MessageSubmission;
+import com.ah.whatsapp.service.MessageService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MessageGroupCommitter Tests")
+class MessageGroupCommitterTest {
+
+	private static final UUID CONVERSATION_ID = UUID.randomUUID();
+	private static final UUID SENDER_ID = UUID.randomUUID();
+
+	@Mock private MessageService messageService;
+
+	private SimpleMeterRegistry meterRegistry;
+	private MessageGroupCommitter committer;
+
+	@AfterEach
+	void tearDown() {
+		if (committer != null) {
+			committer.stop();
+		}
+	}
+
+	private MessageGroupCommitter start(int maxBatch, Duration maxDelay) {
+		meterRegistry = new SimpleMeterRegistry();
+		committer =
+				new MessageGroupCommitter(
+						messageService, true, 1, maxBatch, maxDelay, 100, meterRegistry);
+		committer.start();
+		return committer;
+	}
+
+	private static SendMessageRequest request(String content) {
+		return aSendMessageRequest()
+				.withConversationId(CONVERSATION_ID)
+				.withContent(content)
+				.build();
+	}
+
+	/** Stores every submission as a message with the same content. */
+	private void storeSubmissions() {
+		when(messageService.sendMessages(anyList()))
+				.thenAnswer(
+						invocation -> {
+							List<MessageSubmission> submissions = invocation.getArgument(0);
+							return submissions.stream()
+									.map(
+											submission ->
+													aMessageDto()
+															.withContent(
+																	submission.request().content())
+															.build())
+									.toList();
+						});
+	}
+
+	private double commits() {
+		return meterRegistry.get(MessageGroupCommitter.COMMITS_METRIC).counter().count();
+	}
+
+	@Test
+	@DisplayName("Should commit sends queued together in one batch")
+	@SuppressWarnings("unchecked")
+	void submit_ShouldCommitQueuedSendsTogether() throws Exception {
+		// Given
+		storeSubmissions();
+		start(3, Duration.ofSeconds(5));
+
+		// When
+		List<CompletableFuture<MessageDto>> futures =
+				List.of(
+						committer.submit(request("one"), SENDER_ID),
+						committer.submit(request("two"), SENDER_ID),
+						committer.submit(request("three"), SENDER_ID));
+
+		// Then: the batch is full, so it is written without waiting out the delay
+		assertEquals("one", futures.get(0).get(2, TimeUnit.SECONDS).content());
+		assertEquals("three", futures.get(2).get(2, TimeUnit.SECONDS).content());
+		ArgumentCaptor<List<MessageSubmission>> batch = ArgumentCaptor.forClass(List.class);
+		verify(messageService).sendMessages(batch.capture());
+		assertEquals(
+				List.of("one", "two", "three"),
+				batch.getValue().stream().map(s -> s.request().content()).toList());
+		assertEquals(1.0, commits());
+	}
+
+	@Test
+	@DisplayName("Should write a partial batch once the delay has passed")
+	void submit_ShouldFlushPartialBatchAfterDelay() throws Exception {
+		// Given
+		storeSubmissions();
+		start(50, Duration.ofMillis(20));
+
+		// When
+		MessageDto sent = committer.submit(request("alone"), SENDER_ID).get(2, TimeUnit.SECONDS);
+
+		// Then
+		assertEquals("alone", sent.content());
+		assertEquals(1.0, commits());
+	}
+
+	@Test
+	@DisplayName("Should fail only the rejected send when a batch rolls back")
+	void submit_WhenOneSendIsRejected_ShouldRetryOthersAlone() throws Exception {
+		// Given
+		MessageDto stored = aMessageDto().withContent("good").build();
+		when(messageService.sendMessages(anyList()))
+				.thenAnswer(
+						invocation -> {
+							List<MessageSubmission> submissions = invocation.getArgument(0);
+							if (submissions.stream()
+									.anyMatch(s -> s.request().content().equals("bad"))) {
+								throw new AccessDeniedException("not a participant");
+							}
+							return List.of(stored);
+						});
+		start(2, Duration.ofSeconds(5));
+
+		// When
+		CompletableFuture<MessageDto> good = committer.submit(request("good"), SENDER_ID);
+		CompletableFuture<MessageDto> bad = committer.submit(request("bad"), SENDER_ID);
+
+		// Then
+		assertEquals(stored, good.get(2, TimeUnit.SECONDS));
+		ExecutionException failure =
+				assertThrows(ExecutionException.class, () -> bad.get(2, TimeUnit.SECONDS));
+		assertInstanceOf(AccessDeniedException.class, failure.getCause());
+		verify(messageService, times(3)).sendMessages(anyList());
+		assertEquals(1.0, commits());
+	}
+
+	@Test
+	@DisplayName("Should refuse sends when group commit is disabled")
+	void submit_WhenDisabled_ShouldFail() {
+		// Given
+		committer =
+				new MessageGroupCommitter(
+						messageService,
+						false,
+						1,
+						10,
+						Duration.ofMillis(5),
+						10,
+						new SimpleMeterRegistry());
+		committer.start();
+
+		// When
+		CompletableFuture<MessageDto> future = committer.submit(request("ignored"), SENDER_ID);
+
+		// Then
+		assertThrows(ExecutionException.class, future::get);
+		verify(messageService, never()).sendMessages(anyList());
+	}
+}
@@ -0,0 +1,189 @@
+/*
+ * WhatsApp Clone - Backend Service
+ * Copyright (c) 2025
+ */
+package com.ah.whatsapp.websocket;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.ah.whatsapp.websocket.OrderedEventExecutor.OverflowPolicy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("OrderedEventExecutor Tests")
+class OrderedEventExecutorTest {
+
+	private SimpleMeterRegistry meterRegistry;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+	}
+
+	@Test
+	@DisplayName("Should run tasks with the same key in submission order")
+	void shouldPreserveOrderPerKey() throws InterruptedException {
+		// Given
+		OrderedEventExecutor executor =
+				new OrderedEventExecutor("test", 4, 8, OverflowPolicy.CALLER_WAITS, meterRegistry);
+		List<UUID> keys = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+		Map<UUID, List<Integer>> seen = new ConcurrentHashMap<>();
+
+		// When
+		for (int i = 0; i < 500; i++) {
+			int sequence = i;
+			for (UUID key : keys) {
+				executor.execute(
+						key,
+						() ->
+								seen.computeIfAbsent(
+												key,
+												k ->
+														Collections.synchronizedList(
+																new ArrayList<>()))
+										.add(sequence));
+			}
+		}
+		executor.destroy();
+
+		// Then
+		for (UUID key : keys) {
+			List<Integer> sequences = seen.get(key);
+			assertEquals(500, sequences.size());
+			for (int i = 0; i < sequences.size(); i++) {
+				assertEquals(i, sequences.get(i));
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("Should drop oldest queued task when lane is full")
+	void shouldDropOldestWhenFull() throws InterruptedException {
+		// Given
+		OrderedEventExecutor executor =
+				new OrderedEventExecutor("test", 1, 2, OverflowPolicy.DROP_OLDEST, meterRegistry);
+		CountDownLatch release = new CountDownLatch(1);
+		List<Integer> ran = Collections.synchronizedList(new ArrayList<>());
+		executor.execute("key", () -> await(release));
+
+		// When
+		for (int i = 0; i < 5; i++) {
+			int sequence = i;
+			executor.execute("key", () -> ran.add(sequence));
+		}
+		release.countDown();
+		executor.destroy();
+
+		// Then
+		assertEquals(List.of(3, 4), ran);
+		assertEquals(3.0, overflowCount());
+	}
+
+	@Test
+	@DisplayName("Should make caller wait instead of dropping when lane is full")
+	void shouldMakeCallerWaitWhenFull() throws InterruptedException {
+		// Given
+		OrderedEventExecutor executor =
+				new OrderedEventExecutor("test", 1, 1, OverflowPolicy.CALLER_WAITS, meterRegistry);
+		CountDownLatch release = new CountDownLatch(1);
+		List<Integer> ran = Collections.synchronizedList(new ArrayList<>());
+		executor.execute("key", () -> await(release));
+		executor.execute("key", () -> ran.add(0));
+
+		// When
+		Thread publisher = new Thread(() -> executor.execute("key", () -> ran.add(1)));
+		publisher.start();
+		publisher.join(200);
+
+		// Then
+		assertTrue(publisher.isAlive());
+		release.countDown();
+		publisher.join(TimeUnit.SECONDS.toMillis(5));
+		executor.destroy();
+		assertEquals(List.of(0, 1), ran);
+		assertEquals(1.0, overflowCount());
+	}
+
+	@Test
+	@DisplayName("Should record queue depth and latency metrics")
+	void shouldRecordMetrics() throws InterruptedException {
+		// Given
+		OrderedEventExecutor executor =
+				new OrderedEventExecutor("test", 1, 4, OverflowPolicy.CALLER_WAITS, meterRegistry);
+		CountDownLatch release = new CountDownLatch(1);
+		executor.execute("key", () -> await(release));
+		executor.execute("key", () -> {});
+		executor.execute("key", () -> {});
+
+		// When
+		double queued =
+				meterRegistry
+						.get(OrderedEventExecutor.QUEUE_DEPTH_METRIC)
+						.tag("executor", "test")
+						.gauge()
+						.value();
+		release.countDown();
+		executor.destroy();
+
+		// Then
+		assertEquals(2.0, queued);
+		assertEquals(
+				3,
+				meterRegistry
+						.get(OrderedEventExecutor.LATENCY_METRIC)
+						.tag("executor", "test")
+						.timer()
+						.count());
+	}
+
+	@Test
+	@DisplayName("Should keep running tasks after one fails")
+	void shouldKeepRunningAfterFailure() throws InterruptedException {
+		// Given
+		OrderedEventExecutor executor =
+				new OrderedEventExecutor("test", 1, 4, OverflowPolicy.CALLER_WAITS, meterRegistry);
+		List<Integer> ran = Collections.synchronizedList(new ArrayList<>());
+
+		// When
+		executor.execute(
+				"key",
+				() -> {
+					throw new IllegalStateException("boom");
+				});
+		executor.execute("key", () -> ran.add(1));
+		executor.destroy();
+
+		// Then
+		assertEquals(List.of(1), ran);
+	}
+
+	private double overflowCount() {
+		return meterRegistry
+				.get(OrderedEventExecutor.OVERFLOW_METRIC)
+				.tag("executor", "test")
+				.counter()
+				.count();
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
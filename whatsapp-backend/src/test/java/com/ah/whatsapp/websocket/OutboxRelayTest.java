@@ -0,0 +1,134 @@
+/*
+ * WhatsApp Clone - Backend Service
+ * Copyright (c) 2025
+ */
+package com.ah.whatsapp.websocket;
+
+import static com.ah.whatsapp.constant.WebSocketConstants.CONVERSATION_TOPIC_TEMPLATE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.ah.whatsapp.dto.WebSocketEvent;
+import com.ah.whatsapp.enums.EventType;
+import com.ah.whatsapp.model.OutboxEvent;
+import com.ah.whatsapp.repository.OutboxRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxRelay Tests")
+class OutboxRelayTest {
+
+	private static final int BATCH_SIZE = 10;
+
+	@Mock private OutboxRepository outboxRepository;
+	@Mock private SimpMessagingTemplate messagingTemplate;
+	@Mock private PlatformTransactionManager transactionManager;
+
+	private SimpleMeterRegistry meterRegistry;
+	private OutboxRelay outboxRelay;
+	private UUID conversationId;
+	private String destination;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		outboxRelay =
+				new OutboxRelay(
+						outboxRepository,
+						messagingTemplate,
+						new ObjectMapper(),
+						transactionManager,
+						BATCH_SIZE,
+						Duration.ofSeconds(1),
+						meterRegistry);
+		conversationId = UUID.randomUUID();
+		destination = String.format(CONVERSATION_TOPIC_TEMPLATE, conversationId);
+	}
+
+	private OutboxEvent event(long id, EventType type, String payload) {
+		return new OutboxEvent(id, conversationId, id, type, payload);
+	}
+
+	@Test
+	@DisplayName("Should broadcast a batch in outbox order and then delete it")
+	void relayBatch_ShouldSendInOrderThenDelete() {
+		// Given
+		List<OutboxEvent> batch =
+				List.of(
+						event(1, EventType.NEW_MESSAGE, "{\"id\":\"a\",\"content\":\"hi\"}"),
+						event(2, EventType.DELETE_MESSAGE, "{\"messageId\":\"a\"}"));
+		when(outboxRepository.lockNextBatch(BATCH_SIZE)).thenReturn(batch);
+
+		// When
+		int sent = outboxRelay.relayBatch();
+
+		// Then
+		assertEquals(2, sent);
+		ArgumentCaptor<WebSocketEvent<?>> frames = ArgumentCaptor.forClass(WebSocketEvent.class);
+		verify(messagingTemplate, times(2)).convertAndSend(eq(destination), frames.capture());
+		WebSocketEvent<?> created = frames.getAllValues().get(0);
+		assertEquals(EventType.NEW_MESSAGE, created.getType());
+		assertEquals(1L, created.getEventSeq());
+		assertEquals("hi", ((JsonNode) created.getPayload()).get("content").asText());
+		assertEquals(EventType.DELETE_MESSAGE, frames.getAllValues().get(1).getType());
+		verify(outboxRepository).deleteAll(batch);
+		assertEquals(2.0, meterRegistry.get(OutboxRelay.RELAYED_METRIC).counter().count(), 0.001);
+	}
+
+	@Test
+	@DisplayName("Should send nothing when the outbox is empty")
+	void relayBatch_WithEmptyOutbox_ShouldSendNothing() {
+		// Given
+		when(outboxRepository.lockNextBatch(BATCH_SIZE)).thenReturn(List.of());
+
+		// When
+		int sent = outboxRelay.relayBatch();
+
+		// Then
+		assertEquals(0, sent);
+		verifyNoInteractions(messagingTemplate);
+	}
+
+	@Test
+	@DisplayName("Should keep the batch for a retry when the broker rejects an event")
+	void relayBatch_WhenSendFails_ShouldNotDelete() {
+		// Given
+		when(outboxRepository.lockNextBatch(BATCH_SIZE))
+				.thenReturn(List.of(event(1, EventType.NEW_MESSAGE, "{}")));
+		doThrow(new MessageDeliveryException("broker down"))
+				.when(messagingTemplate)
+				.convertAndSend(eq(destination), any(WebSocketEvent.class));
+
+		// When & Then
+		assertThrows(MessageDeliveryException.class, () -> outboxRelay.relayBatch());
+		verify(outboxRepository, never()).deleteAll(anyList());
+		verify(transactionManager).rollback(any());
+	}
+}
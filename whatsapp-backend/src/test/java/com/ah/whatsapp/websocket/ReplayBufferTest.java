@@ -0,0 +1,190 @@
+/*
+ * WhatsApp Clone - Backend Service
+ * Copyright (c) 2025
+ */
+package com.ah.whatsapp.websocket;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+@DisplayName("ReplayBuffer Tests")
+class ReplayBufferTest {
+
+	private static final String TOPIC = "/topic/conversations/11111111-1111-1111-1111-111111111111";
+	private static final String OTHER_TOPIC =
+			"/topic/conversations/22222222-2222-2222-2222-222222222222";
+	private static final String USER_QUEUE = "/user/test@example.com/queue/conversations";
+
+	private static ReplayBuffer buffer(int capacity, String diskPath) {
+		return new ReplayBuffer(
+				capacity, 100, Duration.ofMinutes(5), diskPath, 8, DataSize.ofBytes(256));
+	}
+
+	private static byte[] bytes(String payload) {
+		return payload.getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static List<Long> ids(Optional<List<ReplayFrame>> frames) {
+		return frames.orElseThrow().stream().map(ReplayFrame::id).toList();
+	}
+
+	@Test
+	@DisplayName("Should replay only conversation topics and user conversation queues")
+	void isReplayed_ShouldMatchConversationDestinations() {
+		ReplayBuffer buffer = buffer(10, "");
+
+		assertTrue(buffer.isReplayed(TOPIC));
+		assertTrue(buffer.isReplayed(USER_QUEUE));
+		assertFalse(buffer.isReplayed(TOPIC + "/typing"));
+		assertFalse(buffer.isReplayed("/queue/conversations-user123"));
+		assertFalse(buffer.isReplayed(null));
+	}
+
+	@Test
+	@DisplayName("Should return the frames after the event id in order")
+	void since_ShouldReturnFramesAfterId() {
+		// Given
+		ReplayBuffer buffer = buffer(10, "");
+		long first = buffer.record(TOPIC, bytes("1"));
+		long second = buffer.record(TOPIC, bytes("2"));
+		buffer.record(OTHER_TOPIC, bytes("other"));
+		long third = buffer.record(TOPIC, bytes("3"));
+
+		// When
+		Optional<List<ReplayFrame>> frames = buffer.since(TOPIC, first);
+
+		// Then
+		assertEquals(List.of(second, third), ids(frames));
+		assertArrayEquals(bytes("2"), frames.get().getFirst().payload());
+		assertTrue(buffer.since(TOPIC, third).orElseThrow().isEmpty());
+	}
+
+	@Test
+	@DisplayName("Should replay nothing for a quiet destination resumed after this buffer started")
+	void since_WithUnknownDestination_ShouldReturnEmptyReplay() {
+		// Given
+		ReplayBuffer buffer = buffer(10, "");
+		long id = buffer.record(TOPIC, bytes("1"));
+
+		// When & Then
+		assertEquals(List.of(), ids(buffer.since(OTHER_TOPIC, id)));
+	}
+
+	@Test
+	@DisplayName("Should refuse to replay from before the oldest kept frame")
+	void since_AfterOverflow_ShouldRefuseIncompleteReplay() {
+		// Given
+		ReplayBuffer buffer = buffer(2, "");
+		long first = buffer.record(TOPIC, bytes("1"));
+		long second = buffer.record(TOPIC, bytes("2"));
+		long third = buffer.record(TOPIC, bytes("3"));
+
+		// When & Then
+		assertTrue(buffer.since(TOPIC, first - 1).isEmpty());
+		assertEquals(List.of(second, third), ids(buffer.since(TOPIC, first)));
+	}
+
+	@Test
+	@DisplayName("Should refuse to replay from an id issued before this buffer started")
+	void since_WithIdFromBeforeStart_ShouldRefuseReplay() {
+		// Given
+		ReplayBuffer buffer = buffer(10, "");
+		long first = buffer.record(TOPIC, bytes("1"));
+
+		// When & Then
+		assertTrue(buffer.since(TOPIC, first - 10).isEmpty());
+		assertTrue(buffer.since(OTHER_TOPIC, first - 10).isEmpty());
+	}
+
+	@Nested
+	@DisplayName("Disk Ring Tests")
+	class DiskRingTests {
+
+		@TempDir Path tempDir;
+
+		@Test
+		@DisplayName("Should restore frames and keep ids increasing after a restart")
+		void shouldRestoreFramesAfterRestart() throws Exception {
+			// Given
+			String path = tempDir.resolve("replay.ring").toString();
+			long first;
+			long second;
+			try (ReplayBuffer buffer = buffer(10, path)) {
+				first = buffer.record(TOPIC, bytes("1"));
+				second = buffer.record(USER_QUEUE, bytes("2"));
+			}
+
+			// When
+			try (ReplayBuffer restarted = buffer(10, path)) {
+				long next = restarted.record(TOPIC, bytes("3"));
+
+				// Then
+				assertTrue(next > second);
+				assertEquals(List.of(next), ids(restarted.since(TOPIC, first)));
+				assertEquals(List.of(second), ids(restarted.since(USER_QUEUE, first)));
+				assertTrue(restarted.since(TOPIC, first - 1).isPresent());
+			}
+		}
+
+		@Test
+		@DisplayName("Should treat frames overwritten in the ring as lost")
+		void shouldRefuseReplayPastOverwrittenFrames() throws Exception {
+			// Given: the ring has 8 slots, so the first two of ten frames are overwritten
+			String path = tempDir.resolve("replay.ring").toString();
+			long first;
+			long third;
+			try (ReplayBuffer buffer = buffer(20, path)) {
+				first = buffer.record(TOPIC, bytes("0"));
+				buffer.record(TOPIC, bytes("1"));
+				third = buffer.record(TOPIC, bytes("2"));
+				for (int i = 3; i < 10; i++) {
+					buffer.record(TOPIC, bytes(Integer.toString(i)));
+				}
+			}
+
+			// When
+			try (ReplayBuffer restarted = buffer(20, path)) {
+				// Then
+				assertTrue(restarted.since(TOPIC, first).isEmpty());
+				assertEquals(7, ids(restarted.since(TOPIC, third)).size());
+			}
+		}
+
+		@Test
+		@DisplayName("Should not replay past a frame too large for the ring after a restart")
+		void shouldRefuseReplayPastOversizedFrame() throws Exception {
+			// Given
+			String path = tempDir.resolve("replay.ring").toString();
+			long before;
+			long large;
+			try (ReplayBuffer buffer = buffer(10, path)) {
+				before = buffer.record(TOPIC, bytes("small"));
+				large = buffer.record(TOPIC, new byte[1024]);
+
+				// Then: memory still has the full frame
+				assertEquals(List.of(large), ids(buffer.since(TOPIC, before)));
+			}
+
+			// When
+			try (ReplayBuffer restarted = buffer(10, path)) {
+				// Then
+				assertTrue(restarted.since(TOPIC, before).isEmpty());
+				assertEquals(List.of(), ids(restarted.since(TOPIC, large)));
+			}
+		}
+	}
+}
@@ -0,0 +1,91 @@
+/*
+ * WhatsApp Clone - Backend Service
+ * Copyright (c) 2025
+ */
+package com.ah.whatsapp.websocket;
+
+import static com.ah.whatsapp.constant.WebSocketConstants.EVENT_ID_HEADER;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReplayRecordingInterceptor Tests")
+class ReplayRecordingInterceptorTest {
+
+	private static final String TOPIC = "/topic/conversations/11111111-1111-1111-1111-111111111111";
+
+	@Mock private ReplayBuffer replayBuffer;
+	@Mock private MessageChannel channel;
+
+	@InjectMocks private ReplayRecordingInterceptor interceptor;
+
+	private static Message<byte[]> message(String destination, String eventId) {
+		SimpMessageHeaderAccessor accessor =
+				SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+		accessor.setDestination(destination);
+		if (eventId != null) {
+			accessor.setNativeHeader(EVENT_ID_HEADER, eventId);
+		}
+		return MessageBuilder.createMessage("{}".getBytes(), accessor.getMessageHeaders());
+	}
+
+	@Test
+	@DisplayName("Should record a conversation event and stamp it with its event id")
+	void preSend_ShouldRecordAndStampEventId() {
+		// Given
+		Message<byte[]> message = message(TOPIC, null);
+		when(replayBuffer.isReplayed(TOPIC)).thenReturn(true);
+		when(replayBuffer.record(TOPIC, message.getPayload())).thenReturn(42L);
+
+		// When
+		Message<?> stamped = interceptor.preSend(message, channel);
+
+		// Then
+		assertEquals(
+				"42",
+				SimpMessageHeaderAccessor.getFirstNativeHeader(
+						EVENT_ID_HEADER, stamped.getHeaders()));
+		assertEquals(TOPIC, SimpMessageHeaderAccessor.getDestination(stamped.getHeaders()));
+		assertSame(message.getPayload(), stamped.getPayload());
+	}
+
+	@Test
+	@DisplayName("Should pass through destinations that are not replayed")
+	void preSend_WithOtherDestination_ShouldNotRecord() {
+		// Given
+		Message<byte[]> message = message(TOPIC + "/typing", null);
+		when(replayBuffer.isReplayed(TOPIC + "/typing")).thenReturn(false);
+
+		// When & Then
+		assertSame(message, interceptor.preSend(message, channel));
+		verify(replayBuffer, never()).record(anyString(), any());
+	}
+
+	@Test
+	@DisplayName("Should not record a resolved user message a second time")
+	void preSend_WithEventIdAlreadySet_ShouldNotRecord() {
+		// Given
+		Message<byte[]> message = message("/queue/conversations-user123", "42");
+
+		// When & Then
+		assertSame(message, interceptor.preSend(message, channel));
+		verify(replayBuffer, never()).isReplayed(anyString());
+	}
+}
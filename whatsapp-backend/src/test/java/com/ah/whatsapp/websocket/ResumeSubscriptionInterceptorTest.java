@@ -0,0 +1,217 @@
+/*
+ * WhatsApp Clone - Backend Service
+ * Copyright (c) 2025
+ */
+package com.ah.whatsapp.websocket;
+
+import static com.ah.whatsapp.constant.WebSocketConstants.EVENT_ID_HEADER;
+import static com.ah.whatsapp.constant.WebSocketConstants.RESUME_AFTER_HEADER;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.simp.user.UserDestinationMessageHandler;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ResumeSubscriptionInterceptor Tests")
+class ResumeSubscriptionInterceptorTest {
+
+	private static final String TOPIC = "/topic/conversations/11111111-1111-1111-1111-111111111111";
+	private static final String USER_QUEUE = "/user/queue/conversations";
+	private static final String SESSION_ID = "session-1";
+	private static final String SUBSCRIPTION_ID = "sub-0";
+
+	@Mock private ReplayBuffer replayBuffer;
+	@Mock private MessageChannel clientOutboundChannel;
+	@Mock private MessageChannel clientInboundChannel;
+
+	private SimpleMeterRegistry meterRegistry;
+	private ResumeSubscriptionInterceptor interceptor;
+	private SimpleBrokerMessageHandler broker;
+	private UserDestinationMessageHandler userDestinationHandler;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		interceptor =
+				new ResumeSubscriptionInterceptor(
+						replayBuffer, clientOutboundChannel, new ObjectMapper(), meterRegistry);
+		broker = mock(SimpleBrokerMessageHandler.class);
+		userDestinationHandler = mock(UserDestinationMessageHandler.class);
+	}
+
+	private static Message<byte[]> subscribe(String destination, String resumeAfter) {
+		SimpMessageHeaderAccessor accessor =
+				SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+		accessor.setDestination(destination);
+		accessor.setSessionId(SESSION_ID);
+		accessor.setSubscriptionId(SUBSCRIPTION_ID);
+		accessor.setUser(new UsernamePasswordAuthenticationToken("test@example.com", null));
+		if (resumeAfter != null) {
+			accessor.setNativeHeader(RESUME_AFTER_HEADER, resumeAfter);
+		}
+		return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+	}
+
+	private List<Message<?>> sentFrames(int count) {
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<Message<?>> frames = ArgumentCaptor.forClass(Message.class);
+		verify(clientOutboundChannel, times(count)).send(frames.capture());
+		return frames.getAllValues();
+	}
+
+	@Test
+	@DisplayName("Should replay missed frames to the resuming subscription")
+	void afterMessageHandled_ShouldReplayMissedFrames() {
+		// Given
+		when(replayBuffer.isReplayed(TOPIC)).thenReturn(true);
+		when(replayBuffer.since(TOPIC, 41L))
+				.thenReturn(
+						Optional.of(
+								List.of(
+										new ReplayFrame(42L, TOPIC, "{\"a\":1}".getBytes()),
+										new ReplayFrame(43L, TOPIC, "{\"a\":2}".getBytes()))));
+
+		// When
+		interceptor.afterMessageHandled(subscribe(TOPIC, "41"), clientInboundChannel, broker, null);
+
+		// Then
+		List<Message<?>> frames = sentFrames(2);
+		Message<?> first = frames.getFirst();
+		assertEquals(SESSION_ID, SimpMessageHeaderAccessor.getSessionId(first.getHeaders()));
+		assertEquals(
+				SUBSCRIPTION_ID, SimpMessageHeaderAccessor.getSubscriptionId(first.getHeaders()));
+		assertEquals(TOPIC, SimpMessageHeaderAccessor.getDestination(first.getHeaders()));
+		assertEquals(
+				"42",
+				SimpMessageHeaderAccessor.getFirstNativeHeader(
+						EVENT_ID_HEADER, first.getHeaders()));
+		assertEquals(
+				"43",
+				SimpMessageHeaderAccessor.getFirstNativeHeader(
+						EVENT_ID_HEADER, frames.get(1).getHeaders()));
+		assertEquals(
+				2.0,
+				meterRegistry.get(ResumeSubscriptionInterceptor.REPLAYED_METRIC).counter().count(),
+				0.001);
+	}
+
+	@Test
+	@DisplayName("Should replay the user queue from the user's own buffer")
+	void afterMessageHandled_WithUserQueue_ShouldUseUserDestination() {
+		// Given
+		String recorded = "/user/test@example.com/queue/conversations";
+		when(replayBuffer.isReplayed(recorded)).thenReturn(true);
+		when(replayBuffer.since(recorded, 7L))
+				.thenReturn(Optional.of(List.of(new ReplayFrame(8L, recorded, "{}".getBytes()))));
+
+		// When
+		interceptor.afterMessageHandled(
+				subscribe(USER_QUEUE, "7"), clientInboundChannel, userDestinationHandler, null);
+
+		// Then
+		Message<?> frame = sentFrames(1).getFirst();
+		assertEquals(USER_QUEUE, SimpMessageHeaderAccessor.getDestination(frame.getHeaders()));
+	}
+
+	@Test
+	@DisplayName("Should ask the client to reload when the replay would be incomplete")
+	void afterMessageHandled_WhenFramesLost_ShouldSendResync() {
+		// Given
+		when(replayBuffer.isReplayed(TOPIC)).thenReturn(true);
+		when(replayBuffer.since(TOPIC, 1L)).thenReturn(Optional.empty());
+
+		// When
+		interceptor.afterMessageHandled(subscribe(TOPIC, "1"), clientInboundChannel, broker, null);
+
+		// Then
+		Message<?> frame = sentFrames(1).getFirst();
+		assertEquals(
+				"{\"type\":\"RESYNC\",\"payload\":{\"destination\":\"" + TOPIC + "\"}}",
+				new String((byte[]) frame.getPayload()));
+		assertEquals(
+				1.0,
+				meterRegistry.get(ResumeSubscriptionInterceptor.RESYNC_METRIC).counter().count(),
+				0.001);
+	}
+
+	@Test
+	@DisplayName("Should ask the client to reload when the event id is malformed")
+	void afterMessageHandled_WithMalformedEventId_ShouldSendResync() {
+		// Given
+		when(replayBuffer.isReplayed(TOPIC)).thenReturn(true);
+
+		// When
+		interceptor.afterMessageHandled(
+				subscribe(TOPIC, "not-a-number"), clientInboundChannel, broker, null);
+
+		// Then
+		sentFrames(1);
+		verify(replayBuffer, never()).since(anyString(), anyLong());
+	}
+
+	@Test
+	@DisplayName("Should ignore subscriptions without a resume header")
+	void afterMessageHandled_WithoutResumeHeader_ShouldDoNothing() {
+		// When
+		interceptor.afterMessageHandled(subscribe(TOPIC, null), clientInboundChannel, broker, null);
+
+		// Then
+		verifyNoInteractions(replayBuffer, clientOutboundChannel);
+	}
+
+	@Test
+	@DisplayName("Should only replay once, after the handler that registers the subscription")
+	void afterMessageHandled_WithOtherHandler_ShouldDoNothing() {
+		// When
+		interceptor.afterMessageHandled(
+				subscribe(TOPIC, "1"), clientInboundChannel, userDestinationHandler, null);
+		interceptor.afterMessageHandled(
+				subscribe(USER_QUEUE, "1"), clientInboundChannel, broker, null);
+
+		// Then
+		verifyNoInteractions(replayBuffer, clientOutboundChannel);
+	}
+
+	@Test
+	@DisplayName("Should not replay when the subscription failed")
+	void afterMessageHandled_WhenHandlerFailed_ShouldDoNothing() {
+		// When
+		interceptor.afterMessageHandled(
+				subscribe(TOPIC, "1"),
+				clientInboundChannel,
+				broker,
+				new IllegalStateException("rejected"));
+
+		// Then
+		verify(clientOutboundChannel, never()).send(any());
+	}
+}
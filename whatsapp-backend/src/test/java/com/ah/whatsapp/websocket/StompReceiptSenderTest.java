@@ -0,0 +1,66 @@
+/*
+ * WhatsApp Clone - Backend Service
+ * Copyright (c) 2025
+ */
+package com.ah.whatsapp.websocket;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StompReceiptSender Tests")
+class StompReceiptSenderTest {
+
+	@Mock private MessageChannel clientOutboundChannel;
+
+	@InjectMocks private StompReceiptSender receiptSender;
+
+	private static StompHeaderAccessor sendFrame(String receipt) {
+		StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SEND);
+		accessor.setSessionId("session-1");
+		if (receipt != null) {
+			accessor.setReceipt(receipt);
+		}
+		return accessor;
+	}
+
+	@Test
+	@DisplayName("Should send a RECEIPT to the session that asked for one")
+	void sendReceipt_ShouldAcknowledgeFrame() {
+		// When
+		receiptSender.sendReceipt(sendFrame("42"));
+
+		// Then
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<Message<?>> captor = ArgumentCaptor.forClass(Message.class);
+		verify(clientOutboundChannel).send(captor.capture());
+		StompHeaderAccessor receipt = StompHeaderAccessor.wrap(captor.getValue());
+		assertEquals(StompCommand.RECEIPT, receipt.getCommand());
+		assertEquals("42", receipt.getReceiptId());
+		assertEquals("session-1", receipt.getSessionId());
+	}
+
+	@Test
+	@DisplayName("Should send nothing when the frame asked for no receipt")
+	void sendReceipt_WithoutReceiptHeader_ShouldDoNothing() {
+		// When
+		receiptSender.sendReceipt(sendFrame(null));
+
+		// Then
+		verify(clientOutboundChannel, never()).send(any());
+	}
+}
@@ -0,0 +1,258 @@
+/*
+ * WhatsApp Clone - Backend Service
+ * Copyright (c) 2025
+ */
+package com.ah.whatsapp.websocket;
+
+import static com.ah.whatsapp.constant.WebSocketConstants.TYPING_INDICATOR_TOPIC;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import com.ah.whatsapp.dto.TypingIndicatorDto;
+import com.ah.whatsapp.dto.TypingIndicatorDtoTestDataBuilder;
+import com.ah.whatsapp.dto.TypingStateDto;
+import com.ah.whatsapp.dto.WebSocketEvent;
+import com.ah.whatsapp.enums.EventType;
+import com.ah.whatsapp.websocket.OrderedEventExecutor.OverflowPolicy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TypingTracker Tests")
+class TypingTrackerTest {
+
+	private static final long TIMEOUT_NANOS = Duration.ofSeconds(5).toNanos();
+
+	@Mock private SimpMessagingTemplate messagingTemplate;
+
+	private OrderedEventExecutor typingEventExecutor;
+	private TypingTracker typingTracker;
+
+	private UUID conversationId;
+	private UUID alice;
+	private UUID bob;
+
+	@BeforeEach
+	void setUp() {
+		typingEventExecutor =
+				new OrderedEventExecutor(
+						"typing", 1, 10, OverflowPolicy.DROP_OLDEST, new SimpleMeterRegistry());
+		typingTracker =
+				new TypingTracker(messagingTemplate, typingEventExecutor, Duration.ofSeconds(5));
+		conversationId = UUID.randomUUID();
+		alice = UUID.randomUUID();
+		bob = UUID.randomUUID();
+	}
+
+	@Nested
+	@DisplayName("Coalescing")
+	class Coalescing {
+
+		@Test
+		@DisplayName("Should publish one frame for repeated typing start frames")
+		void shouldPublishOnceForRepeatedStarts() throws InterruptedException {
+			// Given
+			for (int keystroke = 0; keystroke < 20; keystroke++) {
+				typingTracker.record(start(alice), keystroke * 100_000_000L);
+			}
+
+			// When
+			typingTracker.flush(2_000_000_000L);
+			typingTracker.flush(2_500_000_000L);
+
+			// Then
+			assertEquals(List.of(started(alice)), publishedStates(1));
+		}
+
+		@Test
+		@DisplayName("Should batch every typist of a conversation into one frame")
+		void shouldBatchTypistsIntoOneFrame() throws InterruptedException {
+			// Given
+			typingTracker.record(start(alice), 0);
+			typingTracker.record(start(bob), 0);
+
+			// When
+			typingTracker.flush(0);
+
+			// Then
+			assertEquals(List.of(started(alice, bob)), publishedStates(1));
+		}
+
+		@Test
+		@DisplayName("Should publish a frame per conversation")
+		void shouldPublishPerConversation() throws InterruptedException {
+			// Given
+			UUID otherConversationId = UUID.randomUUID();
+			typingTracker.record(start(alice), 0);
+			typingTracker.record(
+					TypingIndicatorDtoTestDataBuilder.aTypingIndicatorDto()
+							.withConversationId(otherConversationId)
+							.withUserId(bob)
+							.withTypingStart()
+							.build(),
+					0);
+
+			// When
+			typingTracker.flush(0);
+			typingEventExecutor.destroy();
+
+			// Then
+			verify(messagingTemplate)
+					.convertAndSend(
+							eq(String.format(TYPING_INDICATOR_TOPIC, conversationId)),
+							any(WebSocketEvent.class));
+			verify(messagingTemplate)
+					.convertAndSend(
+							eq(String.format(TYPING_INDICATOR_TOPIC, otherConversationId)),
+							any(WebSocketEvent.class));
+		}
+
+		@Test
+		@DisplayName("Should not publish when nothing changed")
+		void shouldNotPublishWithoutChanges() throws InterruptedException {
+			// When
+			typingTracker.flush(0);
+			typingEventExecutor.destroy();
+
+			// Then
+			verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+		}
+	}
+
+	@Nested
+	@DisplayName("Stopping")
+	class Stopping {
+
+		@Test
+		@DisplayName("Should publish only the typist who stopped")
+		void shouldPublishStoppedTypistOnStop() throws InterruptedException {
+			// Given
+			typingTracker.record(start(alice), 0);
+			typingTracker.record(start(bob), 0);
+			typingTracker.flush(0);
+
+			// When
+			typingTracker.record(stop(alice), 100);
+			typingTracker.flush(200);
+
+			// Then
+			assertEquals(List.of(started(alice, bob), stopped(alice)), publishedStates(2));
+		}
+
+		@Test
+		@DisplayName("Should not publish a typist who stopped before their first frame")
+		void shouldNotPublishTypistStoppedWithinTick() throws InterruptedException {
+			// Given
+			typingTracker.record(start(alice), 0);
+			typingTracker.record(stop(alice), 100);
+
+			// When
+			typingTracker.flush(200);
+			typingEventExecutor.destroy();
+
+			// Then
+			verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+		}
+
+		@Test
+		@DisplayName("Should drop a typist automatically after the timeout")
+		void shouldExpireIdleTypist() throws InterruptedException {
+			// Given
+			typingTracker.record(start(alice), 0);
+			typingTracker.flush(0);
+
+			// When
+			typingTracker.flush(TIMEOUT_NANOS - 1);
+			typingTracker.flush(TIMEOUT_NANOS);
+
+			// Then
+			assertEquals(List.of(started(alice), stopped(alice)), publishedStates(2));
+		}
+
+		@Test
+		@DisplayName("Should keep and re-announce a typist while typing continues")
+		void shouldExtendDeadlineOnRepeatedStart() throws InterruptedException {
+			// Given
+			typingTracker.record(start(alice), 0);
+			typingTracker.flush(0);
+
+			// When
+			typingTracker.record(start(alice), TIMEOUT_NANOS - 1);
+			typingTracker.flush(TIMEOUT_NANOS - 1);
+			typingTracker.flush(TIMEOUT_NANOS);
+
+			// Then: the first deadline passed without a stop, and the typist was announced again
+			assertEquals(List.of(started(alice), started(alice)), publishedStates(2));
+		}
+
+		@Test
+		@DisplayName("Should ignore a stop from someone who was not typing")
+		void shouldIgnoreStopWithoutStart() throws InterruptedException {
+			// When
+			typingTracker.record(stop(alice), 0);
+			typingTracker.flush(0);
+			typingEventExecutor.destroy();
+
+			// Then
+			verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+		}
+	}
+
+	private TypingIndicatorDto start(UUID userId) {
+		return TypingIndicatorDtoTestDataBuilder.aTypingIndicatorDto()
+				.withConversationId(conversationId)
+				.withUserId(userId)
+				.withTypingStart()
+				.build();
+	}
+
+	private TypingIndicatorDto stop(UUID userId) {
+		return TypingIndicatorDtoTestDataBuilder.aTypingIndicatorDto()
+				.withConversationId(conversationId)
+				.withUserId(userId)
+				.withTypingStop()
+				.build();
+	}
+
+	private TypingStateDto started(UUID... userIds) {
+		return new TypingStateDto(conversationId, List.of(userIds), List.of());
+	}
+
+	private TypingStateDto stopped(UUID... userIds) {
+		return new TypingStateDto(conversationId, List.of(), List.of(userIds));
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<TypingStateDto> publishedStates(int frames) throws InterruptedException {
+		typingEventExecutor.destroy();
+		ArgumentCaptor<WebSocketEvent<TypingStateDto>> eventCaptor =
+				ArgumentCaptor.forClass(WebSocketEvent.class);
+		verify(messagingTemplate, times(frames))
+				.convertAndSend(
+						eq(String.format(TYPING_INDICATOR_TOPIC, conversationId)),
+						eventCaptor.capture());
+		eventCaptor
+				.getAllValues()
+				.forEach(event -> assertEquals(EventType.TYPING_STATE, event.getType()));
+		return eventCaptor.getAllValues().stream().map(WebSocketEvent::getPayload).toList();
+	}
+}
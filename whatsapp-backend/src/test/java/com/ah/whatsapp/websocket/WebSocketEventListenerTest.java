@@ -5,8 +5,7 @@
 package com.ah.whatsapp.websocket;
 
 import static com.ah.whatsapp.constant.WebSocketConstants.CONVERSATION_QUEUE;
-import static com.ah.whatsapp.constant.WebSocketConstants.CONVERSATION_TOPIC_TEMPLATE;
-import static com.ah.whatsapp.constant.WebSocketConstants.TYPING_INDICATOR_TOPIC;
+import static com.ah.whatsapp.mapper.ConversationParticipantTestDataBuilder.aConversationParticipant;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -23,33 +22,39 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 
+import com.ah.whatsapp.dto.ConversationDeltaDto;
 import com.ah.whatsapp.dto.ConversationDto;
 import com.ah.whatsapp.dto.ConversationDtoTestDataBuilder;
-import com.ah.whatsapp.dto.DeleteMessageEvent;
 import com.ah.whatsapp.dto.MessageDto;
 import com.ah.whatsapp.dto.MessageDtoTestDataBuilder;
 import com.ah.whatsapp.dto.ParticipantDto;
 import com.ah.whatsapp.dto.ParticipantDtoTestDataBuilder;
+import com.ah.whatsapp.dto.ParticipantsReactivatedDto;
 import com.ah.whatsapp.dto.TypingIndicatorDto;
 import com.ah.whatsapp.dto.TypingIndicatorDtoTestDataBuilder;
 import com.ah.whatsapp.dto.WebSocketEvent;
 import com.ah.whatsapp.enums.EventType;
+import com.ah.whatsapp.event.ConversationDeltaEvent;
 import com.ah.whatsapp.event.ConversationUpdateEvent;
-import com.ah.whatsapp.event.MessageDeletedEvent;
-import com.ah.whatsapp.event.NewMessageEvent;
+import com.ah.whatsapp.event.ParticipantsReactivatedEvent;
+import com.ah.whatsapp.model.ConversationParticipant;
+import com.ah.whatsapp.websocket.OrderedEventExecutor.OverflowPolicy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("WebSocketEventListener Tests")
 class WebSocketEventListenerTest {
 
 	@Mock private SimpMessagingTemplate messagingTemplate;
+	@Mock private TypingTracker typingTracker;
 
-	@InjectMocks private WebSocketEventListener webSocketEventListener;
+	private OrderedEventExecutor conversationEventExecutor;
+	private WebSocketEventListener webSocketEventListener;
 
 	private UUID conversationId;
 	private UUID messageId;
@@ -60,43 +65,24 @@ class WebSocketEventListenerTest {
 		conversationId = UUID.randomUUID();
 		messageId = UUID.randomUUID();
 		userId = UUID.randomUUID();
-	}
 
-	@Test
-	@DisplayName("Should handle new message event and send to conversation topic")
-	void handleNewMessage_ShouldSendMessageToConversationTopic() {
-		// Given
-		MessageDto messageDto =
-				MessageDtoTestDataBuilder.aMessageDto()
-						.withId(messageId)
-						.withConversationId(conversationId)
-						.withContent("Test message")
-						.withSenderId(userId)
-						.withSentAt(LocalDateTime.now())
-						.build();
-
-		NewMessageEvent event = new NewMessageEvent(this, messageDto);
-		String expectedDestination = String.format(CONVERSATION_TOPIC_TEMPLATE, conversationId);
-
-		// When
-		webSocketEventListener.handleNewMessage(event);
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		conversationEventExecutor =
+				new OrderedEventExecutor(
+						"conversations", 2, 10, OverflowPolicy.CALLER_WAITS, meterRegistry);
+		webSocketEventListener =
+				new WebSocketEventListener(
+						messagingTemplate, conversationEventExecutor, typingTracker);
+	}
 
-		// Then
-		ArgumentCaptor<WebSocketEvent<?>> eventCaptor =
-				ArgumentCaptor.forClass(WebSocketEvent.class);
-		verify(messagingTemplate).convertAndSend(eq(expectedDestination), eventCaptor.capture());
-
-		WebSocketEvent<?> capturedEvent = eventCaptor.getValue();
-		assertEquals(capturedEvent.getType(), EventType.NEW_MESSAGE);
-		assertEquals(
-				messageDto,
-				capturedEvent.getPayload(),
-				"Payload does not match the expected messageDto");
+	/** Waits for every dispatched event to be delivered. */
+	private void drainExecutors() throws InterruptedException {
+		conversationEventExecutor.destroy();
 	}
 
 	@Test
 	@DisplayName("Should handle conversation update event and send to all participants")
-	void handleConversationUpdate_ShouldSendToAllParticipants() {
+	void handleConversationUpdate_ShouldSendToAllParticipants() throws InterruptedException {
 		// Given
 		ParticipantDto participant1 =
 				ParticipantDtoTestDataBuilder.aParticipantDto()
@@ -122,6 +108,7 @@ class WebSocketEventListenerTest {
 
 		// When
 		webSocketEventListener.handleConversationUpdate(event);
+		drainExecutors();
 
 		// Then
 		ArgumentCaptor<WebSocketEvent<?>> eventCaptor =
@@ -151,7 +138,8 @@ class WebSocketEventListenerTest {
 
 	@Test
 	@DisplayName("Should handle conversation update with participant without email")
-	void handleConversationUpdate_WithParticipantWithoutEmail_ShouldSkipParticipant() {
+	void handleConversationUpdate_WithParticipantWithoutEmail_ShouldSkipParticipant()
+			throws InterruptedException {
 		// Given
 		ParticipantDto participantWithEmail =
 				ParticipantDtoTestDataBuilder.aParticipantDto()
@@ -177,6 +165,7 @@ class WebSocketEventListenerTest {
 
 		// When
 		webSocketEventListener.handleConversationUpdate(event);
+		drainExecutors();
 
 		// Then
 		// Should only send to participant with email
@@ -187,7 +176,8 @@ class WebSocketEventListenerTest {
 
 	@Test
 	@DisplayName("Should handle conversation update with empty participants list")
-	void handleConversationUpdate_WithEmptyParticipants_ShouldNotSendAnyMessages() {
+	void handleConversationUpdate_WithEmptyParticipants_ShouldNotSendAnyMessages()
+			throws InterruptedException {
 		// Given
 		ConversationDto conversationDto =
 				ConversationDtoTestDataBuilder.aConversationDto()
@@ -199,126 +189,150 @@ class WebSocketEventListenerTest {
 
 		// When
 		webSocketEventListener.handleConversationUpdate(event);
+		drainExecutors();
 
 		// Then
 		verifyNoInteractions(messagingTemplate);
 	}
 
 	@Test
-	@DisplayName("Should handle message deleted event and send to conversation topic")
-	void handleMessageDeleted_ShouldSendDeleteEventToConversationTopic() {
+	@DisplayName("Should send each participant their own unread count with a conversation delta")
+	@SuppressWarnings("unchecked")
+	void handleConversationDelta_ShouldSendEachParticipantTheirUnreadCount()
+			throws InterruptedException {
 		// Given
-		MessageDeletedEvent event = new MessageDeletedEvent(this, messageId, conversationId);
-		String expectedDestination = String.format(CONVERSATION_TOPIC_TEMPLATE, conversationId);
+		UUID recipientId = UUID.randomUUID();
+		MessageDto messageDto =
+				MessageDtoTestDataBuilder.aMessageDto()
+						.withId(messageId)
+						.withConversationId(conversationId)
+						.withSenderId(userId)
+						.build();
+		ConversationParticipant sender =
+				aConversationParticipant()
+						.withParticipantId(userId)
+						.withParticipantEmail("sender@example.com")
+						.build();
+		ConversationParticipant recipient =
+				aConversationParticipant()
+						.withParticipantId(recipientId)
+						.withParticipantEmail("recipient@example.com")
+						.withUnreadCount(3)
+						.build();
+		ConversationDeltaEvent event =
+				new ConversationDeltaEvent(
+						this,
+						ConversationDeltaDto.newMessage(8L, LocalDateTime.now(), messageDto),
+						List.of(sender, recipient));
 
 		// When
-		webSocketEventListener.handleMessageDeleted(event);
+		webSocketEventListener.handleConversationDelta(event);
+		drainExecutors();
 
 		// Then
-		ArgumentCaptor<WebSocketEvent<?>> eventCaptor =
+		ArgumentCaptor<WebSocketEvent<ConversationDeltaDto>> senderCaptor =
 				ArgumentCaptor.forClass(WebSocketEvent.class);
-		verify(messagingTemplate).convertAndSend(eq(expectedDestination), eventCaptor.capture());
-
-		WebSocketEvent<?> capturedEvent = eventCaptor.getValue();
-		assert capturedEvent.getType() == EventType.DELETE_MESSAGE;
-
-		DeleteMessageEvent deleteMessageEvent = (DeleteMessageEvent) capturedEvent.getPayload();
-		assert deleteMessageEvent.messageId().equals(messageId);
-		assert deleteMessageEvent.conversationId().equals(conversationId);
+		verify(messagingTemplate)
+				.convertAndSendToUser(
+						eq("sender@example.com"), eq(CONVERSATION_QUEUE), senderCaptor.capture());
+		ArgumentCaptor<WebSocketEvent<ConversationDeltaDto>> recipientCaptor =
+				ArgumentCaptor.forClass(WebSocketEvent.class);
+		verify(messagingTemplate)
+				.convertAndSendToUser(
+						eq("recipient@example.com"),
+						eq(CONVERSATION_QUEUE),
+						recipientCaptor.capture());
+
+		assertEquals(EventType.CONVERSATION_DELTA, senderCaptor.getValue().getType());
+		assertEquals(0, senderCaptor.getValue().getPayload().unreadCount());
+		assertEquals(3, recipientCaptor.getValue().getPayload().unreadCount());
+		assertEquals(8L, recipientCaptor.getValue().getPayload().version());
 	}
 
 	@Test
-	@DisplayName("Should handle typing indicator event and send to typing topic")
-	void handleTypingIndicator_ShouldSendToTypingTopic() {
+	@DisplayName("Should send one reactivation frame to each participant")
+	@SuppressWarnings("unchecked")
+	void handleParticipantsReactivated_ShouldSendFrameToEachParticipant()
+			throws InterruptedException {
 		// Given
-		TypingIndicatorDto typingDto =
-				TypingIndicatorDtoTestDataBuilder.aTypingIndicatorDto()
-						.withConversationId(conversationId)
-						.withUserId(userId)
-						.withEventType(EventType.TYPING_START)
+		ConversationParticipant sender =
+				aConversationParticipant()
+						.withParticipantId(userId)
+						.withParticipantEmail("sender@example.com")
 						.build();
-
-		String expectedDestination = String.format(TYPING_INDICATOR_TOPIC, conversationId);
+		ConversationParticipant returning =
+				aConversationParticipant()
+						.withParticipantId(UUID.randomUUID())
+						.withParticipantEmail("returning@example.com")
+						.build();
+		ParticipantsReactivatedDto reactivation =
+				new ParticipantsReactivatedDto(
+						conversationId,
+						List.of(
+								ParticipantDtoTestDataBuilder.aParticipantDto()
+										.withUserId(returning.getParticipantId())
+										.build()));
 
 		// When
-		webSocketEventListener.handleTypingIndicator(typingDto);
+		webSocketEventListener.handleParticipantsReactivated(
+				new ParticipantsReactivatedEvent(this, reactivation, List.of(sender, returning)));
+		drainExecutors();
 
 		// Then
-		ArgumentCaptor<WebSocketEvent<?>> eventCaptor =
+		ArgumentCaptor<WebSocketEvent<ParticipantsReactivatedDto>> eventCaptor =
 				ArgumentCaptor.forClass(WebSocketEvent.class);
-		verify(messagingTemplate).convertAndSend(eq(expectedDestination), eventCaptor.capture());
-
-		WebSocketEvent<?> capturedEvent = eventCaptor.getValue();
-		assert capturedEvent.getType() == EventType.TYPING_START;
-		assert capturedEvent.getPayload().equals(typingDto);
+		verify(messagingTemplate)
+				.convertAndSendToUser(
+						eq("sender@example.com"), eq(CONVERSATION_QUEUE), eventCaptor.capture());
+		verify(messagingTemplate)
+				.convertAndSendToUser(
+						eq("returning@example.com"), eq(CONVERSATION_QUEUE), eventCaptor.capture());
+		eventCaptor
+				.getAllValues()
+				.forEach(
+						event -> {
+							assertEquals(EventType.PARTICIPANTS_REACTIVATED, event.getType());
+							assertEquals(reactivation, event.getPayload());
+						});
 	}
 
 	@Test
-	@DisplayName("Should handle typing stop indicator event")
-	void handleTypingIndicator_WithTypingStop_ShouldSendCorrectEvent() {
+	@DisplayName("Should hand typing start indicator to the typing tracker")
+	void handleTypingIndicator_ShouldRecordInTracker() throws InterruptedException {
 		// Given
 		TypingIndicatorDto typingDto =
 				TypingIndicatorDtoTestDataBuilder.aTypingIndicatorDto()
 						.withConversationId(conversationId)
 						.withUserId(userId)
-						.withEventType(EventType.TYPING_STOP)
+						.withEventType(EventType.TYPING_START)
 						.build();
 
-		String expectedDestination = String.format(TYPING_INDICATOR_TOPIC, conversationId);
-
 		// When
 		webSocketEventListener.handleTypingIndicator(typingDto);
+		drainExecutors();
 
 		// Then
-		ArgumentCaptor<WebSocketEvent<?>> eventCaptor =
-				ArgumentCaptor.forClass(WebSocketEvent.class);
-		verify(messagingTemplate).convertAndSend(eq(expectedDestination), eventCaptor.capture());
-
-		WebSocketEvent<?> capturedEvent = eventCaptor.getValue();
-		assert capturedEvent.getType() == EventType.TYPING_STOP;
-		assert capturedEvent.getPayload().equals(typingDto);
-	}
-
-	@Test
-	@DisplayName("Should format conversation topic destination correctly")
-	void handleNewMessage_ShouldFormatDestinationCorrectly() {
-		// Given
-		MessageDto messageDto =
-				MessageDtoTestDataBuilder.aMessageDto()
-						.withId(messageId)
-						.withConversationId(conversationId)
-						.withContent("Test message")
-						.withSenderId(userId)
-						.build();
-
-		NewMessageEvent event = new NewMessageEvent(this, messageDto);
-
-		// When
-		webSocketEventListener.handleNewMessage(event);
-
-		// Then
-		String expectedDestination = String.format(CONVERSATION_TOPIC_TEMPLATE, conversationId);
-		verify(messagingTemplate)
-				.convertAndSend(eq(expectedDestination), any(WebSocketEvent.class));
+		verify(typingTracker).record(typingDto);
+		verifyNoInteractions(messagingTemplate);
 	}
 
 	@Test
-	@DisplayName("Should format typing indicator destination correctly")
-	void handleTypingIndicator_ShouldFormatDestinationCorrectly() {
+	@DisplayName("Should hand typing stop indicator to the typing tracker")
+	void handleTypingIndicator_WithTypingStop_ShouldRecordInTracker() throws InterruptedException {
 		// Given
 		TypingIndicatorDto typingDto =
 				TypingIndicatorDtoTestDataBuilder.aTypingIndicatorDto()
 						.withConversationId(conversationId)
 						.withUserId(userId)
-						.withEventType(EventType.TYPING_START)
+						.withEventType(EventType.TYPING_STOP)
 						.build();
 
 		// When
 		webSocketEventListener.handleTypingIndicator(typingDto);
+		drainExecutors();
 
 		// Then
-		String expectedDestination = "/topic/conversations/" + conversationId + "/typing";
-		verify(messagingTemplate)
-				.convertAndSend(eq(expectedDestination), any(WebSocketEvent.class));
+		verify(typingTracker).record(typingDto);
+		verifyNoInteractions(messagingTemplate);
 	}
 }
@@ -7,7 +7,8 @@ import { filter, map, startWith, takeUntil } from 'rxjs/operators'; // Import op
 import { AuthService } from '../../auth/auth.service'; // Correct path
 import { Conversation } from '../../shared/models/conversation.model';
 import { getInitial, User } from '../../shared/models/user.model';
-import { EventType, WebSocketEvent } from '../../shared/models/websocket-event.model';
+import { USER_CONVERSATION_QUEUE } from '../../shared/constants/websocket.constants';
+import { ConversationDeltaPayload, EventType, ParticipantsReactivatedPayload, ResyncPayload, WebSocketEvent } from '../../shared/models/websocket-event.model';
 import { NavigationService } from '../../shared/services/navigation.service';
 import { UserService } from '../../shared/services/user.service';
 import { WebSocketService } from '../../shared/services/websocket.service';
@@ -39,6 +40,8 @@ export class ChatMainComponent implements OnInit, OnDestroy {
 	private userService = inject(UserService);
 
 	conversations = signal<Conversation[]>([]);
+	private conversationsCursor: string | null = null;
+	private loadingMoreConversations = false;
 	currentUser = signal<User | null>(null);
 	error = signal<string | null>(null);
 	showNewConversationModal = signal<boolean>(false);
@@ -108,10 +111,13 @@ export class ChatMainComponent implements OnInit, OnDestroy {
 
 	loadConversations(): void {
 		this.conversationService
-			.getUserConversations()
+			.getUserConversationsPage()
 			.pipe(takeUntil(this.destroy$))
 			.subscribe({
-				next: convos => this.conversations.set(convos),
+				next: page => {
+					this.conversations.set(page.items);
+					this.conversationsCursor = page.nextCursor;
+				},
 				error: err => {
 					console.error('Error loading conversations:', err);
 					this.error.set('Failed to load conversations.');
@@ -122,6 +128,28 @@ export class ChatMainComponent implements OnInit, OnDestroy {
 			});
 	}
 
+	loadMoreConversations(): void {
+		if (!this.conversationsCursor || this.loadingMoreConversations) {
+			return;
+		}
+		this.loadingMoreConversations = true;
+		this.conversationService
+			.getUserConversationsPage(this.conversationsCursor)
+			.pipe(takeUntil(this.destroy$))
+			.subscribe({
+				next: page => {
+					// Conversations moved to the top by live updates may show up again in older pages
+					this.conversations.update(list => [...list, ...page.items.filter(c => !list.some(existing => existing.id === c.id))]);
+					this.conversationsCursor = page.nextCursor;
+					this.loadingMoreConversations = false;
+				},
+				error: err => {
+					console.error('Error loading more conversations:', err);
+					this.loadingMoreConversations = false;
+				},
+			});
+	}
+
 	subscribeToConversationUpdates(): void {
 		this.webSocketService.events$
 			.pipe(
@@ -146,6 +174,94 @@ export class ChatMainComponent implements OnInit, OnDestroy {
 					return this.sortConversations(updatedList);
 				});
 			});
+
+		this.webSocketService.events$
+			.pipe(
+				filter(
+					(event: WebSocketEvent): event is WebSocketEvent<ConversationDeltaPayload> =>
+						event.type === EventType.CONVERSATION_DELTA
+				),
+				takeUntil(this.destroy$)
+			)
+			.subscribe(event => this.applyConversationDelta(event.payload));
+
+		this.webSocketService.events$
+			.pipe(
+				filter(
+					(event: WebSocketEvent): event is WebSocketEvent<ParticipantsReactivatedPayload> =>
+						event.type === EventType.PARTICIPANTS_REACTIVATED
+				),
+				takeUntil(this.destroy$)
+			)
+			.subscribe(event => this.applyParticipantsReactivated(event.payload));
+
+		// Updates missed while disconnected could not be replayed: reload the inbox
+		this.webSocketService.events$
+			.pipe(
+				filter(
+					(event: WebSocketEvent): event is WebSocketEvent<ResyncPayload> =>
+						event.type === EventType.RESYNC && (event.payload as ResyncPayload)?.destination === USER_CONVERSATION_QUEUE
+				),
+				takeUntil(this.destroy$)
+			)
+			.subscribe(() => this.loadConversations());
+	}
+
+	applyParticipantsReactivated(reactivation: ParticipantsReactivatedPayload): void {
+		// A conversation this user had left is picked up by the delta that follows
+		this.conversations.update(list =>
+			list.map(c =>
+				c.id === reactivation.conversationId
+					? {
+							...c,
+							participants: [
+								...c.participants.filter(p => !reactivation.participants.some(r => r.userId === p.userId)),
+								...reactivation.participants,
+							],
+						}
+					: c
+			)
+		);
+	}
+
+	applyConversationDelta(delta: ConversationDeltaPayload): void {
+		const current = this.conversations().find(c => c.id === delta.conversationId);
+		if (!current || delta.version > current.version + 1) {
+			// Unknown conversation or a missed delta: fetch the full conversation once
+			this.resyncConversation(delta.conversationId);
+			return;
+		}
+		if (delta.lastMessage && delta.version <= current.version) {
+			return; // Already applied
+		}
+		const updated: Conversation = {
+			...current,
+			version: Math.max(current.version, delta.version),
+			updatedAt: delta.updatedAt ?? current.updatedAt,
+			lastMessage: delta.lastMessage ?? current.lastMessage,
+			unreadCount: delta.unreadCount,
+			participants: delta.readByUserId
+				? current.participants.map(p => (p.userId === delta.readByUserId ? { ...p, lastReadAt: delta.readAt } : p))
+				: current.participants,
+		};
+		this.conversations.update(list => this.sortConversations(list.map(c => (c.id === updated.id ? updated : c))));
+	}
+
+	private resyncConversation(conversationId: string): void {
+		this.conversationService
+			.getConversationById(conversationId)
+			.pipe(takeUntil(this.destroy$))
+			.subscribe({
+				next: conversation => {
+					if (!conversation) {
+						return;
+					}
+					this.conversations.update(list =>
+						this.sortConversations([conversation, ...list.filter(c => c.id !== conversation.id)])
+					);
+				},
+				error: () => this.loadConversations(),
+			});
 	}
 
 	handleConversationDeleted(conversationId: string): void {
@@ -8,7 +8,7 @@ import { CHAT_SEND_MESSAGE_DESTINATION, getConversationTopicDestination } from '
 import { Participant } from '../../shared/models/participant.model'; // Import Participant model
 import { SendMessageRequest } from '../../shared/models/send-message-request.model';
 import { getInitial } from '../../shared/models/user.model';
-import { EventType, TypingEventPayload, WebSocketEvent } from '../../shared/models/websocket-event.model';
+import { TypingStatePayload, WebSocketEvent } from '../../shared/models/websocket-event.model';
 import { UserService } from '../../shared/services/user.service';
 import { WebSocketService } from '../../shared/services/websocket.service';
 import { ConversationService } from '../conversation.service'; // Import ConversationService
@@ -94,15 +94,8 @@ export class ConversationDetailComponent implements OnInit, OnDestroy {
 		// Subscribe to typing events for the current conversation
 		const currentConvId = this.conversationId();
 		if (currentConvId) {
-			this.typingSubscription = this.webSocketService.subscribeToTyping(currentConvId, (event: WebSocketEvent<TypingEventPayload>) => {
-				const data = event.payload;
-				if (data.userId !== this.currentUserId) {
-					if (event.type === EventType.TYPING_START) {
-						this.isTyping.set(true);
-					} else if (event.type === EventType.TYPING_STOP) {
-						this.isTyping.set(false);
-					}
-				}
+			this.typingSubscription = this.webSocketService.subscribeToTyping(currentConvId, (event: WebSocketEvent<TypingStatePayload>) => {
+				this.isTyping.set(event.payload.typingUserIds.some(userId => userId !== this.currentUserId));
 			});
 		}
 	}
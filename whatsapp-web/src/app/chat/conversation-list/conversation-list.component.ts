@@ -6,7 +6,7 @@ import { DeleteConfirmationModalComponent } from '../../shared/components/delete
 import { Conversation } from '../../shared/models/conversation.model';
 import { Participant } from '../../shared/models/participant.model';
 import { getInitial } from '../../shared/models/user.model';
-import { EventType, TypingEventPayload, WebSocketEvent } from '../../shared/models/websocket-event.model';
+import { TypingStatePayload, WebSocketEvent } from '../../shared/models/websocket-event.model';
 import { UserService } from '../../shared/services/user.service';
 import { WebSocketService } from '../../shared/services/websocket.service';
 import { ConversationService } from '../conversation.service';
@@ -16,6 +16,10 @@ interface ProcessedConversation extends Conversation {
 	displayParticipant: Participant;
 }
 
+// The server re-announces ongoing typists every TYPING_TIMEOUT (5s by default). A typist not heard
+// from for longer than this left without a stop, e.g. with the server node that held their session
+const TYPING_EXPIRY_MS = 12_000;
+
 @Component({
 	selector: 'app-conversation-list',
 	standalone: true,
@@ -27,11 +31,13 @@ export class ConversationListComponent {
 	@Input({ required: true }) conversations!: Signal<Conversation[]>;
 	@Input({ required: true }) selectedId!: Signal<string | null | undefined>;
 	@Output() conversationDeleted = new EventEmitter<string>();
+	@Output() loadMore = new EventEmitter<void>();
 
 	showDeleteModal = signal(false);
 	conversationToDelete: string | null = null;
 
 	typingMap = signal<Record<string, boolean>>({});
+	private typists = new Map<string, Map<string, ReturnType<typeof setTimeout>>>(); // Conversation -> typist -> expiry timer
 
 	private navigationService = inject(NavigationService);
 	private authService = inject(AuthService);
@@ -50,18 +56,44 @@ export class ConversationListComponent {
 
 	private subscribeToTyping() {
 		this.processedConversations().forEach(convo => {
-			this.webSocketService.subscribeToTyping(convo.id, (event: WebSocketEvent<TypingEventPayload>) => {
-				const data = event.payload;
-				if (data.userId !== this.currentUserId) {
-					this.typingMap.update(typing => ({
-						...typing,
-						[convo.id]: event.type === EventType.TYPING_START,
-					}));
-				}
+			this.webSocketService.subscribeToTyping(convo.id, (event: WebSocketEvent<TypingStatePayload>) => {
+				this.applyTypingState(convo.id, event.payload);
 			});
 		});
 	}
 
+	private applyTypingState(conversationId: string, state: TypingStatePayload): void {
+		let typists = this.typists.get(conversationId);
+		if (!typists) {
+			typists = new Map();
+			this.typists.set(conversationId, typists);
+		}
+		for (const userId of state.startedUserIds) {
+			clearTimeout(typists.get(userId));
+			typists.set(
+				userId,
+				setTimeout(() => this.removeTypist(conversationId, userId), TYPING_EXPIRY_MS)
+			);
+		}
+		state.stoppedUserIds.forEach(userId => this.removeTypist(conversationId, userId));
+		this.updateTyping(conversationId);
+	}
+
+	private removeTypist(conversationId: string, userId: string): void {
+		const typists = this.typists.get(conversationId);
+		clearTimeout(typists?.get(userId));
+		typists?.delete(userId);
+		this.updateTyping(conversationId);
+	}
+
+	private updateTyping(conversationId: string): void {
+		const othersTyping = [...(this.typists.get(conversationId)?.keys() ?? [])].some(userId => userId !== this.currentUserId);
+		this.typingMap.update(typing => ({
+			...typing,
+			[conversationId]: othersTyping,
+		}));
+	}
+
 	private internalFilteredConversations = computed(() => {
 		const query = this.searchQuery().toLowerCase().trim();
 		const currentConversations = this.conversations();
@@ -122,6 +154,13 @@ export class ConversationListComponent {
 		this.searchQuery.set('');
 	}
 
+	onListScroll(event: Event): void {
+		const list = event.target as HTMLElement;
+		if (list.scrollHeight - list.scrollTop - list.clientHeight < 100) {
+			this.loadMore.emit();
+		}
+	}
+
 	selectConversation(id: string): void {
 		if (id !== this.selectedId()) {
 			this.navigationService.toChat(id);
@@ -3,6 +3,7 @@ import { Observable, map } from 'rxjs';
 import { environment } from '../../environments/enviroment'; // Correct path if needed
 import { Conversation } from '../shared/models/conversation.model';
 import { CreateConversationRequest } from '../shared/models/create-conversation-request.model';
+import { CursorPage } from '../shared/models/cursor-page.model';
 import { HttpClientService } from '../shared/services/http-client.service';
 
 @Injectable({
@@ -12,8 +13,15 @@ export class ConversationService {
 	private apiUrl = `${environment.apiUrl}/conversations`;
 	private httpClientService = inject(HttpClientService);
 
-	getUserConversations(): Observable<Conversation[]> {
-		return this.httpClientService.get<Conversation[]>(`${this.apiUrl}`).pipe(map(response => response.data || [])); // Handle potential null data
+	/**
+	 * Fetches one page of the user's conversations, most recently updated first.
+	 * @param cursor Cursor returned by a previous page; loads the conversations after it.
+	 */
+	getUserConversationsPage(cursor?: string): Observable<CursorPage<Conversation>> {
+		const query = cursor ? `?cursor=${encodeURIComponent(cursor)}` : '';
+		return this.httpClientService
+			.get<CursorPage<Conversation>>(`${this.apiUrl}${query}`)
+			.pipe(map(response => response.data ?? { items: [], nextCursor: null, hasMore: false }));
 	}
 
 	// Add method to get a single conversation by ID
@@ -6,7 +6,8 @@ import { AuthService } from '../../auth/auth.service'; // Correct path
 import { MessageService } from '../../message/message.service'; // Correct path
 import { DeleteConfirmationModalComponent } from '../../shared/components/delete-confirmation-modal/delete-confirmation-modal.component';
 import { Message } from '../../shared/models/message.model';
-import { EventType, DeleteMessageEventPayload, NewMessageEventPayload, WebSocketEvent } from '../../shared/models/websocket-event.model';
+import { getConversationTopicDestination } from '../../shared/constants/websocket.constants';
+import { EventType, DeleteMessageEventPayload, NewMessageBatchEventPayload, NewMessageEventPayload, ResyncPayload, WebSocketEvent } from '../../shared/models/websocket-event.model';
 import { WebSocketService } from '../../shared/services/websocket.service';
 
 // Interface for the grouped structure
@@ -34,6 +35,7 @@ export class MessageAreaComponent implements OnChanges, AfterViewChecked, OnDest
 	// Change signal to hold grouped messages
 	groupedMessages = signal<MessageDateGroup[]>([]);
 	isLoading = signal<boolean>(false);
+	isLoadingOlder = signal<boolean>(false);
 	error = signal<string | null>(null);
 	currentUserId = this.authService.loggedInUser?.id; // Use signal getter
 
@@ -46,6 +48,10 @@ export class MessageAreaComponent implements OnChanges, AfterViewChecked, OnDest
 
 	private shouldScrollToBottom = false;
 	private initialLoadComplete = false;
+	private lastSeq: number | null = null; // Highest message seq seen in this conversation
+	private olderCursor: string | null = null; // Cursor of the next older page, null once history is exhausted
+	private newestMessageId: string | null = null;
+	private restoreScrollFrom: { height: number; top: number } | null = null; // Scroll position before older messages were added
 	private destroy$ = new Subject<void>(); // For unsubscribing
 	private wsSubscription: Subscription | null = null;
 
@@ -53,12 +59,13 @@ export class MessageAreaComponent implements OnChanges, AfterViewChecked, OnDest
 		// Effect to scroll when messages change *after* the initial load
 		effect(() => {
 			const groups = this.groupedMessages(); // Trigger dependency
-			// Only scroll if the initial load for *this* conversation is done
-			if (this.initialLoadComplete && groups.length > 0) {
-				// Check if the last message in the last group is new? More complex scroll logic might be needed
-				// For now, scroll whenever groups change after initial load
+			const newestMessageId = groups[0]?.messages.at(-1)?.id ?? null;
+			// Only scroll if the initial load for *this* conversation is done. Older pages leave the
+			// newest message alone, so loading history keeps the reader where they are
+			if (this.initialLoadComplete && groups.length > 0 && newestMessageId !== this.newestMessageId) {
 				this.shouldScrollToBottom = true;
 			}
+			this.newestMessageId = newestMessageId;
 		});
 	}
 
@@ -71,7 +78,9 @@ export class MessageAreaComponent implements OnChanges, AfterViewChecked, OnDest
 						return typeof payload === 'object' && payload !== null && 'conversationId' in payload;
 					};
 					return (
-						(event.type === EventType.NEW_MESSAGE || event.type === EventType.DELETE_MESSAGE) && hasConversationId(event.payload) && event.payload.conversationId === this.conversationId
+						(event.type === EventType.NEW_MESSAGE || event.type === EventType.NEW_MESSAGE_BATCH || event.type === EventType.DELETE_MESSAGE) &&
+						hasConversationId(event.payload) &&
+						event.payload.conversationId === this.conversationId
 					);
 				}),
 				takeUntil(this.destroy$)
@@ -79,25 +88,33 @@ export class MessageAreaComponent implements OnChanges, AfterViewChecked, OnDest
 			.subscribe(event => {
 				console.log('WebSocket event received:', event);
 				if (event.type === EventType.NEW_MESSAGE) {
-					const messagePayload = event.payload as NewMessageEventPayload;
-					// Convert payload to Message format
-					const newMessage: Message = {
-						id: messagePayload.id,
-						conversationId: messagePayload.conversationId,
-						senderId: messagePayload.senderId,
-						senderName: messagePayload.senderName,
-						content: messagePayload.content,
-						sentAt: messagePayload.sentAt,
-					};
-					// Add the new message to the signal, ensuring no duplicates
-					this.addMessageToGroups(newMessage);
-					// Ensure scroll happens for new incoming messages
-					this.shouldScrollToBottom = true;
+					this.receiveMessage(event.payload as NewMessageEventPayload);
+				} else if (event.type === EventType.NEW_MESSAGE_BATCH) {
+					(event.payload as NewMessageBatchEventPayload).messages.forEach(messagePayload => this.receiveMessage(messagePayload));
 				} else if (event.type === EventType.DELETE_MESSAGE) {
 					const deletePayload = event.payload as DeleteMessageEventPayload;
 					this.removeMessageFromGroups(deletePayload.messageId);
 				}
 			});
+
+		// Messages missed while disconnected could not be replayed: catch up by sequence number
+		this.webSocketService.events$
+			.pipe(
+				filter(
+					(event: WebSocketEvent) =>
+						event.type === EventType.RESYNC &&
+						!!this.conversationId &&
+						(event.payload as ResyncPayload)?.destination === getConversationTopicDestination(this.conversationId)
+				),
+				takeUntil(this.destroy$)
+			)
+			.subscribe(() => {
+				if (this.lastSeq !== null) {
+					this.fillGap(this.conversationId, this.lastSeq);
+				} else if (this.conversationId) {
+					this.loadMessages(this.conversationId);
+				}
+			});
 	}
 
 	ngOnChanges(changes: SimpleChanges): void {
@@ -114,7 +131,12 @@ export class MessageAreaComponent implements OnChanges, AfterViewChecked, OnDest
 	}
 
 	ngAfterViewChecked(): void {
-		if (this.shouldScrollToBottom) {
+		if (this.restoreScrollFrom && this.messageListContainer?.nativeElement) {
+			// Older messages were added above the visible ones; keep those in place
+			const element = this.messageListContainer.nativeElement;
+			element.scrollTop = this.restoreScrollFrom.top + element.scrollHeight - this.restoreScrollFrom.height;
+			this.restoreScrollFrom = null;
+		} else if (this.shouldScrollToBottom) {
 			this.scrollToBottom();
 			this.shouldScrollToBottom = false;
 		}
@@ -130,14 +152,20 @@ export class MessageAreaComponent implements OnChanges, AfterViewChecked, OnDest
 		this.isLoading.set(true);
 		this.error.set(null);
 		this.groupedMessages.set([]); // Clear previous groups
+		this.lastSeq = null;
+		this.olderCursor = null;
+		this.isLoadingOlder.set(false);
 
 		this.messageService
-			.getConversationMessages(convId)
+			.getConversationMessagesPage(convId)
 			.pipe(takeUntil(this.destroy$)) // Unsubscribe on destroy
 			.subscribe({
-				next: msgs => {
+				next: page => {
+					const msgs = page.items;
+					this.olderCursor = page.hasMore ? page.nextCursor : null;
 					// Group messages and set the signal
 					this.groupedMessages.set(this.groupMessagesByDate(msgs));
+					msgs.forEach(msg => this.trackSeq(msg));
 					this.isLoading.set(false);
 					this.initialLoadComplete = true;
 					// Ensure scroll happens after the very first load completes
@@ -154,6 +182,95 @@ export class MessageAreaComponent implements OnChanges, AfterViewChecked, OnDest
 			});
 	}
 
+	onMessageListScroll(event: Event): void {
+		const list = event.target as HTMLElement;
+		if (list.scrollTop < 100) {
+			this.loadOlderMessages();
+		}
+	}
+
+	/** Loads the page of messages older than the oldest one shown, following the history cursor. */
+	private loadOlderMessages(): void {
+		const convId = this.conversationId;
+		if (!convId || !this.olderCursor || this.isLoadingOlder()) {
+			return;
+		}
+		this.isLoadingOlder.set(true);
+		this.messageService
+			.getConversationMessagesPage(convId, this.olderCursor)
+			.pipe(takeUntil(this.destroy$))
+			.subscribe({
+				next: page => {
+					if (convId !== this.conversationId) {
+						return;
+					}
+					this.isLoadingOlder.set(false);
+					this.olderCursor = page.hasMore ? page.nextCursor : null;
+					const element = this.messageListContainer?.nativeElement;
+					if (element) {
+						this.restoreScrollFrom = { height: element.scrollHeight, top: element.scrollTop };
+					}
+					const shown = this.groupedMessages().flatMap(group => group.messages);
+					const shownIds = new Set(shown.map(m => m.id));
+					const older = page.items.filter(msg => !shownIds.has(msg.id));
+					this.groupedMessages.set(this.groupMessagesByDate([...older, ...shown]));
+				},
+				error: err => {
+					console.error(`Error loading older messages for ${convId}:`, err);
+					this.isLoadingOlder.set(false);
+				},
+			});
+	}
+
+	/** Loads the messages numbered after {@link seq}, following the cursor until caught up. */
+	private fillGap(convId: string | null, seq: number): void {
+		if (!convId) {
+			return;
+		}
+		this.messageService
+			.getMessagesSince(convId, seq)
+			.pipe(takeUntil(this.destroy$))
+			.subscribe({
+				next: page => {
+					if (convId !== this.conversationId) {
+						return;
+					}
+					page.items.forEach(msg => this.addMessageToGroups(msg));
+					if (page.hasMore && page.nextCursor) {
+						this.fillGap(convId, Number(page.nextCursor));
+					}
+				},
+				error: err => console.error(`Error filling message gap for ${convId}:`, err),
+			});
+	}
+
+	private receiveMessage(messagePayload: NewMessageEventPayload): void {
+		// Convert payload to Message format
+		const newMessage: Message = {
+			id: messagePayload.id,
+			conversationId: messagePayload.conversationId,
+			senderId: messagePayload.senderId,
+			senderName: messagePayload.senderName,
+			content: messagePayload.content,
+			sentAt: messagePayload.sentAt,
+			seq: messagePayload.seq,
+		};
+		// A jump in sequence means frames were missed (e.g. while reconnecting)
+		if (this.lastSeq !== null && newMessage.seq !== undefined && newMessage.seq > this.lastSeq + 1) {
+			this.fillGap(this.conversationId, this.lastSeq);
+		}
+		// Add the new message to the signal, ensuring no duplicates
+		this.addMessageToGroups(newMessage);
+		// Ensure scroll happens for new incoming messages
+		this.shouldScrollToBottom = true;
+	}
+
+	private trackSeq(message: Message): void {
+		if (message.seq !== undefined && message.seq !== null && (this.lastSeq === null || message.seq > this.lastSeq)) {
+			this.lastSeq = message.seq;
+		}
+	}
+
 	// --- Helper Functions ---
 
 	private groupMessagesByDate(messages: Message[]): MessageDateGroup[] {
@@ -186,6 +303,7 @@ export class MessageAreaComponent implements OnChanges, AfterViewChecked, OnDest
 	}
 
 	private addMessageToGroups(newMessage: Message): void {
+		this.trackSeq(newMessage);
 		this.groupedMessages.update(currentGroups => {
 			const messageDate = new Date(newMessage.sentAt);
 			const dateLabel = this.formatDateLabel(messageDate);
@@ -199,8 +317,8 @@ export class MessageAreaComponent implements OnChanges, AfterViewChecked, OnDest
 					// Insert while maintaining sort (oldest first within group)
 					// Since it's a new message, it should usually go at the end
 					groupMessages.push(newMessage);
-					// Optional: Re-sort just in case of out-of-order arrival, though unlikely for new messages
-					// groupMessages.sort((a, b) => new Date(a.sentAt).getTime() - new Date(b.sentAt).getTime());
+					// Gap-filled messages arrive after the newer message that revealed the gap
+					groupMessages.sort((a, b) => (a.seq ?? 0) - (b.seq ?? 0) || new Date(a.sentAt).getTime() - new Date(b.sentAt).getTime());
 				}
 			} else {
 				// Create a new group for the new date and add it to the beginning (since groups are reversed)
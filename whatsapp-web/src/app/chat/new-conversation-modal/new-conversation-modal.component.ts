@@ -1,8 +1,8 @@
 import { CommonModule } from '@angular/common';
 import { Component, EventEmitter, inject, OnDestroy, OnInit, Output, signal } from '@angular/core';
 import { FormsModule } from '@angular/forms';
-import { Subject } from 'rxjs';
-import { debounceTime, distinctUntilChanged, filter, switchMap, takeUntil, tap } from 'rxjs/operators';
+import { EMPTY, Subject } from 'rxjs';
+import { catchError, debounceTime, distinctUntilChanged, filter, switchMap, takeUntil, tap } from 'rxjs/operators';
 import { User } from '../../shared/models/user.model';
 import { UserService } from '../../shared/services/user.service';
 
@@ -49,8 +49,16 @@ export class NewConversationModalComponent implements OnInit, OnDestroy {
 				}),
 				filter(query => query.length > 0), // Only search if query is not empty
 				switchMap(query =>
-					this.userService.searchUsers(query).pipe(
-						takeUntil(this.destroy$) // Ensure inner observable is also cleaned up
+					this.userService.searchUsers(query, true).pipe(
+						takeUntil(this.destroy$), // Ensure inner observable is also cleaned up
+						catchError(err => {
+							// Handle the failure here so the next keystroke (e.g. after a rate limit) still searches
+							console.error('Error searching users:', err);
+							this.error.set('Failed to search users. Please try again.');
+							this.isLoading.set(false);
+							this.noResultsFound.set(false);
+							return EMPTY;
+						})
 					)
 				),
 				takeUntil(this.destroy$) // Main subscription cleanup
@@ -61,12 +69,6 @@ export class NewConversationModalComponent implements OnInit, OnDestroy {
 					this.isLoading.set(false);
 					this.noResultsFound.set(res.length === 0);
 				},
-				error: err => {
-					console.error('Error searching users:', err);
-					this.error.set('Failed to search users. Please try again.');
-					this.isLoading.set(false);
-					this.noResultsFound.set(false); // Reset flag on error
-				},
 			});
 	}
 
@@ -3,6 +3,7 @@ import { Observable } from 'rxjs';
 import { map } from 'rxjs/operators';
 import { environment } from '../../environments/enviroment';
 import { ApiResponse } from '../shared/models/api-response.model';
+import { CursorPage } from '../shared/models/cursor-page.model';
 import { Message } from '../shared/models/message.model';
 import { HttpClientService } from '../shared/services/http-client.service';
 
@@ -15,11 +16,26 @@ export class MessageService {
 	constructor(private httpClientService: HttpClientService) {}
 
 	/**
-	 * Fetches messages for a specific conversation.
+	 * Fetches one page of messages for a conversation, the newest page when no cursor is given.
 	 * @param conversationId The ID of the conversation.
+	 * @param before Cursor returned by a previous page; loads messages older than it.
 	 */
-	getConversationMessages(conversationId: string): Observable<Message[]> {
-		return this.httpClientService.get<Message[]>(`${this.apiUrl}/conversation/${conversationId}`).pipe(map((response: ApiResponse<Message[]>) => response.data ?? []));
+	getConversationMessagesPage(conversationId: string, before?: string): Observable<CursorPage<Message>> {
+		const query = before ? `?before=${encodeURIComponent(before)}` : '';
+		return this.httpClientService
+			.get<CursorPage<Message>>(`${this.apiUrl}/conversation/${conversationId}${query}`)
+			.pipe(map((response: ApiResponse<CursorPage<Message>>) => response.data ?? { items: [], nextCursor: null, hasMore: false }));
+	}
+
+	/**
+	 * Fetches the messages sent after the given sequence number, oldest first.
+	 * @param conversationId The ID of the conversation.
+	 * @param seq The sequence number of the last message the client has.
+	 */
+	getMessagesSince(conversationId: string, seq: number): Observable<CursorPage<Message>> {
+		return this.httpClientService
+			.get<CursorPage<Message>>(`${this.apiUrl}/conversation/${conversationId}/since/${seq}`)
+			.pipe(map((response: ApiResponse<CursorPage<Message>>) => response.data ?? { items: [], nextCursor: null, hasMore: false }));
 	}
 
 	deleteMessage(messageId: string): Observable<string> {
@@ -16,3 +16,7 @@ export const getConversationTopicDestination = (conversationId: string): string
 };
 
 export const USER_CONVERSATION_QUEUE = '/user/queue/conversations';
+
+// Replay: frames carry their event id, and a subscription may ask for the frames after one
+export const EVENT_ID_HEADER = 'event-id';
+export const RESUME_AFTER_HEADER = 'resume-after';
@@ -5,6 +5,8 @@ export interface Conversation {
 	id: string; // UUID
 	createdAt: string; // ISO Date string
 	updatedAt: string; // ISO Date string
+	version: number; // Incremented by every new message
+	unreadCount: number; // Messages from others since the current user last read it
 	participants: Participant[];
 	messages: Message[];
 	lastMessage: Message | null;
@@ -0,0 +1,5 @@
+export interface CursorPage<T> {
+	items: T[];
+	nextCursor: string | null;
+	hasMore: boolean;
+}
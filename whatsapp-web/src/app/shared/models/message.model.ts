@@ -5,4 +5,5 @@ export interface Message {
 	senderName: string;
 	content: string;
 	sentAt: string; // ISO Date string
+	seq?: number; // Position in the conversation, increasing by one per message
 }
@@ -1,9 +1,17 @@
+import { Message } from './message.model';
+import { Participant } from './participant.model';
+
 export enum EventType {
 	NEW_MESSAGE = 'NEW_MESSAGE',
+	NEW_MESSAGE_BATCH = 'NEW_MESSAGE_BATCH',
 	CONVERSATION_UPDATE = 'CONVERSATION_UPDATE',
+	CONVERSATION_DELTA = 'CONVERSATION_DELTA',
+	PARTICIPANTS_REACTIVATED = 'PARTICIPANTS_REACTIVATED',
 	DELETE_MESSAGE = 'DELETE_MESSAGE',
 	TYPING_START = 'TYPING_START',
 	TYPING_STOP = 'TYPING_STOP',
+	TYPING_STATE = 'TYPING_STATE',
+	RESYNC = 'RESYNC',
 }
 
 // Interfaces for specific event payloads
@@ -12,6 +20,31 @@ export interface TypingEventPayload {
 	conversationId: string;
 }
 
+// Typists who started (or are re-announced while still typing) and who stopped, sent at most once
+// per server tick. Each server node only reports its own sessions, so apply these as changes
+export interface TypingStatePayload {
+	conversationId: string;
+	startedUserIds: string[];
+	stoppedUserIds: string[];
+}
+
+// Change to one conversation list entry; a version gap means a delta was missed
+export interface ConversationDeltaPayload {
+	conversationId: string;
+	version: number;
+	updatedAt: string | null;
+	lastMessage: Message | null;
+	unreadCount: number; // The receiving user's unread count after the change
+	readByUserId: string | null;
+	readAt: string | null;
+}
+
+// Participants who had left and rejoined because someone messaged the conversation
+export interface ParticipantsReactivatedPayload {
+	conversationId: string;
+	participants: Participant[];
+}
+
 export interface MessageEventPayload {
 	messageId: string;
 	conversationId: string;
@@ -27,6 +60,18 @@ export interface NewMessageEventPayload {
 	senderId: string;
 	senderName: string;
 	sentAt: string;
+	seq: number;
+}
+
+// Messages sent to one conversation in a single batch, in sequence order
+export interface NewMessageBatchEventPayload {
+	conversationId: string;
+	messages: NewMessageEventPayload[];
+}
+
+// Sent instead of a replay when the server no longer has every event the subscription missed
+export interface ResyncPayload {
+	destination: string;
 }
 
 export interface DeleteMessageEventPayload {
@@ -37,4 +82,6 @@ export interface DeleteMessageEventPayload {
 export interface WebSocketEvent<T = unknown> {
 	type: EventType;
 	payload: T;
+	/** Set on NEW_MESSAGE, NEW_MESSAGE_BATCH and DELETE_MESSAGE frames; a repeated frame carries the same number. */
+	eventSeq?: number;
 }
@@ -19,10 +19,11 @@ export class UserService {
 	/**
 	 * Searches for users based on a query string.
 	 * @param query The search term (name, email, etc.)
+	 * @param typeahead Set for per-keystroke searches; the server narrows the previous result and rate limits them
 	 * @returns Observable<ApiResponse<UserSearch[]>>
 	 */
-	searchUsers(query: string): Observable<User[]> {
-		const params = new HttpParams().set('query', query);
+	searchUsers(query: string, typeahead = false): Observable<User[]> {
+		const params = new HttpParams().set('query', query).set('typeahead', typeahead);
 		return this.http.get<User[]>(`${this.apiUrl}/search`, { params }).pipe(
 			map(res => {
 				return res.data!;
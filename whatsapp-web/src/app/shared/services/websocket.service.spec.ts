@@ -0,0 +1,46 @@
+import { TestBed } from '@angular/core/testing';
+import { IMessage } from '@stomp/stompjs';
+import { BehaviorSubject } from 'rxjs';
+import { AuthService } from '../../auth/auth.service';
+import { EVENT_ID_HEADER, RESUME_AFTER_HEADER } from '../constants/websocket.constants';
+import { EventType, WebSocketEvent } from '../models/websocket-event.model';
+import { WebSocketService } from './websocket.service';
+
+describe('WebSocketService', () => {
+	const destination = '/topic/conversations/11111111-1111-1111-1111-111111111111';
+	let service: WebSocketService;
+	let received: string[];
+
+	beforeEach(() => {
+		TestBed.configureTestingModule({
+			providers: [{ provide: AuthService, useValue: { currentUser$: new BehaviorSubject(null), loggedInUser: null } }],
+		});
+		service = TestBed.inject(WebSocketService);
+		received = [];
+		service.events$.subscribe(event => received.push(event.payload as string));
+	});
+
+	function deliver(eventId: string, payload: string): void {
+		const message = { headers: { [EVENT_ID_HEADER]: eventId }, body: '' } as unknown as IMessage;
+		const event: WebSocketEvent = { type: EventType.NEW_MESSAGE, payload };
+		service['emitEvent'](destination, message, event);
+	}
+
+	it('should emit frames from two publishers that arrive out of id order', () => {
+		// Publisher A takes id 7 and publisher B id 8, but B's frame is delivered first
+		deliver('8', 'from B');
+		deliver('7', 'from A');
+
+		expect(received).toEqual(['from B', 'from A']);
+		expect(service['resumeHeaders'](destination)).toEqual({ [RESUME_AFTER_HEADER]: '8' });
+	});
+
+	it('should drop a replayed repeat of a frame already received', () => {
+		deliver('8', 'from B');
+		deliver('7', 'from A');
+		deliver('7', 'from A');
+		deliver('8', 'from B');
+
+		expect(received).toEqual(['from B', 'from A']);
+	});
+});
@@ -4,8 +4,8 @@ import { Subject, filter, first, takeUntil } from 'rxjs';
 import SockJS from 'sockjs-client';
 import { environment } from '../../../environments/enviroment'; // Adjust path if needed
 import { AuthService } from '../../auth/auth.service'; // Adjust path if needed
-import { USER_CONVERSATION_QUEUE, WS_ENDPOINT_PATH } from '../constants/websocket.constants';
-import { EventType, TypingEventPayload, WebSocketEvent } from '../models/websocket-event.model';
+import { EVENT_ID_HEADER, RESUME_AFTER_HEADER, USER_CONVERSATION_QUEUE, WS_ENDPOINT_PATH } from '../constants/websocket.constants';
+import { EventType, TypingStatePayload, WebSocketEvent } from '../models/websocket-event.model';
 
 // Define connection states
 export enum ConnectionState {
@@ -15,6 +15,9 @@ export enum ConnectionState {
 	ERROR,
 }
 
+// Event ids remembered per destination to drop replayed repeats
+const RECENT_EVENT_IDS = 500;
+
 @Injectable({
 	providedIn: 'root',
 })
@@ -26,6 +29,8 @@ export class WebSocketService implements OnDestroy {
 	private eventSubject = new Subject<WebSocketEvent>();
 	private subscriptions: Map<string, StompSubscription> = new Map(); // Store subscriptions by destination
 	private pendingSubscriptions: Map<string, boolean> = new Map();
+	private lastEventIds: Map<string, string> = new Map(); // Highest replayable event seen per destination
+	private recentEventIds: Map<string, Set<string>> = new Map(); // Latest event ids received per destination
 	private destroy$ = new Subject<void>();
 
 	// Public observables/signals
@@ -109,9 +114,12 @@ export class WebSocketService implements OnDestroy {
 
 		this.stompClient.onConnect = (frame: IFrame) => {
 			console.log('WebSocket: Connected successfully.', frame.command);
-			this.connectionState.set(ConnectionState.CONNECTED);
-			// Re-subscribe to any topics if needed after reconnection
+			// Subscriptions from a previous connection died with it
+			this.userQueueSubscription = null;
 			this.resubscribeTopics();
+			this.connectionState.set(ConnectionState.CONNECTED);
+			this.processPendingSubscriptions();
+			this.subscribeToUserQueue();
 		};
 
 		this.stompClient.onStompError = (frame: IFrame) => {
@@ -126,6 +134,13 @@ export class WebSocketService implements OnDestroy {
 			this.connectionState.set(ConnectionState.ERROR);
 		};
 
+		this.stompClient.onWebSocketClose = () => {
+			// stompjs reconnects on its own; onConnect resumes the subscriptions
+			if (this.connectionState() === ConnectionState.CONNECTED) {
+				this.connectionState.set(ConnectionState.DISCONNECTED);
+			}
+		};
+
 		this.stompClient.onDisconnect = (frame: IFrame) => {
 			console.log('WebSocket: Disconnected.', frame);
 			// Only set to DISCONNECTED if not already attempting a reconnect
@@ -156,15 +171,19 @@ export class WebSocketService implements OnDestroy {
 		console.log(`WebSocket: Subscribing to user queue: ${userQueueDestination}`);
 
 		try {
-			this.userQueueSubscription = this.stompClient.subscribe(userQueueDestination, (message: IMessage) => {
-				try {
-					const parsedEvent: WebSocketEvent = JSON.parse(message.body);
-					console.log(`WebSocket: Received event from user queue:`, parsedEvent);
-					this.eventSubject.next(parsedEvent); // Emit the event
-				} catch (e) {
-					console.error(`WebSocket: Failed to parse event body from user queue:`, message.body, e);
-				}
-			});
+			this.userQueueSubscription = this.stompClient.subscribe(
+				userQueueDestination,
+				(message: IMessage) => {
+					try {
+						const parsedEvent: WebSocketEvent = JSON.parse(message.body);
+						console.log(`WebSocket: Received event from user queue:`, parsedEvent);
+						this.emitEvent(userQueueDestination, message, parsedEvent);
+					} catch (e) {
+						console.error(`WebSocket: Failed to parse event body from user queue:`, message.body, e);
+					}
+				},
+				this.resumeHeaders(userQueueDestination)
+			);
 		} catch (error) {
 			console.error(`WebSocket: Error during STOMP subscribe to user queue:`, error);
 			this.userQueueSubscription = null; // Reset subscription on error
@@ -190,15 +209,53 @@ export class WebSocketService implements OnDestroy {
 		}
 		this.subscriptions.clear(); // Clear stored subscriptions
 		this.pendingSubscriptions.clear();
+		this.lastEventIds.clear(); // A new login starts from a full load
+		this.recentEventIds.clear();
 		this.connectionState.set(ConnectionState.DISCONNECTED);
 	}
 
-	// Placeholder for resubscribing after reconnect
+	// Queues every topic of the previous connection to be subscribed again, resuming after its last event
 	private resubscribeTopics(): void {
 		this.subscriptions.forEach((_subscription, destination) => {
 			console.log(`WebSocket: Re-subscribing to ${destination}`);
-			this.subscribeToTopic(destination); // Call the subscribe method again
+			this.pendingSubscriptions.set(destination, true);
 		});
+		this.subscriptions.clear();
+	}
+
+	/** Asks the server to replay what this destination missed since the last event seen on it. */
+	private resumeHeaders(destination: string): Record<string, string> {
+		const lastEventId = this.lastEventIds.get(destination);
+		return lastEventId ? { [RESUME_AFTER_HEADER]: lastEventId } : {};
+	}
+
+	/**
+	 * Emits an event unless it is a replayed repeat. Ids are taken on the publishing thread, so two
+	 * publishers on one destination may deliver them out of order; only an id already received
+	 * counts as a repeat. Resuming asks for everything after the highest id seen.
+	 */
+	private emitEvent(destination: string, message: IMessage, event: WebSocketEvent): void {
+		const eventId = message.headers[EVENT_ID_HEADER];
+		if (eventId) {
+			let recent = this.recentEventIds.get(destination);
+			if (!recent) {
+				recent = new Set();
+				this.recentEventIds.set(destination, recent);
+			}
+			if (recent.has(eventId)) {
+				return;
+			}
+			recent.add(eventId);
+			if (recent.size > RECENT_EVENT_IDS) {
+				const [oldest] = recent;
+				recent.delete(oldest);
+			}
+			const lastEventId = this.lastEventIds.get(destination);
+			if (!lastEventId || Number(eventId) > Number(lastEventId)) {
+				this.lastEventIds.set(destination, eventId);
+			}
+		}
+		this.eventSubject.next(event);
 	}
 
 	private processPendingSubscriptions(): void {
@@ -249,15 +306,19 @@ export class WebSocketService implements OnDestroy {
 
 		console.log(`WebSocket: Subscribing internally to ${destination}`);
 		try {
-			const subscription = this.stompClient.subscribe(destination, (message: IMessage) => {
-				try {
-					const parsedEvent: WebSocketEvent = JSON.parse(message.body);
-					console.log(`WebSocket: Received message from ${destination}:`, parsedEvent);
-					this.eventSubject.next(parsedEvent);
-				} catch (e) {
-					console.error(`WebSocket: Failed to parse message body from ${destination}:`, message.body, e);
-				}
-			});
+			const subscription = this.stompClient.subscribe(
+				destination,
+				(message: IMessage) => {
+					try {
+						const parsedEvent: WebSocketEvent = JSON.parse(message.body);
+						console.log(`WebSocket: Received message from ${destination}:`, parsedEvent);
+						this.emitEvent(destination, message, parsedEvent);
+					} catch (e) {
+						console.error(`WebSocket: Failed to parse message body from ${destination}:`, message.body, e);
+					}
+				},
+				this.resumeHeaders(destination)
+			);
 			this.subscriptions.set(destination, subscription); // Store the active subscription
 			this.pendingSubscriptions.delete(destination); // Remove from pending if it was there
 		} catch (error) {
@@ -280,6 +341,8 @@ export class WebSocketService implements OnDestroy {
 			console.log(`WebSocket: Unsubscribing from ${destination}`);
 			subscription.unsubscribe();
 			this.subscriptions.delete(destination);
+			this.lastEventIds.delete(destination);
+			this.recentEventIds.delete(destination);
 		} else {
 			console.warn(`WebSocket: No active subscription found for ${destination} to unsubscribe.`);
 		}
@@ -321,7 +384,7 @@ export class WebSocketService implements OnDestroy {
 		});
 	}
 
-	subscribeToTyping(conversationId: string, callback: (event: WebSocketEvent<TypingEventPayload>) => void) {
+	subscribeToTyping(conversationId: string, callback: (event: WebSocketEvent<TypingStatePayload>) => void) {
 		const destination = `/topic/conversations/${conversationId}/typing`;
 		console.log(`WebSocket: Subscribing to typing events for ${conversationId}`);
 
@@ -333,9 +396,9 @@ export class WebSocketService implements OnDestroy {
 			.pipe(
 				filter(
 					(event: WebSocketEvent) =>
-						(event.type === EventType.TYPING_START || event.type === EventType.TYPING_STOP) && (event.payload as TypingEventPayload)?.conversationId === conversationId
+						event.type === EventType.TYPING_STATE && (event.payload as TypingStatePayload)?.conversationId === conversationId
 				)
 			)
-			.subscribe(event => callback(event as WebSocketEvent<TypingEventPayload>));
+			.subscribe(event => callback(event as WebSocketEvent<TypingStatePayload>));
 	}
 }